@@ -0,0 +1,118 @@
+/**
+ * /ws/binary 시세 프레임 디코더 (MarketDataCodec 과 같은 형식)
+ *
+ * 사용 예:
+ *   const ws = new WebSocket("ws://localhost:8080/ws/binary");
+ *   ws.binaryType = "arraybuffer";
+ *   ws.onopen = () => ws.send("SUB orderbook/005930");
+ *   ws.onmessage = (event) => {
+ *     if (event.data instanceof ArrayBuffer) {
+ *       console.log(decodeFrame(event.data));
+ *     }
+ *   };
+ */
+export const ORDER_BOOK = 1;
+export const TRADE = 2;
+export const CANDLES = 3;
+
+class FrameReader {
+  constructor(buffer) {
+    this.bytes = new Uint8Array(buffer);
+    this.position = 0;
+  }
+
+  byte() {
+    return this.bytes[this.position++];
+  }
+
+  ascii() {
+    const length = this.byte();
+    const value = String.fromCharCode(...this.bytes.subarray(this.position, this.position + length));
+    this.position += length;
+    return value;
+  }
+
+  // unsigned LEB128 (2^53 미만 값만 Number 로 안전하게 표현)
+  varint() {
+    let result = 0;
+    let multiplier = 1;
+    let b;
+    do {
+      b = this.byte();
+      result += (b & 0x7f) * multiplier;
+      multiplier *= 128;
+    } while (b & 0x80);
+    return result;
+  }
+
+  zigzag() {
+    const value = this.varint();
+    return value % 2 === 0 ? value / 2 : -(value + 1) / 2;
+  }
+}
+
+const scaled = (value, scale) => value / 10 ** scale;
+
+export function decodeFrame(buffer) {
+  const reader = new FrameReader(buffer);
+  const type = reader.byte();
+  const companyCode = reader.ascii();
+
+  if (type === ORDER_BOOK) {
+    const priceScale = reader.byte();
+    const quantityScale = reader.byte();
+    const sellCount = reader.varint();
+    const buyCount = reader.varint();
+    let price = 0;
+    const readLevel = () => {
+      price += reader.zigzag();
+      return {
+        price: scaled(price, priceScale),
+        quantity: scaled(reader.varint(), quantityScale),
+        orderCount: reader.varint(),
+      };
+    };
+    const sellLevels = Array.from({ length: sellCount }, readLevel);
+    const buyLevels = Array.from({ length: buyCount }, readLevel);
+    return { type: "orderbook", companyCode, sellLevels, buyLevels };
+  }
+
+  if (type === TRADE) {
+    const priceScale = reader.byte();
+    const quantityScale = reader.byte();
+    return {
+      type: "trade",
+      companyCode,
+      price: scaled(reader.zigzag(), priceScale),
+      quantity: scaled(reader.varint(), quantityScale),
+      tradeTime: reader.varint(),
+    };
+  }
+
+  if (type === CANDLES) {
+    const timeCode = reader.ascii();
+    const priceScale = reader.byte();
+    const count = reader.varint();
+    const candles = [];
+    let time = 0;
+    let close = 0;
+    for (let i = 0; i < count; i++) {
+      time += reader.zigzag();
+      const open = close + reader.zigzag();
+      const high = open + reader.zigzag();
+      const low = open + reader.zigzag();
+      close = open + reader.zigzag();
+      candles.push({
+        time,
+        open: scaled(open, priceScale),
+        high: scaled(high, priceScale),
+        low: scaled(low, priceScale),
+        close: scaled(close, priceScale),
+        volume: reader.varint(),
+      });
+    }
+    return { type: "candles", companyCode, timeCode, candles };
+  }
+
+  throw new Error(`Unknown frame type: ${type}`);
+}
@@ -0,0 +1,26 @@
+package org.scoula.backend.global.config;
+
+import org.scoula.backend.order.service.feed.BinaryMarketDataHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 바이너리 시세 WebSocket 설정 (SockJS/STOMP 없이 원시 WebSocket)
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class BinaryWebSocketConfig implements WebSocketConfigurer {
+
+	private final BinaryMarketDataHandler binaryMarketDataHandler;
+
+	@Override
+	public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+		registry.addHandler(binaryMarketDataHandler, "/ws/binary")
+			.setAllowedOrigins("http://localhost:3000");
+	}
+}
@@ -2,8 +2,10 @@ package org.scoula.backend.global.config;
 
 import lombok.RequiredArgsConstructor;
 import org.scoula.backend.global.jwt.JwtUtil;
+import org.scoula.backend.global.security.JwtAuthenticationResolver;
 import org.scoula.backend.global.security.JwtAuthorizationFilter;
 import org.scoula.backend.global.security.UserDetailsServiceImpl;
+import org.scoula.backend.global.security.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +36,12 @@ public class WebSecurityConfig implements WebMvcConfigurer {
     @Value("${chrome.extension.id}")
     private String chromeExtensionId;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private int tokenCacheMaxSize;
+
+    @Value("${jwt.cache.ttl-ms:60000}")
+    private long tokenCacheTtlMillis;
+
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
@@ -44,9 +52,15 @@ public class WebSecurityConfig implements WebMvcConfigurer {
         return configuration.getAuthenticationManager();
     }
 
+    @Bean
+    public JwtAuthenticationResolver jwtAuthenticationResolver() {
+        return new JwtAuthenticationResolver(jwtUtil, userDetailsService,
+                new VerifiedTokenCache(tokenCacheMaxSize, tokenCacheTtlMillis));
+    }
+
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, jwtAuthenticationResolver());
     }
 
     @Override
@@ -94,6 +108,8 @@ public class WebSecurityConfig implements WebMvcConfigurer {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/swagger-ui/**", "/v3/api-docs/**", "/api/members/**").permitAll()
+                        .requestMatchers("/api/websocket/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/order/trades").authenticated()
                         .requestMatchers(HttpMethod.GET).permitAll()
                         .anyRequest().authenticated()
                 );
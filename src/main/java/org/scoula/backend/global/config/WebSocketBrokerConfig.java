@@ -0,0 +1,30 @@
+package org.scoula.backend.global.config;
+
+import org.scoula.backend.global.websocket.ConflatingSubProtocolWebSocketHandler;
+import org.scoula.backend.global.websocket.OutboundSessionRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 메시지 브로커 설정 (@EnableWebSocketMessageBroker 대신 직접 확장)
+ * - 세션 데코레이터 순서를 바꾸기 위해 하위 프로토콜 핸들러만 교체하고, 나머지 설정은 WebSocketConfig 에 위임
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+	private final OutboundSessionRegistry outboundSessionRegistry;
+
+	@Bean
+	@Override
+	public WebSocketHandler subProtocolWebSocketHandler(final AbstractSubscribableChannel clientInboundChannel,
+			final AbstractSubscribableChannel clientOutboundChannel) {
+		return new ConflatingSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel,
+				outboundSessionRegistry);
+	}
+}
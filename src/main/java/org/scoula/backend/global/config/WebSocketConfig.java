@@ -1,21 +1,43 @@
 package org.scoula.backend.global.config;
 
+import org.scoula.backend.global.security.JwtAuthenticationResolver;
+import org.scoula.backend.global.security.StompAuthChannelInterceptor;
+import org.scoula.backend.global.websocket.OutboundQueuePolicy;
+import org.scoula.backend.global.websocket.OutboundSessionRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP 설정 (브로커 활성화는 WebSocketBrokerConfig 에서 처리)
+ */
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	private final JwtAuthenticationResolver jwtAuthenticationResolver;
+	private final OutboundSessionRegistry outboundSessionRegistry;
+
+	@Value("${websocket.outbound.pool-size:8}")
+	private int outboundPoolSize;
+
+	@Value("${websocket.inbound.message-size-limit:65536}")
+	private int messageSizeLimit;
+
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
-		// 구독 주제(subscribe)는 "/topic"으로 시작
-		config.enableSimpleBroker("/topic");
+		// 구독 주제(subscribe)는 "/topic"(공개), "/queue"(개인)으로 시작
+		config.enableSimpleBroker("/topic", "/queue");
 		// 클라이언트에서 보내는 메시지 주제는 "/app"으로 시작
 		config.setApplicationDestinationPrefixes("/app");
+		// 개인 큐는 "/user/queue/..." 로 구독 (세션 사용자 기준으로 라우팅)
+		config.setUserDestinationPrefix("/user");
 	}
 
 	@Override
@@ -24,4 +46,28 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 			.setAllowedOrigins("http://localhost:3000")  // React 앱의 주소
 			.withSockJS();  // SockJS 지원 추가
 	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		// CONNECT 프레임의 JWT 로 세션 사용자 설정
+		registration.interceptors(new StompAuthChannelInterceptor(jwtAuthenticationResolver));
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		// 세션별 송신 큐가 느린 전송을 흡수하므로 송신 스레드 풀은 고정 크기로 유지
+		registration.taskExecutor()
+			.corePoolSize(outboundPoolSize)
+			.maxPoolSize(outboundPoolSize);
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		final OutboundQueuePolicy policy = outboundSessionRegistry.getPolicy();
+		registration
+			.setMessageSizeLimit(messageSizeLimit)
+			.setSendTimeLimit((int)policy.sendTimeLimitMillis())
+			.setSendBufferSizeLimit(policy.bufferSizeLimit());
+		// 세션을 송신 큐로 감싸는 처리는 ConflatingSubProtocolWebSocketHandler 에서 수행 (가장 바깥 데코레이터)
+	}
 }
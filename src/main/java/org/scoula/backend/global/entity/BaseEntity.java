@@ -38,6 +38,14 @@ public class BaseEntity{
 		return deletedDateTime != null;
 	}
 
+	// JPA 저장 전에 생성 시각이 필요한 경우 (write-behind 저장)
+	protected void initializeDateTime(final LocalDateTime now) {
+		if (createdDateTime == null) {
+			this.createdDateTime = now;
+			this.updatedDateTime = now;
+		}
+	}
+
 	public void softDelete(final LocalDateTime deletedDateTime) {
 		if (deletedDateTime == null) {
 			throw new IllegalArgumentException("deletedDateTime must not be `null`");
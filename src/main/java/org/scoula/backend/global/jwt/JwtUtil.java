@@ -3,18 +3,23 @@ package org.scoula.backend.global.jwt;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
+import org.scoula.backend.member.domain.Member;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -26,24 +31,34 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtUtil {
 	public static final String AUTHORIZATION_HEADER = "Authorization";
 	public static final String BEARER_PREFIX = "Bearer ";
+	public static final String MEMBER_ID_CLAIM = "memberId";
+	public static final String ROLE_CLAIM = "role";
 	private static final long TOKEN_TIME = 24 * 60 * 60 * 1000L; // 24 hours
 
 	@Value("${jwt.secret.key}")
 	private String secretKey;
 	private Key key;
+	// 서명 키가 고정이므로 파서는 한 번만 생성하여 재사용 (thread-safe)
+	private JwtParser jwtParser;
 	private static final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
 	@PostConstruct
 	public void init() {
 		byte[] bytes = Base64.getDecoder().decode(secretKey);
 		key = Keys.hmacShaKeyFor(bytes);
+		jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
 	}
 
-	public String createToken(String username) {
+	/**
+	 * 회원 식별자와 권한을 클레임에 담아 토큰 생성 (인증 시 회원 조회 불필요)
+	 */
+	public String createToken(Member member) {
 		Date now = new Date();
 		return BEARER_PREFIX +
 				Jwts.builder()
-						.setSubject(username)
+						.setSubject(member.getUsername())
+						.claim(MEMBER_ID_CLAIM, member.getId())
+						.claim(ROLE_CLAIM, member.getRole().name())
 						.setExpiration(new Date(now.getTime() + TOKEN_TIME))
 						.setIssuedAt(now)
 						.signWith(key, signatureAlgorithm)
@@ -59,24 +74,31 @@ public class JwtUtil {
 	}
 
 	public boolean validateToken(String token) {
+		return parseToken(token).isPresent();
+	}
+
+	/**
+	 * 서명 검증과 클레임 추출을 한 번에 수행
+	 *
+	 * @return 유효한 토큰이면 클레임, 아니면 empty
+	 */
+	public Optional<Claims> parseToken(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
+			return Optional.of(jwtParser.parseClaimsJws(cleanToken(token)).getBody());
 		} catch (SecurityException | MalformedJwtException e) {
 			log.error("Invalid JWT signature.");
 		} catch (ExpiredJwtException e) {
 			log.error("Expired JWT token.");
 		} catch (UnsupportedJwtException e) {
 			log.error("Unsupported JWT token.");
-		} catch (IllegalArgumentException e) {
+		} catch (JwtException | IllegalArgumentException e) {
 			log.error("Invalid JWT token.");
 		}
-		return false;
+		return Optional.empty();
 	}
 
 	public Claims getUserInfoFromToken(String token) {
-		token = cleanToken(token);
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		return jwtParser.parseClaimsJws(cleanToken(token)).getBody();
 	}
 
 	private String cleanToken(String token) {
@@ -0,0 +1,67 @@
+package org.scoula.backend.global.security;
+
+import org.scoula.backend.global.jwt.JwtUtil;
+import org.scoula.backend.member.domain.Member;
+import org.scoula.backend.member.domain.MemberRoleEnum;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT -> 인증 정보 변환 (HTTP 필터와 STOMP CONNECT 에서 공통 사용)
+ * - 캐시된 인증 정보가 있으면 재사용하고, 없으면 토큰을 한 번만 검증
+ * - 회원 식별자 클레임이 있으면 회원 조회 없이 principal 구성
+ */
+@Slf4j(topic = "JWT Authentication Resolver")
+@RequiredArgsConstructor
+public class JwtAuthenticationResolver {
+	private final JwtUtil jwtUtil;
+	private final UserDetailsServiceImpl userDetailsService;
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	/**
+	 * @return 유효한 토큰이면 인증 정보, 아니면 null
+	 */
+	public Authentication resolve(String accessToken) {
+		final long now = System.currentTimeMillis();
+		Authentication cached = verifiedTokenCache.get(accessToken, now);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims claims = jwtUtil.parseToken(accessToken).orElse(null);
+		if (claims == null) {
+			return null;
+		}
+		log.debug("Token Authorization Success: {}", claims.getSubject());
+
+		UserDetails userDetails = createUserDetails(claims);
+		Authentication authentication =
+				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+		long tokenExpiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+		verifiedTokenCache.put(accessToken, authentication, tokenExpiresAt, now);
+		return authentication;
+	}
+
+	/**
+	 * 회원 식별자 클레임이 있으면 토큰만으로 principal 구성, 이전 형식의 토큰은 회원 조회
+	 */
+	private UserDetails createUserDetails(Claims claims) {
+		Number memberId = claims.get(JwtUtil.MEMBER_ID_CLAIM, Number.class);
+		if (memberId == null) {
+			return userDetailsService.loadUserByUsername(claims.getSubject());
+		}
+
+		String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+		Member member = Member.builder()
+				.id(memberId.longValue())
+				.username(claims.getSubject())
+				.role(role != null ? MemberRoleEnum.valueOf(role) : MemberRoleEnum.USER)
+				.build();
+		return new UserDetailsImpl(member);
+	}
+}
@@ -1,6 +1,5 @@
 package org.scoula.backend.global.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,11 +7,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.backend.global.jwt.JwtUtil;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,45 +20,39 @@ import java.io.PrintWriter;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final JwtAuthenticationResolver jwtAuthenticationResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = jwtUtil.getJwtFromHeader(req);
         if (StringUtils.hasText(accessToken)) {
-            if (!jwtUtil.validateToken(accessToken)) {
-                res.setStatus(401); // Unauthorized
-                writeResponse(res, "Invalid or expired token.");
-                return;
-            }
-
-            Claims info = jwtUtil.getUserInfoFromToken(accessToken);
-            log.info("Token Authorization Success: {}", info.getSubject());
-
+            Authentication authentication;
             try {
-                setAuthentication(info.getSubject());
+                authentication = jwtAuthenticationResolver.resolve(accessToken);
             } catch (Exception e) {
                 log.error("Authentication Error: {}", e.getMessage());
+                authentication = null;
+            }
+
+            if (authentication == null) {
+                res.setStatus(401); // Unauthorized
+                writeResponse(res, "Invalid or expired token.");
                 return;
             }
+
+            setAuthentication(authentication);
         }
 
         filterChain.doFilter(req, res);
     }
 
-    private void setAuthentication(String username) {
-        log.info("setAuthentication's username: {}", username);
+    private void setAuthentication(Authentication authentication) {
+        log.debug("setAuthentication's username: {}", authentication.getName());
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
     }
 
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-    }
-
     private void writeResponse(HttpServletResponse response, String message) {
         try {
             response.setContentType("text/plain");
@@ -0,0 +1,64 @@
+package org.scoula.backend.global.security;
+
+import org.scoula.backend.global.jwt.JwtUtil;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 인증 인터셉터
+ * - CONNECT 프레임의 Authorization 헤더로 세션 사용자 설정 (토큰이 없으면 공개 토픽만 구독 가능한 익명 세션)
+ * - 개인 큐는 /user/queue/** 로만 구독 가능하며 인증된 세션만 허용
+ * - 브로커 큐(/queue/**) 직접 구독은 다른 사용자의 세션 큐를 엿볼 수 있으므로 거부
+ */
+@Slf4j(topic = "STOMP Auth Interceptor")
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+	private static final String USER_DESTINATION_PREFIX = "/user/";
+	private static final String USER_QUEUE_PREFIX = "/user/queue/";
+	private static final String QUEUE_PREFIX = "/queue/";
+
+	private final JwtAuthenticationResolver jwtAuthenticationResolver;
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null) {
+			return message;
+		}
+
+		if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+			String accessToken = accessor.getFirstNativeHeader(JwtUtil.AUTHORIZATION_HEADER);
+			if (StringUtils.hasText(accessToken)) {
+				Authentication authentication = jwtAuthenticationResolver.resolve(accessToken);
+				if (authentication == null) {
+					throw new AccessDeniedException("Invalid or expired token.");
+				}
+				accessor.setUser(authentication);
+				log.debug("STOMP session authenticated: {}", authentication.getName());
+			}
+		} else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+			String destination = accessor.getDestination();
+			if (destination == null) {
+				return message;
+			}
+			if (destination.startsWith(QUEUE_PREFIX)
+					|| (destination.startsWith(USER_DESTINATION_PREFIX) && !destination.startsWith(USER_QUEUE_PREFIX))) {
+				throw new AccessDeniedException("Subscription not allowed: " + destination);
+			}
+			if (destination.startsWith(USER_QUEUE_PREFIX) && accessor.getUser() == null) {
+				throw new AccessDeniedException("Authentication required: " + destination);
+			}
+		}
+		return message;
+	}
+}
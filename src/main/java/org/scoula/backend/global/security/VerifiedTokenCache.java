@@ -0,0 +1,56 @@
+package org.scoula.backend.global.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 검증된 토큰 -> 인증 정보 캐시 (LRU + TTL)
+ * - 같은 토큰으로 반복되는 요청은 서명 검증과 클레임 파싱을 생략
+ * - 캐시 항목은 TTL 과 토큰 만료 시각 중 이른 시점에 만료
+ */
+public class VerifiedTokenCache {
+
+	private final int maxSize;
+	private final long ttlMillis;
+	private final Map<String, Entry> entries;
+
+	public VerifiedTokenCache(final int maxSize, final long ttlMillis) {
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+				return size() > VerifiedTokenCache.this.maxSize;
+			}
+		};
+	}
+
+	public synchronized Authentication get(final String token, final long now) {
+		final Entry entry = entries.get(token);
+		if (entry == null) {
+			return null;
+		}
+		if (now >= entry.expiresAt()) {
+			entries.remove(token);
+			return null;
+		}
+		return entry.authentication();
+	}
+
+	public synchronized void put(final String token, final Authentication authentication, final long tokenExpiresAt,
+			final long now) {
+		final long expiresAt = Math.min(tokenExpiresAt, now + ttlMillis);
+		if (expiresAt > now) {
+			entries.put(token, new Entry(authentication, expiresAt));
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private record Entry(Authentication authentication, long expiresAt) {
+	}
+}
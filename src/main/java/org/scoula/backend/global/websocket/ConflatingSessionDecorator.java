@@ -0,0 +1,221 @@
+package org.scoula.backend.global.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 세션별 송신 큐
+ * - 보내는 스레드는 큐에 넣기만 하고, 전송 중인 스레드가 없을 때만 직접 비움 (느린 클라이언트가 송신 스레드 풀을 점유하지 않음)
+ * - 시세 토픽의 MESSAGE 프레임은 (구독, 목적지)별 최신 프레임만 유지
+ * - 전송 시간, 대기 개수, 대기 바이트 한도를 넘으면 SessionLimitExceededException 으로 연결 종료
+ */
+public class ConflatingSessionDecorator extends WebSocketSessionDecorator {
+
+	private static final String MESSAGE_COMMAND = "MESSAGE\n";
+	private static final int HEADER_SCAN_LIMIT = 1024;
+	private static final String DESTINATION_HEADER = "destination:";
+	private static final String SUBSCRIPTION_HEADER = "subscription:";
+
+	private final OutboundQueuePolicy policy;
+
+	// 대기 중인 프레임 (시세 토픽은 구독+목적지 키, 그 외는 순번 키로 입력 순서 유지)
+	private final Map<Object, WebSocketMessage<?>> queue = new LinkedHashMap<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private long sequence;
+	private int bufferedBytes;
+	private int maxQueueDepth;
+
+	private volatile long sendStartTime;
+	private volatile String closeReason;
+
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder conflated = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	public ConflatingSessionDecorator(final WebSocketSession session, final OutboundQueuePolicy policy) {
+		super(session);
+		this.policy = policy;
+	}
+
+	@Override
+	public void sendMessage(final WebSocketMessage<?> message) throws IOException {
+		if (closeReason != null) {
+			dropped.increment();
+			return;
+		}
+
+		enqueue(message);
+		checkLimits();
+		flush();
+	}
+
+	public OutboundSessionStatsResponse getStats() {
+		final Principal principal = getPrincipal();
+		final long start = sendStartTime;
+		final int queueDepth;
+		final int queuedBytes;
+		final int maxDepth;
+		synchronized (queue) {
+			queueDepth = queue.size();
+			queuedBytes = bufferedBytes;
+			maxDepth = maxQueueDepth;
+		}
+
+		return new OutboundSessionStatsResponse(
+				getId(),
+				principal != null ? principal.getName() : null,
+				queueDepth,
+				maxDepth,
+				queuedBytes,
+				sent.sum(),
+				conflated.sum(),
+				dropped.sum(),
+				start > 0 ? System.currentTimeMillis() - start : 0,
+				closeReason
+		);
+	}
+
+	private void enqueue(final WebSocketMessage<?> message) {
+		final String key = conflationKey(message);
+		synchronized (queue) {
+			if (key != null) {
+				// 기존 키면 대기 순서는 유지하고 내용만 최신 프레임으로 교체
+				final WebSocketMessage<?> previous = queue.put(key, message);
+				if (previous != null) {
+					bufferedBytes -= previous.getPayloadLength();
+					conflated.increment();
+				}
+			} else {
+				queue.put(sequence++, message);
+			}
+			bufferedBytes += message.getPayloadLength();
+			maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+		}
+	}
+
+	private void checkLimits() {
+		final long start = sendStartTime;
+		if (start > 0 && System.currentTimeMillis() - start > policy.sendTimeLimitMillis()) {
+			limitExceeded("Send time limit " + policy.sendTimeLimitMillis() + "ms exceeded");
+		}
+
+		final int queueDepth;
+		final int queuedBytes;
+		synchronized (queue) {
+			queueDepth = queue.size();
+			queuedBytes = bufferedBytes;
+		}
+		if (queueDepth > policy.maxQueueSize()) {
+			limitExceeded("Outbound queue size " + queueDepth + " exceeded " + policy.maxQueueSize());
+		}
+		if (queuedBytes > policy.bufferSizeLimit()) {
+			limitExceeded("Outbound buffer " + queuedBytes + " bytes exceeded " + policy.bufferSizeLimit());
+		}
+	}
+
+	private void limitExceeded(final String reason) {
+		closeReason = reason;
+		synchronized (queue) {
+			dropped.add(queue.size());
+			queue.clear();
+			bufferedBytes = 0;
+		}
+		throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	private void flush() throws IOException {
+		while (hasPending() && closeReason == null && flushLock.tryLock()) {
+			try {
+				WebSocketMessage<?> next;
+				while (closeReason == null && (next = poll()) != null) {
+					sendStartTime = System.currentTimeMillis();
+					try {
+						getDelegate().sendMessage(next);
+						sent.increment();
+					} finally {
+						sendStartTime = 0;
+					}
+				}
+			} finally {
+				flushLock.unlock();
+			}
+		}
+	}
+
+	private boolean hasPending() {
+		synchronized (queue) {
+			return !queue.isEmpty();
+		}
+	}
+
+	private WebSocketMessage<?> poll() {
+		synchronized (queue) {
+			final Iterator<WebSocketMessage<?>> iterator = queue.values().iterator();
+			if (!iterator.hasNext()) {
+				return null;
+			}
+			final WebSocketMessage<?> next = iterator.next();
+			iterator.remove();
+			bufferedBytes -= next.getPayloadLength();
+			return next;
+		}
+	}
+
+	/**
+	 * 시세 토픽 MESSAGE 프레임의 병합 키 (구독 ID + 목적지), 병합 대상이 아니면 null
+	 */
+	private String conflationKey(final WebSocketMessage<?> message) {
+		final String frame;
+		if (message instanceof TextMessage textMessage) {
+			frame = textMessage.getPayload();
+		} else if (message instanceof BinaryMessage binaryMessage) {
+			// 헤더 영역만 복사해서 확인
+			final ByteBuffer payload = binaryMessage.getPayload().duplicate();
+			final byte[] head = new byte[Math.min(payload.remaining(), HEADER_SCAN_LIMIT)];
+			payload.get(head);
+			frame = new String(head, StandardCharsets.UTF_8);
+		} else {
+			return null;
+		}
+		if (!frame.startsWith(MESSAGE_COMMAND)) {
+			return null;
+		}
+
+		String destination = null;
+		String subscription = null;
+		int lineStart = MESSAGE_COMMAND.length();
+		int lineEnd;
+		while ((lineEnd = frame.indexOf('\n', lineStart)) > lineStart) {
+			final String line = frame.substring(lineStart, lineEnd).strip();
+			if (line.isEmpty()) {
+				break; // 헤더 끝 (\r\n)
+			}
+			if (destination == null && line.startsWith(DESTINATION_HEADER)) {
+				destination = line.substring(DESTINATION_HEADER.length());
+			} else if (subscription == null && line.startsWith(SUBSCRIPTION_HEADER)) {
+				subscription = line.substring(SUBSCRIPTION_HEADER.length());
+			}
+			lineStart = lineEnd + 1;
+		}
+
+		if (!policy.isConflatable(destination)) {
+			return null;
+		}
+		return subscription + "|" + destination;
+	}
+}
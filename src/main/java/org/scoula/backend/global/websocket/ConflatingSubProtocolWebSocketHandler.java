@@ -0,0 +1,38 @@
+package org.scoula.backend.global.websocket;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 하위 프로토콜 핸들러
+ * - 기본 ConcurrentWebSocketSessionDecorator 대신 ConflatingSessionDecorator 를 가장 바깥 세션으로 사용
+ *   (기본 데코레이터 안쪽에 두면 전송이 직렬화되어 큐가 쌓이지 않으므로 병합되지 않음)
+ */
+public class ConflatingSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+	private final OutboundSessionRegistry outboundSessionRegistry;
+
+	public ConflatingSubProtocolWebSocketHandler(final MessageChannel clientInboundChannel,
+			final SubscribableChannel clientOutboundChannel, final OutboundSessionRegistry outboundSessionRegistry) {
+		super(clientInboundChannel, clientOutboundChannel);
+		this.outboundSessionRegistry = outboundSessionRegistry;
+	}
+
+	@Override
+	protected WebSocketSession decorateSession(final WebSocketSession session) {
+		return outboundSessionRegistry.register(session);
+	}
+
+	@Override
+	public void afterConnectionClosed(final WebSocketSession session, final CloseStatus closeStatus)
+			throws Exception {
+		try {
+			super.afterConnectionClosed(session, closeStatus);
+		} finally {
+			outboundSessionRegistry.unregister(session.getId());
+		}
+	}
+}
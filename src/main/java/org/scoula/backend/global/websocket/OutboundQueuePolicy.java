@@ -0,0 +1,31 @@
+package org.scoula.backend.global.websocket;
+
+import java.util.List;
+
+/**
+ * 세션별 송신 큐 정책
+ *
+ * @param sendTimeLimitMillis 한 메시지 전송에 허용하는 최대 시간 (초과 시 연결 종료)
+ * @param bufferSizeLimit     대기 중인 메시지의 최대 바이트 수 (초과 시 연결 종료)
+ * @param maxQueueSize        대기 중인 메시지의 최대 개수 (초과 시 연결 종료)
+ * @param conflatePrefixes    목적지별 최신 메시지만 유지하는 시세 토픽 접두어
+ */
+public record OutboundQueuePolicy(
+		long sendTimeLimitMillis,
+		int bufferSizeLimit,
+		int maxQueueSize,
+		List<String> conflatePrefixes
+) {
+
+	public boolean isConflatable(final String destination) {
+		if (destination == null) {
+			return false;
+		}
+		for (String prefix : conflatePrefixes) {
+			if (destination.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,70 @@
+package org.scoula.backend.global.websocket;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 송신 큐 등록
+ * - STOMP 핸들러(ConflatingSubProtocolWebSocketHandler)가 세션을 ConflatingSessionDecorator 로 감싸 느린 클라이언트를 격리
+ * - 연결 중인 세션의 큐 통계 제공
+ */
+@Slf4j
+@Component
+public class OutboundSessionRegistry {
+
+	private final OutboundQueuePolicy policy;
+	private final Map<String, ConflatingSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+	public OutboundSessionRegistry(
+			@Value("${websocket.outbound.send-time-limit-ms:10000}") final long sendTimeLimitMillis,
+			@Value("${websocket.outbound.buffer-size-limit:524288}") final int bufferSizeLimit,
+			@Value("${websocket.outbound.max-queue-size:1000}") final int maxQueueSize,
+			@Value("${websocket.outbound.conflate-prefixes:/topic/orderbook/,/topic/chart/,/topic/candle/,/topic/indicator/}")
+			final List<String> conflatePrefixes) {
+		this.policy = new OutboundQueuePolicy(sendTimeLimitMillis, bufferSizeLimit, maxQueueSize,
+				List.copyOf(conflatePrefixes));
+	}
+
+	public OutboundQueuePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * 세션을 송신 큐로 감싸 등록
+	 */
+	public ConflatingSessionDecorator register(final WebSocketSession session) {
+		final ConflatingSessionDecorator decorated = new ConflatingSessionDecorator(session, policy);
+		sessions.put(session.getId(), decorated);
+		return decorated;
+	}
+
+	public void unregister(final String sessionId) {
+		final ConflatingSessionDecorator decorated = sessions.remove(sessionId);
+		if (decorated == null) {
+			return;
+		}
+		final OutboundSessionStatsResponse stats = decorated.getStats();
+		if (stats.closeReason() != null) {
+			log.warn("느린 세션 연결 종료: {}, 폐기된 메시지 {}건, 사유: {}",
+					sessionId, stats.droppedCount(), stats.closeReason());
+		}
+	}
+
+	/**
+	 * 연결 중인 세션의 송신 큐 통계 (대기 메시지가 많은 순)
+	 */
+	public List<OutboundSessionStatsResponse> getStats() {
+		return sessions.values().stream()
+				.map(ConflatingSessionDecorator::getStats)
+				.sorted(Comparator.comparingInt(OutboundSessionStatsResponse::queueDepth).reversed())
+				.toList();
+	}
+}
@@ -0,0 +1,21 @@
+package org.scoula.backend.global.websocket;
+
+/**
+ * 세션별 송신 큐 통계
+ *
+ * @param inFlightMillis 진행 중인 전송의 경과 시간 (전송 중이 아니면 0)
+ * @param closeReason    한도 초과로 종료된 경우 사유
+ */
+public record OutboundSessionStatsResponse(
+		String sessionId,
+		String user,
+		int queueDepth,
+		int maxQueueDepth,
+		int queuedBytes,
+		long sentCount,
+		long conflatedCount,
+		long droppedCount,
+		long inFlightMillis,
+		String closeReason
+) {
+}
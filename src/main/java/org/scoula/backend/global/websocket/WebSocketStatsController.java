@@ -0,0 +1,27 @@
+package org.scoula.backend.global.websocket;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/websocket")
+@RequiredArgsConstructor
+@Tag(name = "WebSocket 세션 API", description = "세션별 송신 큐 상태를 조회하는 컨트롤러 입니다.")
+public class WebSocketStatsController {
+
+	private final OutboundSessionRegistry outboundSessionRegistry;
+
+	/**
+	 * 세션별 송신 큐 깊이, 병합, 폐기 건수 (관리자 전용, 사용자 이름이 포함됨)
+	 */
+	@GetMapping("/sessions")
+	public List<OutboundSessionStatsResponse> sessions() {
+		return outboundSessionRegistry.getStats();
+	}
+}
@@ -4,7 +4,9 @@ import java.util.Collections;
 import java.util.List;
 
 import org.scoula.backend.member.controller.response.CompanySearchResponseDto;
+import org.scoula.backend.member.controller.response.TypeaheadStatsResponse;
 import org.scoula.backend.member.service.CompanyService;
+import org.scoula.backend.member.service.search.CompanyTypeaheadService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -18,9 +20,12 @@ import lombok.extern.slf4j.Slf4j;
 public class CompanyController {
 
 	private final CompanyService companyService;
+	private final CompanyTypeaheadService companyTypeaheadService;
 
-	public CompanyController(final CompanyService companyService) {
+	public CompanyController(final CompanyService companyService,
+			final CompanyTypeaheadService companyTypeaheadService) {
 		this.companyService = companyService;
+		this.companyTypeaheadService = companyTypeaheadService;
 	}
 
 	/**
@@ -39,5 +44,27 @@ public class CompanyController {
 		return companyService.searchCompanies(query);
 	}
 
+	/**
+	 * 자동완성용 종목 검색 (관련도 순 상위 limit 개, 최대 50개)
+	 *
+	 * @param query 검색어 (종목코드, 종목명 또는 초성)
+	 * @param limit 최대 결과 수
+	 * @return 검색된 회사 리스트
+	 */
+	@GetMapping("/typeahead")
+	public List<CompanySearchResponseDto> typeahead(
+			@RequestParam(name = "query") final String query,
+			@RequestParam(name = "limit", defaultValue = "10") final int limit) {
+		return companyTypeaheadService.search(query, limit);
+	}
+
+	/**
+	 * 자동완성 검색 캐시 적중률 통계
+	 */
+	@GetMapping("/typeahead/stats")
+	public TypeaheadStatsResponse typeaheadStats() {
+		return companyTypeaheadService.getStats();
+	}
+
 }
 
@@ -0,0 +1,33 @@
+package org.scoula.backend.member.controller;
+
+import org.scoula.backend.global.security.UserDetailsImpl;
+import org.scoula.backend.member.controller.response.PortfolioResponse;
+import org.scoula.backend.member.exception.NotAuthorizedException;
+import org.scoula.backend.member.service.PortfolioService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/portfolio")
+@Tag(name = "포트폴리오 API", description = "보유 종목 평가 금액과 평가 손익을 조회합니다.")
+public class PortfolioController {
+	private final PortfolioService portfolioService;
+
+	@GetMapping
+	@Operation(summary = "포트폴리오 조회", description = "보유 종목별 평가 금액, 평가 손익, 비중을 조회합니다. 이후 변경은 /user/queue/portfolio 로 전송됩니다.")
+	public ResponseEntity<PortfolioResponse> getPortfolio(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		if (userDetails == null) {
+			throw new NotAuthorizedException("로그인이 필요합니다.");
+		}
+		return ResponseEntity.ok(
+				portfolioService.getPortfolio(userDetails.getMember().getId(), userDetails.getUsername()));
+	}
+}
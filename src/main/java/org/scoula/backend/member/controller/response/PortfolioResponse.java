@@ -0,0 +1,38 @@
+package org.scoula.backend.member.controller.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 계좌 포트폴리오 (/api/portfolio, /user/queue/portfolio)
+ */
+@Builder
+public record PortfolioResponse(
+		Long accountId,
+		BigDecimal balance,                // 예수금
+		BigDecimal availableBalance,       // 주문 가능 금액
+		BigDecimal totalPurchaseAmount,    // 총 매입 금액
+		BigDecimal totalMarketValue,       // 총 평가 금액
+		BigDecimal totalUnrealizedProfit,  // 총 평가 손익
+		BigDecimal totalReturnRate,        // 총 수익률 (%)
+		List<PositionResponse> positions
+) {
+	/**
+	 * 종목별 보유 현황
+	 */
+	@Builder
+	public record PositionResponse(
+			String companyCode,
+			BigDecimal quantity,
+			BigDecimal averagePrice,       // 평균 매입가
+			BigDecimal currentPrice,       // 현재가 (최근 체결가)
+			BigDecimal purchaseAmount,     // 매입 금액
+			BigDecimal marketValue,        // 평가 금액
+			BigDecimal unrealizedProfit,   // 평가 손익
+			BigDecimal returnRate,         // 수익률 (%)
+			BigDecimal weight              // 평가 금액 비중 (%)
+	) {
+	}
+}
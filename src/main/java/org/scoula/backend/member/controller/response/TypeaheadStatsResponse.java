@@ -0,0 +1,13 @@
+package org.scoula.backend.member.controller.response;
+
+/**
+ * 자동완성 검색 캐시 통계
+ */
+public record TypeaheadStatsResponse(
+		long hits,
+		long misses,
+		long coalesced,
+		double hitRatio,
+		int cachedQueries
+) {
+}
@@ -4,7 +4,6 @@ import static jakarta.persistence.FetchType.*;
 
 import java.math.BigDecimal;
 
-import jakarta.persistence.Version;
 import org.scoula.backend.global.entity.BaseEntity;
 import org.scoula.backend.member.exception.InsufficientBalanceException;
 import org.scoula.backend.order.domain.Type;
@@ -16,6 +15,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -32,7 +33,8 @@ import lombok.extern.slf4j.Slf4j;
 public class Account extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_id_generator")
+	@SequenceGenerator(name = "account_id_generator", sequenceName = "account_seq", allocationSize = 1000)
 	@Column(name = "account_id")
 	private Long id;
 
@@ -60,6 +62,11 @@ public class Account extends BaseEntity {
 		this.reservedBalance = this.reservedBalance.add(amount);
 	}
 
+	// 취소된 예약 주문 금액 해제
+	public void releaseReservedOrder(final BigDecimal amount) {
+		this.reservedBalance = this.reservedBalance.subtract(amount);
+	}
+
 	public BigDecimal getAvailableBalance() {
 		return this.balance.subtract(this.reservedBalance);
 	}
@@ -2,14 +2,17 @@ package org.scoula.backend.member.domain;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.scoula.backend.order.OrderConstant;
+import org.scoula.backend.order.service.validator.PriceTickTable;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -65,18 +68,54 @@ public class Company {
 
 	private BigDecimal closingPrice; // 전일 종가
 
+	// 종가 기준 가격 제한 범위와 가격표 (최초 계산 후 재사용, 종가는 변경되지 않음)
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private final AtomicReference<PriceLimit> priceLimit = new AtomicReference<>();
+
 	public boolean isWithinClosingPriceRange(final BigDecimal price) {
-		final BigDecimal percentageDivisor = new BigDecimal(100);
-		final BigDecimal priceLimit = BigDecimal.valueOf(OrderConstant.CLOSING_PRICE_LIMIT.getValue());
+		final PriceLimit limit = getPriceLimit();
+		return price.compareTo(limit.lowerBound()) >= 0 && price.compareTo(limit.upperBound()) <= 0;
+	}
+
+	/**
+	 * 종가 기준 주문 가능 가격표 (하한가, 상한가, 호가 단위)
+	 */
+	public PriceTickTable getPriceTickTable() {
+		return getPriceLimit().tickTable();
+	}
 
-		final BigDecimal lowerBound = calculatePriceLimit(percentageDivisor, priceLimit.negate());
-		final BigDecimal upperBound = calculatePriceLimit(percentageDivisor, priceLimit);
+	/**
+	 * 종가 기준 가격 제한 범위와 가격표 미리 계산
+	 */
+	public void warmUpPriceLimit() {
+		if (closingPrice != null) {
+			getPriceLimit();
+		}
+	}
+
+	private PriceLimit getPriceLimit() {
+		final PriceLimit cached = priceLimit.get();
+		if (cached != null) {
+			return cached;
+		}
 
-		return price.compareTo(lowerBound) >= 0 && price.compareTo(upperBound) <= 0;
+		final BigDecimal percentageDivisor = new BigDecimal(100);
+		final BigDecimal limit = BigDecimal.valueOf(OrderConstant.CLOSING_PRICE_LIMIT.getValue());
+
+		final BigDecimal lowerBound = calculatePriceLimit(percentageDivisor, limit.negate());
+		final BigDecimal upperBound = calculatePriceLimit(percentageDivisor, limit);
+		final PriceLimit calculated = new PriceLimit(lowerBound, upperBound,
+				PriceTickTable.of(lowerBound, upperBound));
+		priceLimit.compareAndSet(null, calculated);
+		return calculated;
 	}
 
 	private BigDecimal calculatePriceLimit(BigDecimal percentageDivisor, BigDecimal priceLimit) {
 		return closingPrice.multiply(new BigDecimal(100).add(priceLimit))
 			.divide(percentageDivisor, RoundingMode.HALF_UP);
 	}
+
+	private record PriceLimit(BigDecimal lowerBound, BigDecimal upperBound, PriceTickTable tickTable) {
+	}
 }
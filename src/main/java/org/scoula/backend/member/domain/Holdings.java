@@ -18,6 +18,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -41,7 +42,8 @@ import lombok.extern.slf4j.Slf4j;
 public class Holdings extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holdings_id_generator")
+	@SequenceGenerator(name = "holdings_id_generator", sequenceName = "holdings_seq", allocationSize = 1000)
 	@Column(name = "holdings_id")
 	private Long id;
 
@@ -84,6 +86,11 @@ public class Holdings extends BaseEntity {
 		this.reservedQuantity = this.reservedQuantity.add(reservedQuantity);
 	}
 
+	// 취소된 예약 주문 수량 해제
+	public void releaseReservedOrder(final BigDecimal reservedQuantity) {
+		this.reservedQuantity = this.reservedQuantity.subtract(reservedQuantity);
+	}
+
 	public void updateHoldings(final Type type, final BigDecimal updatePrice, final BigDecimal updateQuantity) {
 		if (Type.BUY.equals(type)) {
 			updateBuyHoldings(updatePrice, updateQuantity);
@@ -14,4 +14,8 @@ public interface CompanyJpaRepository extends JpaRepository<Company, Long> {
 
 	Optional<Company> findByIsuSrtCd(String isuSrtCd);
 
+	Optional<Company> findByIsuCd(String isuCd);
+
+	Optional<Company> findFirstByIsuNm(String isuNm);
+
 }
@@ -1,5 +1,6 @@
 package org.scoula.backend.member.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.scoula.backend.member.domain.Holdings;
@@ -8,4 +9,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface HoldingsJpaRepository extends JpaRepository<Holdings, Long> {
 	Optional<Holdings> findByAccountIdAndCompanyCode(final Long accountId, final String companyCode);
+
+	List<Holdings> findByAccountIdAndDeletedDateTimeIsNull(final Long accountId);
 }
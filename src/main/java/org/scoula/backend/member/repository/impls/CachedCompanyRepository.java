@@ -0,0 +1,178 @@
+package org.scoula.backend.member.repository.impls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.scoula.backend.member.domain.Company;
+import org.scoula.backend.member.service.reposiotry.CompanyRepository;
+import org.scoula.backend.member.service.search.CompanySearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목 기준정보 메모리 캐시
+ * - 시작 시 전체 종목을 적재하고 단축코드/표준코드/종목명 인덱스로 조회 (주문 경로에서 DB 조회 없음)
+ * - 하루 한 번 전체를 다시 적재하여 스냅샷을 원자적으로 교체
+ * - 캐시에 없는 종목은 DB에서 조회 후 캐시에 추가 (read-through)
+ * - DB에도 없는 종목은 짧은 시간 동안 없음으로 기억하여 같은 코드의 반복 조회가 DB로 가지 않도록 함
+ * - 종목 검색은 DB LIKE 조회 대신 검색 인덱스에서 처리
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachedCompanyRepository implements CompanyRepository {
+
+	private final CompanyRepositoryImpl delegate;
+	private final CompanySearchIndex companySearchIndex;
+	private final long missTtlMillis;
+
+	private volatile CompanySnapshot snapshot = CompanySnapshot.empty();
+
+	public CachedCompanyRepository(final CompanyRepositoryImpl delegate, final CompanySearchIndex companySearchIndex,
+			@Value("${company.cache.miss-ttl-ms:60000}") final long missTtlMillis) {
+		this.delegate = delegate;
+		this.companySearchIndex = companySearchIndex;
+		this.missTtlMillis = missTtlMillis;
+	}
+
+	@PostConstruct
+	public void load() {
+		refresh();
+	}
+
+	/**
+	 * 전체 종목 재적재 후 스냅샷 교체 (기준정보는 하루 한 번 변경)
+	 */
+	@Scheduled(cron = "${company.cache.refresh-cron:0 0 7 * * *}", zone = "Asia/Seoul")
+	public void refresh() {
+		try {
+			final CompanySnapshot loaded = CompanySnapshot.empty();
+			delegate.findAll().forEach(loaded::put);
+			snapshot = loaded;
+			companySearchIndex.rebuild(loaded.byIsuSrtCd().values());
+			log.info("종목 기준정보 캐시 적재 완료: {} 종목", loaded.byIsuSrtCd().size());
+		} catch (Exception e) {
+			log.error("종목 기준정보 캐시 적재 중 오류 발생, 기존 캐시를 유지합니다: {}", e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public List<Company> findByIsuNmContainingOrIsuAbbrvContainingOrIsuEngNmContainingOrIsuSrtCdContaining(
+			final String query) {
+		if (CompanySearchIndex.normalize(query).isEmpty()) {
+			return findAll();
+		}
+		return companySearchIndex.search(query, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public List<Company> findAll() {
+		return new ArrayList<>(snapshot.byIsuSrtCd().values());
+	}
+
+	@Override
+	public void save(final Company company) {
+		delegate.save(company);
+		snapshot.put(company);
+		companySearchIndex.upsert(company);
+	}
+
+	@Override
+	public Optional<Company> findByIsuSrtCd(final String isuSrt) {
+		return readThrough(snapshot.byIsuSrtCd(), "srt:", isuSrt, delegate::findByIsuSrtCd);
+	}
+
+	@Override
+	public Optional<Company> findByIsuCd(final String isuCd) {
+		return readThrough(snapshot.byIsuCd(), "cd:", isuCd, delegate::findByIsuCd);
+	}
+
+	@Override
+	public Optional<Company> findByIsuNm(final String isuNm) {
+		return readThrough(snapshot.byIsuNm(), "nm:", isuNm, delegate::findByIsuNm);
+	}
+
+	private Optional<Company> readThrough(final Map<String, Company> index, final String missPrefix,
+			final String key, final Function<String, Optional<Company>> loader) {
+		if (key == null) {
+			return Optional.empty();
+		}
+
+		final Company cached = index.get(key);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		// 최근에 DB에서도 찾지 못한 키
+		final CompanySnapshot current = snapshot;
+		final long now = System.currentTimeMillis();
+		final Long missExpiresAt = current.misses().get(missPrefix + key);
+		if (missExpiresAt != null && missExpiresAt > now) {
+			return Optional.empty();
+		}
+
+		final Optional<Company> loaded = loader.apply(key);
+		if (loaded.isPresent()) {
+			current.put(loaded.get());
+		} else if (missTtlMillis > 0) {
+			current.putMiss(missPrefix + key, now + missTtlMillis, now);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 종목 기준정보 스냅샷과 보조 인덱스
+	 * - misses: 조회 키별 없음 기록 만료 시각 (재적재 시 함께 초기화)
+	 */
+	private record CompanySnapshot(
+			Map<String, Company> byIsuSrtCd,
+			Map<String, Company> byIsuCd,
+			Map<String, Company> byIsuNm,
+			Map<String, Long> misses
+	) {
+		// 존재하지 않는 코드로 반복 조회해도 메모리가 계속 늘지 않도록 제한
+		private static final int MAX_MISSES = 10_000;
+
+		private static CompanySnapshot empty() {
+			return new CompanySnapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+					new ConcurrentHashMap<>());
+		}
+
+		private void putMiss(final String key, final long expiresAt, final long now) {
+			if (misses.size() >= MAX_MISSES) {
+				misses.values().removeIf(expiry -> expiry <= now);
+				if (misses.size() >= MAX_MISSES) {
+					misses.clear();
+				}
+			}
+			misses.put(key, expiresAt);
+		}
+
+		private void put(final Company company) {
+			// 가격 제한 범위는 적재 시점에 미리 계산
+			company.warmUpPriceLimit();
+
+			if (company.getIsuSrtCd() != null) {
+				byIsuSrtCd.put(company.getIsuSrtCd(), company);
+				misses.remove("srt:" + company.getIsuSrtCd());
+			}
+			if (company.getIsuCd() != null) {
+				byIsuCd.put(company.getIsuCd(), company);
+				misses.remove("cd:" + company.getIsuCd());
+			}
+			if (company.getIsuNm() != null) {
+				byIsuNm.put(company.getIsuNm(), company);
+				misses.remove("nm:" + company.getIsuNm());
+			}
+		}
+	}
+}
@@ -46,4 +46,14 @@ public class CompanyRepositoryImpl implements CompanyRepository {
 	public Optional<Company> findByIsuSrtCd(final String isuSrt) {
 		return companyJpaRepository.findByIsuSrtCd(isuSrt);
 	}
+
+	@Override
+	public Optional<Company> findByIsuCd(final String isuCd) {
+		return companyJpaRepository.findByIsuCd(isuCd);
+	}
+
+	@Override
+	public Optional<Company> findByIsuNm(final String isuNm) {
+		return companyJpaRepository.findFirstByIsuNm(isuNm);
+	}
 }
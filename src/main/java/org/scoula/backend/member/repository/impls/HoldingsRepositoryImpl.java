@@ -1,5 +1,6 @@
 package org.scoula.backend.member.repository.impls;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.scoula.backend.member.domain.Holdings;
@@ -24,4 +25,9 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
 	public Optional<Holdings> findByAccountIdAndCompanyCode(final Long accountId, final String companyCode) {
 		return holdingsJpaRepository.findByAccountIdAndCompanyCode(accountId, companyCode);
 	}
+
+	@Override
+	public List<Holdings> findByAccountId(final Long accountId) {
+		return holdingsJpaRepository.findByAccountIdAndDeletedDateTimeIsNull(accountId);
+	}
 }
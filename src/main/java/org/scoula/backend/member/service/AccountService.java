@@ -1,6 +1,7 @@
 package org.scoula.backend.member.service;
 
 import java.math.BigDecimal;
+import java.util.function.Supplier;
 
 import org.scoula.backend.member.domain.Account;
 import org.scoula.backend.member.service.reposiotry.AccountRepository;
@@ -18,19 +19,23 @@ public class AccountService {
 
 	private final AccountRepository accountRepository;
 
-	public void updateAccountAfterTrade(final Long memberId, final Type type, final BigDecimal price, final BigDecimal quantity) {
-		optimizeLoop(() -> {
+	/**
+	 * 체결 금액을 계좌에 반영
+	 *
+	 * @return 반영 후 계좌
+	 */
+	public Account updateAccountAfterTrade(final Long memberId, final Type type, final BigDecimal price, final BigDecimal quantity) {
+		return optimizeLoop(() -> {
 			Account account = accountRepository.getByMemberId(memberId);
 			account.processOrder(type, price, quantity);
-			accountRepository.save(account);
+			return accountRepository.save(account);
 		});
 	}
 
-	private void optimizeLoop(Runnable run) {
+	private <T> T optimizeLoop(Supplier<T> run) {
 		while (true) {
 			try {
-				run.run();
-				break;
+				return run.get();
 			} catch (ObjectOptimisticLockingFailureException ex) {
 				try {
 					Thread.sleep(20);
@@ -0,0 +1,470 @@
+package org.scoula.backend.member.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scoula.backend.member.controller.response.PortfolioResponse;
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.member.domain.Company;
+import org.scoula.backend.member.domain.Holdings;
+import org.scoula.backend.member.service.reposiotry.AccountRepository;
+import org.scoula.backend.member.service.reposiotry.CompanyRepository;
+import org.scoula.backend.member.service.reposiotry.HoldingsRepository;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.AccountUpdatedEvent;
+import org.scoula.backend.order.dto.TradePriceUpdatedEvent;
+import org.scoula.backend.order.dto.TradeSettledEvent;
+import org.scoula.backend.order.service.TradeHistoryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계좌 포트폴리오 조회 (평가 금액, 평가 손익, 비중)
+ * - 처음 조회한 계좌의 보유 종목을 메모리에 적재하고, 이후 체결 정산/체결가 이벤트로 증분 갱신
+ * - 체결가가 바뀌면 해당 종목 보유 계좌의 평가 금액만 차이만큼 갱신 (요청마다 보유 주식, 계좌, 거래 내역 조인 없음)
+ * - 변경된 계좌는 주기적으로 개인 큐(/user/queue/portfolio)로 전송
+ * - 이벤트는 커밋 후 반영하며, 적재 중에 들어온 이벤트가 있으면 DB에서 다시 적재 (이중 반영, 누락 방지)
+ * - 한동안 조회되지 않은 계좌는 메모리에서 해제
+ */
+@Slf4j
+@Service
+public class PortfolioService {
+	public static final String PORTFOLIO_DESTINATION = "/queue/portfolio";
+
+	private static final int RATE_SCALE = 2;
+	private static final int MAX_LOAD_ATTEMPTS = 3;
+
+	private final AccountRepository accountRepository;
+	private final HoldingsRepository holdingsRepository;
+	private final CompanyRepository companyRepository;
+	private final TradeHistoryService tradeHistoryService;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final long idleMillis;
+
+	// 회원 ID -> 계좌 ID
+	private final Map<Long, Long> accountIds = new ConcurrentHashMap<>();
+	// 계좌 ID -> 포트폴리오
+	private final Map<Long, AccountPortfolio> portfolios = new ConcurrentHashMap<>();
+	// 종목코드 -> 보유 계좌 ID (체결가 변경 시 갱신 대상)
+	private final Map<String, Set<Long>> holders = new ConcurrentHashMap<>();
+	// 종목코드 -> 최근 체결가
+	private final Map<String, BigDecimal> lastPrices = new ConcurrentHashMap<>();
+
+	public PortfolioService(
+			final AccountRepository accountRepository,
+			final HoldingsRepository holdingsRepository,
+			final CompanyRepository companyRepository,
+			final TradeHistoryService tradeHistoryService,
+			final SimpMessagingTemplate messagingTemplate,
+			@Value("${portfolio.idle-ttl-ms:1800000}") final long idleMillis) {
+		this.accountRepository = accountRepository;
+		this.holdingsRepository = holdingsRepository;
+		this.companyRepository = companyRepository;
+		this.tradeHistoryService = tradeHistoryService;
+		this.messagingTemplate = messagingTemplate;
+		this.idleMillis = idleMillis;
+	}
+
+	/**
+	 * 회원 포트폴리오 조회 (첫 조회 시에만 DB 적재)
+	 */
+	public PortfolioResponse getPortfolio(final Long memberId, final String username) {
+		final Long accountId = accountIds.get(memberId);
+		AccountPortfolio portfolio = accountId != null ? portfolios.get(accountId) : null;
+		Account account = null;
+		if (portfolio == null) {
+			account = accountRepository.getByMemberId(memberId);
+			// 보유 종목을 읽기 전에 먼저 등록해야 적재 중 체결을 감지할 수 있음
+			portfolio = portfolios.computeIfAbsent(account.getId(), id -> new AccountPortfolio(id, memberId, username));
+			accountIds.put(memberId, account.getId());
+		}
+		portfolio.lastAccessedAt = System.currentTimeMillis();
+
+		synchronized (portfolio.loadLock) {
+			if (!portfolio.loaded) {
+				load(portfolio, account);
+			}
+		}
+		synchronized (portfolio) {
+			return portfolio.toResponse();
+		}
+	}
+
+	/**
+	 * 체결 정산 반영 - 적재된 계좌만 보유 수량, 매입 금액, 잔고 갱신
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTradeSettled(final TradeSettledEvent event) {
+		final TradeHistory trade = event.tradeHistory();
+		lastPrices.put(trade.getCompanyCode(), trade.getPrice());
+		applyTrade(event.buyOrder(), event.buyerAccount(), trade);
+		applyTrade(event.sellOrder(), event.sellerAccount(), trade);
+	}
+
+	/**
+	 * 주문 접수로 예약 금액이 바뀐 계좌 잔고 갱신
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountUpdated(final AccountUpdatedEvent event) {
+		final AccountPortfolio portfolio = portfolios.get(event.account().getId());
+		if (portfolio == null) {
+			return;
+		}
+		synchronized (portfolio) {
+			if (portfolio.acceptsUpdates()) {
+				portfolio.updateBalance(event.account());
+			}
+		}
+	}
+
+	/**
+	 * 체결가 변경 - 해당 종목 보유 계좌의 평가 금액만 증분 갱신
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTradePriceUpdated(final TradePriceUpdatedEvent event) {
+		lastPrices.put(event.companyCode(), event.price());
+		final Set<Long> accountIds = holders.get(event.companyCode());
+		if (accountIds == null) {
+			return;
+		}
+
+		for (Long accountId : accountIds) {
+			final AccountPortfolio portfolio = portfolios.get(accountId);
+			if (portfolio == null) {
+				continue;
+			}
+			synchronized (portfolio) {
+				if (portfolio.acceptsUpdates()) {
+					portfolio.updatePrice(event.companyCode(), event.price());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 변경된 포트폴리오만 개인 큐로 전송
+	 */
+	@Scheduled(fixedRateString = "${portfolio.push-interval-ms:1000}")
+	public void publishChanges() {
+		for (AccountPortfolio portfolio : portfolios.values()) {
+			final PortfolioResponse response;
+			synchronized (portfolio) {
+				if (!portfolio.loaded || !portfolio.dirty) {
+					continue;
+				}
+				portfolio.dirty = false;
+				response = portfolio.toResponse();
+			}
+
+			try {
+				messagingTemplate.convertAndSendToUser(portfolio.username, PORTFOLIO_DESTINATION, response);
+			} catch (Exception e) {
+				log.warn("포트폴리오 전송 실패: {}, 오류={}", portfolio.username, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 한동안 조회되지 않은 계좌 포트폴리오 해제
+	 */
+	@Scheduled(fixedDelayString = "${portfolio.idle-check-ms:60000}")
+	public void evictIdle() {
+		evictIdle(System.currentTimeMillis());
+	}
+
+	void evictIdle(final long now) {
+		portfolios.values().removeIf(portfolio -> {
+			if (now - portfolio.lastAccessedAt <= idleMillis) {
+				return false;
+			}
+			synchronized (portfolio) {
+				unregisterHolder(portfolio);
+				accountIds.remove(portfolio.memberId, portfolio.accountId);
+			}
+			return true;
+		});
+	}
+
+	/**
+	 * 계좌 잔고와 보유 종목 적재
+	 * - 적재 중 이 계좌의 이벤트가 들어오면 읽은 값이 이미 반영했는지 알 수 없으므로 다시 적재
+	 */
+	private void load(final AccountPortfolio portfolio, final Account loadedAccount) {
+		Account account = loadedAccount;
+		for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+			synchronized (portfolio) {
+				unregisterHolder(portfolio);
+				portfolio.reset();
+				portfolio.loading = true;
+			}
+
+			if (account == null) {
+				account = accountRepository.getByMemberId(portfolio.memberId);
+			}
+			final List<Holdings> holdingsList = holdingsRepository.findByAccountId(portfolio.accountId);
+
+			synchronized (portfolio) {
+				if (portfolio.stale && attempt < MAX_LOAD_ATTEMPTS) {
+					account = null;
+					continue;
+				}
+				portfolio.updateBalance(account);
+				for (Holdings holdings : holdingsList) {
+					if (holdings.getQuantity().signum() <= 0) {
+						continue;
+					}
+					final Position position = new Position(holdings.getQuantity(), holdings.getAveragePrice(),
+							holdings.getTotalPurchasePrice(),
+							currentPrice(holdings.getCompanyCode(), holdings.getAveragePrice()));
+					portfolio.addPosition(holdings.getCompanyCode(), position);
+					holders.computeIfAbsent(holdings.getCompanyCode(), k -> ConcurrentHashMap.newKeySet())
+							.add(portfolio.accountId);
+				}
+				// 계속 변경되면 이번 결과를 보여주고 다음 조회 때 다시 적재
+				portfolio.loaded = !portfolio.stale;
+				portfolio.loading = false;
+				portfolio.dirty = false;
+				return;
+			}
+		}
+	}
+
+	private void unregisterHolder(final AccountPortfolio portfolio) {
+		for (String companyCode : portfolio.positions.keySet()) {
+			final Set<Long> accountIds = holders.get(companyCode);
+			if (accountIds != null) {
+				accountIds.remove(portfolio.accountId);
+			}
+		}
+	}
+
+	private void applyTrade(final Order order, final Account account, final TradeHistory trade) {
+		if (account == null) {
+			return;
+		}
+		final AccountPortfolio portfolio = portfolios.get(account.getId());
+		if (portfolio == null) {
+			return;
+		}
+
+		final String companyCode = trade.getCompanyCode();
+		synchronized (portfolio) {
+			if (!portfolio.acceptsUpdates()) {
+				return;
+			}
+			portfolio.updateBalance(account);
+			if (order.getType() == Type.BUY) {
+				portfolio.buy(companyCode, trade.getPrice(), trade.getQuantity());
+				holders.computeIfAbsent(companyCode, k -> ConcurrentHashMap.newKeySet()).add(account.getId());
+			} else if (portfolio.sell(companyCode, trade.getPrice(), trade.getQuantity())) {
+				final Set<Long> accountIds = holders.get(companyCode);
+				if (accountIds != null) {
+					accountIds.remove(account.getId());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 종목 현재가 (최근 체결가 > 메모리 최근 거래 > 종가 > 평균 매입가)
+	 */
+	private BigDecimal currentPrice(final String companyCode, final BigDecimal fallback) {
+		final BigDecimal last = lastPrices.get(companyCode);
+		if (last != null) {
+			return last;
+		}
+		return tradeHistoryService.getLastTrade(companyCode)
+				.map(TradeHistory::getPrice)
+				.or(() -> companyRepository.findByIsuSrtCd(companyCode).map(Company::getClosingPrice))
+				.orElse(fallback);
+	}
+
+	private static BigDecimal percent(final BigDecimal numerator, final BigDecimal denominator) {
+		if (denominator.signum() == 0) {
+			return BigDecimal.ZERO;
+		}
+		return numerator.multiply(BigDecimal.valueOf(100)).divide(denominator, RATE_SCALE, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * 계좌 포트폴리오 (합계는 증분으로 유지, 접근은 인스턴스 잠금으로 보호)
+	 */
+	private static final class AccountPortfolio {
+		private final Long accountId;
+		private final Long memberId;
+		private final String username;
+		// 적재는 한 스레드만 수행 (이벤트 처리는 인스턴스 잠금 사용)
+		private final Object loadLock = new Object();
+		private final Map<String, Position> positions = new TreeMap<>();
+		private BigDecimal balance = BigDecimal.ZERO;
+		private BigDecimal availableBalance = BigDecimal.ZERO;
+		private BigDecimal totalPurchaseAmount = BigDecimal.ZERO;
+		private BigDecimal totalMarketValue = BigDecimal.ZERO;
+		private boolean dirty;
+		private volatile boolean loaded;
+		private boolean loading;
+		// 적재 중 이벤트 수신 여부
+		private boolean stale;
+		private volatile long lastAccessedAt;
+
+		private AccountPortfolio(final Long accountId, final Long memberId, final String username) {
+			this.accountId = accountId;
+			this.memberId = memberId;
+			this.username = username;
+		}
+
+		// 적재가 끝난 계좌만 증분 반영, 적재 중이면 다시 적재하도록 표시
+		private boolean acceptsUpdates() {
+			if (loading) {
+				stale = true;
+			}
+			return loaded && !loading;
+		}
+
+		private void reset() {
+			positions.clear();
+			balance = BigDecimal.ZERO;
+			availableBalance = BigDecimal.ZERO;
+			totalPurchaseAmount = BigDecimal.ZERO;
+			totalMarketValue = BigDecimal.ZERO;
+			loaded = false;
+			stale = false;
+		}
+
+		private void updateBalance(final Account account) {
+			balance = account.getBalance();
+			availableBalance = account.getAvailableBalance();
+			dirty = true;
+		}
+
+		private void addPosition(final String companyCode, final Position position) {
+			positions.put(companyCode, position);
+			totalPurchaseAmount = totalPurchaseAmount.add(position.purchaseAmount);
+			totalMarketValue = totalMarketValue.add(position.marketValue());
+		}
+
+		private void updatePrice(final String companyCode, final BigDecimal price) {
+			final Position position = positions.get(companyCode);
+			if (position == null || position.price.compareTo(price) == 0) {
+				return;
+			}
+			final BigDecimal previous = position.marketValue();
+			position.price = price;
+			totalMarketValue = totalMarketValue.add(position.marketValue().subtract(previous));
+			dirty = true;
+		}
+
+		// 매수 체결: 매입 금액 누적 후 평균 매입가 재계산 (Holdings 와 같은 규칙)
+		private void buy(final String companyCode, final BigDecimal price, final BigDecimal quantity) {
+			final Position position = positions.computeIfAbsent(companyCode,
+					k -> new Position(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, price));
+			final BigDecimal previousValue = position.marketValue();
+			final BigDecimal previousPurchase = position.purchaseAmount;
+
+			position.quantity = position.quantity.add(quantity);
+			position.purchaseAmount = position.purchaseAmount.add(price.multiply(quantity));
+			position.averagePrice = position.purchaseAmount.divide(position.quantity, 4, RoundingMode.HALF_UP);
+			position.price = price;
+
+			applyDelta(position, previousValue, previousPurchase);
+		}
+
+		// 매도 체결: 평균 매입가 기준으로 매입 금액 차감, 전량 매도 시 true
+		private boolean sell(final String companyCode, final BigDecimal price, final BigDecimal quantity) {
+			final Position position = positions.get(companyCode);
+			if (position == null) {
+				return false;
+			}
+			final BigDecimal previousValue = position.marketValue();
+			final BigDecimal previousPurchase = position.purchaseAmount;
+
+			position.quantity = position.quantity.subtract(quantity);
+			position.purchaseAmount = position.purchaseAmount.subtract(position.averagePrice.multiply(quantity));
+			position.price = price;
+
+			if (position.quantity.signum() <= 0) {
+				positions.remove(companyCode);
+				totalMarketValue = totalMarketValue.subtract(previousValue);
+				totalPurchaseAmount = totalPurchaseAmount.subtract(previousPurchase);
+				dirty = true;
+				return true;
+			}
+			applyDelta(position, previousValue, previousPurchase);
+			return false;
+		}
+
+		private void applyDelta(final Position position, final BigDecimal previousValue,
+				final BigDecimal previousPurchase) {
+			totalMarketValue = totalMarketValue.add(position.marketValue().subtract(previousValue));
+			totalPurchaseAmount = totalPurchaseAmount.add(position.purchaseAmount.subtract(previousPurchase));
+			dirty = true;
+		}
+
+		private PortfolioResponse toResponse() {
+			final List<PortfolioResponse.PositionResponse> positionResponses = new ArrayList<>(positions.size());
+			positions.forEach((companyCode, position) -> {
+				final BigDecimal marketValue = position.marketValue();
+				final BigDecimal profit = marketValue.subtract(position.purchaseAmount);
+				positionResponses.add(PortfolioResponse.PositionResponse.builder()
+						.companyCode(companyCode)
+						.quantity(position.quantity)
+						.averagePrice(position.averagePrice)
+						.currentPrice(position.price)
+						.purchaseAmount(position.purchaseAmount)
+						.marketValue(marketValue)
+						.unrealizedProfit(profit)
+						.returnRate(percent(profit, position.purchaseAmount))
+						.weight(percent(marketValue, totalMarketValue))
+						.build());
+			});
+
+			final BigDecimal totalProfit = totalMarketValue.subtract(totalPurchaseAmount);
+			return PortfolioResponse.builder()
+					.accountId(accountId)
+					.balance(balance)
+					.availableBalance(availableBalance)
+					.totalPurchaseAmount(totalPurchaseAmount)
+					.totalMarketValue(totalMarketValue)
+					.totalUnrealizedProfit(totalProfit)
+					.totalReturnRate(percent(totalProfit, totalPurchaseAmount))
+					.positions(List.copyOf(positionResponses))
+					.build();
+		}
+	}
+
+	/**
+	 * 종목 보유 현황
+	 */
+	private static final class Position {
+		private BigDecimal quantity;
+		private BigDecimal averagePrice;
+		private BigDecimal purchaseAmount;
+		private BigDecimal price;
+
+		private Position(final BigDecimal quantity, final BigDecimal averagePrice, final BigDecimal purchaseAmount,
+				final BigDecimal price) {
+			this.quantity = quantity;
+			this.averagePrice = averagePrice;
+			this.purchaseAmount = purchaseAmount;
+			this.price = price;
+		}
+
+		private BigDecimal marketValue() {
+			return quantity.multiply(price);
+		}
+	}
+}
@@ -24,4 +24,8 @@ public interface CompanyRepository {
 	void save(Company company);
 
 	Optional<Company> findByIsuSrtCd(final String isuSrt);
+
+	Optional<Company> findByIsuCd(final String isuCd);
+
+	Optional<Company> findByIsuNm(final String isuNm);
 }
@@ -2,6 +2,7 @@ package org.scoula.backend.member.service.reposiotry;
 
 import org.scoula.backend.member.domain.Holdings;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface HoldingsRepository {
@@ -9,4 +10,6 @@ public interface HoldingsRepository {
     Holdings save(final Holdings holdings);
 
     Optional<Holdings> findByAccountIdAndCompanyCode(final Long accountId, final String companyCode);
+
+    List<Holdings> findByAccountId(final Long accountId);
 }
@@ -0,0 +1,393 @@
+package org.scoula.backend.member.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.scoula.backend.member.domain.Company;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목 검색 인덱스
+ * - 종목코드/종목명 접두어 트라이, 부분 문자열용 n-gram(1, 2글자) 색인, 초성 검색 지원
+ * - 관련도(완전 일치 > 코드 접두어 > 이름 접두어 > 초성 접두어 > 부분 일치) 다음으로 거래 활동량 순으로 정렬
+ * - 종목 기준정보가 다시 적재되면 새 인덱스를 만들어 원자적으로 교체
+ * - 개별 종목 저장은 전체 재구성 없이 변경분(delta)에만 반영하고, 다음 재구성 때 기본 인덱스로 합침
+ */
+@Slf4j
+@Component
+public class CompanySearchIndex {
+
+	private static final int SCORE_EXACT = 100;
+	private static final int SCORE_CODE_PREFIX = 90;
+	private static final int SCORE_NAME_PREFIX = 80;
+	private static final int SCORE_CHOSUNG_PREFIX = 70;
+	private static final int SCORE_CONTAINS = 50;
+	private static final int SCORE_CHOSUNG_CONTAINS = 40;
+
+	private volatile Index index = Index.EMPTY;
+
+	// 마지막 재구성 이후 저장된 종목 (단축코드 기준, 기본 인덱스의 같은 종목을 대체)
+	private volatile Delta delta = Delta.EMPTY;
+
+	// 인덱스가 교체될 때마다 증가 (검색 결과 캐시 무효화용)
+	private final AtomicLong version = new AtomicLong();
+
+	// 종목별 거래 활동량 (주문장 잔량 건수)
+	private final Map<String, Integer> activity = new ConcurrentHashMap<>();
+
+	/**
+	 * 인덱스 재구성 후 교체
+	 */
+	public synchronized void rebuild(final Collection<Company> companies) {
+		final long start = System.nanoTime();
+		index = Index.build(companies);
+		delta = Delta.EMPTY;
+		version.incrementAndGet();
+		log.info("종목 검색 인덱스 구성 완료: {} 종목, {}ms",
+				companies.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	/**
+	 * 종목 하나를 추가하거나 교체 (변경분만 복사하므로 비용은 재구성 이후 저장된 종목 수에 비례)
+	 */
+	public synchronized void upsert(final Company company) {
+		delta = delta.with(company);
+		version.incrementAndGet();
+	}
+
+	/**
+	 * 관련도, 거래 활동량 순으로 상위 limit 개 종목 검색
+	 */
+	public List<Company> search(final String query, final int limit) {
+		final String normalized = normalize(query);
+		if (normalized.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		return index.search(normalized, limit, activity, delta);
+	}
+
+	public long getVersion() {
+		return version.get();
+	}
+
+	@EventListener
+	public void onOrderBookUpdated(final OrderBookUpdatedEvent event) {
+		activity.put(event.summary().getCompanyCode(),
+				event.summary().getSellCount() + event.summary().getBuyCount());
+	}
+
+	/**
+	 * 검색어 정규화 (공백 제거, 소문자)
+	 */
+	public static String normalize(final String value) {
+		if (value == null) {
+			return "";
+		}
+
+		final StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				builder.append(c);
+			}
+		}
+		return builder.toString().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 불변 검색 인덱스
+	 */
+	private static final class Index {
+		private static final Index EMPTY = build(List.of());
+
+		// 필드 순서: 단축코드, 표준코드, 종목명, 약명, 영문명, 종목명 초성, 약명 초성
+		private static final int CODE = 0;
+		private static final int STANDARD_CODE = 1;
+		private static final int NAME = 2;
+		private static final int ABBREVIATION = 3;
+		private static final int ENGLISH_NAME = 4;
+		private static final int NAME_CHOSUNG = 5;
+		private static final int ABBREVIATION_CHOSUNG = 6;
+
+		private final Company[] companies;
+		private final String[][] fields;
+		private final TrieNode prefixTrie;
+		private final Map<String, int[]> grams;
+
+		private Index(final Company[] companies, final String[][] fields,
+				final TrieNode prefixTrie, final Map<String, int[]> grams) {
+			this.companies = companies;
+			this.fields = fields;
+			this.prefixTrie = prefixTrie;
+			this.grams = grams;
+		}
+
+		private static Index build(final Collection<Company> source) {
+			final Company[] companies = source.toArray(new Company[0]);
+			final String[][] fields = new String[companies.length][];
+			final TrieNode prefixTrie = new TrieNode();
+			final Map<String, IntList> gramPostings = new HashMap<>();
+
+			for (int doc = 0; doc < companies.length; doc++) {
+				fields[doc] = fields(companies[doc]);
+
+				for (String field : fields[doc]) {
+					if (field.isEmpty()) {
+						continue;
+					}
+					prefixTrie.insert(field, doc);
+					for (int i = 0; i < field.length(); i++) {
+						gramPostings.computeIfAbsent(field.substring(i, i + 1), k -> new IntList()).add(doc);
+						if (i + 1 < field.length()) {
+							gramPostings.computeIfAbsent(field.substring(i, i + 2), k -> new IntList()).add(doc);
+						}
+					}
+				}
+			}
+
+			prefixTrie.freeze();
+			final Map<String, int[]> grams = new HashMap<>(gramPostings.size() * 2);
+			gramPostings.forEach((gram, postings) -> grams.put(gram, postings.toArray()));
+			return new Index(companies, fields, prefixTrie, grams);
+		}
+
+		private static String[] fields(final Company company) {
+			final String name = normalize(company.getIsuNm());
+			final String abbreviation = normalize(company.getIsuAbbrv());
+			return new String[] {
+					normalize(company.getIsuSrtCd()),
+					normalize(company.getIsuCd()),
+					name,
+					abbreviation,
+					normalize(company.getIsuEngNm()),
+					KoreanChosung.extract(name),
+					KoreanChosung.extract(abbreviation)
+			};
+		}
+
+		// 문서 번호: 기본 인덱스 [0, n), 변경분 [n, n + delta 크기)
+		private List<Company> search(final String query, final int limit, final Map<String, Integer> activity,
+				final Delta delta) {
+			final int base = companies.length;
+			final int[] scores = new int[base + delta.companies().length];
+			final List<Integer> candidates = new ArrayList<>();
+
+			// 1. 접두어 일치 (트라이)
+			for (int doc : prefixTrie.find(query)) {
+				if (!delta.replaces(companies[doc])) {
+					scores[doc] = score(fields[doc], query);
+					candidates.add(doc);
+				}
+			}
+
+			// 2. 접두어 일치만으로 부족하면 부분 일치 보충 (가장 짧은 n-gram 목록을 기준으로 검증)
+			if (candidates.size() < limit) {
+				for (int doc : gramCandidates(query)) {
+					if (scores[doc] == 0 && !delta.replaces(companies[doc])) {
+						final int score = score(fields[doc], query);
+						if (score > 0) {
+							scores[doc] = score;
+							candidates.add(doc);
+						}
+					}
+				}
+			}
+
+			// 3. 변경분은 직접 검증
+			for (int i = 0; i < delta.companies().length; i++) {
+				final int score = score(delta.fields()[i], query);
+				if (score > 0) {
+					scores[base + i] = score;
+					candidates.add(base + i);
+				}
+			}
+
+			final Comparator<Integer> order = Comparator
+					.<Integer>comparingInt(doc -> scores[doc]).reversed()
+					.thenComparing(doc -> activity.getOrDefault(company(doc, delta).getIsuSrtCd(), 0),
+							Comparator.reverseOrder())
+					.thenComparingInt(doc -> fields(doc, delta)[NAME].length())
+					.thenComparing(doc -> fields(doc, delta)[CODE]);
+
+			return topN(candidates, limit, order).stream()
+					.map(doc -> company(doc, delta))
+					.toList();
+		}
+
+		private Company company(final int doc, final Delta delta) {
+			return doc < companies.length ? companies[doc] : delta.companies()[doc - companies.length];
+		}
+
+		private String[] fields(final int doc, final Delta delta) {
+			return doc < companies.length ? fields[doc] : delta.fields()[doc - companies.length];
+		}
+
+		private int[] gramCandidates(final String query) {
+			if (query.length() == 1) {
+				return grams.getOrDefault(query, new int[0]);
+			}
+
+			int[] smallest = null;
+			for (int i = 0; i + 1 < query.length(); i++) {
+				final int[] postings = grams.get(query.substring(i, i + 2));
+				if (postings == null) {
+					return new int[0];
+				}
+				if (smallest == null || postings.length < smallest.length) {
+					smallest = postings;
+				}
+			}
+			return smallest;
+		}
+
+		private static int score(final String[] docFields, final String query) {
+			if (query.equals(docFields[CODE]) || query.equals(docFields[STANDARD_CODE])
+					|| query.equals(docFields[NAME]) || query.equals(docFields[ABBREVIATION])) {
+				return SCORE_EXACT;
+			}
+			if (docFields[CODE].startsWith(query) || docFields[STANDARD_CODE].startsWith(query)) {
+				return SCORE_CODE_PREFIX;
+			}
+			if (docFields[NAME].startsWith(query) || docFields[ABBREVIATION].startsWith(query)
+					|| docFields[ENGLISH_NAME].startsWith(query)) {
+				return SCORE_NAME_PREFIX;
+			}
+			if (docFields[NAME_CHOSUNG].startsWith(query) || docFields[ABBREVIATION_CHOSUNG].startsWith(query)) {
+				return SCORE_CHOSUNG_PREFIX;
+			}
+			for (int field = CODE; field <= ENGLISH_NAME; field++) {
+				if (docFields[field].contains(query)) {
+					return SCORE_CONTAINS;
+				}
+			}
+			if (KoreanChosung.containsChosung(query) && (docFields[NAME_CHOSUNG].contains(query)
+					|| docFields[ABBREVIATION_CHOSUNG].contains(query))) {
+				return SCORE_CHOSUNG_CONTAINS;
+			}
+			return 0;
+		}
+
+		private static List<Integer> topN(final List<Integer> candidates, final int limit,
+				final Comparator<Integer> order) {
+			if (candidates.size() <= limit) {
+				candidates.sort(order);
+				return candidates;
+			}
+
+			// 상위 limit 개만 유지하는 힙 (가장 낮은 순위가 head)
+			final PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order.reversed());
+			for (Integer doc : candidates) {
+				heap.offer(doc);
+				if (heap.size() > limit) {
+					heap.poll();
+				}
+			}
+			final List<Integer> result = new ArrayList<>(heap);
+			result.sort(order);
+			return result;
+		}
+	}
+
+	/**
+	 * 재구성 이후 저장된 종목 (불변, 저장 시 복사 후 교체)
+	 */
+	private record Delta(Company[] companies, String[][] fields, Set<String> codes) {
+		private static final Delta EMPTY = new Delta(new Company[0], new String[0][], Set.of());
+
+		private Delta with(final Company company) {
+			final String code = company.getIsuSrtCd();
+			int slot = companies.length;
+			for (int i = 0; i < companies.length; i++) {
+				if (code != null && code.equals(companies[i].getIsuSrtCd())) {
+					slot = i;
+					break;
+				}
+			}
+
+			final int size = Math.max(companies.length, slot + 1);
+			final Company[] nextCompanies = Arrays.copyOf(companies, size);
+			final String[][] nextFields = Arrays.copyOf(fields, size);
+			nextCompanies[slot] = company;
+			nextFields[slot] = Index.fields(company);
+
+			final Set<String> nextCodes = new HashSet<>(codes);
+			if (code != null) {
+				nextCodes.add(code);
+			}
+			return new Delta(nextCompanies, nextFields, Set.copyOf(nextCodes));
+		}
+
+		// 기본 인덱스의 종목이 변경분으로 대체되었는지
+		private boolean replaces(final Company company) {
+			return !codes.isEmpty() && company.getIsuSrtCd() != null && codes.contains(company.getIsuSrtCd());
+		}
+	}
+
+	/**
+	 * 접두어 트라이 노드 - 하위 키를 가진 문서 목록을 노드마다 보관
+	 */
+	private static final class TrieNode {
+		private final Map<Character, TrieNode> children = new HashMap<>();
+		private IntList postings = new IntList();
+		private int[] docs;
+
+		private void insert(final String key, final int doc) {
+			TrieNode node = this;
+			for (int i = 0; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), k -> new TrieNode());
+				node.postings.add(doc);
+			}
+		}
+
+		private int[] find(final String prefix) {
+			TrieNode node = this;
+			for (int i = 0; i < prefix.length() && node != null; i++) {
+				node = node.children.get(prefix.charAt(i));
+			}
+			return node != null ? node.docs : new int[0];
+		}
+
+		private void freeze() {
+			docs = postings.toArray();
+			postings = null;
+			children.values().forEach(TrieNode::freeze);
+		}
+	}
+
+	/**
+	 * 문서 번호 목록 (같은 문서가 연속으로 추가되면 무시)
+	 */
+	private static final class IntList {
+		private int[] values = new int[4];
+		private int size;
+
+		private void add(final int value) {
+			if (size > 0 && values[size - 1] == value) {
+				return;
+			}
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		private int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
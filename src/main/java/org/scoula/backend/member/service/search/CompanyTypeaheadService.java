@@ -0,0 +1,147 @@
+package org.scoula.backend.member.service.search;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.scoula.backend.member.controller.response.CompanySearchResponseDto;
+import org.scoula.backend.member.controller.response.TypeaheadStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 종목 자동완성 검색
+ * - (인덱스 버전, limit, 정규화된 검색어) 단위로 결과를 LRU 캐시에 보관
+ * - 같은 검색어가 동시에 들어오면 한 번만 계산하고 결과를 공유 (single-flight)
+ * - 활동량 순위가 반영되도록 캐시 항목은 짧은 TTL 후 만료
+ */
+@Service
+public class CompanyTypeaheadService {
+
+	public static final int MAX_LIMIT = 50;
+
+	private final CompanySearchIndex companySearchIndex;
+	private final int cacheSize;
+	private final long ttlMillis;
+
+	private final Map<String, CachedResult> cache;
+	private final Map<String, CompletableFuture<List<CompanySearchResponseDto>>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+
+	public CompanyTypeaheadService(
+			final CompanySearchIndex companySearchIndex,
+			@Value("${company.typeahead.cache-size:1000}") final int cacheSize,
+			@Value("${company.typeahead.ttl-ms:5000}") final long ttlMillis) {
+		this.companySearchIndex = companySearchIndex;
+		this.cacheSize = cacheSize;
+		this.ttlMillis = ttlMillis;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, CachedResult> eldest) {
+				return size() > CompanyTypeaheadService.this.cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * 검색어로 시작하거나 포함하는 종목을 관련도 순으로 최대 limit 개 조회
+	 */
+	public List<CompanySearchResponseDto> search(final String query, final int limit) {
+		final String normalized = CompanySearchIndex.normalize(query);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		final int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+		final String key = companySearchIndex.getVersion() + ":" + boundedLimit + ":" + normalized;
+
+		final List<CompanySearchResponseDto> cached = getCached(key);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		final CompletableFuture<List<CompanySearchResponseDto>> future = new CompletableFuture<>();
+		final CompletableFuture<List<CompanySearchResponseDto>> running = inFlight.putIfAbsent(key, future);
+		if (running != null) {
+			coalesced.increment();
+			return await(running);
+		}
+
+		misses.increment();
+		try {
+			final List<CompanySearchResponseDto> results = companySearchIndex.search(normalized, boundedLimit)
+					.stream()
+					.map(CompanySearchResponseDto::fromEntity)
+					.toList();
+			putCached(key, results);
+			future.complete(results);
+			return results;
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	public TypeaheadStatsResponse getStats() {
+		final long hitCount = hits.sum();
+		final long missCount = misses.sum();
+		final long coalescedCount = coalesced.sum();
+		final long total = hitCount + missCount + coalescedCount;
+		final int cachedQueries;
+		synchronized (cache) {
+			cachedQueries = cache.size();
+		}
+
+		return new TypeaheadStatsResponse(
+				hitCount,
+				missCount,
+				coalescedCount,
+				total > 0 ? (double)(hitCount + coalescedCount) / total : 0,
+				cachedQueries
+		);
+	}
+
+	private List<CompanySearchResponseDto> getCached(final String key) {
+		synchronized (cache) {
+			final CachedResult cached = cache.get(key);
+			if (cached == null) {
+				return null;
+			}
+			if (System.currentTimeMillis() - cached.cachedAt() > ttlMillis) {
+				cache.remove(key);
+				return null;
+			}
+			return cached.results();
+		}
+	}
+
+	private void putCached(final String key, final List<CompanySearchResponseDto> results) {
+		synchronized (cache) {
+			cache.put(key, new CachedResult(results, System.currentTimeMillis()));
+		}
+	}
+
+	private List<CompanySearchResponseDto> await(final CompletableFuture<List<CompanySearchResponseDto>> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record CachedResult(List<CompanySearchResponseDto> results, long cachedAt) {
+	}
+}
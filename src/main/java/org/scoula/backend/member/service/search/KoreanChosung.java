@@ -0,0 +1,47 @@
+package org.scoula.backend.member.service.search;
+
+/**
+ * 한글 초성 변환
+ */
+final class KoreanChosung {
+
+	private static final char[] CHOSUNG = {
+			'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ',
+			'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+	private static final char HANGUL_BEGIN = 0xAC00; // 가
+	private static final char HANGUL_END = 0xD7A3; // 힣
+	private static final int CHOSUNG_INTERVAL = 21 * 28; // 중성 수 * 종성 수
+
+	private KoreanChosung() {
+	}
+
+	/**
+	 * 한글 음절은 초성으로, 그 외 문자는 그대로 변환 (예: SK하이닉스 -> SKㅎㅇㄴㅅ)
+	 */
+	static String extract(final String value) {
+		final StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+				builder.append(CHOSUNG[(c - HANGUL_BEGIN) / CHOSUNG_INTERVAL]);
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 한글 자음(초성)이 하나 이상 포함되어 있는지 확인
+	 */
+	static boolean containsChosung(final String value) {
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c >= 'ㄱ' && c <= 'ㅎ') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,13 +1,26 @@
 package org.scoula.backend.order.controller;
 
-import org.scoula.backend.order.dto.ChartResponseDto;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.IndicatorResponseDto;
 import org.scoula.backend.order.service.TradeHistoryService;
+import org.scoula.backend.order.service.archive.TradeArchiveReader;
+import org.scoula.backend.order.service.chart.indicator.IndicatorSpec;
+import org.scoula.backend.order.service.version.MarketDataVersions;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,57 +36,120 @@ import lombok.extern.slf4j.Slf4j;
 public class ChartRestController {
 
 	private final TradeHistoryService tradeHistoryService;
+	private final TradeArchiveReader tradeArchiveReader;
+	private final MarketDataVersions marketDataVersions;
 
 	@GetMapping("/{symbol}/history")
-	@Operation(summary = "차트 히스토리 조회", description = "특정 종목의 차트 데이터를 조회합니다.")
-	public ResponseEntity<ChartResponseDto> getChartHistory(
+	@Operation(summary = "차트 히스토리 조회",
+			description = "특정 종목의 차트 데이터를 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 응답합니다.")
+	public ResponseEntity<byte[]> getChartHistory(
 			@PathVariable("symbol")
 			@Parameter(description = "종목 코드", required = true)
 			String symbol,
 
 			@RequestParam(value = "timeFrame", defaultValue = "15m")
 			@Parameter(description = "타임프레임 (15s, 1m, 5m, 15m, 30m, 1h)", example = "15m")
-			String timeFrame) {
+			String timeFrame,
+
+			WebRequest webRequest) {
+
+		// 캔들이 한 번도 갱신되지 않은 종목은 현재 시각 기준 기본 캔들을 응답하므로 ETag 를 붙이지 않음
+		final String key = MarketDataVersions.chartKey(symbol);
+		final long version = marketDataVersions.getVersion(key);
+		if (version > 0 && webRequest.checkNotModified(MarketDataVersions.toETag(key, version))) {
+			return null;
+		}
 
 		try {
 			// 입력값 로깅
 			log.debug("차트 히스토리 요청: 종목={}, 타임프레임={}", symbol, timeFrame);
 
-			// 데이터 조회
-			ChartResponseDto chartData = tradeHistoryService.getChartHistory(symbol, timeFrame);
-
-			// 정상적인 응답인지 확인
-			if (chartData == null || chartData.candles() == null) {
-				log.warn("차트 데이터가 null입니다: 종목={}, 타임프레임={}", symbol, timeFrame);
-				return ResponseEntity.noContent().build();
-			}
-
-			// 캔들 데이터 유효성 확인
-			boolean hasInvalidCandles = chartData.candles().stream()
-					.anyMatch(candle -> candle == null || candle.time() == null || candle.time() <= 0);
-
-			if (hasInvalidCandles) {
-				log.warn("유효하지 않은 캔들이 포함되어 있습니다: 종목={}, 타임프레임={}", symbol, timeFrame);
-
-				// 유효하지 않은 캔들 필터링 (추가 방어 조치)
-				ChartResponseDto filteredData = ChartResponseDto.builder()
-						.candles(chartData.candles().stream()
-								.filter(candle -> candle != null && candle.time() != null && candle.time() > 0)
-								.toList())
-						.timeCode(chartData.timeCode())
-						.build();
-
-				return ResponseEntity.ok(filteredData);
-			}
-
-			// 정상 응답
-			log.debug("차트 데이터 응답: 종목={}, 타임프레임={}, 캔들 수={}",
-					symbol, timeFrame, chartData.candles().size());
-			return ResponseEntity.ok(chartData);
+			// 데이터 조회 (마감 캔들은 캐시된 JSON 재사용, 유효하지 않은 캔들은 캐시 생성 시 필터링됨)
+			final byte[] chartData = tradeHistoryService.getChartHistoryJson(symbol, timeFrame);
+
+			log.debug("차트 데이터 응답: 종목={}, 타임프레임={}, 응답 크기={}",
+					symbol, timeFrame, chartData.length);
+			return ResponseEntity.ok()
+					.contentType(MediaType.APPLICATION_JSON)
+					.body(chartData);
 		} catch (Exception e) {
 			log.error("차트 히스토리 조회 중 오류 발생: 종목={}, 타임프레임={}, 오류={}",
 					symbol, timeFrame, e.getMessage(), e);
 			return ResponseEntity.internalServerError().build();
 		}
 	}
+
+	@GetMapping("/{symbol}/history/poll")
+	@Operation(summary = "차트 히스토리 롱 폴링",
+			description = "If-None-Match 가 현재 ETag 와 같으면 캔들이 바뀌거나 timeout(ms)이 지날 때까지 대기합니다. "
+					+ "대기 시간이 지나면 304 를 응답합니다.")
+	public DeferredResult<ResponseEntity<byte[]>> pollChartHistory(
+			@PathVariable("symbol")
+			@Parameter(description = "종목 코드", required = true)
+			String symbol,
+
+			@RequestParam(value = "timeFrame", defaultValue = "15m")
+			@Parameter(description = "타임프레임 (15s, 1m, 5m, 15m, 30m, 1h)", example = "15m")
+			String timeFrame,
+
+			@RequestParam(value = "timeout", defaultValue = "" + LongPollResponses.DEFAULT_TIMEOUT_MILLIS)
+			@Parameter(description = "최대 대기 시간 (ms, 최대 30000)")
+			long timeout,
+
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+			String ifNoneMatch) {
+
+		return LongPollResponses.poll(marketDataVersions, MarketDataVersions.chartKey(symbol),
+				ifNoneMatch, timeout, () -> tradeHistoryService.getChartHistoryJson(symbol, timeFrame));
+	}
+
+	@GetMapping("/{symbol}/indicators")
+	@Operation(summary = "보조지표 조회", description = "특정 종목의 보조지표(SMA, EMA, RSI, MACD, 볼린저 밴드)를 조회합니다.")
+	public ResponseEntity<IndicatorResponseDto> getIndicators(
+			@PathVariable("symbol")
+			@Parameter(description = "종목 코드", required = true)
+			String symbol,
+
+			@RequestParam(value = "timeFrame", defaultValue = "15m")
+			@Parameter(description = "타임프레임 (15s, 1m, 5m, 15m, 30m, 1h)", example = "15m")
+			String timeFrame,
+
+			@RequestParam(value = "indicators", required = false)
+			@Parameter(description = "보조지표 목록 (TYPE[:param...], 생략 시 기본 지표)", example = "SMA:20,RSI:14,MACD:12:26:9")
+			List<String> indicators) {
+
+		log.debug("보조지표 요청: 종목={}, 타임프레임={}, 지표={}", symbol, timeFrame, indicators);
+
+		final List<IndicatorSpec> specs = indicators == null || indicators.isEmpty()
+				? IndicatorSpec.DEFAULTS
+				: indicators.stream().map(IndicatorSpec::parse).distinct().toList();
+
+		return ResponseEntity.ok(tradeHistoryService.getIndicators(symbol, timeFrame, specs));
+	}
+
+	@GetMapping("/{symbol}/archive")
+	@Operation(summary = "보관 차트 조회", description = "보관 기간이 지나 파일로 옮겨진 거래 내역을 캔들로 조회합니다.")
+	public ResponseEntity<List<CandleDto>> getArchivedChart(
+			@PathVariable("symbol")
+			@Parameter(description = "종목 코드", required = true)
+			String symbol,
+
+			@RequestParam(value = "timeFrame", defaultValue = "15m")
+			@Parameter(description = "타임프레임 (15s, 1m, 5m, 15m, 30m, 1h)", example = "15m")
+			String timeFrame,
+
+			@RequestParam("from")
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+			@Parameter(description = "조회 시작 체결일", example = "2025-02-01")
+			LocalDate from,
+
+			@RequestParam("to")
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+			@Parameter(description = "조회 종료 체결일", example = "2025-02-07")
+			LocalDate to) {
+
+		log.debug("보관 차트 요청: 종목={}, 타임프레임={}, 기간={}~{}", symbol, timeFrame, from, to);
+
+		return ResponseEntity.ok(tradeArchiveReader.getArchivedCandles(symbol, timeFrame, from, to));
+	}
 }
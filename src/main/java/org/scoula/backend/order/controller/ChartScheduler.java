@@ -1,11 +1,17 @@
 package org.scoula.backend.order.controller;
 
 import org.scoula.backend.order.domain.TimeFrame;
-import org.scoula.backend.order.dto.ChartResponseDto;
+import org.scoula.backend.order.dto.IndicatorResponseDto;
 import org.scoula.backend.order.service.TradeHistoryService;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -19,43 +25,63 @@ public class ChartScheduler {
 
 	private final TradeHistoryService tradeHistoryService;
 	private final SimpMessagingTemplate messagingTemplate;
+	private final SubscriptionRegistry subscriptionRegistry;
 
-	// 기본 종목 코드
-	private static final String DEFAULT_COMPANY_CODE = "005930";
+	private static final String CANDLE_DESTINATION = "/topic/candle/";
+	private static final String INDICATOR_DESTINATION = "/topic/indicator/";
 
 	@Scheduled(fixedRate = 15000) // 15초마다 새로운 캔들 생성
 	public void sendCandleUpdates15Sec() {
-		sendCandleUpdates(DEFAULT_COMPANY_CODE, TimeFrame.SECONDS_15.getTimeCode());
+		sendCandleUpdates(TimeFrame.SECONDS_15.getTimeCode());
 	}
 
 	// 1분봉 업데이트 (60초마다)
 	@Scheduled(fixedRate = 60000)
 	public void sendCandleUpdates1Min() {
-		sendCandleUpdates(DEFAULT_COMPANY_CODE, TimeFrame.MINUTE_1.getTimeCode());
+		sendCandleUpdates(TimeFrame.MINUTE_1.getTimeCode());
 	}
 
 	// 5분봉 업데이트 (5분마다)
 	@Scheduled(fixedRate = 300000)
 	public void sendCandleUpdates5Min() {
-		sendCandleUpdates(DEFAULT_COMPANY_CODE, TimeFrame.MINUTE_5.getTimeCode());
+		sendCandleUpdates(TimeFrame.MINUTE_5.getTimeCode());
 	}
 
 	// 15분봉 업데이트 (15분마다)
 	@Scheduled(fixedRate = 900000)
 	public void sendCandleUpdates15Min() {
-		sendCandleUpdates(DEFAULT_COMPANY_CODE, TimeFrame.MINUTE_15.getTimeCode());
+		sendCandleUpdates(TimeFrame.MINUTE_15.getTimeCode());
 	}
 
 	// 30분봉 업데이트 (30분마다)
 	@Scheduled(fixedRate = 1800000)
 	public void sendCandleUpdates30Min() {
-		sendCandleUpdates(DEFAULT_COMPANY_CODE, TimeFrame.MINUTE_30.getTimeCode());
+		sendCandleUpdates(TimeFrame.MINUTE_30.getTimeCode());
 	}
 
 	// 1시간봉 업데이트 (1시간마다)
 	@Scheduled(fixedRate = 3600000)
 	public void sendCandleUpdates1Hour() {
-		sendCandleUpdates(DEFAULT_COMPANY_CODE, TimeFrame.HOUR_1.getTimeCode());
+		sendCandleUpdates(TimeFrame.HOUR_1.getTimeCode());
+	}
+
+	/**
+	 * 해당 타임프레임 캔들을 구독 중인 종목만 업데이트 전송
+	 * - 목적지 형식: /topic/candle/{종목코드}/{타임프레임}
+	 * - 임의의 종목코드로 구독해도 캔들/지표 상태가 만들어지지 않도록 등록된 종목만 처리
+	 */
+	private void sendCandleUpdates(final String timeFrameCode) {
+		final String suffix = "/" + timeFrameCode;
+		for (String destination : subscriptionRegistry.getDestinations(CANDLE_DESTINATION)) {
+			if (destination.endsWith(suffix)) {
+				final String companyCode = destination.substring(
+						CANDLE_DESTINATION.length(), destination.length() - suffix.length());
+				if (!companyCode.isEmpty() && companyCode.indexOf('/') < 0
+						&& tradeHistoryService.isKnownSymbol(companyCode)) {
+					sendCandleUpdates(companyCode, timeFrameCode);
+				}
+			}
+		}
 	}
 
 	/**
@@ -66,17 +92,38 @@ public class ChartScheduler {
 			// 새로운 캔들 생성 및 기존 캔들 업데이트
 			tradeHistoryService.updateCandles(companyCode);
 
-			// 업데이트된 캔들 데이터 조회
-			final ChartResponseDto candleData = tradeHistoryService.getChartHistory(companyCode, timeFrameCode);
+			// 업데이트된 캔들 데이터 조회 (직렬화된 JSON)
+			final byte[] candleData = tradeHistoryService.getChartHistoryJson(companyCode, timeFrameCode);
 
-			// 클라이언트에 WebSocket으로 데이터 전송
-			messagingTemplate.convertAndSend("/topic/candle/" + companyCode + "/" + timeFrameCode, candleData);
-			log.debug("종목에 대한 캔들 업데이트 성공: {}, timeframe: {}, candles size: {}",
-					companyCode, timeFrameCode, candleData.candles().size());
+			// 클라이언트에 WebSocket으로 데이터 전송 (재직렬화 없이 그대로 전송)
+			messagingTemplate.send(CANDLE_DESTINATION + companyCode + "/" + timeFrameCode,
+					MessageBuilder.createMessage(candleData, jsonHeaders()));
+			log.debug("종목에 대한 캔들 업데이트 성공: {}, timeframe: {}, payload size: {}",
+					companyCode, timeFrameCode, candleData.length);
+
+			// 마감 캔들 기준 보조지표 전송 (구독자가 있을 때만, 구독 중인 지표는 해제되지 않음)
+			final String indicatorDestination = INDICATOR_DESTINATION + companyCode + "/" + timeFrameCode;
+			if (!subscriptionRegistry.hasSubscribers(indicatorDestination)) {
+				return;
+			}
+			final IndicatorResponseDto indicators = tradeHistoryService.getLatestIndicators(companyCode, timeFrameCode);
+			if (!indicators.indicators().isEmpty()) {
+				messagingTemplate.convertAndSend(indicatorDestination, indicators);
+			}
 		} catch (Exception e) {
 			log.error("종목에 대한 캔들 업데이트 실패: {}, timeframe: {}",
 					companyCode, timeFrameCode, e);
 		}
 	}
 
+	/**
+	 * 이미 직렬화된 JSON 페이로드 전송용 헤더
+	 */
+	private MessageHeaders jsonHeaders() {
+		final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
+	}
+
 }
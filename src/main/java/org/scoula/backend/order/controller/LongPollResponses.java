@@ -0,0 +1,54 @@
+package org.scoula.backend.order.controller;
+
+import java.util.function.Supplier;
+
+import org.scoula.backend.order.service.version.MarketDataVersions;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * 버전 기반 롱 폴링 응답
+ * - If-None-Match 가 현재 버전과 다르면 즉시 응답
+ * - 같으면 버전이 바뀔 때까지 대기하고, 대기 시간이 지나면 304
+ */
+final class LongPollResponses {
+
+	static final long DEFAULT_TIMEOUT_MILLIS = 25_000;
+	static final long MAX_TIMEOUT_MILLIS = 30_000;
+
+	private LongPollResponses() {
+	}
+
+	static <T> DeferredResult<ResponseEntity<T>> poll(final MarketDataVersions versions, final String key,
+			final String ifNoneMatch, final long timeoutMillis, final Supplier<T> body) {
+		final long timeout = Math.max(0, Math.min(timeoutMillis, MAX_TIMEOUT_MILLIS));
+		final long version = versions.getVersion(key);
+		final String eTag = MarketDataVersions.toETag(key, version);
+		final boolean notModified = ifNoneMatch != null && ifNoneMatch.contains(eTag);
+
+		final DeferredResult<ResponseEntity<T>> result =
+				new DeferredResult<>(timeout > 0 ? timeout : null, () -> notModified(eTag));
+		if (!notModified || timeout == 0) {
+			result.setResult(notModified ? notModified(eTag) : ok(eTag, body.get()));
+			return result;
+		}
+
+		final Runnable cancel = versions.onChange(key, version, () -> {
+			// 응답 생성 전에 버전을 읽어 ETag 가 본문보다 앞서지 않도록 함
+			final String changedETag = MarketDataVersions.toETag(key, versions.getVersion(key));
+			result.setResult(ok(changedETag, body.get()));
+		});
+		result.onCompletion(cancel);
+		return result;
+	}
+
+	private static <T> ResponseEntity<T> ok(final String eTag, final T body) {
+		return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+	private static <T> ResponseEntity<T> notModified(final String eTag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+	}
+}
@@ -5,20 +5,32 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.backend.global.security.UserDetailsImpl;
 import org.scoula.backend.order.controller.request.OrderRequest;
+import org.scoula.backend.order.controller.response.AuctionIndicativeResponse;
 import org.scoula.backend.order.controller.response.OrderBookResponse;
 import org.scoula.backend.order.controller.response.OrderSnapshotResponse;
 import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+import org.scoula.backend.order.controller.response.PriceTickResponse;
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
+import org.scoula.backend.order.service.ExternalDepthService;
 import org.scoula.backend.order.service.OrderService;
 import org.scoula.backend.order.service.exception.MatchingException;
+import org.scoula.backend.order.service.version.MarketDataVersions;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -32,6 +44,8 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 
 	private final OrderService orderService;
+	private final MarketDataVersions marketDataVersions;
+	private final ExternalDepthService externalDepthService;
 
 	@Operation(summary = "주문 생성")
 	@PostMapping
@@ -49,22 +63,128 @@ public class OrderController {
 		return ResponseEntity.ok(orderService.getSnapshot(companyCode));
 	}
 
-	@Operation(summary = "JSON 종목별 호가창 조회")
+	@Operation(summary = "JSON 종목별 호가창 조회", description = "If-None-Match 가 현재 ETag 와 같으면 304 를 응답합니다.")
 	@GetMapping("/book")
-	public ResponseEntity<OrderBookResponse> getBook(@RequestParam("code") final String companyCode) {
+	public ResponseEntity<OrderBookResponse> getBook(
+			@RequestParam("code") final String companyCode,
+			final WebRequest webRequest
+	) {
+		if (webRequest.checkNotModified(orderBookETag(companyCode))) {
+			return null;
+		}
 		return ResponseEntity.ok(orderService.getBook(companyCode));
 	}
 
-	@Operation(summary = "JSON 종목별 주문 요약 조회")
+	@Operation(summary = "JSON 종목별 호가창 롱 폴링",
+			description = "If-None-Match 가 현재 ETag 와 같으면 호가가 바뀌거나 timeout(ms)이 지날 때까지 대기합니다. "
+					+ "대기 시간이 지나면 304 를 응답합니다.")
+	@GetMapping("/book/poll")
+	public DeferredResult<ResponseEntity<OrderBookResponse>> pollBook(
+			@RequestParam("code") final String companyCode,
+			@RequestParam(name = "timeout", defaultValue = "" + LongPollResponses.DEFAULT_TIMEOUT_MILLIS)
+			final long timeout,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch
+	) {
+		return LongPollResponses.poll(marketDataVersions, MarketDataVersions.orderBookKey(companyCode),
+				ifNoneMatch, timeout, () -> orderService.getBook(companyCode));
+	}
+
+	@Operation(summary = "JSON 종목별 외부(KIS) 호가창 조회", description = "If-None-Match 가 현재 ETag 와 같으면 304 를 응답합니다.")
+	@GetMapping("/book/external")
+	public ResponseEntity<OrderBookResponse> getExternalBook(
+			@RequestParam("code") final String companyCode,
+			final WebRequest webRequest
+	) {
+		final String key = MarketDataVersions.externalBookKey(companyCode);
+		if (webRequest.checkNotModified(MarketDataVersions.toETag(key, marketDataVersions.getVersion(key)))) {
+			return null;
+		}
+		return ResponseEntity.ok(externalDepthService.getBook(companyCode));
+	}
+
+	@Operation(summary = "JSON 종목별 내부 + 외부 합산 호가창 조회",
+			description = "내부 주문장과 외부(KIS) 호가를 가격대별로 합칩니다. If-None-Match 가 현재 ETag 와 같으면 304 를 응답합니다.")
+	@GetMapping("/book/merged")
+	public ResponseEntity<OrderBookResponse> getMergedBook(
+			@RequestParam("code") final String companyCode,
+			final WebRequest webRequest
+	) {
+		// 두 버전 모두 단조 증가하므로 합도 어느 한쪽이 바뀌면 바뀐다.
+		final long version = marketDataVersions.getVersion(MarketDataVersions.orderBookKey(companyCode))
+				+ marketDataVersions.getVersion(MarketDataVersions.externalBookKey(companyCode));
+		if (webRequest.checkNotModified(MarketDataVersions.toETag("merged:" + companyCode, version))) {
+			return null;
+		}
+		return ResponseEntity.ok(externalDepthService.getMergedBook(companyCode));
+	}
+
+	@Operation(summary = "JSON 종목별 주문 요약 조회", description = "If-None-Match 가 현재 ETag 와 같으면 304 를 응답합니다.")
 	@GetMapping("/summary")
-	public ResponseEntity<OrderSummaryResponse> getSummary(@RequestParam("code") final String companyCode) {
+	public ResponseEntity<OrderSummaryResponse> getSummary(
+			@RequestParam("code") final String companyCode,
+			final WebRequest webRequest
+	) {
+		if (webRequest.checkNotModified(orderBookETag(companyCode))) {
+			return null;
+		}
 		return ResponseEntity.ok(orderService.getSummary(companyCode));
 	}
 
+	@Operation(summary = "단일가 매매 예상 체결가 조회", description = "단일가 매매 중이 아니면 price 는 null 입니다.")
+	@GetMapping("/auction/indicative")
+	public ResponseEntity<AuctionIndicativeResponse> getAuctionIndicative(
+			@RequestParam("code") final String companyCode) {
+		return ResponseEntity.ok(orderService.getAuctionIndicative(companyCode));
+	}
+
+	@Operation(summary = "종목별 주문 가능 가격표 조회", description = "하한가, 상한가와 가격 구간별 호가 단위를 조회합니다.")
+	@GetMapping("/ticks/{code}")
+	public ResponseEntity<PriceTickResponse> getPriceTicks(@PathVariable("code") final String companyCode) {
+		return ResponseEntity.ok(orderService.getPriceTicks(companyCode));
+	}
+
 	@Operation(summary = "채결된 주문 조회")
 	@GetMapping("/tradehistory")
 	public ResponseEntity<List<TradeHistoryResponse>> getTradeHistory() {
 		return ResponseEntity.ok(orderService.getTradeHistory());
 	}
 
+	@Operation(summary = "채결 내역 페이지 조회",
+			description = "로그인 사용자 계좌의 체결 내역을 종목, 주문, 체결 시간(epoch seconds)으로 필터링하며 최신순으로 조회합니다. "
+					+ "다른 계좌나 주문을 지정하면 403 을 응답합니다. "
+					+ "다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+	@GetMapping("/trades")
+	public ResponseEntity<StreamingResponseBody> getTrades(
+			@RequestParam(name = "code", required = false) final String companyCode,
+			@RequestParam(name = "accountId", required = false) final Long accountId,
+			@RequestParam(name = "orderId", required = false) final Long orderId,
+			@RequestParam(name = "from", required = false) final Long fromTime,
+			@RequestParam(name = "to", required = false) final Long toTime,
+			@RequestParam(name = "cursor", required = false) final String cursor,
+			@RequestParam(name = "size", defaultValue = "" + TradeHistorySearchCondition.DEFAULT_SIZE) final int size,
+			@AuthenticationPrincipal final UserDetailsImpl user
+	) {
+		final TradeHistorySearchCondition condition = TradeHistorySearchCondition.withCursor(cursor)
+				.companyCode(companyCode)
+				.accountId(accountId)
+				.orderId(orderId)
+				.fromTime(fromTime)
+				.toTime(toTime)
+				.size(size)
+				.build();
+		// 스트리밍 시작 전에 권한 확인
+		final TradeHistorySearchCondition restricted = orderService.restrictTradeHistoryQuery(condition,
+				user.getUsername());
+
+		final StreamingResponseBody body = outputStream -> orderService.writeTradeHistory(restricted, outputStream);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body);
+	}
+
+	// 호가창, 주문 요약은 같은 주문장 버전을 사용
+	private String orderBookETag(final String companyCode) {
+		final String key = MarketDataVersions.orderBookKey(companyCode);
+		return MarketDataVersions.toETag(key, marketDataVersions.getVersion(key));
+	}
 }
@@ -6,10 +6,12 @@ import org.scoula.backend.order.dto.ranking.ListedSharesRankingDto;
 import org.scoula.backend.order.dto.ranking.TurnoverRateRankingDto;
 import org.scoula.backend.order.dto.ranking.VolumeRankingDto;
 import org.scoula.backend.order.service.RankingService;
+import org.scoula.backend.order.service.version.MarketDataVersions;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,17 +23,31 @@ public class RankingController {
 	private final RankingService rankingService;
 
 	@GetMapping("/volume")
-	public ResponseEntity<List<VolumeRankingDto>> getVolumeRankings() {
+	public ResponseEntity<List<VolumeRankingDto>> getVolumeRankings(final WebRequest webRequest) {
+		if (webRequest.checkNotModified(rankingETag())) {
+			return null;
+		}
 		return ResponseEntity.ok(rankingService.getVolumeRankings());
 	}
 
 	@GetMapping("/listedshares")
-	public ResponseEntity<List<ListedSharesRankingDto>> getListedSharesRankings() {
+	public ResponseEntity<List<ListedSharesRankingDto>> getListedSharesRankings(final WebRequest webRequest) {
+		if (webRequest.checkNotModified(rankingETag())) {
+			return null;
+		}
 		return ResponseEntity.ok(rankingService.getListedSharesRankings());
 	}
 
 	@GetMapping("/turnoverrate")
-	public ResponseEntity<List<TurnoverRateRankingDto>> getTurnoverRateRankings() {
+	public ResponseEntity<List<TurnoverRateRankingDto>> getTurnoverRateRankings(final WebRequest webRequest) {
+		if (webRequest.checkNotModified(rankingETag())) {
+			return null;
+		}
 		return ResponseEntity.ok(rankingService.getTurnoverRateRankings());
 	}
+
+	// 랭킹 스냅샷이 새로 발행될 때만 ETag 가 바뀜
+	private String rankingETag() {
+		return MarketDataVersions.toETag(MarketDataVersions.RANKING_KEY, rankingService.getVersion());
+	}
 }
@@ -0,0 +1,41 @@
+package org.scoula.backend.order.controller;
+
+import org.scoula.backend.order.controller.response.TimeAndSalesResponse;
+import org.scoula.backend.order.service.TradeHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/trades")
+@Tag(name = "체결 내역 API", description = "종목별 최근 체결 내역(time and sales)을 조회합니다.")
+@RequiredArgsConstructor
+public class TimeAndSalesController {
+
+	private final TradeHistoryService tradeHistoryService;
+
+	@GetMapping("/{code}")
+	@Operation(summary = "체결 내역 조회", description = "메모리에 보관된 최근 체결을 최신순으로 조회합니다. 응답의 nextCursor 로 이전 체결을 이어서 조회합니다.")
+	public ResponseEntity<TimeAndSalesResponse> getTimeAndSales(
+			@PathVariable("code")
+			@Parameter(description = "종목 코드", required = true)
+			String code,
+
+			@RequestParam(value = "cursor", required = false)
+			@Parameter(description = "이전 응답의 nextCursor (생략 시 가장 최근부터)")
+			Long cursor,
+
+			@RequestParam(value = "size", defaultValue = "50")
+			@Parameter(description = "조회 건수 (최대 500)")
+			int size) {
+		return ResponseEntity.ok(tradeHistoryService.getTimeAndSales(code, cursor, size));
+	}
+}
@@ -1,8 +1,10 @@
 package org.scoula.backend.order.controller.request;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TimeInForce;
 import org.scoula.backend.order.domain.Type;
 
 import lombok.Builder;
@@ -15,7 +17,20 @@ public record OrderRequest(
 		BigDecimal remainingQuantity,
 		OrderStatus status,
 		BigDecimal price,
-		Long accountId
+		Long accountId,
+		TimeInForce timeInForce,
+		LocalDateTime expireAt,  // GTD 주문 만료 시각
+		BigDecimal stopPrice     // 스탑 주문 발동 가격 (시장가: 스탑, 지정가: 스탑 지정가)
 ) {
+	public OrderRequest {
+		if (timeInForce == null) {
+			timeInForce = TimeInForce.DAY;
+		}
+	}
 
+	public OrderRequest(final String companyCode, final Type type, final BigDecimal totalQuantity,
+			final BigDecimal remainingQuantity, final OrderStatus status, final BigDecimal price, final Long accountId) {
+		this(companyCode, type, totalQuantity, remainingQuantity, status, price, accountId, TimeInForce.DAY, null,
+				null);
+	}
 }
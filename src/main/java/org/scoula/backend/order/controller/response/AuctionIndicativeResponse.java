@@ -0,0 +1,11 @@
+package org.scoula.backend.order.controller.response;
+
+import java.math.BigDecimal;
+
+// 단일가 매매 예상 체결가, 예상 체결량 (체결 가능한 가격이 없으면 price 는 null)
+public record AuctionIndicativeResponse(
+		String companyCode,
+		BigDecimal price,
+		BigDecimal volume
+) {
+}
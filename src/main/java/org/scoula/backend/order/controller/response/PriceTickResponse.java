@@ -0,0 +1,42 @@
+package org.scoula.backend.order.controller.response;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.scoula.backend.order.service.validator.PriceTickTable;
+
+import lombok.Builder;
+
+/**
+ * 종목별 주문 가능 가격표 - 클라이언트에서 주문 전 가격을 호가에 맞출 수 있도록 제공
+ */
+@Builder
+public record PriceTickResponse(
+	String companyCode,
+	BigDecimal closingPrice,
+	Long lowerLimit,   // 하한가
+	Long upperLimit,   // 상한가
+	List<TickBand> bands
+) {
+
+	// 호가 구간 (from ~ to 가격은 unit 단위)
+	public record TickBand(Long from, Long to, Long unit) {
+	}
+
+	public static PriceTickResponse of(final String companyCode, final BigDecimal closingPrice,
+			final PriceTickTable table) {
+		final List<TickBand> bands = new ArrayList<>(table.getBandCount());
+		for (int i = 0; i < table.getBandCount(); i++) {
+			bands.add(new TickBand(table.getBandStart(i), table.getBandEnd(i), table.getBandUnit(i)));
+		}
+
+		return PriceTickResponse.builder()
+				.companyCode(companyCode)
+				.closingPrice(closingPrice)
+				.lowerLimit(table.getLowerLimit())
+				.upperLimit(table.getUpperLimit())
+				.bands(bands)
+				.build();
+	}
+}
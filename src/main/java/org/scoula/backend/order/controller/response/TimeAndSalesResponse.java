@@ -0,0 +1,21 @@
+package org.scoula.backend.order.controller.response;
+
+import java.util.List;
+
+/**
+ * 종목 체결 내역 (time and sales), 최신순
+ */
+public record TimeAndSalesResponse(
+		String companyCode,
+		List<Trade> trades,
+		Long nextCursor   // 다음 페이지 요청 시 cursor (더 이전 체결이 없으면 null)
+) {
+	public record Trade(
+			long sequence,    // 종목 내 체결 순번
+			long tradeId,
+			long price,
+			long quantity,
+			long tradeTime
+	) {
+	}
+}
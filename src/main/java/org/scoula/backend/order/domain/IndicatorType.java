@@ -0,0 +1,21 @@
+package org.scoula.backend.order.domain;
+
+import java.util.List;
+
+public enum IndicatorType {
+	SMA(List.of(20.0)), // 단순 이동평균 (기간)
+	EMA(List.of(20.0)), // 지수 이동평균 (기간)
+	RSI(List.of(14.0)), // 상대강도지수 (기간)
+	MACD(List.of(12.0, 26.0, 9.0)), // MACD (단기, 장기, 시그널)
+	BOLLINGER(List.of(20.0, 2.0)); // 볼린저 밴드 (기간, 표준편차 배수)
+
+	private final List<Double> defaultParams;
+
+	IndicatorType(final List<Double> defaultParams) {
+		this.defaultParams = defaultParams;
+	}
+
+	public List<Double> getDefaultParams() {
+		return defaultParams;
+	}
+}
@@ -3,6 +3,7 @@ package org.scoula.backend.order.domain;
 import static jakarta.persistence.FetchType.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import org.scoula.backend.global.entity.BaseEntity;
 import org.scoula.backend.member.domain.Account;
@@ -16,9 +17,11 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
@@ -31,8 +34,10 @@ import lombok.extern.slf4j.Slf4j;
 @Table(name = "orders")
 public class Order extends BaseEntity {
 
+	// 미리 할당받은 ID 블록에서 발급 (persist 시점에 INSERT 없이 ID 확정, 배치 INSERT 가능)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_id_generator")
+	@SequenceGenerator(name = "orders_id_generator", sequenceName = "orders_seq", allocationSize = 1000)
 	@Column(name = "order_id")
 	private Long id;
 
@@ -63,6 +68,18 @@ public class Order extends BaseEntity {
 	@Column(nullable = false)
 	private Long timestamp;
 
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	@Builder.Default
+	private TimeInForce timeInForce = TimeInForce.DAY;
+
+	// GTD 주문 만료 시각
+	private LocalDateTime expireAt;
+
+	// 스탑 주문 발동 가격 (일반 주문은 null)
+	@Column(precision = 10, scale = 0)
+	private BigDecimal stopPrice;
+
 	// BigDecimal는 불변 객체 입니다.
 	public void decreaseRemainingQuantity(final BigDecimal quantity) {
 		this.remainingQuantity = this.remainingQuantity.subtract(quantity);
@@ -71,6 +88,29 @@ public class Order extends BaseEntity {
 		}
 	}
 
+	// 체결 없이 잔량 취소 (자전거래 방지)
+	public void cancel(final BigDecimal quantity) {
+		this.remainingQuantity = this.remainingQuantity.subtract(quantity);
+		if (this.remainingQuantity.compareTo(BigDecimal.ZERO) == 0) {
+			this.status = OrderStatus.CANCEL;
+		}
+	}
+
+	/**
+	 * DB 저장 전에 주문 ID, 접수 시각 확정 (write-behind 저장)
+	 */
+	public void accept(final Long id, final LocalDateTime acceptedAt) {
+		if (this.id != null) {
+			throw new IllegalStateException("이미 ID가 부여된 주문입니다: " + this.id);
+		}
+		this.id = id;
+		initializeDateTime(acceptedAt);
+	}
+
+	public boolean isClosed() {
+		return status == OrderStatus.COMPLETE || status == OrderStatus.CANCEL;
+	}
+
 	public Long getMemberId() {
 		return this.account.getMember().getId();
 	}
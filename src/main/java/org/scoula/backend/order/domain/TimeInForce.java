@@ -0,0 +1,20 @@
+package org.scoula.backend.order.domain;
+
+/**
+ * 주문 유효 기간 조건
+ */
+public enum TimeInForce {
+	// 당일 유효 (체결되지 않은 잔량은 주문장에 남음)
+	DAY,
+	// 즉시 체결 가능한 수량만 체결하고 잔량 취소
+	IOC,
+	// 전량 즉시 체결 가능할 때만 체결, 아니면 전량 취소
+	FOK,
+	// 지정 시각까지 유효
+	GTD;
+
+	// 체결되지 않은 잔량이 주문장에 남는지
+	public boolean restsOnBook() {
+		return this == DAY || this == GTD;
+	}
+}
@@ -1,6 +1,9 @@
 package org.scoula.backend.order.domain;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 
 import org.scoula.backend.global.entity.BaseEntity;
 
@@ -9,6 +12,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,10 +29,22 @@ import lombok.extern.slf4j.Slf4j;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Slf4j
+@Table(name = "trade_history", indexes = {
+		@Index(name = "idx_trade_history_company_time", columnList = "companyCode, tradeTime, trade_history_id"),
+		@Index(name = "idx_trade_history_time", columnList = "tradeTime, trade_history_id"),
+		@Index(name = "idx_trade_history_buy_order", columnList = "buyOrderId"),
+		@Index(name = "idx_trade_history_sell_order", columnList = "sellOrderId"),
+		@Index(name = "idx_trade_history_date", columnList = "tradeDate")
+})
 public class TradeHistory extends BaseEntity {
 
+	// 체결일(파티션 키) 기준 시간대
+	public static final ZoneId TRADE_ZONE = ZoneId.of("Asia/Seoul");
+
+	// 미리 할당받은 ID 블록에서 발급 (persist 시점에 INSERT 없이 ID 확정, 배치 INSERT 가능)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trade_history_id_generator")
+	@SequenceGenerator(name = "trade_history_id_generator", sequenceName = "trade_history_seq", allocationSize = 1000)
 	@Column(name = "trade_history_id")
 	private Long id;
 
@@ -47,4 +66,17 @@ public class TradeHistory extends BaseEntity {
 	@Column(nullable = false)
 	private Long tradeTime; // 체결 시간
 
+	@Column(nullable = false)
+	private LocalDate tradeDate; // 체결일 (일 단위 파티션/보관 기준)
+
+	@PrePersist
+	private void assignTradeDate() {
+		if (tradeDate == null && tradeTime != null) {
+			tradeDate = toTradeDate(tradeTime);
+		}
+	}
+
+	public static LocalDate toTradeDate(final long tradeTime) {
+		return LocalDate.ofInstant(Instant.ofEpochSecond(tradeTime), TRADE_ZONE);
+	}
 }
@@ -31,12 +31,21 @@ public class TradeOrder {
 
     private Account account;
 
+    @Builder.Default
+    private TimeInForce timeInForce = TimeInForce.DAY;
+
+    // GTD 주문 만료 시각
+    private LocalDateTime expireAt;
+
+    // 스탑 주문 발동 가격 (일반 주문은 null)
+    private BigDecimal stopPrice;
+
     // 입력 주문과 같은 계정으로부터의 주문인지 확인
     public boolean hasSameAccount(TradeOrder other) {
-        if (other == null || other.getAccount() == null) {
+        if (other == null || other.getAccount() == null || this.account == null || this.account.getId() == null) {
             return false;
         }
-        return other.account.getId().equals(this.account.getId());
+        return this.account.getId().equals(other.account.getId());
     }
 
     // 남은 양 감소
@@ -47,6 +56,23 @@ public class TradeOrder {
         }
     }
 
+    // 자전거래 방지 등으로 체결 없이 잔량 취소
+    public void cancel(final BigDecimal quantity) {
+        this.remainingQuantity = this.remainingQuantity.subtract(quantity);
+        if (this.remainingQuantity.compareTo(BigDecimal.ZERO) == 0) {
+            this.status = OrderStatus.CANCEL;
+        }
+    }
+
+    // 체결되지 않은 잔량을 주문장에 남기는지 (시장가 주문은 IOC 로 처리)
+    public boolean restsOnBook() {
+        return status != OrderStatus.MARKET && (timeInForce == null || timeInForce.restsOnBook());
+    }
+
+    public boolean isStopOrder() {
+        return stopPrice != null;
+    }
+
     public boolean isSellType() {
         return type == Type.SELL;
     }
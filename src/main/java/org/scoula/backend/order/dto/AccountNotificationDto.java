@@ -0,0 +1,22 @@
+package org.scoula.backend.order.dto;
+
+import java.math.BigDecimal;
+
+import org.scoula.backend.member.domain.Account;
+
+/**
+ * 사용자 개인 잔고 변경 통보 (/user/queue/account)
+ */
+public record AccountNotificationDto(
+		BigDecimal balance,           // 예수금
+		BigDecimal reservedBalance,   // 매수 주문 예약 금액
+		BigDecimal availableBalance   // 주문 가능 금액
+) {
+	public static AccountNotificationDto from(final Account account) {
+		return new AccountNotificationDto(
+				account.getBalance(),
+				account.getReservedBalance(),
+				account.getAvailableBalance()
+		);
+	}
+}
@@ -0,0 +1,12 @@
+package org.scoula.backend.order.dto;
+
+import org.scoula.backend.member.domain.Account;
+
+/**
+ * 주문 접수로 계좌 예약 금액이 변경된 이벤트
+ */
+public record AccountUpdatedEvent(
+		String username,
+		Account account
+) {
+}
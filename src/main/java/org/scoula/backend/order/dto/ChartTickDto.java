@@ -0,0 +1,21 @@
+package org.scoula.backend.order.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+
+/**
+ * 병합된 실시간 차트 틱
+ * - 병합 주기 동안의 체결을 하나로 합친 값과 타임프레임별 최신 캔들을 함께 전달
+ */
+@Builder
+public record ChartTickDto(
+		Double price,        // 마지막 체결가
+		Integer volume,      // 병합 주기 동안의 누적 거래량
+		Double open,         // 병합 주기 첫 체결가
+		Double high,         // 병합 주기 최고가
+		Double low,          // 병합 주기 최저가
+		Integer tradeCount,  // 병합된 체결 수
+		Map<String, CandleDto> candles  // 타임프레임 코드별 최신 캔들
+) {
+}
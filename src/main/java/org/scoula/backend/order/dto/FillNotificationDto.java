@@ -0,0 +1,25 @@
+package org.scoula.backend.order.dto;
+
+import java.math.BigDecimal;
+
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.Type;
+
+import lombok.Builder;
+
+/**
+ * 사용자 개인 체결 통보 (/user/queue/fills)
+ */
+@Builder
+public record FillNotificationDto(
+		Long tradeId,
+		Long orderId,
+		String companyCode,
+		Type type,
+		BigDecimal price,              // 체결 가격
+		BigDecimal quantity,           // 체결 수량
+		BigDecimal remainingQuantity,  // 주문 잔량
+		OrderStatus status,
+		Long tradeTime
+) {
+}
@@ -0,0 +1,12 @@
+package org.scoula.backend.order.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+
+@Builder
+public record IndicatorPointDto(
+		Long time,                 // 캔들 시간
+		Map<String, Double> values // 지표 값 (예: value, macd/signal/histogram, middle/upper/lower)
+) {
+}
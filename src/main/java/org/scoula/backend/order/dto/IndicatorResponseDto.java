@@ -0,0 +1,12 @@
+package org.scoula.backend.order.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record IndicatorResponseDto(
+		List<IndicatorSeriesDto> indicators,
+		String timeCode
+) {
+}
@@ -0,0 +1,14 @@
+package org.scoula.backend.order.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record IndicatorSeriesDto(
+		String name,       // 예: SMA(20), MACD(12,26,9)
+		String type,
+		List<Double> params,
+		List<IndicatorPointDto> points
+) {
+}
@@ -0,0 +1,11 @@
+package org.scoula.backend.order.dto;
+
+import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+
+/**
+ * 주문 처리(체결 포함) 후 종목별 주문장 요약 변경 이벤트
+ */
+public record OrderBookUpdatedEvent(
+		OrderSummaryResponse summary
+) {
+}
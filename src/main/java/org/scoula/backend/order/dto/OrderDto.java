@@ -23,6 +23,9 @@ public record OrderDto(
 				.price(request.price())
 				.account(account)
 				.timestamp(now)
+				.timeInForce(request.timeInForce())
+				.expireAt(request.expireAt())
+				.stopPrice(request.stopPrice())
 				.build();
 	}
 }
@@ -0,0 +1,19 @@
+package org.scoula.backend.order.dto;
+
+import java.math.BigDecimal;
+
+import org.scoula.backend.order.service.orderbook.SelfTradePrevention;
+
+/**
+ * 자전거래 방지로 주문 잔량이 체결 없이 취소된 이벤트 (/user/queue/orders)
+ */
+public record SelfTradePreventedEvent(
+		String username,
+		String companyCode,
+		SelfTradePrevention mode,
+		Long incomingOrderId,
+		BigDecimal incomingCancelledQuantity,  // 새 주문에서 취소된 수량
+		Long restingOrderId,
+		BigDecimal restingCancelledQuantity    // 기존 주문에서 취소된 수량
+) {
+}
@@ -0,0 +1,68 @@
+package org.scoula.backend.order.dto;
+
+import org.scoula.backend.order.service.exception.InvalidTradeHistoryQueryException;
+
+import lombok.Builder;
+
+/**
+ * 체결 내역 조회 조건 (키셋 페이지네이션)
+ * - 정렬: 체결 시간, 체결 ID 내림차순
+ * - cursor: 이전 페이지 마지막 항목의 "체결시간_체결ID" (해당 항목 이후부터 조회)
+ */
+@Builder
+public record TradeHistorySearchCondition(
+		String companyCode,
+		Long accountId,
+		Long orderId,
+		Long fromTime,    // 체결 시간 하한 (epoch seconds, 포함)
+		Long toTime,      // 체결 시간 상한 (epoch seconds, 포함)
+		Long cursorTime,
+		Long cursorId,
+		int size
+) {
+	public static final int DEFAULT_SIZE = 100;
+	public static final int MAX_SIZE = 1000;
+	private static final String CURSOR_DELIMITER = "_";
+
+	public TradeHistorySearchCondition {
+		if (size <= 0 || size > MAX_SIZE) {
+			throw new InvalidTradeHistoryQueryException("size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+		}
+		if (fromTime != null && toTime != null && fromTime > toTime) {
+			throw new InvalidTradeHistoryQueryException("조회 시작 시간이 종료 시간보다 늦습니다.");
+		}
+	}
+
+	public TradeHistorySearchCondition withAccountId(final Long accountId) {
+		return new TradeHistorySearchCondition(companyCode, accountId, orderId, fromTime, toTime, cursorTime, cursorId,
+				size);
+	}
+
+	public boolean hasCursor() {
+		return cursorTime != null && cursorId != null;
+	}
+
+	/**
+	 * "체결시간_체결ID" 형식의 커서를 조건에 반영
+	 */
+	public static TradeHistorySearchConditionBuilder withCursor(final String cursor) {
+		final TradeHistorySearchConditionBuilder builder = builder();
+		if (cursor == null || cursor.isBlank()) {
+			return builder;
+		}
+
+		final String[] parts = cursor.split(CURSOR_DELIMITER);
+		try {
+			if (parts.length != 2) {
+				throw new NumberFormatException(cursor);
+			}
+			return builder.cursorTime(Long.parseLong(parts[0])).cursorId(Long.parseLong(parts[1]));
+		} catch (NumberFormatException e) {
+			throw new InvalidTradeHistoryQueryException("유효하지 않은 커서입니다: " + cursor);
+		}
+	}
+
+	public static String toCursor(final Long tradeTime, final Long id) {
+		return tradeTime + CURSOR_DELIMITER + id;
+	}
+}
@@ -0,0 +1,14 @@
+package org.scoula.backend.order.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 종목 체결가 갱신 이벤트 (사용자 주문, KIS 체결 모두 발행)
+ */
+public record TradePriceUpdatedEvent(
+		String companyCode,
+		BigDecimal price,
+		BigDecimal quantity,
+		Long tradeTime
+) {
+}
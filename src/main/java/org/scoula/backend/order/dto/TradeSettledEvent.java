@@ -0,0 +1,17 @@
+package org.scoula.backend.order.dto;
+
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.TradeHistory;
+
+/**
+ * 체결 정산(주문 잔량, 계좌, 보유 주식 반영) 완료 이벤트
+ */
+public record TradeSettledEvent(
+		TradeHistory tradeHistory,
+		Order buyOrder,
+		Order sellOrder,
+		Account buyerAccount,   // 정산 후 매수자 계좌
+		Account sellerAccount   // 정산 후 매도자 계좌
+) {
+}
@@ -0,0 +1,247 @@
+package org.scoula.backend.order.repository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TimeInForce;
+import org.scoula.backend.order.domain.Type;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 저장 로그 (write-behind 저장 전 로컬 기록)
+ * - 주문 상태를 한 줄씩 현재 세그먼트 파일에 추가
+ * - DB 반영 전 세그먼트를 교체하고, 반영이 끝난 세그먼트만 삭제
+ * - 재시작 시 남은 세그먼트를 읽어 주문별 마지막 상태를 복구
+ */
+@Slf4j
+class OrderJournal implements AutoCloseable {
+
+	private static final String PREFIX = "orders-";
+	private static final String SUFFIX = ".journal";
+	private static final String SEPARATOR = "\t";
+	private static final String NONE = "-";
+
+	private final Path directory;
+	private final boolean fsync;
+
+	private long segment;
+	private FileChannel channel;
+	private OutputStream out;
+
+	OrderJournal(final Path directory, final boolean fsync) {
+		this.directory = directory;
+		this.fsync = fsync;
+		try {
+			Files.createDirectories(directory);
+			this.segment = segments().stream().mapToLong(OrderJournal::segmentNumber).max().orElse(0);
+			open(segment + 1);
+		} catch (IOException e) {
+			throw new UncheckedIOException("주문 저장 로그를 열 수 없습니다: " + directory, e);
+		}
+	}
+
+	/**
+	 * 주문 상태 기록 (반환 시 OS 버퍼 또는 디스크까지 기록됨)
+	 */
+	synchronized void append(final Entry entry) {
+		try {
+			out.write((entry.toLine() + "\n").getBytes(StandardCharsets.UTF_8));
+			out.flush();
+			if (fsync) {
+				channel.force(false);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("주문 저장 로그 기록 실패: " + entry.id(), e);
+		}
+	}
+
+	/**
+	 * 새 세그먼트로 교체하고 이전 세그먼트 번호 반환 (이 번호 이하는 DB 반영 후 삭제 가능)
+	 */
+	synchronized long rotate() {
+		final long previous = segment;
+		try {
+			close();
+			open(previous + 1);
+		} catch (IOException e) {
+			throw new UncheckedIOException("주문 저장 로그 교체 실패", e);
+		}
+		return previous;
+	}
+
+	/**
+	 * DB에 반영된 세그먼트 삭제
+	 */
+	synchronized void deleteUpTo(final long lastSegment) {
+		try {
+			for (Path path : segments()) {
+				if (segmentNumber(path) <= lastSegment) {
+					Files.deleteIfExists(path);
+				}
+			}
+		} catch (IOException e) {
+			log.warn("주문 저장 로그 삭제 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 세그먼트 이전의 기록을 읽어 주문별 마지막 상태 반환
+	 */
+	synchronized List<Entry> recover() {
+		final Map<Long, Entry> latest = new LinkedHashMap<>();
+		try {
+			final List<Path> paths = segments();
+			paths.sort((a, b) -> Long.compare(segmentNumber(a), segmentNumber(b)));
+			for (Path path : paths) {
+				if (segmentNumber(path) >= segment) {
+					continue;
+				}
+				try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						final Entry entry = Entry.parse(line);
+						if (entry != null) {
+							latest.put(entry.id(), entry);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("주문 저장 로그 복구 실패: " + directory, e);
+		}
+		return new ArrayList<>(latest.values());
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (out != null) {
+			out.flush();
+			channel.force(false);
+			out.close();
+			out = null;
+		}
+	}
+
+	private void open(final long number) throws IOException {
+		segment = number;
+		channel = FileChannel.open(directory.resolve(PREFIX + number + SUFFIX),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		out = Channels.newOutputStream(channel);
+	}
+
+	private List<Path> segments() throws IOException {
+		final List<Path> paths = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+			stream.forEach(paths::add);
+		}
+		return paths;
+	}
+
+	private static long segmentNumber(final Path path) {
+		final String name = path.getFileName().toString();
+		return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+	}
+
+	/**
+	 * 주문 한 건의 저장 상태
+	 */
+	record Entry(
+			Long id,
+			String companyCode,
+			Type type,
+			BigDecimal totalQuantity,
+			BigDecimal remainingQuantity,
+			OrderStatus status,
+			BigDecimal price,
+			Long accountId,
+			Long timestamp,
+			LocalDateTime createdDateTime,
+			TimeInForce timeInForce,
+			LocalDateTime expireAt,
+			BigDecimal stopPrice
+	) {
+		static Entry from(final Order order) {
+			return new Entry(
+					order.getId(),
+					order.getCompanyCode(),
+					order.getType(),
+					order.getTotalQuantity(),
+					order.getRemainingQuantity(),
+					order.getStatus(),
+					order.getPrice(),
+					order.getAccount().getId(),
+					order.getTimestamp(),
+					order.getCreatedDateTime(),
+					order.getTimeInForce(),
+					order.getExpireAt(),
+					order.getStopPrice()
+			);
+		}
+
+		String toLine() {
+			return String.join(SEPARATOR,
+					id.toString(),
+					companyCode,
+					type.name(),
+					totalQuantity.toPlainString(),
+					remainingQuantity.toPlainString(),
+					status.name(),
+					price.toPlainString(),
+					accountId.toString(),
+					timestamp.toString(),
+					createdDateTime.toString(),
+					timeInForce.name(),
+					expireAt != null ? expireAt.toString() : NONE,
+					stopPrice != null ? stopPrice.toPlainString() : NONE);
+		}
+
+		/**
+		 * 한 줄 복원 (비정상 종료로 잘린 마지막 줄은 무시, 유효 기간 조건이 없는 이전 형식은 DAY 로 복원)
+		 */
+		static Entry parse(final String line) {
+			final String[] fields = line.split(SEPARATOR);
+			if (fields.length != 10 && fields.length != 12 && fields.length != 13) {
+				return null;
+			}
+			final boolean hasTimeInForce = fields.length >= 12;
+			final boolean hasStopPrice = fields.length == 13;
+			try {
+				return new Entry(
+						Long.parseLong(fields[0]),
+						fields[1],
+						Type.valueOf(fields[2]),
+						new BigDecimal(fields[3]),
+						new BigDecimal(fields[4]),
+						OrderStatus.valueOf(fields[5]),
+						new BigDecimal(fields[6]),
+						Long.parseLong(fields[7]),
+						Long.parseLong(fields[8]),
+						LocalDateTime.parse(fields[9]),
+						hasTimeInForce ? TimeInForce.valueOf(fields[10]) : TimeInForce.DAY,
+						hasTimeInForce && !NONE.equals(fields[11]) ? LocalDateTime.parse(fields[11]) : null,
+						hasStopPrice && !NONE.equals(fields[12]) ? new BigDecimal(fields[12]) : null);
+			} catch (RuntimeException e) {
+				log.warn("손상된 주문 저장 로그 무시: {}", line);
+				return null;
+			}
+		}
+	}
+}
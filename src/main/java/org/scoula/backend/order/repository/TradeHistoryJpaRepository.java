@@ -1,14 +1,18 @@
 package org.scoula.backend.order.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.scoula.backend.order.domain.TradeHistory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TradeHistoryJpaRepository extends JpaRepository<TradeHistory, Long> {
+public interface TradeHistoryJpaRepository extends JpaRepository<TradeHistory, Long>, JpaSpecificationExecutor<TradeHistory> {
 
 	/**
 	 * 모든 고유 회사 코드 조회
@@ -19,7 +23,26 @@ public interface TradeHistoryJpaRepository extends JpaRepository<TradeHistory, L
 	/**
 	 * 특정 회사의 최근 거래 내역 조회
 	 */
-	@Query("SELECT t FROM TradeHistory t WHERE t.companyCode = :companyCode ORDER BY t.tradeTime DESC")
-	List<TradeHistory> findRecentTradesByCompanyCode(@Param("companyCode") String companyCode, Pageable pageable);
+	@Query("SELECT t FROM TradeHistory t WHERE t.companyCode = :companyCode AND t.tradeDate >= :since "
+			+ "ORDER BY t.tradeTime DESC")
+	List<TradeHistory> findRecentTradesByCompanyCode(
+			@Param("companyCode") String companyCode, @Param("since") LocalDate since, Pageable pageable);
+
+	/**
+	 * 기준일 이전의 체결일 목록 조회 (보관 대상)
+	 */
+	@Query("SELECT DISTINCT t.tradeDate FROM TradeHistory t WHERE t.tradeDate < :date ORDER BY t.tradeDate")
+	List<LocalDate> findTradeDatesBefore(@Param("date") LocalDate date);
+
+	@Query("SELECT t FROM TradeHistory t WHERE t.tradeDate = :tradeDate ORDER BY t.companyCode, t.tradeTime, t.id")
+	List<TradeHistory> findByTradeDate(@Param("tradeDate") LocalDate tradeDate);
+
+	/**
+	 * 보관이 끝난 체결일의 거래 내역 일괄 삭제
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM TradeHistory t WHERE t.tradeDate = :tradeDate")
+	int deleteByTradeDate(@Param("tradeDate") LocalDate tradeDate);
 
 }
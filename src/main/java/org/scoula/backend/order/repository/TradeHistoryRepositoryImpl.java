@@ -1,26 +1,49 @@
 package org.scoula.backend.order.repository;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.scoula.backend.order.domain.Order;
 import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
 import org.scoula.backend.order.service.TradeHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class TradeHistoryRepositoryImpl implements TradeHistoryRepository {
 
+	private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "tradeTime")
+			.and(Sort.by(Sort.Direction.DESC, "id"));
+
 	private final TradeHistoryJpaRepository tradeHistoryJpaRepository;
 
+	// 최근 거래 조회 시 확인할 체결일 범위 (이보다 오래된 체결일은 보관 파일로 이동)
+	@Value("${trade.archive.retention-days:7}")
+	private int hotDays = 7;
+
 	@Override
 	public TradeHistory save(final TradeHistory tradeHistory) {
 		return tradeHistoryJpaRepository.save(tradeHistory);
 	}
 
+	@Override
+	public List<TradeHistory> saveAll(final Collection<TradeHistory> tradeHistories) {
+		return tradeHistoryJpaRepository.saveAll(tradeHistories);
+	}
+
 	@Override
 	public List<String> findDistinctCompanyCodes() {
 		return tradeHistoryJpaRepository.findDistinctCompanyCodes();
@@ -28,12 +51,76 @@ public class TradeHistoryRepositoryImpl implements TradeHistoryRepository {
 
 	@Override
 	public List<TradeHistory> findRecentTradesByCompanyCode(String companyCode, int limit) {
-		return tradeHistoryJpaRepository.findRecentTradesByCompanyCode(companyCode, PageRequest.of(0, limit));
+		final LocalDate since = LocalDate.now(TradeHistory.TRADE_ZONE).minusDays(hotDays);
+		return tradeHistoryJpaRepository.findRecentTradesByCompanyCode(companyCode, since, PageRequest.of(0, limit));
 	}
 
 	@Override
-	public List<TradeHistory> getTradeHistory() {
-		return tradeHistoryJpaRepository.findAll();
+	public List<LocalDate> findTradeDatesBefore(final LocalDate date) {
+		return tradeHistoryJpaRepository.findTradeDatesBefore(date);
 	}
 
+	@Override
+	public List<TradeHistory> findByTradeDate(final LocalDate tradeDate) {
+		return tradeHistoryJpaRepository.findByTradeDate(tradeDate);
+	}
+
+	@Override
+	public int deleteByTradeDate(final LocalDate tradeDate) {
+		return tradeHistoryJpaRepository.deleteByTradeDate(tradeDate);
+	}
+
+	@Override
+	public Stream<TradeHistory> streamTradeHistory(final TradeHistorySearchCondition condition, final int limit) {
+		return tradeHistoryJpaRepository.findBy(toSpecification(condition),
+				query -> query.sortBy(LATEST_FIRST).limit(limit).stream());
+	}
+
+	/**
+	 * 조회 조건 -> where 절
+	 * - 종목/시간 조건은 (company_code, trade_time, trade_history_id) 인덱스, 주문 조건은 주문 ID 인덱스를 사용
+	 */
+	private Specification<TradeHistory> toSpecification(final TradeHistorySearchCondition condition) {
+		return (root, query, cb) -> {
+			final List<Predicate> predicates = new ArrayList<>();
+
+			if (condition.companyCode() != null) {
+				predicates.add(cb.equal(root.get("companyCode"), condition.companyCode()));
+			}
+			if (condition.orderId() != null) {
+				predicates.add(cb.or(
+						cb.equal(root.get("buyOrderId"), condition.orderId()),
+						cb.equal(root.get("sellOrderId"), condition.orderId())
+				));
+			}
+			if (condition.accountId() != null) {
+				final Subquery<Long> accountOrders = query.subquery(Long.class);
+				final Root<Order> order = accountOrders.from(Order.class);
+				accountOrders.select(order.get("id"))
+						.where(cb.equal(order.get("account").get("id"), condition.accountId()));
+				predicates.add(cb.or(
+						root.get("buyOrderId").in(accountOrders),
+						root.get("sellOrderId").in(accountOrders)
+				));
+			}
+			if (condition.fromTime() != null) {
+				predicates.add(cb.greaterThanOrEqualTo(root.get("tradeTime"), condition.fromTime()));
+			}
+			if (condition.toTime() != null) {
+				predicates.add(cb.lessThanOrEqualTo(root.get("tradeTime"), condition.toTime()));
+			}
+			// 키셋: (tradeTime, id) < (cursorTime, cursorId)
+			if (condition.hasCursor()) {
+				predicates.add(cb.or(
+						cb.lessThan(root.get("tradeTime"), condition.cursorTime()),
+						cb.and(
+								cb.equal(root.get("tradeTime"), condition.cursorTime()),
+								cb.lessThan(root.get("id"), condition.cursorId())
+						)
+				));
+			}
+
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
 }
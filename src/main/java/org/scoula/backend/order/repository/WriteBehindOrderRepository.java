@@ -0,0 +1,226 @@
+package org.scoula.backend.order.repository;
+
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.service.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 write-behind 저장소 (order.write-behind.enabled=true 일 때 사용)
+ * - 주문 저장은 로컬 저장 로그에 기록한 뒤 바로 반환하고, 체결은 메모리의 주문 객체로 처리
+ * - 주기적으로 변경된 주문을 모아 주문당 한 번의 UPSERT 로 일괄 반영 (여러 번의 잔량/상태 변경을 병합)
+ * - 주문 ID는 JPA 와 같은 ID 블록에서 DB 저장 전에 발급
+ * - 시작할 때마다 스키마를 다시 만드는 설정(ddl-auto: create, create-drop)에서는 복구한 주문이 사라진 테이블/ID 와
+ *   섞이므로 사용할 수 없음
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(name = "order.write-behind.enabled", havingValue = "true")
+public class WriteBehindOrderRepository implements OrderRepository {
+
+	static final String UPSERT_SQL = """
+			INSERT INTO orders (order_id, company_code, type, total_quantity, remaining_quantity, status, price,
+			                    account_id, timestamp, created_date_time, updated_date_time, time_in_force, expire_at,
+			                    stop_price)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE remaining_quantity = VALUES(remaining_quantity),
+			                        status = VALUES(status),
+			                        updated_date_time = VALUES(updated_date_time)
+			""";
+
+	private final OrderRepositoryImpl delegate;
+	private final JdbcTemplate jdbcTemplate;
+	private final OrderJournal journal;
+	private final LongSupplier idGenerator;
+	private final int batchSize;
+
+	// 체결 중인 주문 (DB 조회 없이 같은 객체를 사용)
+	private final Map<Long, Order> liveOrders = new ConcurrentHashMap<>();
+	// DB 반영 대기 주문 (같은 주문의 여러 변경은 하나로 병합)
+	private Map<Long, Order> dirtyOrders = new LinkedHashMap<>();
+
+	private final Object lock = new Object();
+
+	public WriteBehindOrderRepository(
+			final OrderRepositoryImpl delegate,
+			final JdbcTemplate jdbcTemplate,
+			final EntityManagerFactory entityManagerFactory,
+			@Value("${order.write-behind.journal-dir:./journal/orders}") final String journalDir,
+			@Value("${order.write-behind.fsync:false}") final boolean fsync,
+			@Value("${order.write-behind.batch-size:500}") final int batchSize,
+			@Value("${spring.jpa.hibernate.ddl-auto:none}") final String ddlAuto) {
+		this(requirePersistentSchema(delegate, ddlAuto), jdbcTemplate, new OrderJournal(Paths.get(journalDir), fsync),
+				orderIdGenerator(entityManagerFactory), batchSize);
+	}
+
+	WriteBehindOrderRepository(final OrderRepositoryImpl delegate, final JdbcTemplate jdbcTemplate,
+			final OrderJournal journal, final LongSupplier idGenerator, final int batchSize) {
+		this.delegate = delegate;
+		this.jdbcTemplate = jdbcTemplate;
+		this.journal = journal;
+		this.idGenerator = idGenerator;
+		this.batchSize = batchSize;
+	}
+
+	// 저장 로그 복구는 이전 실행의 스키마가 유지된다는 전제가 필요
+	static <T> T requirePersistentSchema(final T delegate, final String ddlAuto) {
+		if ("create".equalsIgnoreCase(ddlAuto) || "create-drop".equalsIgnoreCase(ddlAuto)) {
+			throw new IllegalStateException("order.write-behind.enabled 는 스키마가 유지되는 ddl-auto 설정"
+					+ "(none, validate, update)에서만 사용할 수 있습니다: " + ddlAuto);
+		}
+		return delegate;
+	}
+
+	/**
+	 * 이전 실행에서 DB에 반영하지 못한 주문 복구
+	 */
+	@PostConstruct
+	public void recover() {
+		final List<OrderJournal.Entry> entries = journal.recover();
+		if (entries.isEmpty()) {
+			return;
+		}
+		write(entries);
+		journal.deleteUpTo(journal.rotate());
+		log.info("주문 저장 로그 복구 완료: {}건", entries.size());
+	}
+
+	@Override
+	public Order save(final Order order) {
+		if (order.getId() == null) {
+			order.accept(idGenerator.getAsLong(), LocalDateTime.now());
+		}
+
+		synchronized (lock) {
+			journal.append(OrderJournal.Entry.from(order));
+			dirtyOrders.put(order.getId(), order);
+		}
+		liveOrders.put(order.getId(), order);
+		return order;
+	}
+
+	@Override
+	public Order getById(final Long id) {
+		final Order live = liveOrders.get(id);
+		return live != null ? live : delegate.getById(id);
+	}
+
+	@Override
+	public List<Order> findByCompanyCode(final String number) {
+		return delegate.findByCompanyCode(number);
+	}
+
+	/**
+	 * 변경된 주문 일괄 반영 - 실패하면 다음 주기에 다시 시도
+	 */
+	@Scheduled(fixedDelayString = "${order.write-behind.flush-interval-ms:200}")
+	public void flush() {
+		final Map<Long, Order> pending;
+		final long segment;
+		synchronized (lock) {
+			if (dirtyOrders.isEmpty()) {
+				return;
+			}
+			pending = dirtyOrders;
+			dirtyOrders = new LinkedHashMap<>();
+			segment = journal.rotate();
+		}
+
+		try {
+			write(pending.values().stream().map(OrderJournal.Entry::from).toList());
+		} catch (RuntimeException e) {
+			log.error("주문 일괄 저장 실패, 다음 주기에 재시도합니다: {}건, 오류={}", pending.size(), e.getMessage(), e);
+			synchronized (lock) {
+				pending.forEach(dirtyOrders::putIfAbsent);
+			}
+			return;
+		}
+
+		journal.deleteUpTo(segment);
+		// 종료된 주문은 더 이상 체결되지 않으므로 메모리에서 제거
+		pending.values().stream()
+				.filter(Order::isClosed)
+				.forEach(order -> liveOrders.remove(order.getId(), order));
+	}
+
+	@PreDestroy
+	public void shutdown() throws Exception {
+		flush();
+		journal.close();
+	}
+
+	int pendingCount() {
+		synchronized (lock) {
+			return dirtyOrders.size();
+		}
+	}
+
+	private void write(final List<OrderJournal.Entry> entries) {
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (int from = 0; from < entries.size(); from += batchSize) {
+			final List<OrderJournal.Entry> batch = entries.subList(from, Math.min(from + batchSize, entries.size()));
+			final List<Object[]> rows = new ArrayList<>(batch.size());
+			for (OrderJournal.Entry entry : batch) {
+				rows.add(new Object[] {
+						entry.id(),
+						entry.companyCode(),
+						entry.type().name(),
+						entry.totalQuantity(),
+						entry.remainingQuantity(),
+						entry.status().name(),
+						entry.price(),
+						entry.accountId(),
+						entry.timestamp(),
+						Timestamp.valueOf(entry.createdDateTime()),
+						now,
+						entry.timeInForce().name(),
+						entry.expireAt() != null ? Timestamp.valueOf(entry.expireAt()) : null,
+						entry.stopPrice()
+				});
+			}
+			jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+		}
+	}
+
+	/**
+	 * Order 엔티티의 ID 생성기로 발급 (JPA 저장 주문과 같은 ID 블록 공유, 블록 소진 시에만 DB 접근)
+	 */
+	private static LongSupplier orderIdGenerator(final EntityManagerFactory entityManagerFactory) {
+		final SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		final BeforeExecutionGenerator generator = (BeforeExecutionGenerator)sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor(Order.class)
+				.getGenerator();
+
+		return () -> {
+			try (StatelessSession session = sessionFactory.openStatelessSession()) {
+				return (Long)generator.generate((SharedSessionContractImplementor)session, null, null,
+						EventType.INSERT);
+			}
+		};
+	}
+}
@@ -0,0 +1,110 @@
+package org.scoula.backend.order.service;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장 시작, 마감 단일가 매매 일정 (KRX 기준, 평일)
+ * - 시가 단일가: 08:30 ~ 09:00
+ * - 종가 단일가: 15:20 ~ 15:30
+ * - hold-after-close 가 켜져 있으면 종가 단일가 체결 후 다음 시가 단일가 체결까지 접수만 (기본값은 연속 매매로 복귀)
+ * - 기동 시 현재 시각(Asia/Seoul)으로 단계를 계산해 재시작한 노드도 같은 단계로 시작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.auction.enabled", havingValue = "true", matchIfMissing = true)
+public class CallAuctionScheduler {
+
+	static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final OrderService orderService;
+	private final CronExpression openStart;
+	private final CronExpression openEnd;
+	private final CronExpression closeStart;
+	private final CronExpression closeEnd;
+	private final boolean holdAfterClose;
+
+	public CallAuctionScheduler(
+			final OrderService orderService,
+			@Value("${order.auction.open-start-cron:0 30 8 * * MON-FRI}") final String openStartCron,
+			@Value("${order.auction.open-end-cron:0 0 9 * * MON-FRI}") final String openEndCron,
+			@Value("${order.auction.close-start-cron:0 20 15 * * MON-FRI}") final String closeStartCron,
+			@Value("${order.auction.close-end-cron:0 30 15 * * MON-FRI}") final String closeEndCron,
+			@Value("${order.auction.hold-after-close:false}") final boolean holdAfterClose) {
+		this.orderService = orderService;
+		this.openStart = CronExpression.parse(openStartCron);
+		this.openEnd = CronExpression.parse(openEndCron);
+		this.closeStart = CronExpression.parse(closeStartCron);
+		this.closeEnd = CronExpression.parse(closeEndCron);
+		this.holdAfterClose = holdAfterClose;
+	}
+
+	/**
+	 * 기동 시 단계 복원 - 단일가 매매 중(또는 장 마감 후 접수만 하는 중)이면 주문장을 단일가 매매로 시작
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initializePhase() {
+		initializePhase(Clock.system(ZONE));
+	}
+
+	void initializePhase(final Clock clock) {
+		final ZonedDateTime now = ZonedDateTime.now(clock.withZone(ZONE));
+		if (isAuctionAt(now)) {
+			log.info("기동 시각 {} 은 단일가 매매 접수 단계", now);
+			orderService.startAuction();
+		}
+	}
+
+	// 다음에 올 일정으로 현재 단계 판단 (시가/종가 체결 전이면 단일가 매매, 장 마감 후는 hold-after-close 에 따름)
+	boolean isAuctionAt(final ZonedDateTime now) {
+		final ZonedDateTime nextOpenStart = openStart.next(now);
+		final ZonedDateTime nextOpenEnd = openEnd.next(now);
+		final ZonedDateTime nextCloseStart = closeStart.next(now);
+		final ZonedDateTime nextCloseEnd = closeEnd.next(now);
+		final ZonedDateTime next = Stream.of(nextOpenStart, nextOpenEnd, nextCloseStart, nextCloseEnd)
+				.min(Comparator.naturalOrder())
+				.orElseThrow();
+
+		if (next.isEqual(nextOpenEnd) || next.isEqual(nextCloseEnd)) {
+			return true;
+		}
+		return holdAfterClose && next.isEqual(nextOpenStart);
+	}
+
+	@Scheduled(cron = "${order.auction.open-start-cron:0 30 8 * * MON-FRI}", zone = "Asia/Seoul")
+	public void startOpeningAuction() {
+		orderService.startAuction();
+	}
+
+	@Scheduled(cron = "${order.auction.open-end-cron:0 0 9 * * MON-FRI}", zone = "Asia/Seoul")
+	public void uncrossOpeningAuction() {
+		orderService.uncrossAuction();
+	}
+
+	@Scheduled(cron = "${order.auction.close-start-cron:0 20 15 * * MON-FRI}", zone = "Asia/Seoul")
+	public void startClosingAuction() {
+		orderService.startAuction();
+	}
+
+	@Scheduled(cron = "${order.auction.close-end-cron:0 30 15 * * MON-FRI}", zone = "Asia/Seoul")
+	public void uncrossClosingAuction() {
+		if (holdAfterClose) {
+			orderService.uncrossClosingAuction();
+			return;
+		}
+		orderService.uncrossAuction();
+	}
+}
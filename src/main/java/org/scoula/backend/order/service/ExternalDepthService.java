@@ -0,0 +1,63 @@
+package org.scoula.backend.order.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scoula.backend.order.controller.response.OrderBookResponse;
+import org.scoula.backend.order.dto.KisStockHogaDto;
+import org.scoula.backend.order.service.orderbook.ExternalDepthBook;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
+import org.scoula.backend.order.service.version.MarketDataVersions;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부(KIS) 호가 미러 주문장 관리
+ * - 호가 프레임을 주문으로 만들어 매칭하지 않고 종목별 외부 호가를 교체만 한다.
+ * - 외부 호가는 /topic/orderbook/{code}/external 로 전송, 조회 시 내부 주문장과 합친 호가도 제공
+ */
+@Service
+@RequiredArgsConstructor
+public class ExternalDepthService {
+
+	public static final String EXTERNAL_SUFFIX = "/external";
+
+	private final Map<String, ExternalDepthBook> books = new ConcurrentHashMap<>();
+
+	private final OrderService orderService;
+
+	private final SimpMessagingTemplate messagingTemplate;
+
+	private final SubscriptionRegistry subscriptionRegistry;
+
+	private final MarketDataVersions marketDataVersions;
+
+	/**
+	 * 호가 프레임 반영 - 매도/매수 10단계 교체 후 구독자에게 전송
+	 */
+	public void onHoga(final KisStockHogaDto hoga) {
+		final String companyCode = hoga.stockCode();
+		final OrderBookResponse book = books.computeIfAbsent(companyCode, ExternalDepthBook::new)
+				.replace(hoga.askPrices(), hoga.askRemains(), hoga.bidPrices(), hoga.bidRemains());
+		marketDataVersions.increment(MarketDataVersions.externalBookKey(companyCode));
+
+		final String destination = OrderService.ORDER_BOOK_DESTINATION + companyCode + EXTERNAL_SUFFIX;
+		if (subscriptionRegistry.hasSubscribers(destination)) {
+			messagingTemplate.convertAndSend(destination, book);
+		}
+	}
+
+	// 외부 호가창 조회 (수신 전이면 빈 호가)
+	public OrderBookResponse getBook(final String companyCode) {
+		final ExternalDepthBook book = books.get(companyCode);
+		return book != null ? book.getBook() : new OrderBookResponse(companyCode, List.of(), List.of());
+	}
+
+	// 내부 주문장과 외부 호가를 합친 호가창 조회
+	public OrderBookResponse getMergedBook(final String companyCode) {
+		return ExternalDepthBook.merge(orderService.getBook(companyCode), getBook(companyCode));
+	}
+}
@@ -0,0 +1,57 @@
+package org.scoula.backend.order.service;
+
+import java.math.BigDecimal;
+
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.member.service.reposiotry.AccountRepository;
+import org.scoula.backend.member.service.reposiotry.HoldingsRepository;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.AccountUpdatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체결 없이 취소된 수량 반영 (자전거래 방지, IOC/FOK 미체결, GTD 만료, 단일가 매매 잔량)
+ * - 주문 잔량 차감과 예약 금액/수량 해제를 하나의 트랜잭션으로 저장
+ * - 스케줄러 스레드에서도 호출되므로 계좌는 주문의 지연 로딩 대신 트랜잭션 안에서 다시 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderCancellationService {
+
+	private final OrderRepository orderRepository;
+	private final AccountRepository accountRepository;
+	private final HoldingsRepository holdingsRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public void cancel(final Long orderId, final BigDecimal quantity) {
+		if (quantity.signum() == 0) {
+			return;
+		}
+
+		final Order order = orderRepository.getById(orderId);
+		order.cancel(quantity);
+		orderRepository.save(order);
+
+		// 매수는 예약 금액, 매도는 예약 수량 해제
+		final Account account = accountRepository.getById(order.getAccount().getId());
+		if (order.getType() == Type.BUY) {
+			account.releaseReservedOrder(order.getPrice().multiply(quantity));
+			accountRepository.save(account);
+			// 개인 잔고 통보는 커밋 후 전송
+			final String username = account.getMember() != null ? account.getMember().getUsername() : null;
+			eventPublisher.publishEvent(new AccountUpdatedEvent(username, account));
+			return;
+		}
+		holdingsRepository.findByAccountIdAndCompanyCode(account.getId(), order.getCompanyCode())
+				.ifPresent(holdings -> {
+					holdings.releaseReservedOrder(quantity);
+					holdingsRepository.save(holdings);
+				});
+	}
+}
@@ -1,33 +1,60 @@
 package org.scoula.backend.order.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.scoula.backend.member.domain.Account;
 import org.scoula.backend.member.domain.Holdings;
 import org.scoula.backend.member.exception.HoldingsNotFoundException;
+import org.scoula.backend.member.exception.NotAuthorizedException;
 import org.scoula.backend.member.repository.impls.HoldingsRepositoryImpl;
 import org.scoula.backend.member.domain.Company;
 import org.scoula.backend.member.service.reposiotry.CompanyRepository;
 import org.scoula.backend.member.service.reposiotry.HoldingsRepository;
 import org.scoula.backend.member.service.reposiotry.MemberRepository;
 import org.scoula.backend.order.controller.request.OrderRequest;
+import org.scoula.backend.order.controller.response.AuctionIndicativeResponse;
 import org.scoula.backend.order.controller.response.OrderBookResponse;
 import org.scoula.backend.order.controller.response.OrderSnapshotResponse;
 import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+import org.scoula.backend.order.controller.response.PriceTickResponse;
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
 import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TimeInForce;
 import org.scoula.backend.order.domain.TradeOrder;
 import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.AccountUpdatedEvent;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
 import org.scoula.backend.order.dto.OrderDto;
+import org.scoula.backend.order.dto.SelfTradePreventedEvent;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
 import org.scoula.backend.order.service.exception.CompanyNotFound;
+import org.scoula.backend.order.service.exception.InvalidStopPriceException;
+import org.scoula.backend.order.service.exception.InvalidTimeInForceException;
 import org.scoula.backend.order.service.exception.PriceOutOfRangeException;
 import org.scoula.backend.order.service.orderbook.OrderBook;
+import org.scoula.backend.order.service.orderbook.OrderBookListener;
+import org.scoula.backend.order.service.orderbook.SelfTradeAction;
+import org.scoula.backend.order.service.orderbook.SelfTradePrevention;
+import org.scoula.backend.order.service.orderbook.TimingWheel;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
 import org.scoula.backend.order.service.validator.OrderValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -38,6 +65,13 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class OrderService {
 
+	public static final String ORDER_BOOK_DESTINATION = "/topic/orderbook/";
+	public static final String AUCTION_DESTINATION = "/topic/auction/";
+
+	// GTD 만료 타이밍 휠 (1초 tick, 한 바퀴 1시간)
+	private static final long GTD_TICK_MILLIS = 1000;
+	private static final int GTD_WHEEL_SIZE = 3600;
+
 	// 종목 코드를 키로 하는 주문들
 	private final ConcurrentHashMap<String, OrderBook> orderBooks = new ConcurrentHashMap<>();
 
@@ -53,33 +87,83 @@ public class OrderService {
 
 	private final HoldingsRepository holdingsRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final SubscriptionRegistry subscriptionRegistry;
+
+	private final OrderCancellationService orderCancellationService;
+
+	// 같은 계좌의 매수/매도 주문이 만났을 때 처리 방식
+	@Value("${order.self-trade-prevention:CANCEL_NEWEST}")
+	private SelfTradePrevention selfTradePrevention = SelfTradePrevention.CANCEL_NEWEST;
+
+	// 단일가 매매 접수 중 여부 (이 동안 새로 만든 주문장도 단일가 매매로 시작)
+	private volatile boolean auctionPhase;
+
+	// 주문장에 남아 있는 GTD 주문의 만료 일정
+	private final TimingWheel<GtdExpiry> gtdExpiryWheel =
+			new TimingWheel<>(GTD_TICK_MILLIS, GTD_WHEEL_SIZE, System.currentTimeMillis());
+
 	public Order placeOrder(final OrderRequest request, final String username) {
 		// 지정가 주문 가격 견적 유효성 검증
-		final BigDecimal price = request.price();
-		final OrderValidator validator = OrderValidator.getUnitByPrice(price);
-		validator.isValidPrice(price);
+		final long price = OrderValidator.validatePrice(request.price());
 
 		// 종가 기준 검증
 		validateClosingPrice(price, request.companyCode());
 
+		// 유효 기간 조건 검증
+		validateTimeInForce(request);
+
+		// 스탑 주문 발동 가격 검증
+		validateStopPrice(request);
+
 		final Order order = createOrder(request, username);
 		orderRepository.save(order);
 
+		// 매수 주문은 예약 금액이 바뀌므로 개인 잔고 통보
+		if (order.getType() == Type.BUY) {
+			eventPublisher.publishEvent(new AccountUpdatedEvent(username, order.getAccount()));
+		}
+
 		// 주문 처리
 		processOrder(order);
 		return order;
 	}
 
 	// 종가 기준 가격 검증
-	private void validateClosingPrice(final BigDecimal price, final String companyCode) {
+	private void validateClosingPrice(final long price, final String companyCode) {
 		final Company company = companyRepository.findByIsuSrtCd(companyCode)
 				.orElseThrow(CompanyNotFound::new);
 
-		if (!company.isWithinClosingPriceRange(price)) {
+		if (!company.getPriceTickTable().isWithinLimit(price)) {
 			throw new PriceOutOfRangeException();
 		}
 	}
 
+	// GTD 는 미래의 만료 시각이 있는 지정가 주문만 허용
+	private void validateTimeInForce(final OrderRequest request) {
+		if (request.timeInForce() != TimeInForce.GTD) {
+			return;
+		}
+		if (request.status() == OrderStatus.MARKET) {
+			throw new InvalidTimeInForceException("시장가 주문은 GTD 로 주문할 수 없습니다.");
+		}
+		if (request.expireAt() == null || !request.expireAt().isAfter(LocalDateTime.now())) {
+			throw new InvalidTimeInForceException("GTD 주문은 현재 이후의 만료 시각이 필요합니다.");
+		}
+	}
+
+	// 발동 가격은 호가 단위에 맞는 양수
+	private void validateStopPrice(final OrderRequest request) {
+		if (request.stopPrice() == null) {
+			return;
+		}
+		if (request.stopPrice().signum() <= 0) {
+			throw new InvalidStopPriceException("스탑 주문의 발동 가격은 0보다 커야 합니다.");
+		}
+		OrderValidator.validatePrice(request.stopPrice());
+	}
+
 	private Order createOrder(final OrderRequest request, final String username) {
 		final Account account = memberRepository.getByUsername(username).getAccount();
 
@@ -113,25 +197,197 @@ public class OrderService {
 				order.getRemainingQuantity(),
 				order.getPrice(),
 				order.getCreatedDateTime(),
-				order.getAccount()
+				order.getAccount(),
+				order.getTimeInForce(),
+				order.getExpireAt(),
+				order.getStopPrice()
 		);
-		List<TradeHistoryResponse> responses = orderBook.received(tradeOrderDto);
-		tradeHistoryService.saveTradeHistory(responses);
+		final CancellationCollector cancellations = new CancellationCollector();
+		try {
+			List<TradeHistoryResponse> responses = orderBook.received(tradeOrderDto, cancellations);
+			tradeHistoryService.saveTradeHistory(responses);
+		} finally {
+			// 체결 불가로 예외가 나도 주문장에서 이미 취소된 주문은 반영
+			applyCancellations(cancellations);
+		}
+
+		// 주문장에 남은 GTD 주문은 만료 시각에 취소
+		if (tradeOrderDto.getTimeInForce() == TimeInForce.GTD && tradeOrderDto.getExpireAt() != null
+				&& tradeOrderDto.getRemainingQuantity().compareTo(BigDecimal.ZERO) > 0) {
+			gtdExpiryWheel.schedule(new GtdExpiry(order.getCompanyCode(), order.getId()),
+					tradeOrderDto.getExpireAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		}
+
+		publishOrderBookUpdate(orderBook);
+	}
+
+	/**
+	 * 만료 시각이 지난 GTD 주문 취소 - 타이밍 휠에서 만료된 주문만 꺼내 처리
+	 */
+	@Scheduled(fixedDelayString = "${order.gtd.expiry-check-ms:1000}")
+	public void expireGtdOrders() {
+		final Set<OrderBook> changed = new LinkedHashSet<>();
+		for (GtdExpiry expiry : gtdExpiryWheel.advance(System.currentTimeMillis())) {
+			final OrderBook orderBook = orderBooks.get(expiry.companyCode());
+			if (orderBook == null) {
+				continue;
+			}
+			final BigDecimal expired = orderBook.expire(expiry.orderId());
+			if (expired.compareTo(BigDecimal.ZERO) > 0) {
+				log.info("GTD 주문 만료: 종목 {}, 주문 {}, 잔량 {}", expiry.companyCode(), expiry.orderId(), expired);
+				cancelOrderQuantity(expiry.orderId(), expired);
+				changed.add(orderBook);
+			}
+		}
+		changed.forEach(this::publishOrderBookUpdate);
+	}
+
+	/**
+	 * 단일가 매매 시작 - 모든 종목의 주문장이 체결 없이 주문을 쌓기 시작
+	 */
+	public void startAuction() {
+		auctionPhase = true;
+		orderBooks.values().forEach(OrderBook::startAuction);
+		log.info("단일가 매매 시작: {} 종목", orderBooks.size());
+	}
+
+	/**
+	 * 단일가 매매 종료 - 종목별 균형 가격으로 일괄 체결 후 연속 매매로 전환
+	 */
+	public void uncrossAuction() {
+		auctionPhase = false;
+		uncrossOrderBooks(false);
+	}
+
+	/**
+	 * 종가 단일가 매매 종료 - 종목별 균형 가격으로 일괄 체결 후 다음 시가 단일가 매매 종료까지 체결 없이 접수만
+	 * (order.auction.hold-after-close 사용 시 - 장 마감 후 연속 매매로 돌아가지 않도록 주문장을 단일가 매매 상태로 유지)
+	 */
+	public void uncrossClosingAuction() {
+		auctionPhase = true;
+		uncrossOrderBooks(true);
+	}
+
+	private void uncrossOrderBooks(final boolean hold) {
+		for (Map.Entry<String, OrderBook> entry : orderBooks.entrySet()) {
+			final String companyCode = entry.getKey();
+			final OrderBook orderBook = entry.getValue();
+			final CancellationCollector cancellations = new CancellationCollector();
+			try {
+				final BigDecimal referencePrice = getReferencePrice(companyCode);
+				final List<TradeHistoryResponse> responses = hold
+						? orderBook.uncrossAndHold(referencePrice, cancellations)
+						: orderBook.uncross(referencePrice, cancellations);
+				tradeHistoryService.saveTradeHistory(responses);
+				log.info("단일가 매매 체결: 종목 {}, {} 건", companyCode, responses.size());
+			} catch (Exception e) {
+				log.error("단일가 매매 체결 중 오류 발생: 종목={}, 오류={}", companyCode, e.getMessage(), e);
+			} finally {
+				applyCancellations(cancellations);
+			}
+			publishOrderBookUpdate(orderBook);
+		}
+	}
 
-		// 웹소켓 보내기
-		final OrderBookResponse response = orderBook.getBook();
-		broadcastOrderBookUpdate(response.companyCode(), response);
+	/**
+	 * 단일가 매매 예상 체결가, 체결량 조회 (단일가 매매 중이 아니면 price 는 null)
+	 */
+	public AuctionIndicativeResponse getAuctionIndicative(final String companyCode) {
+		final OrderBook orderBook = addOrderBook(companyCode);
+		if (!orderBook.isAuction()) {
+			return new AuctionIndicativeResponse(companyCode, null, BigDecimal.ZERO);
+		}
+		return orderBook.getIndicative(getReferencePrice(companyCode));
+	}
+
+	/**
+	 * 단일가 매매 중 예상 체결가, 체결량 전송 (구독자가 있는 종목만)
+	 */
+	@Scheduled(fixedDelayString = "${order.auction.indicative-interval-ms:1000}")
+	public void publishAuctionIndicative() {
+		if (!auctionPhase) {
+			return;
+		}
+		for (Map.Entry<String, OrderBook> entry : orderBooks.entrySet()) {
+			final String destination = AUCTION_DESTINATION + entry.getKey();
+			if (entry.getValue().isAuction() && subscriptionRegistry.hasSubscribers(destination)) {
+				messagingTemplate.convertAndSend(destination,
+						entry.getValue().getIndicative(getReferencePrice(entry.getKey())));
+			}
+		}
+	}
+
+	// 단일가 매매 기준가 (전일 종가)
+	private BigDecimal getReferencePrice(final String companyCode) {
+		return companyRepository.findByIsuSrtCd(companyCode)
+				.map(Company::getClosingPrice)
+				.orElse(null);
+	}
+
+	// 주문장에서 체결 없이 취소된 수량 반영
+	private void applyCancellations(final CancellationCollector cancellations) {
+		cancellations.selfTradeActions.forEach(this::applySelfTradePrevention);
+		// IOC, FOK, 시장가 주문의 미체결 잔량 취소
+		cancellations.unfilled.forEach(this::cancelOrderQuantity);
+	}
+
+	private void publishOrderBookUpdate(final OrderBook orderBook) {
+		// 랭킹 등 주문장 요약 구독자에게 변경 알림
+		final OrderSummaryResponse summary = orderBook.getSummary();
+		eventPublisher.publishEvent(new OrderBookUpdatedEvent(summary));
+
+		// 웹소켓 보내기 (구독자가 없으면 호가 스냅샷 생성과 직렬화 생략)
+		if (subscriptionRegistry.hasSubscribers(ORDER_BOOK_DESTINATION + summary.getCompanyCode())) {
+			final OrderBookResponse response = orderBook.getBook();
+			broadcastOrderBookUpdate(response.companyCode(), response);
+		}
 	}
 
-	// 종목별 주문장 생성, 이미 존재할 경우 반환
+	// 종목별 주문장 생성, 이미 존재할 경우 반환 (단일가 매매 중 생성되면 단일가 매매로 시작)
 	public OrderBook addOrderBook(final String companyCode) {
-		return orderBooks.computeIfAbsent(companyCode, k ->
-			new OrderBook(companyCode, tradeHistoryService));
+		return orderBooks.computeIfAbsent(companyCode, k -> {
+			final OrderBook orderBook = new OrderBook(companyCode, tradeHistoryService, selfTradePrevention);
+			if (auctionPhase) {
+				orderBook.startAuction();
+			}
+			return orderBook;
+		});
+	}
+
+	// 자전거래 방지로 취소된 수량을 주문, 예약 금액/수량에 반영하고 통보
+	private void applySelfTradePrevention(final SelfTradeAction action) {
+		final TradeOrder incomingOrder = action.incomingOrder();
+		final TradeOrder restingOrder = action.restingOrder();
+		log.info("자전거래 방지 {}: 종목 {}, 새 주문 {} {} 취소, 기존 주문 {} {} 취소", action.mode(),
+				incomingOrder.getCompanyCode(), incomingOrder.getId(), action.incomingCancelledQuantity(),
+				restingOrder.getId(), action.restingCancelledQuantity());
+
+		cancelOrderQuantity(incomingOrder.getId(), action.incomingCancelledQuantity());
+		cancelOrderQuantity(restingOrder.getId(), action.restingCancelledQuantity());
+
+		eventPublisher.publishEvent(new SelfTradePreventedEvent(
+				getUsername(incomingOrder.getAccount()),
+				incomingOrder.getCompanyCode(),
+				action.mode(),
+				incomingOrder.getId(),
+				action.incomingCancelledQuantity(),
+				restingOrder.getId(),
+				action.restingCancelledQuantity()
+		));
+	}
+
+	// 체결 없이 취소된 수량을 주문, 예약 금액/수량에 반영 (하나의 트랜잭션)
+	private void cancelOrderQuantity(final Long orderId, final BigDecimal quantity) {
+		orderCancellationService.cancel(orderId, quantity);
+	}
+
+	private String getUsername(final Account account) {
+		return account.getMember() != null ? account.getMember().getUsername() : null;
 	}
 
 	// 주문 발생 시 호가창 업데이트 브로드캐스트
 	private void broadcastOrderBookUpdate(final String code, final OrderBookResponse orderBook) {
-		messagingTemplate.convertAndSend("/topic/orderbook/" + code, orderBook);
+		messagingTemplate.convertAndSend(ORDER_BOOK_DESTINATION + code, orderBook);
 	}
 
 	// JSON 종목별 주문장 스냅샷 생성
@@ -152,10 +408,39 @@ public class OrderService {
 		return orderBook.getSummary();
 	}
 
+	// 종목별 주문 가능 가격표 조회
+	public PriceTickResponse getPriceTicks(final String companyCode) {
+		final Company company = companyRepository.findByIsuSrtCd(companyCode)
+				.orElseThrow(CompanyNotFound::new);
+		return PriceTickResponse.of(companyCode, company.getClosingPrice(), company.getPriceTickTable());
+	}
+
 	public List<TradeHistoryResponse> getTradeHistory() {
 		return tradeHistoryService.getTradeHistory();
 	}
 
+	/**
+	 * 체결 내역 조회 조건을 로그인 사용자의 계좌로 한정
+	 * - 다른 계좌나 다른 계좌의 주문을 지정하면 거부
+	 */
+	public TradeHistorySearchCondition restrictTradeHistoryQuery(final TradeHistorySearchCondition condition,
+			final String username) {
+		final Account account = memberRepository.getByUsername(username).getAccount();
+		if (condition.accountId() != null && !condition.accountId().equals(account.getId())) {
+			throw new NotAuthorizedException("본인 계좌의 체결 내역만 조회할 수 있습니다.");
+		}
+		if (condition.orderId() != null
+				&& !account.getId().equals(orderRepository.getById(condition.orderId()).getAccount().getId())) {
+			throw new NotAuthorizedException("본인 주문의 체결 내역만 조회할 수 있습니다.");
+		}
+		return condition.withAccountId(account.getId());
+	}
+
+	public void writeTradeHistory(final TradeHistorySearchCondition condition, final OutputStream outputStream)
+			throws IOException {
+		tradeHistoryService.writeTradeHistory(condition, outputStream);
+	}
+
 	public Map<String, OrderSummaryResponse> getAllOrderSummaries() {
 		Map<String, OrderSummaryResponse> summaries = new HashMap<>();
 
@@ -169,5 +454,31 @@ public class OrderService {
 		return summaries;
 	}
 
+	private record GtdExpiry(String companyCode, Long orderId) {
+	}
+
+	/**
+	 * 주문장 처리 중 체결 없이 취소된 내역 수집 (처리가 끝난 뒤 주문, 예약 금액/수량에 반영)
+	 */
+	private static final class CancellationCollector implements OrderBookListener {
+		private final List<SelfTradeAction> selfTradeActions = new ArrayList<>();
+		// 주문 ID 별 미체결 취소 수량 (발동된 스탑 주문 포함)
+		private final Map<Long, BigDecimal> unfilled = new LinkedHashMap<>();
+
+		@Override
+		public void onSelfTradePrevented(final SelfTradeAction action) {
+			selfTradeActions.add(action);
+		}
 
+		@Override
+		public void onUnfilledCancelled(final TradeOrder order, final BigDecimal quantity) {
+			unfilled.merge(order.getId(), quantity, BigDecimal::add);
+		}
+
+		@Override
+		public void onStopTriggered(final TradeOrder order) {
+			log.info("스탑 주문 발동: 종목 {}, 주문 {}, 발동 가격 {}", order.getCompanyCode(), order.getId(),
+					order.getStopPrice());
+		}
+	}
 }
@@ -4,125 +4,225 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.scoula.backend.member.domain.Company;
-import org.scoula.backend.member.repository.impls.CompanyRepositoryImpl;
+import org.scoula.backend.member.service.reposiotry.CompanyRepository;
 import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
 import org.scoula.backend.order.dto.ranking.ListedSharesRankingDto;
 import org.scoula.backend.order.dto.ranking.TurnoverRateRankingDto;
 import org.scoula.backend.order.dto.ranking.VolumeRankingDto;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목 랭킹 서비스
+ * - 주문장 변경 이벤트로 종목별 지표를 갱신하고, 지표별 정렬 인덱스를 유지
+ * - 조회는 주기적으로 발행되는 스냅샷에서 제공 (요청마다 주문장 순회/DB 조회 없음)
+ */
+@Slf4j
 @Service
 public class RankingService {
-	private final OrderService orderService;
-	private final CompanyRepositoryImpl companyRepository;
-
-	public RankingService(OrderService orderService, CompanyRepositoryImpl companyRepository) {
-		this.orderService = orderService;
+	private static final int RANKING_SIZE = 20;
+
+	private static final Comparator<RankingEntry> BY_VOLUME =
+			Comparator.comparingInt(RankingEntry::totalVolume).reversed()
+					.thenComparing(RankingEntry::companyCode);
+	private static final Comparator<RankingEntry> BY_LISTED_SHARES =
+			Comparator.comparingInt(RankingEntry::listedShares).reversed()
+					.thenComparing(RankingEntry::companyCode);
+	private static final Comparator<RankingEntry> BY_TURNOVER_RATE =
+			Comparator.comparingDouble(RankingEntry::turnoverRate).reversed()
+					.thenComparing(RankingEntry::companyCode);
+
+	private final CompanyRepository companyRepository;
+
+	// 종목별 최신 지표와 지표별 정렬 인덱스
+	private final Map<String, RankingEntry> entries = new ConcurrentHashMap<>();
+	private final NavigableSet<RankingEntry> volumeIndex = new ConcurrentSkipListSet<>(BY_VOLUME);
+	private final NavigableSet<RankingEntry> listedSharesIndex = new ConcurrentSkipListSet<>(BY_LISTED_SHARES);
+	private final NavigableSet<RankingEntry> turnoverRateIndex = new ConcurrentSkipListSet<>(BY_TURNOVER_RATE);
+
+	private final AtomicBoolean dirty = new AtomicBoolean(false);
+	private volatile RankingSnapshot snapshot = RankingSnapshot.EMPTY;
+
+	public RankingService(CompanyRepository companyRepository) {
 		this.companyRepository = companyRepository;
 	}
 
-	public List<VolumeRankingDto> getVolumeRankings() {
-		Map<String, OrderSummaryResponse> summaries = orderService.getAllOrderSummaries();
-		List<VolumeRankingDto> rankings = new ArrayList<>();
-
-		for (Map.Entry<String, OrderSummaryResponse> entry : summaries.entrySet()) {
-			String companyCode = entry.getKey();
-			OrderSummaryResponse summary = entry.getValue();
-			Company company = companyRepository.findByIsuSrtCd(companyCode)
-				.orElseThrow(() -> new RuntimeException("Company not found: " + companyCode));
+	/**
+	 * 주문장 변경 반영 - 해당 종목의 인덱스 항목만 교체
+	 */
+	@EventListener
+	public void onOrderBookUpdated(final OrderBookUpdatedEvent event) {
+		final OrderSummaryResponse summary = event.summary();
+		final String companyCode = summary.getCompanyCode();
+		final int totalVolume = summary.getSellCount() + summary.getBuyCount();
+
+		synchronized (this) {
+			final RankingEntry previous = entries.get(companyCode);
+			if (previous != null && previous.totalVolume() == totalVolume) {
+				return;
+			}
+
+			final RankingEntry updated = previous != null
+					? previous.withTotalVolume(totalVolume)
+					: createEntry(companyCode, totalVolume);
+			if (updated == null) {
+				return;
+			}
+
+			if (previous != null) {
+				volumeIndex.remove(previous);
+				listedSharesIndex.remove(previous);
+				turnoverRateIndex.remove(previous);
+			}
+			entries.put(companyCode, updated);
+			volumeIndex.add(updated);
+			listedSharesIndex.add(updated);
+			turnoverRateIndex.add(updated);
+		}
+		dirty.set(true);
+	}
 
-			int totalVolume = summary.getSellCount() + summary.getBuyCount();
+	/**
+	 * 변경이 있을 때만 상위 랭킹 스냅샷 발행
+	 */
+	@Scheduled(fixedRateString = "${ranking.publish-interval-ms:1000}")
+	public void publishSnapshot() {
+		if (!dirty.getAndSet(false)) {
+			return;
+		}
 
-			rankings.add(VolumeRankingDto.builder()
-				.companyCode(companyCode)
-				.companyName(company.getIsuNm())
-				.totalVolume(totalVolume)
-				.build());
+		synchronized (this) {
+			snapshot = new RankingSnapshot(
+					snapshot.version() + 1,
+					toVolumeRankings(),
+					toListedSharesRankings(),
+					toTurnoverRateRankings()
+			);
 		}
+	}
+
+	/**
+	 * 랭킹 스냅샷 버전 (스냅샷이 새로 발행될 때마다 증가, ETag 용)
+	 */
+	public long getVersion() {
+		return snapshot.version();
+	}
 
-		// 거래량 기준으로 내림차순 정렬
-		rankings.sort(Comparator.comparing(VolumeRankingDto::getTotalVolume).reversed());
-
-		// 랭킹 부여 및 상위 20개만 선택
-		return IntStream.range(0, Math.min(rankings.size(), 20))
-			.mapToObj(i -> VolumeRankingDto.builder()
-				.companyCode(rankings.get(i).getCompanyCode())
-				.companyName(rankings.get(i).getCompanyName())
-				.totalVolume(rankings.get(i).getTotalVolume())
-				.rank(i + 1)
-				.build())
-			.collect(Collectors.toList());
+	public List<VolumeRankingDto> getVolumeRankings() {
+		return snapshot.volumeRankings();
 	}
 
 	public List<ListedSharesRankingDto> getListedSharesRankings() {
-		Map<String, OrderSummaryResponse> summaries = orderService.getAllOrderSummaries();
-		List<ListedSharesRankingDto> rankings = new ArrayList<>();
+		return snapshot.listedSharesRankings();
+	}
+
+	public List<TurnoverRateRankingDto> getTurnoverRateRankings() {
+		return snapshot.turnoverRateRankings();
+	}
 
-		for (Map.Entry<String, OrderSummaryResponse> entry : summaries.entrySet()) {
-			String companyCode = entry.getKey();
-			Company company = companyRepository.findByIsuSrtCd(companyCode)
-				.orElseThrow(() -> new RuntimeException("Company not found: " + companyCode));
+	/**
+	 * 처음 등장한 종목의 메타데이터 조회 (종목당 한 번)
+	 */
+	private RankingEntry createEntry(final String companyCode, final int totalVolume) {
+		final Company company = companyRepository.findByIsuSrtCd(companyCode).orElse(null);
+		if (company == null) {
+			log.warn("랭킹 대상 종목을 찾을 수 없습니다: {}", companyCode);
+			return null;
+		}
 
-			int listedShares = Integer.parseInt(company.getListShrs());
+		return new RankingEntry(companyCode, company.getIsuNm(), parseListedShares(company), totalVolume);
+	}
 
-			rankings.add(ListedSharesRankingDto.builder()
-				.companyCode(companyCode)
-				.companyName(company.getIsuNm())
-				.listedShares(listedShares)
-				.build());
+	private int parseListedShares(final Company company) {
+		try {
+			return Integer.parseInt(company.getListShrs());
+		} catch (NumberFormatException e) {
+			log.warn("상장주식수 형식이 올바르지 않습니다: {}, {}", company.getIsuSrtCd(), company.getListShrs());
+			return 0;
 		}
+	}
 
-		// 상장주식수 기준으로 내림차순 정렬
-		rankings.sort(Comparator.comparing(ListedSharesRankingDto::getListedShares).reversed());
-
-		// 랭킹 부여 및 상위 20개만 선택
-		return IntStream.range(0, Math.min(rankings.size(), 20))
-			.mapToObj(i -> ListedSharesRankingDto.builder()
-				.companyCode(rankings.get(i).getCompanyCode())
-				.companyName(rankings.get(i).getCompanyName())
-				.listedShares(rankings.get(i).getListedShares())
-				.rank(i + 1)
-				.build())
-			.collect(Collectors.toList());
+	private List<VolumeRankingDto> toVolumeRankings() {
+		final List<VolumeRankingDto> rankings = new ArrayList<>(RANKING_SIZE);
+		for (RankingEntry entry : volumeIndex) {
+			if (rankings.size() == RANKING_SIZE) {
+				break;
+			}
+			rankings.add(VolumeRankingDto.builder()
+					.companyCode(entry.companyCode())
+					.companyName(entry.companyName())
+					.totalVolume(entry.totalVolume())
+					.rank(rankings.size() + 1)
+					.build());
+		}
+		return List.copyOf(rankings);
 	}
 
-	public List<TurnoverRateRankingDto> getTurnoverRateRankings() {
-		Map<String, OrderSummaryResponse> summaries = orderService.getAllOrderSummaries();
-		List<TurnoverRateRankingDto> rankings = new ArrayList<>();
+	private List<ListedSharesRankingDto> toListedSharesRankings() {
+		final List<ListedSharesRankingDto> rankings = new ArrayList<>(RANKING_SIZE);
+		for (RankingEntry entry : listedSharesIndex) {
+			if (rankings.size() == RANKING_SIZE) {
+				break;
+			}
+			rankings.add(ListedSharesRankingDto.builder()
+					.companyCode(entry.companyCode())
+					.companyName(entry.companyName())
+					.listedShares(entry.listedShares())
+					.rank(rankings.size() + 1)
+					.build());
+		}
+		return List.copyOf(rankings);
+	}
 
-		for (Map.Entry<String, OrderSummaryResponse> entry : summaries.entrySet()) {
-			String companyCode = entry.getKey();
-			OrderSummaryResponse summary = entry.getValue();
-			Company company = companyRepository.findByIsuSrtCd(companyCode)
-				.orElseThrow(() -> new RuntimeException("Company not found: " + companyCode));
+	private List<TurnoverRateRankingDto> toTurnoverRateRankings() {
+		final List<TurnoverRateRankingDto> rankings = new ArrayList<>(RANKING_SIZE);
+		for (RankingEntry entry : turnoverRateIndex) {
+			if (rankings.size() == RANKING_SIZE) {
+				break;
+			}
+			rankings.add(TurnoverRateRankingDto.builder()
+					.companyCode(entry.companyCode())
+					.companyName(entry.companyName())
+					.turnoverRate(entry.turnoverRate())
+					.rank(rankings.size() + 1)
+					.build());
+		}
+		return List.copyOf(rankings);
+	}
 
-			int totalVolume = summary.getSellCount() + summary.getBuyCount();
-			int listedShares = Integer.parseInt(company.getListShrs());
+	/**
+	 * 종목별 랭킹 지표 (불변)
+	 */
+	private record RankingEntry(String companyCode, String companyName, int listedShares, int totalVolume) {
 
-			double turnoverRate = listedShares > 0 ? (double)totalVolume / listedShares : 0;
+		private double turnoverRate() {
+			return listedShares > 0 ? (double)totalVolume / listedShares : 0;
+		}
 
-			rankings.add(TurnoverRateRankingDto.builder()
-				.companyCode(companyCode)
-				.companyName(company.getIsuNm())
-				.turnoverRate(turnoverRate)
-				.build());
+		private RankingEntry withTotalVolume(final int totalVolume) {
+			return new RankingEntry(companyCode, companyName, listedShares, totalVolume);
 		}
+	}
 
-		// 거래회전율 기준으로 내림차순 정렬
-		rankings.sort(Comparator.comparing(TurnoverRateRankingDto::getTurnoverRate).reversed());
-
-		// 랭킹 부여 및 상위 20개만 선택
-		return IntStream.range(0, Math.min(rankings.size(), 20))
-			.mapToObj(i -> TurnoverRateRankingDto.builder()
-				.companyCode(rankings.get(i).getCompanyCode())
-				.companyName(rankings.get(i).getCompanyName())
-				.turnoverRate(rankings.get(i).getTurnoverRate())
-				.rank(i + 1)
-				.build())
-			.collect(Collectors.toList());
+	/**
+	 * 발행된 랭킹 스냅샷
+	 */
+	private record RankingSnapshot(
+			long version,
+			List<VolumeRankingDto> volumeRankings,
+			List<ListedSharesRankingDto> listedSharesRankings,
+			List<TurnoverRateRankingDto> turnoverRateRankings
+	) {
+		private static final RankingSnapshot EMPTY = new RankingSnapshot(0, List.of(), List.of(), List.of());
 	}
 }
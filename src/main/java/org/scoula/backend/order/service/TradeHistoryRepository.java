@@ -1,22 +1,47 @@
 package org.scoula.backend.order.service;
 
 import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TradeHistoryRepository {
 
     TradeHistory save(final TradeHistory tradeHistory);
 
+    /**
+     * 거래 내역 일괄 저장 (다건 insert 배치)
+     */
+    List<TradeHistory> saveAll(final Collection<TradeHistory> tradeHistories);
+
     /**
      * 모든 고유 회사 코드 조회
      */
     List<String> findDistinctCompanyCodes();
 
     /**
-     * 특정 회사의 최근 N개 거래 내역 조회
+     * 특정 회사의 최근 N개 거래 내역 조회 (보관 기간 내 최근 체결일만 조회)
      */
     List<TradeHistory> findRecentTradesByCompanyCode(String companyCode, int limit);
 
-    List<TradeHistory> getTradeHistory();
+    /**
+     * 기준일 이전의 체결일 목록 (오래된 순)
+     */
+    List<LocalDate> findTradeDatesBefore(LocalDate date);
+
+    /**
+     * 체결일의 전체 거래 내역 (종목코드, 체결 시간, 체결 ID 순)
+     */
+    List<TradeHistory> findByTradeDate(LocalDate tradeDate);
+
+    int deleteByTradeDate(LocalDate tradeDate);
+
+    /**
+     * 조건에 맞는 체결 내역을 최신순(체결 시간, 체결 ID 내림차순)으로 최대 limit 개 스트리밍
+     * - 반환된 스트림은 호출자가 트랜잭션 안에서 소비하고 닫아야 함
+     */
+    Stream<TradeHistory> streamTradeHistory(TradeHistorySearchCondition condition, int limit);
 }
@@ -1,22 +1,28 @@
 package org.scoula.backend.order.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.scoula.backend.member.domain.Account;
 import org.scoula.backend.member.service.AccountService;
 import org.scoula.backend.member.service.StockHoldingsService;
+import org.scoula.backend.member.service.reposiotry.CompanyRepository;
 import org.scoula.backend.order.controller.response.KisStockResponse;
+import org.scoula.backend.order.controller.response.TimeAndSalesResponse;
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
 import org.scoula.backend.order.domain.Order;
 import org.scoula.backend.order.domain.TimeFrame;
@@ -24,11 +30,26 @@ import org.scoula.backend.order.domain.TradeHistory;
 import org.scoula.backend.order.domain.Type;
 import org.scoula.backend.order.dto.CandleDto;
 import org.scoula.backend.order.dto.ChartResponseDto;
-import org.scoula.backend.order.dto.ChartUpdateDto;
+import org.scoula.backend.order.dto.IndicatorResponseDto;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
+import org.scoula.backend.order.dto.TradePriceUpdatedEvent;
+import org.scoula.backend.order.dto.TradeSettledEvent;
+import org.scoula.backend.order.service.chart.ChartHistoryCache;
+import org.scoula.backend.order.service.chart.ChartTickConflator;
+import org.scoula.backend.order.service.chart.indicator.IndicatorEngine;
+import org.scoula.backend.order.service.chart.indicator.IndicatorSpec;
+import org.scoula.backend.order.service.exception.CompanyNotFound;
+import org.scoula.backend.order.service.exception.InvalidTradeHistoryQueryException;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
+import org.scoula.backend.order.service.tape.TradeTape;
+import org.scoula.backend.order.service.version.MarketDataVersions;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,14 +68,22 @@ public class TradeHistoryService {
 	private final OrderRepository orderRepository;
 	private final AccountService accountService;
 	private final StockHoldingsService stockHoldingsService;
+	private final ChartHistoryCache chartHistoryCache;
+	private final ChartTickConflator chartTickConflator;
+	private final IndicatorEngine indicatorEngine;
+	private final ObjectMapper objectMapper;
+	private final SubscriptionRegistry subscriptionRegistry;
+	private final MarketDataVersions marketDataVersions;
+	private final CompanyRepository companyRepository;
 
 	// 상수 정의
-	private static final int MAX_TRADE_HISTORY = 1000; // 종목당 최대 보관 거래 수
+	private static final int MAX_TRADE_HISTORY = 1024; // 종목당 최대 보관 거래 수 (체결 테이프 크기)
+	public static final int MAX_TIME_AND_SALES_SIZE = 500; // 체결 내역 조회 최대 건수
 	private static final int CANDLE_KEEP_NUMBER = 100; // 캔들 데이터 보관 개수
 	private static final double DEFAULT_PRICE = 57400; // 기본 가격
 
 	// 메모리 저장소
-	private final Map<String, ConcurrentLinkedQueue<TradeHistory>> recentTradesMap = new ConcurrentHashMap<>();
+	private final Map<String, TradeTape> tradeTapes = new ConcurrentHashMap<>();
 	private final Map<String, Map<TimeFrame, List<CandleDto>>> timeFrameCandleMap = new ConcurrentHashMap<>();
 
 	// 동시성 제어를 위한 락
@@ -78,8 +107,9 @@ public class TradeHistoryService {
 			}
 
 			// 각 회사 코드별로 최근 거래 내역 로드
+			final Map<String, List<TradeHistory>> loadedTrades = new HashMap<>();
 			for (String companyCode : activatedCompanyCodes) {
-				loadRecentTradesForCompany(companyCode);
+				loadedTrades.put(companyCode, loadRecentTradesForCompany(companyCode));
 				// 각 회사별로 락 초기화
 				companyLocks.putIfAbsent(companyCode, new ReentrantReadWriteLock());
 			}
@@ -87,16 +117,16 @@ public class TradeHistoryService {
 			log.info("거래 내역 로드 완료");
 
 			// 로드된 거래 내역을 기반으로 캔들 초기화
-			initializeCandlesFromTrades();
+			initializeCandlesFromTrades(loadedTrades);
 		} catch (Exception e) {
 			log.error("거래 내역 로드 중 오류 발생: {}", e.getMessage(), e);
 		}
 	}
 
 	/**
-	 * 특정 회사의 최근 거래 내역 로드
+	 * 특정 회사의 최근 거래 내역 로드 (오래된 거래부터 반환)
 	 */
-	private void loadRecentTradesForCompany(final String companyCode) {
+	private List<TradeHistory> loadRecentTradesForCompany(final String companyCode) {
 		try {
 			// 회사별 최근 거래 내역 MAX_TRADE_HISTORY 개 조회
 			final List<TradeHistory> recentTrades = tradeHistoryRepository.findRecentTradesByCompanyCode(
@@ -104,49 +134,47 @@ public class TradeHistoryService {
 
 			if (recentTrades.isEmpty()) {
 				log.debug("{} 회사의 거래 내역이 없습니다.", companyCode);
-				return;
+				return List.of();
 			}
 
 			log.debug("{} 회사의 거래 내역 {} 개 로드", companyCode, recentTrades.size());
 
-			// 최신 거래가 먼저 오도록 정렬
-			recentTrades.sort((t1, t2) -> Long.compare(t2.getTradeTime(), t1.getTradeTime()));
+			// 오래된 거래부터 정렬
+			final List<TradeHistory> trades = new ArrayList<>(recentTrades);
+			trades.sort(Comparator.comparingLong(TradeHistory::getTradeTime)
+					.thenComparing(TradeHistory::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
 
-			// 메모리에 저장 (최신 거래가 큐의 앞에 오도록 역순으로 저장)
-			final ConcurrentLinkedQueue<TradeHistory> tradeQueue = new ConcurrentLinkedQueue<>(recentTrades);
-			recentTradesMap.put(companyCode, tradeQueue);
+			// 체결 테이프에 순서대로 기록 (마지막 기록이 최신 거래)
+			final TradeTape tape = getTradeTape(companyCode);
+			trades.forEach(tape::append);
 
 			log.debug("{} 회사의 거래 내역 로드 완료. 최신 거래 시간: {}",
-					companyCode,
-					recentTrades.isEmpty() ? "없음" :
-							Instant.ofEpochSecond(recentTrades.get(0).getTradeTime()));
-
+					companyCode, Instant.ofEpochSecond(trades.get(trades.size() - 1).getTradeTime()));
+			return trades;
 		} catch (Exception e) {
 			log.error("{} 회사의 거래 내역 로드 중 오류 발생: {}", companyCode, e.getMessage(), e);
+			return List.of();
 		}
 	}
 
 	/**
 	 * 로드된 거래 내역을 기반으로 캔들 초기화
 	 */
-	private void initializeCandlesFromTrades() {
+	private void initializeCandlesFromTrades(final Map<String, List<TradeHistory>> loadedTrades) {
 		log.info("로드된 거래 내역을 기반으로 캔들 데이터 초기화 중...");
 
 		// 각 회사 코드별로 캔들 초기화
-		for (String companyCode : recentTradesMap.keySet()) {
-			// 최근 거래 내역
-			final Queue<TradeHistory> trades = recentTradesMap.get(companyCode);
+		for (Map.Entry<String, List<TradeHistory>> entry : loadedTrades.entrySet()) {
+			final String companyCode = entry.getKey();
+			// 최근 거래 내역 (오래된 거래부터 정렬됨)
+			final List<TradeHistory> tradesList = entry.getValue();
 
-			if (trades == null || trades.isEmpty()) {
+			if (tradesList.isEmpty()) {
 				continue;
 			}
 
 			log.debug("{} 회사의 캔들 데이터 초기화 중", companyCode);
 
-			final List<TradeHistory> tradesList = new ArrayList<>(trades);
-			// 시간순으로 정렬 (오래된 거래부터)
-			tradesList.sort(Comparator.comparingLong(TradeHistory::getTradeTime));
-
 			// 각 타임프레임별로 캔들 초기화
 			for (TimeFrame timeFrame : TimeFrame.values()) {
 				initializeTimeFrameCandles(companyCode, timeFrame, tradesList);
@@ -228,16 +256,26 @@ public class TradeHistoryService {
 					close);
 		}
 
-		// 캔들 개수 제한
-		if (candles.size() > CANDLE_KEEP_NUMBER) {
-			companyCodeCandleMap.put(timeFrame,
-					new ArrayList<>(candles.subList(candles.size() - CANDLE_KEEP_NUMBER, candles.size())));
-		}
+		// 캔들 개수 제한 (보조지표도 캐시에 남는 캔들과 같은 목록으로 초기화)
+		final List<CandleDto> keptCandles = candles.size() > CANDLE_KEEP_NUMBER
+				? new ArrayList<>(candles.subList(candles.size() - CANDLE_KEEP_NUMBER, candles.size()))
+				: candles;
+		companyCodeCandleMap.put(timeFrame, keptCandles);
+		onBarClosed(companyCode, timeFrame, keptCandles);
 
 		log.debug("{} 회사의 {} 타임프레임 캔들 {} 개 생성 완료",
 				companyCode, timeFrame.getTimeCode(), candles.size());
 	}
 
+	/**
+	 * 캔들 마감 처리 - 차트 응답 캐시 무효화 및 보조지표 갱신
+	 */
+	private void onBarClosed(final String companyCode, final TimeFrame timeFrame, final List<CandleDto> candles) {
+		chartHistoryCache.barClosed(companyCode, timeFrame);
+		indicatorEngine.onBarClosed(companyCode, timeFrame, candles);
+		marketDataVersions.increment(MarketDataVersions.chartKey(companyCode));
+	}
+
 	/**
 	 * 캔들 시간 계산 (타임프레임 단위로 내림)
 	 */
@@ -361,6 +399,7 @@ public class TradeHistoryService {
 				final CandleDto newCandle = createCandleDto(currentCandleTime, getLastPrice(companyCode),
 						getLastPrice(companyCode), getLastPrice(companyCode), getLastPrice(companyCode), 0);
 				existingCandles.add(newCandle);
+				onBarClosed(companyCode, timeFrame, existingCandles);
 			} else {
 				CandleDto lastCandle = existingCandles.get(existingCandles.size() - 1);
 
@@ -376,6 +415,7 @@ public class TradeHistoryService {
 								lastCandle.close(), lastCandle.close(), lastCandle.close(), 0);
 						existingCandles.add(nextCandle);
 					}
+					onBarClosed(companyCode, timeFrame, existingCandles);
 				} else {
 					// 시간 값이 같은 경우에는 로그만 출력 (선택적)
 					log.debug("새 캔들 생성 건너뜀: 현재 캔들 시간과 마지막 캔들 시간이 같음 ({})",
@@ -403,20 +443,39 @@ public class TradeHistoryService {
 	 * 마지막 거래 가격 조회
 	 */
 	private double getLastPrice(final String companyCode) {
-		ConcurrentLinkedQueue<TradeHistory> trades = recentTradesMap.get(companyCode);
-		if (trades == null || trades.isEmpty()) {
-			return DEFAULT_PRICE;
-		}
-		return trades.peek().getPrice().doubleValue();
+		return getLastTrade(companyCode)
+				.map(trade -> trade.getPrice().doubleValue())
+				.orElse(DEFAULT_PRICE);
 	}
 
 	/**
-	 * 마지막 거래 조회
+	 * 체결 내역이 있거나 종목 기준정보에 있는 종목인지 (알 수 없는 종목에 차트, 지표 상태를 만들지 않기 위함)
+	 */
+	public boolean isKnownSymbol(final String companyCode) {
+		return tradeTapes.containsKey(companyCode) || companyRepository.findByIsuSrtCd(companyCode).isPresent();
+	}
+
+	/**
+	 * 마지막 거래 조회 (가장 최근 체결)
 	 */
 	public Optional<TradeHistory> getLastTrade(final String companyCode) {
-		Queue<TradeHistory> trades = recentTradesMap.get(companyCode);
-		return trades == null || trades.isEmpty() ?
-				Optional.empty() : Optional.of(trades.peek());
+		final TradeTape tape = tradeTapes.get(companyCode);
+		return tape == null ? Optional.empty() : Optional.ofNullable(tape.getLast());
+	}
+
+	/**
+	 * 종목 체결 내역 조회 (메모리 체결 테이프, 최신순 cursor 페이징)
+	 */
+	public TimeAndSalesResponse getTimeAndSales(final String companyCode, final Long cursor, final int size) {
+		if (size < 1 || size > MAX_TIME_AND_SALES_SIZE) {
+			throw new InvalidTradeHistoryQueryException(
+					"size는 1 이상 " + MAX_TIME_AND_SALES_SIZE + " 이하여야 합니다.");
+		}
+		final TradeTape tape = tradeTapes.get(companyCode);
+		if (tape == null) {
+			return new TimeAndSalesResponse(companyCode, List.of(), null);
+		}
+		return tape.read(companyCode, cursor, size);
 	}
 
 	/**
@@ -424,10 +483,10 @@ public class TradeHistoryService {
 	 */
 	@Transactional
 	public void saveTradeHistory(final Collection<TradeHistoryResponse> responses) {
-		// 거래 내역 DB 저장
-		List<TradeHistory> histories = responses.stream()
-				.map(response -> tradeHistoryRepository.save(convertToEntity(response)))
-				.toList();
+		// 거래 내역 DB 일괄 저장
+		List<TradeHistory> histories = tradeHistoryRepository.saveAll(responses.stream()
+				.map(this::convertToEntity)
+				.toList());
 
 		histories.forEach(this::sendTradeHistory);
 	}
@@ -444,12 +503,15 @@ public class TradeHistoryService {
 		orderRepository.save(sellOrder);
 
 		// 2. 계좌 잔액 처리
-		accountService.updateAccountAfterTrade(buyOrder.getMemberId(), Type.BUY, tradeHistory.getPrice(), tradeHistory.getQuantity());
-		accountService.updateAccountAfterTrade(sellOrder.getMemberId(), Type.SELL, tradeHistory.getPrice(), tradeHistory.getQuantity());
+		Account buyerAccount = accountService.updateAccountAfterTrade(buyOrder.getMemberId(), Type.BUY, tradeHistory.getPrice(), tradeHistory.getQuantity());
+		Account sellerAccount = accountService.updateAccountAfterTrade(sellOrder.getMemberId(), Type.SELL, tradeHistory.getPrice(), tradeHistory.getQuantity());
 
 		// 3. 보유 주식 처리
 		stockHoldingsService.updateHoldingsAfterTrade(Type.BUY, buyOrder.getAccount(), tradeHistory.getCompanyCode(), tradeHistory.getPrice(), tradeHistory.getQuantity());
 		stockHoldingsService.updateHoldingsAfterTrade(Type.SELL, sellOrder.getAccount(), tradeHistory.getCompanyCode(), tradeHistory.getPrice(), tradeHistory.getQuantity());
+
+		// 4. 매수자/매도자 개인 큐로 체결, 잔고 통보
+		eventPublisher.publishEvent(new TradeSettledEvent(tradeHistory, buyOrder, sellOrder, buyerAccount, sellerAccount));
 		// 메모리 저장 및 캔들 업데이트
 		storeTradeHistory(tradeHistory);
 		updateAllTimeFrameCandles(tradeHistory);
@@ -479,15 +541,17 @@ public class TradeHistoryService {
 	 * 거래 내역 메모리 저장
 	 */
 	private void storeTradeHistory(final TradeHistory tradeHistory) {
-		final ConcurrentLinkedQueue<TradeHistory> trades =
-				recentTradesMap.computeIfAbsent(tradeHistory.getCompanyCode(),
-						k -> new ConcurrentLinkedQueue<>());
-		trades.offer(tradeHistory);
-
-		// 최대 개수 유지
-		while (trades.size() > MAX_TRADE_HISTORY) {
-			trades.poll();
-		}
+		// 체결 테이프가 가득 차면 가장 오래된 체결을 덮어씀
+		getTradeTape(tradeHistory.getCompanyCode()).append(tradeHistory);
+
+		// 평가 손익 등 체결가 구독자에게 알림
+		eventPublisher.publishEvent(new TradePriceUpdatedEvent(
+				tradeHistory.getCompanyCode(), tradeHistory.getPrice(), tradeHistory.getQuantity(),
+				tradeHistory.getTradeTime()));
+	}
+
+	private TradeTape getTradeTape(final String companyCode) {
+		return tradeTapes.computeIfAbsent(companyCode, k -> new TradeTape(MAX_TRADE_HISTORY));
 	}
 
 	/**
@@ -506,6 +570,7 @@ public class TradeHistoryService {
 			for (TimeFrame timeFrame : TimeFrame.values()) {
 				updateCandleWithTradeForTimeFrame(tradeHistory, companyCodeCandleMap, timeFrame);
 			}
+			marketDataVersions.increment(MarketDataVersions.chartKey(companyCode));
 		} finally {
 			lock.writeLock().unlock();
 		}
@@ -531,6 +596,7 @@ public class TradeHistoryService {
 			// 캔들이 없으면 새로 생성
 			final CandleDto newCandle = createCandleDto(candleTime, price, price, price, price, volume);
 			candles.add(newCandle);
+			onBarClosed(tradeHistory.getCompanyCode(), timeFrame, candles);
 		} else {
 			final CandleDto lastCandle = candles.get(candles.size() - 1);
 
@@ -554,6 +620,7 @@ public class TradeHistoryService {
 				// 새 캔들 생성
 				final CandleDto newCandle = createCandleDto(candleTime, price, price, price, price, volume);
 				candles.add(newCandle);
+				onBarClosed(tradeHistory.getCompanyCode(), timeFrame, candles);
 
 				// 캔들 목록 크기 제한
 				if (candles.size() > CANDLE_KEEP_NUMBER) {
@@ -570,45 +637,35 @@ public class TradeHistoryService {
 
 	/**
 	 * 차트 업데이트 전송
+	 * - 체결마다 바로 전송하지 않고 종목별 병합기에 누적 (병합 주기마다 한 프레임으로 전송)
 	 */
 	private void sendChartUpdates(final TradeHistory tradeHistory) {
 		final String companyCode = tradeHistory.getCompanyCode();
+		// 구독자가 없는 종목은 최신 캔들 수집과 병합 생략
+		if (!subscriptionRegistry.hasSubscribers(ChartTickConflator.CHART_DESTINATION + companyCode)) {
+			return;
+		}
 		final Double price = tradeHistory.getPrice() != null ? tradeHistory.getPrice().doubleValue() : DEFAULT_PRICE;
 		final Integer volume = tradeHistory.getQuantity() != null ? tradeHistory.getQuantity().intValue() : 0;
 
-		// 기본 업데이트 전송
-		final ChartUpdateDto basicUpdateDto = ChartUpdateDto.builder()
-				.price(price)
-				.volume(volume)
-				.build();
-		messagingTemplate.convertAndSend("/topic/chart/" + companyCode, basicUpdateDto);
-
 		// 회사별 락 획득 (읽기 락)
 		ReentrantReadWriteLock lock = companyLocks.computeIfAbsent(companyCode, k -> new ReentrantReadWriteLock());
 		lock.readLock().lock();
 
 		try {
-			// 각 타임프레임별 업데이트 전송
+			// 각 타임프레임별 최신 캔들 수집
+			final Map<TimeFrame, CandleDto> latestCandles = new EnumMap<>(TimeFrame.class);
 			final Map<TimeFrame, List<CandleDto>> companyCodeCandleMap = timeFrameCandleMap.get(companyCode);
 			if (companyCodeCandleMap != null) {
 				for (TimeFrame timeFrame : TimeFrame.values()) {
 					final List<CandleDto> candles = companyCodeCandleMap.get(timeFrame);
-					if (candles != null && !candles.isEmpty()) {
-						final CandleDto latestCandle = candles.get(candles.size() - 1);
-						if (latestCandle != null) {
-							final ChartUpdateDto timeframeUpdateDto = ChartUpdateDto.builder()
-									.price(latestCandle.close())
-									.volume(latestCandle.volume())
-									.timeCode(timeFrame.getTimeCode())
-									.build();
-
-							messagingTemplate.convertAndSend(
-									"/topic/chart/" + companyCode + "/" + timeFrame.getTimeCode(),
-									timeframeUpdateDto);
-						}
+					if (candles != null && !candles.isEmpty() && candles.get(candles.size() - 1) != null) {
+						latestCandles.put(timeFrame, candles.get(candles.size() - 1));
 					}
 				}
 			}
+
+			chartTickConflator.add(companyCode, price, volume, latestCandles);
 		} finally {
 			lock.readLock().unlock();
 		}
@@ -618,21 +675,7 @@ public class TradeHistoryService {
 	 * 차트 기록 조회 메소드 개선 - 데이터 일관성 보장
 	 */
 	public ChartResponseDto getChartHistory(final String companyCode, final String timeframeCode) {
-		TimeFrame requestedTimeFrame = null;
-
-		// 타임프레임 코드로 찾기
-		for (TimeFrame tf : TimeFrame.values()) {
-			if (tf.getTimeCode().equals(timeframeCode)) {
-				requestedTimeFrame = tf;
-				break;
-			}
-		}
-
-		// 타임프레임을 찾지 못했다면 기본값(15분) 설정
-		if (requestedTimeFrame == null) {
-			log.warn("요청된 타임프레임 코드 '{}'를 찾을 수 없습니다. 기본값(15분)을 사용합니다.", timeframeCode);
-			requestedTimeFrame = TimeFrame.MINUTE_15;
-		}
+		final TimeFrame requestedTimeFrame = resolveTimeFrame(timeframeCode);
 
 		// 종목별 락 획득 (읽기 락)
 		ReentrantReadWriteLock lock = companyLocks.computeIfAbsent(companyCode, k -> new ReentrantReadWriteLock());
@@ -669,6 +712,84 @@ public class TradeHistoryService {
 		}
 	}
 
+	/**
+	 * 차트 기록 조회 (직렬화된 JSON)
+	 * - 마감 캔들은 bar version 기준 캐시된 바이트를 재사용하고, 진행 중인 캔들만 직렬화
+	 * - 응답 형태는 getChartHistory 와 동일
+	 */
+	public byte[] getChartHistoryJson(final String companyCode, final String timeframeCode) {
+		final TimeFrame requestedTimeFrame = resolveTimeFrame(timeframeCode);
+
+		// 종목별 락 획득 (읽기 락) - 락 보유 중에는 캔들이 마감되지 않는다.
+		ReentrantReadWriteLock lock = companyLocks.computeIfAbsent(companyCode, k -> new ReentrantReadWriteLock());
+		lock.readLock().lock();
+
+		try {
+			final List<CandleDto> timeFrameCandles = getTimeFrameCandles(companyCode, requestedTimeFrame);
+
+			// 캔들이 비어있으면 현재 시간 기준으로 더미 데이터 생성
+			if (timeFrameCandles.isEmpty()) {
+				return chartHistoryCache.render(companyCode, requestedTimeFrame, List::of,
+						createDefaultCandle(requestedTimeFrame));
+			}
+
+			final int lastIndex = timeFrameCandles.size() - 1;
+			final CandleDto lastCandle = timeFrameCandles.get(lastIndex);
+			final CandleDto openCandle = createCandleDto(lastCandle.time(), lastCandle.open(), lastCandle.high(),
+					lastCandle.low(), lastCandle.close(), lastCandle.volume());
+
+			return chartHistoryCache.render(companyCode, requestedTimeFrame,
+					() -> processAndConvertValidCandles(timeFrameCandles.subList(0, lastIndex)), openCandle);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 보조지표 조회 (마감 캔들 기준)
+	 */
+	public IndicatorResponseDto getIndicators(
+			final String companyCode, final String timeframeCode, final List<IndicatorSpec> specs) {
+		if (!isKnownSymbol(companyCode)) {
+			throw new CompanyNotFound();
+		}
+		final TimeFrame requestedTimeFrame = resolveTimeFrame(timeframeCode);
+
+		return IndicatorResponseDto.builder()
+				.indicators(indicatorEngine.getIndicators(companyCode, requestedTimeFrame, specs))
+				.timeCode(requestedTimeFrame.getTimeCode())
+				.build();
+	}
+
+	/**
+	 * 구독자에게 보낼 보조지표 최신 값 조회 (구독 중인 지표 유지, 등록된 지표가 없으면 기본 지표)
+	 */
+	public IndicatorResponseDto getLatestIndicators(final String companyCode, final String timeframeCode) {
+		if (!isKnownSymbol(companyCode)) {
+			throw new CompanyNotFound();
+		}
+		final TimeFrame requestedTimeFrame = resolveTimeFrame(timeframeCode);
+
+		return IndicatorResponseDto.builder()
+				.indicators(indicatorEngine.getLatestForSubscribers(companyCode, requestedTimeFrame))
+				.timeCode(requestedTimeFrame.getTimeCode())
+				.build();
+	}
+
+	/**
+	 * 타임프레임 코드 변환 (찾지 못하면 기본값 15분)
+	 */
+	private TimeFrame resolveTimeFrame(final String timeframeCode) {
+		for (TimeFrame tf : TimeFrame.values()) {
+			if (tf.getTimeCode().equals(timeframeCode)) {
+				return tf;
+			}
+		}
+
+		log.warn("요청된 타임프레임 코드 '{}'를 찾을 수 없습니다. 기본값(15분)을 사용합니다.", timeframeCode);
+		return TimeFrame.MINUTE_15;
+	}
+
 	/**
 	 * 종목과 타임프레임에 맞는 캔들 데이터 조회
 	 */
@@ -729,13 +850,56 @@ public class TradeHistoryService {
 	}
 
 	/**
-	 * 전체 거래 내역 조회
+	 * 최근 거래 내역 조회 (최대 1000건, 이후 내역은 키셋 페이지 조회 사용)
 	 */
+	@Transactional(readOnly = true)
 	public List<TradeHistoryResponse> getTradeHistory() {
-		List<TradeHistory> tradeHistories = tradeHistoryRepository.getTradeHistory();
-		return tradeHistories.stream()
-				.map(this::convertToDto)
-				.collect(Collectors.toList());
+		final TradeHistorySearchCondition condition = TradeHistorySearchCondition.builder()
+				.size(TradeHistorySearchCondition.MAX_SIZE)
+				.build();
+		try (Stream<TradeHistory> tradeHistories = tradeHistoryRepository.streamTradeHistory(condition, condition.size())) {
+			return tradeHistories
+					.map(this::convertToDto)
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * 조건에 맞는 거래 내역을 키셋 페이지 단위로 조회하여 JSON 으로 바로 기록
+	 * - 결과를 리스트로 모으지 않고 DB 커서에서 읽는 대로 출력
+	 * - 형식: {"trades":[...],"nextCursor":"체결시간_체결ID" 또는 null}
+	 */
+	@Transactional(readOnly = true)
+	public void writeTradeHistory(final TradeHistorySearchCondition condition, final OutputStream outputStream)
+			throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+			 Stream<TradeHistory> tradeHistories =
+					 tradeHistoryRepository.streamTradeHistory(condition, condition.size() + 1)) {
+			// 응답 스트림은 호출자(컨테이너)가 닫음
+			generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("trades");
+
+			int written = 0;
+			TradeHistory last = null;
+			boolean hasNext = false;
+			for (Iterator<TradeHistory> iterator = tradeHistories.iterator(); iterator.hasNext(); ) {
+				final TradeHistory tradeHistory = iterator.next();
+				if (written == condition.size()) {
+					hasNext = true;
+					break;
+				}
+				generator.writeObject(convertToDto(tradeHistory));
+				last = tradeHistory;
+				written++;
+			}
+
+			generator.writeEndArray();
+			generator.writeStringField("nextCursor", hasNext
+					? TradeHistorySearchCondition.toCursor(last.getTradeTime(), last.getId())
+					: null);
+			generator.writeEndObject();
+		}
 	}
 
 	/**
@@ -0,0 +1,102 @@
+package org.scoula.backend.order.service;
+
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.dto.AccountNotificationDto;
+import org.scoula.backend.order.dto.AccountUpdatedEvent;
+import org.scoula.backend.order.dto.FillNotificationDto;
+import org.scoula.backend.order.dto.SelfTradePreventedEvent;
+import org.scoula.backend.order.dto.TradeSettledEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 개인 큐 통보
+ * - 체결 정산이 끝나면 매수자/매도자 각각에게 체결 내역(/user/queue/fills)과 잔고(/user/queue/account) 전송
+ * - 주문 접수로 예약 금액이 바뀌면 잔고 전송
+ * - 자전거래 방지로 주문이 취소되면 취소 내역(/user/queue/orders) 전송
+ * - 체결/잔고 통보는 커밋 후 전송 (롤백된 정산이 통보되지 않도록, 트랜잭션 밖에서 발행되면 즉시 전송)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserNotificationService {
+	public static final String FILLS_DESTINATION = "/queue/fills";
+	public static final String ACCOUNT_DESTINATION = "/queue/account";
+	public static final String ORDERS_DESTINATION = "/queue/orders";
+
+	private final SimpMessagingTemplate messagingTemplate;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTradeSettled(final TradeSettledEvent event) {
+		sendFill(event.tradeHistory(), event.buyOrder());
+		sendFill(event.tradeHistory(), event.sellOrder());
+		sendAccount(event.buyOrder(), event.buyerAccount());
+		sendAccount(event.sellOrder(), event.sellerAccount());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onAccountUpdated(final AccountUpdatedEvent event) {
+		send(event.username(), ACCOUNT_DESTINATION, AccountNotificationDto.from(event.account()));
+	}
+
+	@EventListener
+	public void onSelfTradePrevented(final SelfTradePreventedEvent event) {
+		if (event.username() == null) {
+			return;
+		}
+		send(event.username(), ORDERS_DESTINATION, event);
+	}
+
+	private void sendFill(final TradeHistory tradeHistory, final Order order) {
+		final String username = getUsername(order);
+		if (username == null) {
+			return;
+		}
+
+		send(username, FILLS_DESTINATION, FillNotificationDto.builder()
+				.tradeId(tradeHistory.getId())
+				.orderId(order.getId())
+				.companyCode(tradeHistory.getCompanyCode())
+				.type(order.getType())
+				.price(tradeHistory.getPrice())
+				.quantity(tradeHistory.getQuantity())
+				.remainingQuantity(order.getRemainingQuantity())
+				.status(order.getStatus())
+				.tradeTime(tradeHistory.getTradeTime())
+				.build());
+	}
+
+	private void sendAccount(final Order order, final Account settledAccount) {
+		final String username = getUsername(order);
+		final Account account = settledAccount != null ? settledAccount : order.getAccount();
+		if (username == null || account == null) {
+			return;
+		}
+
+		send(username, ACCOUNT_DESTINATION, AccountNotificationDto.from(account));
+	}
+
+	// 외부(KIS) 주문처럼 회원 계좌가 없는 주문은 통보 대상이 아님
+	private String getUsername(final Order order) {
+		if (order == null || order.getAccount() == null || order.getAccount().getMember() == null) {
+			return null;
+		}
+		return order.getAccount().getMember().getUsername();
+	}
+
+	private void send(final String username, final String destination, final Object payload) {
+		try {
+			messagingTemplate.convertAndSendToUser(username, destination, payload);
+		} catch (Exception e) {
+			log.error("사용자 통보 전송 실패: {}, {}", username, destination, e);
+		}
+	}
+}
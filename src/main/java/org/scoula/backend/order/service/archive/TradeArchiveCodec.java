@@ -0,0 +1,154 @@
+package org.scoula.backend.order.service.archive;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.scoula.backend.order.domain.TradeHistory;
+
+/**
+ * 일별 거래 내역 보관 파일 형식 (gzip 압축 컬럼 형식)
+ * - 헤더: MAGIC, 버전, 행 수, 종목코드 사전(코드, 행 수)
+ * - 본문: 컬럼별 연속 저장, 정수 컬럼은 직전 행과의 차이를 zigzag varint 로 기록
+ * - 행은 종목코드, 체결 시간, 체결 ID 순으로 정렬되어 있어야 함 (종목별 행이 연속)
+ */
+final class TradeArchiveCodec {
+
+	static final int MAGIC = 0x54524131; // "TRA1"
+	static final int VERSION = 1;
+
+	private TradeArchiveCodec() {
+	}
+
+	static void write(final OutputStream outputStream, final List<TradeHistory> trades) throws IOException {
+		final GZIPOutputStream gzip = new GZIPOutputStream(outputStream, 64 * 1024);
+		final DataOutputStream out = new DataOutputStream(gzip);
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeVarLong(out, trades.size());
+
+		// 종목코드 사전 (연속 구간 길이)
+		int dictionarySize = 0;
+		for (int i = 0; i < trades.size(); i++) {
+			if (i == 0 || !trades.get(i).getCompanyCode().equals(trades.get(i - 1).getCompanyCode())) {
+				dictionarySize++;
+			}
+		}
+		writeVarLong(out, dictionarySize);
+		int start = 0;
+		for (int i = 1; i <= trades.size(); i++) {
+			if (i == trades.size() || !trades.get(i).getCompanyCode().equals(trades.get(start).getCompanyCode())) {
+				out.writeUTF(trades.get(start).getCompanyCode());
+				writeVarLong(out, i - start);
+				start = i;
+			}
+		}
+
+		writeDeltaColumn(out, trades, TradeHistory::getTradeTime);
+		writeDeltaColumn(out, trades, TradeHistory::getId);
+		writeDeltaColumn(out, trades, TradeHistory::getBuyOrderId);
+		writeDeltaColumn(out, trades, TradeHistory::getSellOrderId);
+		writeDeltaColumn(out, trades, trade -> trade.getPrice().longValueExact());
+		writeDeltaColumn(out, trades, trade -> trade.getQuantity().longValueExact());
+
+		out.flush();
+		gzip.finish();
+	}
+
+	static TradeArchiveColumns read(final InputStream inputStream) throws IOException {
+		final DataInputStream in = new DataInputStream(new GZIPInputStream(inputStream, 64 * 1024));
+
+		if (in.readInt() != MAGIC) {
+			throw new IOException("거래 내역 보관 파일 형식이 아닙니다.");
+		}
+		final int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("지원하지 않는 보관 파일 버전입니다: " + version);
+		}
+
+		final int rowCount = (int)readVarLong(in);
+		final int dictionarySize = (int)readVarLong(in);
+		final String[] codes = new String[dictionarySize];
+		final int[] codeStarts = new int[dictionarySize];
+		final int[] codeCounts = new int[dictionarySize];
+		int start = 0;
+		for (int i = 0; i < dictionarySize; i++) {
+			codes[i] = in.readUTF();
+			codeStarts[i] = start;
+			codeCounts[i] = (int)readVarLong(in);
+			start += codeCounts[i];
+		}
+
+		return new TradeArchiveColumns(
+				rowCount,
+				codes,
+				codeStarts,
+				codeCounts,
+				readDeltaColumn(in, rowCount),
+				readDeltaColumn(in, rowCount),
+				readDeltaColumn(in, rowCount),
+				readDeltaColumn(in, rowCount),
+				readDeltaColumn(in, rowCount),
+				readDeltaColumn(in, rowCount)
+		);
+	}
+
+	private static void writeDeltaColumn(final DataOutputStream out, final List<TradeHistory> trades,
+			final LongColumn column) throws IOException {
+		long previous = 0;
+		for (TradeHistory trade : trades) {
+			final long value = column.get(trade);
+			writeVarLong(out, zigzag(value - previous));
+			previous = value;
+		}
+	}
+
+	private static long[] readDeltaColumn(final DataInputStream in, final int rowCount) throws IOException {
+		final long[] values = new long[rowCount];
+		long previous = 0;
+		for (int i = 0; i < rowCount; i++) {
+			previous += unzigzag(readVarLong(in));
+			values[i] = previous;
+		}
+		return values;
+	}
+
+	private static long zigzag(final long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(final long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarLong(final DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int)value);
+	}
+
+	private static long readVarLong(final DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			final int b = in.readUnsignedByte();
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("varint 형식이 올바르지 않습니다.");
+	}
+
+	@FunctionalInterface
+	private interface LongColumn {
+		long get(TradeHistory trade);
+	}
+}
@@ -0,0 +1,54 @@
+package org.scoula.backend.order.service.archive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.scoula.backend.order.domain.TradeHistory;
+
+/**
+ * 보관 파일에서 읽은 하루치 거래 내역 (컬럼 배열)
+ */
+record TradeArchiveColumns(
+		int rowCount,
+		String[] codes,
+		int[] codeStarts,
+		int[] codeCounts,
+		long[] tradeTimes,
+		long[] ids,
+		long[] buyOrderIds,
+		long[] sellOrderIds,
+		long[] prices,
+		long[] quantities
+) {
+	/**
+	 * 종목의 행 범위 [start, end), 없으면 null
+	 */
+	int[] rangeOf(final String companyCode) {
+		for (int i = 0; i < codes.length; i++) {
+			if (codes[i].equals(companyCode)) {
+				return new int[] {codeStarts[i], codeStarts[i] + codeCounts[i]};
+			}
+		}
+		return null;
+	}
+
+	List<TradeHistory> toTradeHistories() {
+		final List<TradeHistory> trades = new ArrayList<>(rowCount);
+		for (int code = 0; code < codes.length; code++) {
+			for (int row = codeStarts[code]; row < codeStarts[code] + codeCounts[code]; row++) {
+				trades.add(TradeHistory.builder()
+						.id(ids[row])
+						.companyCode(codes[code])
+						.buyOrderId(buyOrderIds[row])
+						.sellOrderId(sellOrderIds[row])
+						.price(BigDecimal.valueOf(prices[row]))
+						.quantity(BigDecimal.valueOf(quantities[row]))
+						.tradeTime(tradeTimes[row])
+						.tradeDate(TradeHistory.toTradeDate(tradeTimes[row]))
+						.build());
+			}
+		}
+		return trades;
+	}
+}
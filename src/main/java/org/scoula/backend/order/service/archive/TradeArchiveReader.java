@@ -0,0 +1,147 @@
+package org.scoula.backend.order.service.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.service.exception.InvalidTradeHistoryQueryException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관된 거래 내역 조회
+ * - 일별 보관 파일에서 종목 구간만 읽어 캔들로 집계 (DB 조회 없음)
+ * - 보관 파일은 변경되지 않으므로 최근 읽은 며칠치를 메모리에 유지
+ */
+@Component
+public class TradeArchiveReader {
+
+	public static final int MAX_DAYS = 31;
+	private static final int CACHED_DAYS = 8;
+
+	private final Path directory;
+	private final Map<LocalDate, TradeArchiveColumns> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<LocalDate, TradeArchiveColumns> eldest) {
+			return size() > CACHED_DAYS;
+		}
+	};
+
+	public TradeArchiveReader(@Value("${trade.archive.directory:./archive/trade-history}") final String directory) {
+		this.directory = Paths.get(directory);
+	}
+
+	/**
+	 * 기간 내 보관된 거래 내역을 타임프레임 캔들로 집계 (거래가 없는 구간은 생략)
+	 */
+	public List<CandleDto> getArchivedCandles(final String companyCode, final String timeFrameCode,
+			final LocalDate from, final LocalDate to) {
+		final TimeFrame timeFrame = resolveTimeFrame(timeFrameCode);
+		if (from.isAfter(to)) {
+			throw new InvalidTradeHistoryQueryException("조회 시작일이 종료일보다 늦습니다.");
+		}
+		if (from.plusDays(MAX_DAYS).isBefore(to)) {
+			throw new InvalidTradeHistoryQueryException("보관 데이터는 최대 " + MAX_DAYS + "일까지 조회할 수 있습니다.");
+		}
+
+		final long seconds = timeFrame.getSeconds();
+		final List<CandleDto> candles = new ArrayList<>();
+		long candleTime = -1;
+		double open = 0, high = 0, low = 0, close = 0;
+		int volume = 0;
+
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			final TradeArchiveColumns columns = load(date);
+			final int[] range = columns != null ? columns.rangeOf(companyCode) : null;
+			if (range == null) {
+				continue;
+			}
+
+			for (int row = range[0]; row < range[1]; row++) {
+				final long time = columns.tradeTimes()[row] - columns.tradeTimes()[row] % seconds;
+				final double price = columns.prices()[row];
+				if (time != candleTime) {
+					if (candleTime >= 0) {
+						candles.add(toCandle(candleTime, open, high, low, close, volume));
+					}
+					candleTime = time;
+					open = high = low = close = price;
+					volume = 0;
+				}
+				high = Math.max(high, price);
+				low = Math.min(low, price);
+				close = price;
+				volume += (int)columns.quantities()[row];
+			}
+		}
+
+		if (candleTime >= 0) {
+			candles.add(toCandle(candleTime, open, high, low, close, volume));
+		}
+		return candles;
+	}
+
+	/**
+	 * 보관 파일이 새로 쓰이면 해당 일자 캐시 제거
+	 */
+	public void evict(final LocalDate tradeDate) {
+		synchronized (cache) {
+			cache.remove(tradeDate);
+		}
+	}
+
+	private TradeArchiveColumns load(final LocalDate tradeDate) {
+		synchronized (cache) {
+			final TradeArchiveColumns cached = cache.get(tradeDate);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		final Path file = TradeHistoryArchiver.resolveFile(directory, tradeDate);
+		if (!Files.exists(file)) {
+			return null;
+		}
+
+		try (InputStream in = Files.newInputStream(file)) {
+			final TradeArchiveColumns columns = TradeArchiveCodec.read(in);
+			synchronized (cache) {
+				cache.put(tradeDate, columns);
+			}
+			return columns;
+		} catch (IOException e) {
+			throw new UncheckedIOException("보관 파일을 읽을 수 없습니다: " + file, e);
+		}
+	}
+
+	private CandleDto toCandle(final long time, final double open, final double high, final double low,
+			final double close, final int volume) {
+		return CandleDto.builder()
+				.time(time)
+				.open(open)
+				.high(high)
+				.low(low)
+				.close(close)
+				.volume(volume)
+				.build();
+	}
+
+	private TimeFrame resolveTimeFrame(final String timeFrameCode) {
+		for (TimeFrame timeFrame : TimeFrame.values()) {
+			if (timeFrame.getTimeCode().equals(timeFrameCode)) {
+				return timeFrame;
+			}
+		}
+		throw new InvalidTradeHistoryQueryException("지원하지 않는 타임프레임입니다: " + timeFrameCode);
+	}
+}
@@ -0,0 +1,132 @@
+package org.scoula.backend.order.service.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.service.TradeHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래 내역 일별 보관 처리
+ * - 보관 기간(retention-days)이 지난 체결일의 거래 내역을 압축 컬럼 파일로 옮긴 뒤 DB에서 삭제
+ * - 파일은 임시 파일에 쓴 뒤 원자적으로 교체하고, 다시 읽어 행 수를 확인한 후에만 DB 행을 삭제
+ */
+@Slf4j
+@Component
+public class TradeHistoryArchiver {
+
+	private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final Comparator<TradeHistory> ARCHIVE_ORDER = Comparator
+			.comparing(TradeHistory::getCompanyCode)
+			.thenComparing(TradeHistory::getTradeTime)
+			.thenComparing(TradeHistory::getId);
+
+	private final TradeHistoryRepository tradeHistoryRepository;
+	private final TradeArchiveReader tradeArchiveReader;
+	private final Path directory;
+	private final int retentionDays;
+
+	public TradeHistoryArchiver(
+			final TradeHistoryRepository tradeHistoryRepository,
+			final TradeArchiveReader tradeArchiveReader,
+			@Value("${trade.archive.directory:./archive/trade-history}") final String directory,
+			@Value("${trade.archive.retention-days:7}") final int retentionDays) {
+		this.tradeHistoryRepository = tradeHistoryRepository;
+		this.tradeArchiveReader = tradeArchiveReader;
+		this.directory = Paths.get(directory);
+		this.retentionDays = retentionDays;
+	}
+
+	/**
+	 * 보관 기간이 지난 체결일을 오래된 순으로 보관 (실패하면 다음 실행에서 재시도)
+	 */
+	@Scheduled(cron = "${trade.archive.cron:0 30 0 * * *}", zone = "Asia/Seoul")
+	public void archiveExpired() {
+		final LocalDate cutoff = LocalDate.now(TradeHistory.TRADE_ZONE).minusDays(retentionDays);
+		for (LocalDate tradeDate : tradeHistoryRepository.findTradeDatesBefore(cutoff)) {
+			try {
+				archive(tradeDate);
+			} catch (Exception e) {
+				log.error("거래 내역 보관 중 오류 발생: 체결일={}, 오류={}", tradeDate, e.getMessage(), e);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 체결일 하루치 거래 내역 보관 후 DB에서 삭제
+	 *
+	 * @return 보관된 거래 건수
+	 */
+	public int archive(final LocalDate tradeDate) throws IOException {
+		final List<TradeHistory> trades = tradeHistoryRepository.findByTradeDate(tradeDate);
+		if (trades.isEmpty()) {
+			return 0;
+		}
+
+		final Path target = resolveFile(directory, tradeDate);
+		final List<TradeHistory> merged = mergeWithExisting(target, trades);
+		merged.sort(ARCHIVE_ORDER);
+
+		Files.createDirectories(directory);
+		final Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				TradeArchiveCodec.write(out, merged);
+			}
+			try (InputStream in = Files.newInputStream(temp)) {
+				final int written = TradeArchiveCodec.read(in).rowCount();
+				if (written != merged.size()) {
+					throw new IOException("보관 파일 행 수 불일치: " + written + " != " + merged.size());
+				}
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		tradeArchiveReader.evict(tradeDate);
+
+		final int deleted = tradeHistoryRepository.deleteByTradeDate(tradeDate);
+		log.info("거래 내역 보관 완료: 체결일={}, 보관={}건, 삭제={}건, 파일={}",
+				tradeDate, merged.size(), deleted, target);
+		return trades.size();
+	}
+
+	static Path resolveFile(final Path directory, final LocalDate tradeDate) {
+		return directory.resolve("trade_history_" + tradeDate.format(FILE_DATE) + ".tcol.gz");
+	}
+
+	/**
+	 * 이전 실행에서 파일만 쓰고 삭제하지 못한 경우를 위해 기존 파일과 합침 (체결 ID 기준 중복 제거)
+	 */
+	private List<TradeHistory> mergeWithExisting(final Path target, final List<TradeHistory> trades)
+			throws IOException {
+		if (!Files.exists(target)) {
+			return new ArrayList<>(trades);
+		}
+
+		final Map<Long, TradeHistory> byId = new LinkedHashMap<>();
+		try (InputStream in = Files.newInputStream(target)) {
+			TradeArchiveCodec.read(in).toTradeHistories().forEach(trade -> byId.put(trade.getId(), trade));
+		}
+		trades.forEach(trade -> byId.put(trade.getId(), trade));
+		return new ArrayList<>(byId.values());
+	}
+}
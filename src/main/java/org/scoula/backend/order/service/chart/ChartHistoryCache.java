@@ -0,0 +1,140 @@
+package org.scoula.backend.order.service.chart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목/타임프레임별 차트 응답 캐시
+ * - 마감된 캔들은 직렬화된 JSON 바이트로 보관하고, 캔들이 마감될 때(bar version 증가)만 다시 직렬화
+ * - 진행 중인 캔들만 요청마다 직렬화하여 이어 붙인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartHistoryCache {
+
+	private static final byte[] CANDLES_PREFIX = "{\"candles\":[".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] TIME_CODE_PREFIX = "],\"timeCode\":".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+	private static final byte SEPARATOR = ',';
+
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, Map<TimeFrame, Slot>> slots = new ConcurrentHashMap<>();
+
+	/**
+	 * 캔들 마감 - bar version 증가로 마감 캔들 캐시 무효화
+	 */
+	public void barClosed(final String companyCode, final TimeFrame timeFrame) {
+		getSlot(companyCode, timeFrame).barVersion.incrementAndGet();
+	}
+
+	/**
+	 * 현재 bar version 조회
+	 */
+	public long getBarVersion(final String companyCode, final TimeFrame timeFrame) {
+		return getSlot(companyCode, timeFrame).barVersion.get();
+	}
+
+	/**
+	 * 차트 응답 JSON 생성
+	 * - 호출자는 캔들 목록에 대한 읽기 락을 보유하고 있어야 한다. (락 보유 중에는 bar version이 바뀌지 않음)
+	 *
+	 * @param closedCandles 마감 캔들 목록 (캐시 미스 시에만 호출)
+	 * @param openCandle    진행 중인 캔들
+	 * @return ChartResponseDto 와 동일한 형태의 JSON 바이트
+	 */
+	public byte[] render(final String companyCode, final TimeFrame timeFrame,
+			final Supplier<List<CandleDto>> closedCandles, final CandleDto openCandle) {
+		final byte[] closedBars = getSlot(companyCode, timeFrame).getClosedBars(closedCandles);
+		final byte[] openBar = writeBytes(openCandle);
+		final byte[] timeCode = writeBytes(timeFrame.getTimeCode());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(
+				CANDLES_PREFIX.length + closedBars.length + openBar.length + timeCode.length + 16);
+		out.writeBytes(CANDLES_PREFIX);
+		out.writeBytes(closedBars);
+		if (closedBars.length > 0) {
+			out.write(SEPARATOR);
+		}
+		out.writeBytes(openBar);
+		out.writeBytes(TIME_CODE_PREFIX);
+		out.writeBytes(timeCode);
+		out.writeBytes(SUFFIX);
+		return out.toByteArray();
+	}
+
+	/**
+	 * 종목의 캐시 제거
+	 */
+	public void evict(final String companyCode) {
+		slots.remove(companyCode);
+	}
+
+	private Slot getSlot(final String companyCode, final TimeFrame timeFrame) {
+		return slots.computeIfAbsent(companyCode, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(timeFrame, k -> new Slot());
+	}
+
+	/**
+	 * 캔들 목록을 대괄호 없이 콤마로 연결한 JSON 조각으로 직렬화
+	 */
+	private byte[] serializeCandles(final List<CandleDto> candles) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(candles.size() * 96);
+		for (int i = 0; i < candles.size(); i++) {
+			if (i > 0) {
+				out.write(SEPARATOR);
+			}
+			out.writeBytes(writeBytes(candles.get(i)));
+		}
+		return out.toByteArray();
+	}
+
+	private byte[] writeBytes(final Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 종목/타임프레임 단위 캐시 슬롯
+	 */
+	private final class Slot {
+		private final AtomicLong barVersion = new AtomicLong();
+		private volatile CachedBars cachedBars;
+
+		private byte[] getClosedBars(final Supplier<List<CandleDto>> closedCandles) {
+			final long version = barVersion.get();
+			final CachedBars current = cachedBars;
+			if (current != null && current.barVersion() == version) {
+				return current.json();
+			}
+
+			final byte[] json = serializeCandles(closedCandles.get());
+			cachedBars = new CachedBars(version, json);
+			log.debug("마감 캔들 직렬화 캐시 갱신: version={}, bytes={}", version, json.length);
+			return json;
+		}
+	}
+
+	private record CachedBars(long barVersion, byte[] json) {
+	}
+}
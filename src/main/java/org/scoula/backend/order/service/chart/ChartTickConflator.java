@@ -0,0 +1,110 @@
+package org.scoula.backend.order.service.chart;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.ChartTickDto;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목별 실시간 차트 틱 병합기
+ * - 체결마다 바로 전송하지 않고 병합 주기 동안 누적한 뒤 종목당 하나의 프레임으로 전송
+ * - 거래량은 합산되므로 병합 과정에서 누락되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartTickConflator {
+
+	public static final String CHART_DESTINATION = "/topic/chart/";
+
+	private final SimpMessagingTemplate messagingTemplate;
+
+	private final Map<String, TickAccumulator> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * 체결 반영
+	 *
+	 * @param latestCandles 체결 반영 후 타임프레임별 최신 캔들
+	 */
+	public void add(final String companyCode, final double price, final int volume,
+			final Map<TimeFrame, CandleDto> latestCandles) {
+		pending.compute(companyCode, (code, accumulator) -> {
+			final TickAccumulator target = accumulator != null ? accumulator : new TickAccumulator(price);
+			target.merge(price, volume, latestCandles);
+			return target;
+		});
+	}
+
+	/**
+	 * 병합 주기마다 누적된 틱 전송
+	 */
+	@Scheduled(fixedRateString = "${chart.conflation.window-ms:200}")
+	public void flush() {
+		for (String companyCode : pending.keySet()) {
+			final TickAccumulator accumulator = pending.remove(companyCode);
+			if (accumulator == null) {
+				continue;
+			}
+
+			try {
+				messagingTemplate.convertAndSend(CHART_DESTINATION + companyCode, accumulator.toDto());
+			} catch (Exception e) {
+				log.error("종목 {}의 차트 틱 전송 중 오류 발생: {}", companyCode, e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * 병합 주기 동안의 종목별 누적값 (ConcurrentHashMap compute 안에서만 변경)
+	 */
+	private static final class TickAccumulator {
+		private final double open;
+		private double high;
+		private double low;
+		private double close;
+		private int volume;
+		private int tradeCount;
+		private final Map<TimeFrame, CandleDto> latestCandles = new EnumMap<>(TimeFrame.class);
+
+		private TickAccumulator(final double open) {
+			this.open = open;
+			this.high = open;
+			this.low = open;
+			this.close = open;
+		}
+
+		private void merge(final double price, final int volume, final Map<TimeFrame, CandleDto> candles) {
+			this.high = Math.max(this.high, price);
+			this.low = Math.min(this.low, price);
+			this.close = price;
+			this.volume += volume;
+			this.tradeCount++;
+			this.latestCandles.putAll(candles);
+		}
+
+		private ChartTickDto toDto() {
+			final Map<String, CandleDto> candles = new LinkedHashMap<>();
+			latestCandles.forEach((timeFrame, candle) -> candles.put(timeFrame.getTimeCode(), candle));
+
+			return ChartTickDto.builder()
+					.price(close)
+					.volume(volume)
+					.open(open)
+					.high(high)
+					.low(low)
+					.tradeCount(tradeCount)
+					.candles(candles)
+					.build();
+		}
+	}
+}
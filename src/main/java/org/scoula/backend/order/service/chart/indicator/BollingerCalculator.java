@@ -0,0 +1,29 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.Map;
+
+final class BollingerCalculator implements IndicatorCalculator {
+	private final RollingWindow window;
+	private final double multiplier;
+
+	BollingerCalculator(final int period, final double multiplier) {
+		this.window = new RollingWindow(period);
+		this.multiplier = multiplier;
+	}
+
+	@Override
+	public Map<String, Double> update(final double close) {
+		window.add(close);
+		if (!window.isFull()) {
+			return null;
+		}
+
+		final double middle = window.mean();
+		final double width = multiplier * window.standardDeviation();
+		return Map.of(
+				"middle", middle,
+				"upper", middle + width,
+				"lower", middle - width
+		);
+	}
+}
@@ -0,0 +1,39 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.Map;
+
+/**
+ * 지수 이동평균 - 첫 기간은 단순 평균으로 시드
+ */
+final class EmaCalculator implements IndicatorCalculator {
+	private final int period;
+	private final double alpha;
+	private int count;
+	private double seedSum;
+	private double value;
+
+	EmaCalculator(final int period) {
+		this.period = period;
+		this.alpha = 2.0 / (period + 1);
+	}
+
+	@Override
+	public Map<String, Double> update(final double close) {
+		final Double ema = next(close);
+		return ema != null ? Map.of("value", ema) : null;
+	}
+
+	Double next(final double close) {
+		if (count < period) {
+			count++;
+			seedSum += close;
+			if (count < period) {
+				return null;
+			}
+			value = seedSum / period;
+			return value;
+		}
+		value += alpha * (close - value);
+		return value;
+	}
+}
@@ -0,0 +1,29 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.Map;
+
+import org.scoula.backend.order.domain.IndicatorType;
+
+/**
+ * 봉 단위 증분 보조지표 계산기 (봉 하나당 O(1))
+ */
+interface IndicatorCalculator {
+
+	/**
+	 * 마감된 봉의 종가 반영
+	 *
+	 * @return 지표 값, 워밍업 구간이면 null
+	 */
+	Map<String, Double> update(double close);
+
+	static IndicatorCalculator of(final IndicatorSpec spec) {
+		final IndicatorType type = spec.type();
+		return switch (type) {
+			case SMA -> new SmaCalculator(spec.period(0));
+			case EMA -> new EmaCalculator(spec.period(0));
+			case RSI -> new RsiCalculator(spec.period(0));
+			case MACD -> new MacdCalculator(spec.period(0), spec.period(1), spec.period(2));
+			case BOLLINGER -> new BollingerCalculator(spec.period(0), spec.params().get(1));
+		};
+	}
+}
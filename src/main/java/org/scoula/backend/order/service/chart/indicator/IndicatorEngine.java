@@ -0,0 +1,238 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.IndicatorPointDto;
+import org.scoula.backend.order.dto.IndicatorSeriesDto;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캔들 마감 시 증분 계산되는 보조지표 엔진
+ * - (종목, 타임프레임, 지표, 파라미터) 별로 롤링 상태를 유지하여 봉 하나당 O(1) 로 갱신
+ * - 지표는 조회 시 처음 등록되며, 보관 중인 최근 종가로 워밍업한다.
+ * - 종목/타임프레임 별 등록 지표 수에 상한을 두고, 한동안 조회되지 않은 지표는 해제한다.
+ * - 웹소켓 구독자에게 푸시하는 동안에는 조회된 것으로 보고, 등록된 지표가 없으면 기본 지표를 등록한다.
+ */
+@Slf4j
+@Component
+public class IndicatorEngine {
+
+	private static final int MAX_POINTS = 100; // 지표별 보관 포인트 수
+	private static final int WARM_UP_BARS = 500; // 신규 지표 워밍업용 종가 보관 수
+	static final int MAX_SPECS_PER_SERIES = 16; // 종목/타임프레임 별 등록 지표 수 상한
+	static final long SPEC_IDLE_MILLIS = 30 * 60 * 1000L; // 이 시간 동안 조회되지 않은 지표는 해제
+
+	private final Map<String, Map<TimeFrame, SeriesState>> states = new ConcurrentHashMap<>();
+	private final LongSupplier clock;
+
+	public IndicatorEngine() {
+		this(System::currentTimeMillis);
+	}
+
+	IndicatorEngine(final LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * 캔들 마감 반영
+	 * - 마지막(진행 중) 캔들을 제외하고 아직 반영하지 않은 마감 캔들만 순서대로 반영
+	 *
+	 * @param candles 시간순으로 정렬된 캔들 목록 (마지막 캔들은 진행 중인 캔들)
+	 */
+	public void onBarClosed(final String companyCode, final TimeFrame timeFrame, final List<CandleDto> candles) {
+		if (candles == null || candles.size() < 2) {
+			return;
+		}
+
+		final SeriesState state = getState(companyCode, timeFrame);
+		synchronized (state) {
+			// 조회되지 않는 지표는 더 이상 계산하지 않음
+			state.evictIdle(clock.getAsLong());
+			final int lastClosedIndex = candles.size() - 2;
+
+			// 마지막으로 반영한 캔들 이후의 시작 위치 탐색 (새로 마감된 캔들 수만큼만 역방향 탐색)
+			int start = lastClosedIndex + 1;
+			while (start > 0 && isAfter(candles.get(start - 1), state.lastFedTime)) {
+				start--;
+			}
+
+			for (int i = start; i <= lastClosedIndex; i++) {
+				final CandleDto candle = candles.get(i);
+				if (candle != null && candle.time() != null && candle.close() != null) {
+					state.feed(candle.time(), candle.close());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 보조지표 조회 (미등록 지표는 등록 후 워밍업)
+	 */
+	public List<IndicatorSeriesDto> getIndicators(
+			final String companyCode, final TimeFrame timeFrame, final Collection<IndicatorSpec> specs) {
+		final SeriesState state = getState(companyCode, timeFrame);
+		synchronized (state) {
+			final List<IndicatorSeriesDto> result = new ArrayList<>(specs.size());
+			for (IndicatorSpec spec : specs) {
+				result.add(state.getOrRegister(spec, clock.getAsLong()).toDto(false));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * 등록된 지표의 최신 값 조회 (마감 캔들 푸시용)
+	 */
+	public List<IndicatorSeriesDto> getLatest(final String companyCode, final TimeFrame timeFrame) {
+		final Map<TimeFrame, SeriesState> companyStates = states.get(companyCode);
+		final SeriesState state = companyStates != null ? companyStates.get(timeFrame) : null;
+		if (state == null) {
+			return List.of();
+		}
+
+		synchronized (state) {
+			return state.series.values().stream()
+					.map(series -> series.toDto(true))
+					.toList();
+		}
+	}
+
+	/**
+	 * 구독자 푸시용 최신 값 조회
+	 * - 구독 중에는 지표가 해제되지 않도록 조회 시각 갱신
+	 * - 등록된 지표가 없으면 기본 지표를 등록 후 워밍업 (REST 조회 없이 구독만 하는 클라이언트)
+	 */
+	public List<IndicatorSeriesDto> getLatestForSubscribers(final String companyCode, final TimeFrame timeFrame) {
+		final SeriesState state = getState(companyCode, timeFrame);
+		synchronized (state) {
+			final long now = clock.getAsLong();
+			if (state.series.isEmpty()) {
+				IndicatorSpec.DEFAULTS.forEach(spec -> state.getOrRegister(spec, now));
+			}
+			return state.series.values().stream()
+					.map(series -> {
+						series.lastRequestedAt = now;
+						return series.toDto(true);
+					})
+					.toList();
+		}
+	}
+
+	private SeriesState getState(final String companyCode, final TimeFrame timeFrame) {
+		return states.computeIfAbsent(companyCode, k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(timeFrame, k -> new SeriesState());
+	}
+
+	private boolean isAfter(final CandleDto candle, final long time) {
+		return candle == null || candle.time() == null || candle.time() > time;
+	}
+
+	/**
+	 * 종목/타임프레임 단위 지표 상태
+	 */
+	private static final class SeriesState {
+		private long lastFedTime = Long.MIN_VALUE;
+		private final long[] times = new long[WARM_UP_BARS];
+		private final double[] closes = new double[WARM_UP_BARS];
+		private int closeCount;
+		// 조회 순서 유지 (가장 오래 조회되지 않은 지표가 맨 앞)
+		private final Map<IndicatorSpec, IndicatorSeries> series = new LinkedHashMap<>(16, 0.75f, true);
+
+		private void feed(final long time, final double close) {
+			final int slot = closeCount % WARM_UP_BARS;
+			times[slot] = time;
+			closes[slot] = close;
+			closeCount++;
+			lastFedTime = time;
+
+			for (IndicatorSeries indicatorSeries : series.values()) {
+				indicatorSeries.feed(time, close);
+			}
+		}
+
+		private void evictIdle(final long now) {
+			series.values().removeIf(indicatorSeries -> now - indicatorSeries.lastRequestedAt > SPEC_IDLE_MILLIS);
+		}
+
+		private IndicatorSeries getOrRegister(final IndicatorSpec spec, final long now) {
+			IndicatorSeries indicatorSeries = series.get(spec);
+			if (indicatorSeries != null) {
+				indicatorSeries.lastRequestedAt = now;
+				return indicatorSeries;
+			}
+
+			// 상한에 도달하면 가장 오래 조회되지 않은 지표부터 해제
+			evictIdle(now);
+			while (series.size() >= MAX_SPECS_PER_SERIES) {
+				final IndicatorSpec eldest = series.keySet().iterator().next();
+				series.remove(eldest);
+				log.debug("보조지표 해제 (등록 수 상한): {}", eldest.name());
+			}
+
+			indicatorSeries = new IndicatorSeries(spec, now);
+			// 보관 중인 종가로 워밍업
+			final int size = Math.min(closeCount, WARM_UP_BARS);
+			for (int i = closeCount - size; i < closeCount; i++) {
+				indicatorSeries.feed(times[i % WARM_UP_BARS], closes[i % WARM_UP_BARS]);
+			}
+			series.put(spec, indicatorSeries);
+			log.debug("보조지표 등록: {}, 워밍업 봉 수={}", spec.name(), size);
+			return indicatorSeries;
+		}
+	}
+
+	/**
+	 * 지표 하나의 계산기와 최근 계산 결과
+	 */
+	private static final class IndicatorSeries {
+		private final IndicatorSpec spec;
+		private final IndicatorCalculator calculator;
+		private final Deque<IndicatorPointDto> points = new ArrayDeque<>();
+		private long lastRequestedAt;
+
+		private IndicatorSeries(final IndicatorSpec spec, final long requestedAt) {
+			this.spec = spec;
+			this.calculator = IndicatorCalculator.of(spec);
+			this.lastRequestedAt = requestedAt;
+		}
+
+		private void feed(final long time, final double close) {
+			final Map<String, Double> values = calculator.update(close);
+			if (values == null) {
+				return;
+			}
+
+			points.addLast(IndicatorPointDto.builder()
+					.time(time)
+					.values(values)
+					.build());
+			if (points.size() > MAX_POINTS) {
+				points.removeFirst();
+			}
+		}
+
+		private IndicatorSeriesDto toDto(final boolean latestOnly) {
+			final List<IndicatorPointDto> result = latestOnly
+					? (points.isEmpty() ? List.of() : List.of(points.peekLast()))
+					: new ArrayList<>(points);
+			return IndicatorSeriesDto.builder()
+					.name(spec.name())
+					.type(spec.type().name())
+					.params(spec.params())
+					.points(result)
+					.build();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.scoula.backend.order.domain.IndicatorType;
+import org.scoula.backend.order.service.exception.InvalidIndicatorException;
+
+/**
+ * 보조지표 종류와 파라미터
+ * - 문자열 형식: TYPE[:param[:param...]] (예: SMA:20, MACD:12:26:9, BOLLINGER:20:2)
+ * - 생략된 파라미터는 기본값으로 채워 동일한 지표는 항상 같은 키를 가진다.
+ */
+public record IndicatorSpec(IndicatorType type, List<Double> params) {
+
+	private static final int MAX_PERIOD = 500;
+
+	public static final List<IndicatorSpec> DEFAULTS = List.of(
+			new IndicatorSpec(IndicatorType.SMA, IndicatorType.SMA.getDefaultParams()),
+			new IndicatorSpec(IndicatorType.EMA, IndicatorType.EMA.getDefaultParams()),
+			new IndicatorSpec(IndicatorType.RSI, IndicatorType.RSI.getDefaultParams()),
+			new IndicatorSpec(IndicatorType.MACD, IndicatorType.MACD.getDefaultParams()),
+			new IndicatorSpec(IndicatorType.BOLLINGER, IndicatorType.BOLLINGER.getDefaultParams())
+	);
+
+	public static IndicatorSpec parse(final String value) {
+		if (value == null || value.isBlank()) {
+			throw new InvalidIndicatorException(String.valueOf(value));
+		}
+
+		final String[] tokens = value.trim().split(":");
+		final IndicatorType type;
+		try {
+			type = IndicatorType.valueOf(tokens[0].trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidIndicatorException(value);
+		}
+
+		final List<Double> defaults = type.getDefaultParams();
+		if (tokens.length - 1 > defaults.size()) {
+			throw new InvalidIndicatorException(value);
+		}
+
+		final List<Double> params = new ArrayList<>(defaults);
+		for (int i = 1; i < tokens.length; i++) {
+			try {
+				params.set(i - 1, Double.parseDouble(tokens[i].trim()));
+			} catch (NumberFormatException e) {
+				throw new InvalidIndicatorException(value);
+			}
+		}
+
+		final IndicatorSpec spec = new IndicatorSpec(type, List.copyOf(params));
+		spec.validate(value);
+		return spec;
+	}
+
+	public String name() {
+		return type.name() + params.stream()
+				.map(IndicatorSpec::formatParam)
+				.collect(Collectors.joining(",", "(", ")"));
+	}
+
+	int period(final int index) {
+		return params.get(index).intValue();
+	}
+
+	private void validate(final String value) {
+		// 볼린저 밴드의 두 번째 파라미터(표준편차 배수)를 제외하면 모두 기간
+		final int periodCount = type == IndicatorType.BOLLINGER ? 1 : params.size();
+		for (int i = 0; i < periodCount; i++) {
+			final double period = params.get(i);
+			if (period != Math.rint(period) || period < 1 || period > MAX_PERIOD) {
+				throw new InvalidIndicatorException(value);
+			}
+		}
+
+		if (type == IndicatorType.BOLLINGER && (params.get(1) <= 0 || params.get(1).isInfinite())) {
+			throw new InvalidIndicatorException(value);
+		}
+
+		if (type == IndicatorType.MACD && period(0) >= period(1)) {
+			throw new InvalidIndicatorException(value);
+		}
+	}
+
+	private static String formatParam(final Double param) {
+		return param == Math.rint(param) ? String.valueOf(param.longValue()) : String.valueOf(param);
+	}
+}
@@ -0,0 +1,36 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.Map;
+
+final class MacdCalculator implements IndicatorCalculator {
+	private final EmaCalculator fast;
+	private final EmaCalculator slow;
+	private final EmaCalculator signal;
+
+	MacdCalculator(final int fastPeriod, final int slowPeriod, final int signalPeriod) {
+		this.fast = new EmaCalculator(fastPeriod);
+		this.slow = new EmaCalculator(slowPeriod);
+		this.signal = new EmaCalculator(signalPeriod);
+	}
+
+	@Override
+	public Map<String, Double> update(final double close) {
+		final Double fastValue = fast.next(close);
+		final Double slowValue = slow.next(close);
+		if (fastValue == null || slowValue == null) {
+			return null;
+		}
+
+		final double macd = fastValue - slowValue;
+		final Double signalValue = signal.next(macd);
+		if (signalValue == null) {
+			return null;
+		}
+
+		return Map.of(
+				"macd", macd,
+				"signal", signalValue,
+				"histogram", macd - signalValue
+		);
+	}
+}
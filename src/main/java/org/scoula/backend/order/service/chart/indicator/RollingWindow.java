@@ -0,0 +1,46 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+/**
+ * 고정 크기 원형 버퍼 (합계/제곱합 유지)
+ */
+final class RollingWindow {
+	private final double[] values;
+	private int index;
+	private int count;
+	private double sum;
+	private double sumOfSquares;
+
+	RollingWindow(final int size) {
+		this.values = new double[size];
+	}
+
+	void add(final double value) {
+		if (count == values.length) {
+			final double evicted = values[index];
+			sum -= evicted;
+			sumOfSquares -= evicted * evicted;
+		} else {
+			count++;
+		}
+		values[index] = value;
+		index = (index + 1) % values.length;
+		sum += value;
+		sumOfSquares += value * value;
+	}
+
+	boolean isFull() {
+		return count == values.length;
+	}
+
+	double mean() {
+		return sum / count;
+	}
+
+	/**
+	 * 모표준편차
+	 */
+	double standardDeviation() {
+		final double mean = mean();
+		return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+	}
+}
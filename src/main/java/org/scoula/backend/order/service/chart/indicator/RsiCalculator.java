@@ -0,0 +1,53 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.Map;
+
+/**
+ * 상대강도지수 (Wilder 평활)
+ */
+final class RsiCalculator implements IndicatorCalculator {
+	private final int period;
+	private Double previousClose;
+	private int count;
+	private double averageGain;
+	private double averageLoss;
+
+	RsiCalculator(final int period) {
+		this.period = period;
+	}
+
+	@Override
+	public Map<String, Double> update(final double close) {
+		if (previousClose == null) {
+			previousClose = close;
+			return null;
+		}
+
+		final double change = close - previousClose;
+		final double gain = Math.max(change, 0);
+		final double loss = Math.max(-change, 0);
+		previousClose = close;
+
+		if (count < period) {
+			// 첫 기간은 단순 평균
+			count++;
+			averageGain += gain / period;
+			averageLoss += loss / period;
+			if (count < period) {
+				return null;
+			}
+		} else {
+			averageGain = (averageGain * (period - 1) + gain) / period;
+			averageLoss = (averageLoss * (period - 1) + loss) / period;
+		}
+
+		return Map.of("value", rsi());
+	}
+
+	private double rsi() {
+		if (averageLoss == 0) {
+			return averageGain == 0 ? 50.0 : 100.0;
+		}
+		return 100.0 - 100.0 / (1.0 + averageGain / averageLoss);
+	}
+}
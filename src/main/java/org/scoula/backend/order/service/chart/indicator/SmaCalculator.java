@@ -0,0 +1,17 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import java.util.Map;
+
+final class SmaCalculator implements IndicatorCalculator {
+	private final RollingWindow window;
+
+	SmaCalculator(final int period) {
+		this.window = new RollingWindow(period);
+	}
+
+	@Override
+	public Map<String, Double> update(final double close) {
+		window.add(close);
+		return window.isFull() ? Map.of("value", window.mean()) : null;
+	}
+}
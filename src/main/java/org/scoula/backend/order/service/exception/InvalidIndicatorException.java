@@ -0,0 +1,11 @@
+package org.scoula.backend.order.service.exception;
+
+import org.scoula.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidIndicatorException extends BaseException {
+
+	public InvalidIndicatorException(String indicator) {
+		super("지원하지 않는 보조지표 형식입니다: " + indicator, HttpStatus.BAD_REQUEST);
+	}
+}
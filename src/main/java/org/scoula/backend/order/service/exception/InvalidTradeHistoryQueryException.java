@@ -0,0 +1,11 @@
+package org.scoula.backend.order.service.exception;
+
+import org.scoula.backend.global.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidTradeHistoryQueryException extends BaseException {
+
+	public InvalidTradeHistoryQueryException(String message) {
+		super(message, HttpStatus.BAD_REQUEST);
+	}
+}
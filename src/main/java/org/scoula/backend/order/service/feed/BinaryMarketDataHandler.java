@@ -0,0 +1,181 @@
+package org.scoula.backend.order.service.feed;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scoula.backend.global.websocket.OutboundQueuePolicy;
+import org.scoula.backend.global.websocket.OutboundSessionRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 바이너리 시세 WebSocket 핸들러 (/ws/binary)
+ * - 클라이언트는 텍스트 명령으로 채널 구독: "SUB orderbook/005930", "SUB trade/005930", "SUB candle/005930/1m", "UNSUB ..."
+ * - 서버는 MarketDataCodec 프레임을 BinaryMessage 로 전송
+ * - permessage-deflate 는 클라이언트가 요청하면 서블릿 컨테이너가 협상
+ * - 세션은 STOMP 와 같은 전송 시간/버퍼 한도를 적용하고, 버퍼가 차면 오래된 프레임부터 버림
+ */
+@Slf4j
+@Component
+public class BinaryMarketDataHandler extends BinaryWebSocketHandler {
+
+	public static final String ORDER_BOOK_CHANNEL = "orderbook/";
+	public static final String TRADE_CHANNEL = "trade/";
+	public static final String CANDLE_CHANNEL = "candle/";
+
+	private static final int MAX_SUBSCRIPTIONS_PER_SESSION = 100;
+
+	private final OutboundQueuePolicy policy;
+
+	// 세션 ID -> 세션, 구독 채널
+	private final Map<String, FeedSession> sessions = new ConcurrentHashMap<>();
+	// 채널 -> 구독 세션 ID
+	private final Map<String, Set<String>> channels = new ConcurrentHashMap<>();
+
+	public BinaryMarketDataHandler(final OutboundSessionRegistry outboundSessionRegistry) {
+		this.policy = outboundSessionRegistry.getPolicy();
+	}
+
+	@Override
+	public void afterConnectionEstablished(final WebSocketSession session) {
+		final WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session,
+				(int)policy.sendTimeLimitMillis(), policy.bufferSizeLimit(),
+				ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
+		sessions.put(session.getId(), new FeedSession(decorated));
+	}
+
+	@Override
+	protected void handleTextMessage(final WebSocketSession session, final TextMessage message) throws IOException {
+		final FeedSession feedSession = sessions.get(session.getId());
+		if (feedSession == null) {
+			return;
+		}
+
+		final String[] command = message.getPayload().strip().split("\\s+");
+		if (command.length != 2 || !isValidChannel(command[1])) {
+			session.close(CloseStatus.BAD_DATA.withReason("Unknown command: " + message.getPayload()));
+			return;
+		}
+
+		switch (command[0]) {
+			case "SUB" -> subscribe(session, feedSession, command[1]);
+			case "UNSUB" -> unsubscribe(session.getId(), feedSession, command[1]);
+			default -> session.close(CloseStatus.BAD_DATA.withReason("Unknown command: " + command[0]));
+		}
+	}
+
+	@Override
+	public void afterConnectionClosed(final WebSocketSession session, final CloseStatus status) {
+		final FeedSession feedSession = sessions.remove(session.getId());
+		if (feedSession == null) {
+			return;
+		}
+		for (String channel : feedSession.channels()) {
+			removeFromChannel(channel, session.getId());
+		}
+	}
+
+	public boolean hasSubscribers(final String channel) {
+		return channels.containsKey(channel);
+	}
+
+	/**
+	 * 구독 중인 채널 중 prefix 로 시작하는 채널
+	 */
+	public Set<String> getChannels(final String prefix) {
+		final Set<String> result = new HashSet<>();
+		for (String channel : channels.keySet()) {
+			if (channel.startsWith(prefix)) {
+				result.add(channel);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 채널 구독 세션에 프레임 전송 (전송 한도를 넘은 세션은 종료)
+	 */
+	public void publish(final String channel, final byte[] frame) {
+		final Set<String> subscribers = channels.get(channel);
+		if (subscribers == null) {
+			return;
+		}
+
+		final BinaryMessage message = new BinaryMessage(frame);
+		for (String sessionId : subscribers) {
+			final FeedSession feedSession = sessions.get(sessionId);
+			if (feedSession == null) {
+				continue;
+			}
+			try {
+				feedSession.session().sendMessage(message);
+			} catch (Exception e) {
+				log.warn("바이너리 시세 전송 실패, 세션 종료: {}, {}", sessionId, e.getMessage());
+				closeQuietly(feedSession.session());
+			}
+		}
+	}
+
+	private void subscribe(final WebSocketSession session, final FeedSession feedSession, final String channel)
+			throws IOException {
+		synchronized (feedSession) {
+			if (feedSession.channels().size() >= MAX_SUBSCRIPTIONS_PER_SESSION) {
+				session.close(CloseStatus.POLICY_VIOLATION.withReason("Too many subscriptions"));
+				return;
+			}
+			if (!feedSession.channels().add(channel)) {
+				return;
+			}
+		}
+		channels.computeIfAbsent(channel, k -> ConcurrentHashMap.newKeySet()).add(session.getId());
+	}
+
+	private void unsubscribe(final String sessionId, final FeedSession feedSession, final String channel) {
+		synchronized (feedSession) {
+			if (!feedSession.channels().remove(channel)) {
+				return;
+			}
+		}
+		removeFromChannel(channel, sessionId);
+	}
+
+	private void removeFromChannel(final String channel, final String sessionId) {
+		channels.computeIfPresent(channel, (key, subscribers) -> {
+			subscribers.remove(sessionId);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+	}
+
+	private static boolean isValidChannel(final String channel) {
+		final String[] parts = channel.split("/");
+		if (channel.startsWith(CANDLE_CHANNEL)) {
+			return parts.length == 3 && !parts[1].isEmpty() && !parts[2].isEmpty();
+		}
+		return (channel.startsWith(ORDER_BOOK_CHANNEL) || channel.startsWith(TRADE_CHANNEL))
+				&& parts.length == 2 && !parts[1].isEmpty();
+	}
+
+	private static void closeQuietly(final WebSocketSession session) {
+		try {
+			session.close(CloseStatus.SESSION_NOT_RELIABLE);
+		} catch (IOException ignored) {
+			// 이미 닫힌 세션
+		}
+	}
+
+	private record FeedSession(WebSocketSession session, Set<String> channels) {
+		private FeedSession(final WebSocketSession session) {
+			this(session, new HashSet<>());
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package org.scoula.backend.order.service.feed;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.scoula.backend.order.controller.response.OrderBookResponse;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.PriceLevelDto;
+
+/**
+ * 시세 바이너리 프레임 인코더 (/ws/binary)
+ * - 정수는 모두 unsigned LEB128 varint, 부호가 있는 값은 zigzag 변환 후 varint
+ * - 가격, 수량은 프레임마다 소수 자릿수(scale)를 정하고 정수로 변환
+ * - 호가는 이전 가격대와의 차이, 캔들은 이전 캔들/시가와의 차이로 기록
+ *
+ * <pre>
+ * 공통 헤더  : type(u8) codeLength(u8) code(ascii)
+ * ORDER_BOOK : priceScale(u8) quantityScale(u8) sellCount buyCount
+ *              { priceDelta(zigzag) quantity orderCount } * (sellCount + buyCount)
+ * TRADE      : priceScale(u8) quantityScale(u8) price(zigzag) quantity tradeTime
+ * CANDLES    : timeCodeLength(u8) timeCode(ascii) priceScale(u8) count
+ *              { timeDelta(zigzag) openDelta(zigzag) high-open(zigzag) low-open(zigzag) close-open(zigzag) volume } * count
+ * </pre>
+ * 브라우저 디코더 예제: docs/market-data-decoder.js
+ */
+public final class MarketDataCodec {
+
+	public static final int ORDER_BOOK = 1;
+	public static final int TRADE = 2;
+	public static final int CANDLES = 3;
+
+	static final int MAX_SCALE = 6;
+
+	private MarketDataCodec() {
+	}
+
+	public static byte[] encodeOrderBook(final OrderBookResponse orderBook) {
+		final List<PriceLevelDto> sells = orderBook.sellLevels() != null ? orderBook.sellLevels() : List.of();
+		final List<PriceLevelDto> buys = orderBook.buyLevels() != null ? orderBook.buyLevels() : List.of();
+		int priceScale = 0;
+		int quantityScale = 0;
+		for (List<PriceLevelDto> levels : List.of(sells, buys)) {
+			for (PriceLevelDto level : levels) {
+				priceScale = Math.max(priceScale, scaleOf(level.price()));
+				quantityScale = Math.max(quantityScale, scaleOf(level.quantity()));
+			}
+		}
+
+		final FrameWriter writer = new FrameWriter(16 + (sells.size() + buys.size()) * 8);
+		writer.header(ORDER_BOOK, orderBook.companyCode());
+		writer.writeByte(priceScale);
+		writer.writeByte(quantityScale);
+		writer.writeVarLong(sells.size());
+		writer.writeVarLong(buys.size());
+		long previousPrice = 0;
+		for (List<PriceLevelDto> levels : List.of(sells, buys)) {
+			for (PriceLevelDto level : levels) {
+				final long price = unscaled(level.price(), priceScale);
+				writer.writeZigZag(price - previousPrice);
+				writer.writeVarLong(unscaled(level.quantity(), quantityScale));
+				writer.writeVarLong(level.orderCount() != null ? level.orderCount() : 0);
+				previousPrice = price;
+			}
+		}
+		return writer.toByteArray();
+	}
+
+	public static byte[] encodeTrade(final String companyCode, final BigDecimal price, final BigDecimal quantity,
+			final Long tradeTime) {
+		final int priceScale = scaleOf(price);
+		final int quantityScale = scaleOf(quantity);
+
+		final FrameWriter writer = new FrameWriter(32);
+		writer.header(TRADE, companyCode);
+		writer.writeByte(priceScale);
+		writer.writeByte(quantityScale);
+		writer.writeZigZag(unscaled(price, priceScale));
+		writer.writeVarLong(unscaled(quantity, quantityScale));
+		writer.writeVarLong(tradeTime != null ? tradeTime : 0);
+		return writer.toByteArray();
+	}
+
+	public static byte[] encodeCandles(final String companyCode, final String timeCode, final List<CandleDto> candles) {
+		int priceScale = 0;
+		for (CandleDto candle : candles) {
+			priceScale = Math.max(priceScale, Math.max(
+					Math.max(scaleOf(candle.open()), scaleOf(candle.high())),
+					Math.max(scaleOf(candle.low()), scaleOf(candle.close()))));
+		}
+
+		final FrameWriter writer = new FrameWriter(16 + candles.size() * 12);
+		writer.header(CANDLES, companyCode);
+		writer.writeAscii(timeCode);
+		writer.writeByte(priceScale);
+		writer.writeVarLong(candles.size());
+		long previousTime = 0;
+		long previousClose = 0;
+		for (CandleDto candle : candles) {
+			final long time = candle.time() != null ? candle.time() : 0;
+			final long open = unscaled(candle.open(), priceScale);
+			final long close = unscaled(candle.close(), priceScale);
+			writer.writeZigZag(time - previousTime);
+			writer.writeZigZag(open - previousClose);
+			writer.writeZigZag(unscaled(candle.high(), priceScale) - open);
+			writer.writeZigZag(unscaled(candle.low(), priceScale) - open);
+			writer.writeZigZag(close - open);
+			writer.writeVarLong(candle.volume() != null ? candle.volume() : 0);
+			previousTime = time;
+			previousClose = close;
+		}
+		return writer.toByteArray();
+	}
+
+	static int scaleOf(final BigDecimal value) {
+		if (value == null || value.signum() == 0) {
+			return 0;
+		}
+		return Math.min(MAX_SCALE, Math.max(0, value.stripTrailingZeros().scale()));
+	}
+
+	static int scaleOf(final Double value) {
+		if (value == null || value.isNaN() || value.isInfinite()) {
+			return 0;
+		}
+		return scaleOf(BigDecimal.valueOf(value));
+	}
+
+	static long unscaled(final BigDecimal value, final int scale) {
+		if (value == null) {
+			return 0;
+		}
+		return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValue();
+	}
+
+	static long unscaled(final Double value, final int scale) {
+		if (value == null || value.isNaN() || value.isInfinite()) {
+			return 0;
+		}
+		return unscaled(BigDecimal.valueOf(value), scale);
+	}
+
+	/**
+	 * 가변 길이 바이트 버퍼
+	 */
+	private static final class FrameWriter {
+		private byte[] buffer;
+		private int position;
+
+		private FrameWriter(final int initialCapacity) {
+			this.buffer = new byte[initialCapacity];
+		}
+
+		private void header(final int type, final String companyCode) {
+			writeByte(type);
+			writeAscii(companyCode);
+		}
+
+		private void writeAscii(final String value) {
+			final byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.US_ASCII);
+			if (bytes.length > 0xFF) {
+				throw new IllegalArgumentException("Value too long: " + value);
+			}
+			writeByte(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+		}
+
+		private void writeByte(final int value) {
+			ensureCapacity(1);
+			buffer[position++] = (byte)value;
+		}
+
+		private void writeZigZag(final long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte)((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte)value;
+		}
+
+		private void ensureCapacity(final int extra) {
+			if (position + extra > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package org.scoula.backend.order.service.feed;
+
+import java.util.List;
+
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.ChartResponseDto;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
+import org.scoula.backend.order.dto.TradePriceUpdatedEvent;
+import org.scoula.backend.order.service.OrderService;
+import org.scoula.backend.order.service.TradeHistoryService;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 바이너리 시세 발행
+ * - 호가, 체결은 변경 이벤트마다, 캔들은 주기마다 최근 캔들만 전송
+ * - 구독 세션이 없는 채널은 스냅샷 생성과 인코딩 생략
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketDataFeedPublisher {
+
+	// 주기마다 보내는 최근 캔들 수 (직전 마감 캔들 + 진행 중 캔들)
+	static final int CANDLE_TAIL_SIZE = 2;
+
+	private final BinaryMarketDataHandler binaryMarketDataHandler;
+	private final OrderService orderService;
+	private final TradeHistoryService tradeHistoryService;
+
+	@EventListener
+	public void onOrderBookUpdated(final OrderBookUpdatedEvent event) {
+		final String companyCode = event.summary().getCompanyCode();
+		final String channel = BinaryMarketDataHandler.ORDER_BOOK_CHANNEL + companyCode;
+		if (binaryMarketDataHandler.hasSubscribers(channel)) {
+			binaryMarketDataHandler.publish(channel, MarketDataCodec.encodeOrderBook(orderService.getBook(companyCode)));
+		}
+	}
+
+	@EventListener
+	public void onTradePriceUpdated(final TradePriceUpdatedEvent event) {
+		final String channel = BinaryMarketDataHandler.TRADE_CHANNEL + event.companyCode();
+		if (binaryMarketDataHandler.hasSubscribers(channel)) {
+			binaryMarketDataHandler.publish(channel, MarketDataCodec.encodeTrade(
+					event.companyCode(), event.price(), event.quantity(), event.tradeTime()));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${market-data.binary.candle-interval-ms:1000}")
+	public void publishCandles() {
+		for (String channel : binaryMarketDataHandler.getChannels(BinaryMarketDataHandler.CANDLE_CHANNEL)) {
+			final String[] parts = channel.split("/");
+			final String companyCode = parts[1];
+			final String timeCode = parts[2];
+			try {
+				final ChartResponseDto chart = tradeHistoryService.getChartHistory(companyCode, timeCode);
+				final List<CandleDto> candles = chart.candles();
+				final List<CandleDto> tail = candles.subList(Math.max(0, candles.size() - CANDLE_TAIL_SIZE),
+						candles.size());
+				binaryMarketDataHandler.publish(channel, MarketDataCodec.encodeCandles(companyCode, timeCode, tail));
+			} catch (Exception e) {
+				log.warn("바이너리 캔들 전송 실패: {}, {}", channel, e.getMessage());
+			}
+		}
+	}
+}
@@ -5,7 +5,6 @@ import java.math.BigDecimal;
 import java.net.URI;
 import java.text.DecimalFormat;
 import java.text.ParseException;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -17,11 +16,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.json.simple.JSONObject;
 import org.scoula.backend.order.controller.response.KisStockResponse;
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
-import org.scoula.backend.order.domain.Order;
-import org.scoula.backend.order.domain.OrderStatus;
-import org.scoula.backend.order.domain.Type;
 import org.scoula.backend.order.dto.KisStockHogaDto;
-import org.scoula.backend.order.service.OrderService;
+import org.scoula.backend.order.service.ExternalDepthService;
 import org.scoula.backend.order.service.TradeHistoryService;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
@@ -53,7 +49,7 @@ public class KisWebSocketClient {
 
 	private final SimpMessagingTemplate messagingTemplate;
 	private final TradeHistoryService tradeHistoryService;
-	private final OrderService orderService;
+	private final ExternalDepthService externalDepthService;
 
 	/**
 	 * 주식 데이터 WebSocket 연결
@@ -248,50 +244,11 @@ public class KisWebSocketClient {
 	}
 
 	/**
-	 * 호가 데이터 메시지 처리
+	 * 호가 데이터 메시지 처리 - 외부 호가 미러 주문장 교체 (주문 생성, 매칭 없음)
 	 */
 	private void handleHogaDataMessage(String stockCode, String payload) {
 		try {
-			final KisStockHogaDto stockData = parseKisHogaData(payload);
-			final Long now = Instant.now().getEpochSecond();
-
-			// 매도 호가
-			for (int i = 0; i < 10; i++) {
-				final BigDecimal price = stockData.askPrices().get(i);
-				final BigDecimal quantity = stockData.askRemains().get(i);
-
-				final Order order = Order.builder()
-						.companyCode(stockData.stockCode())
-						.type(Type.SELL)
-						.totalQuantity(quantity)
-						.remainingQuantity(quantity)
-						.status(OrderStatus.ACTIVE)
-						.price(price)
-						.account(null)
-						.timestamp(now)
-						.build();
-
-				orderService.processOrder(order);
-			}
-
-			// 매수 호가
-			for (int i = 0; i < 10; i++) {
-				final BigDecimal price = stockData.bidPrices().get(i);
-				final BigDecimal quantity = stockData.bidRemains().get(i);
-
-				final Order order = Order.builder()
-						.companyCode(stockData.stockCode())
-						.type(Type.BUY)
-						.totalQuantity(quantity)
-						.remainingQuantity(quantity)
-						.status(OrderStatus.ACTIVE)
-						.price(price)
-						.account(null)
-						.timestamp(now)
-						.build();
-
-				orderService.processOrder(order);
-			}
+			externalDepthService.onHoga(parseKisHogaData(payload));
 		} catch (Exception e) {
 			log.error("Error handling hoga data message: {}", e.getMessage());
 		}
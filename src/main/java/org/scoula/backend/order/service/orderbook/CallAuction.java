@@ -0,0 +1,142 @@
+package org.scoula.backend.order.service.orderbook;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * 단일가 매매 체결가 계산
+ * - 가격대 잔량 합계로 누적 매수(가격 이상) / 누적 매도(가격 이하) 곡선을 만들어 체결량이 최대인 가격 선택
+ * - 체결량이 같으면 잔량 불균형이 작은 가격, 기준가에 가까운 가격, 낮은 가격 순
+ * - 시장가 주문은 모든 가격에서 누적 수량에 포함
+ * - 비용은 O(가격대 수)
+ */
+public final class CallAuction {
+
+	private CallAuction() {
+	}
+
+	/**
+	 * 균형 가격 계산
+	 *
+	 * @param buyOrders  매수 가격대 (높은 가격 우선)
+	 * @param sellOrders 매도 가격대 (낮은 가격 우선)
+	 * @return 체결 가능한 가격이 없으면 null
+	 */
+	public static Equilibrium findEquilibrium(final NavigableMap<Price, OrderStorage> buyOrders,
+			final NavigableMap<Price, OrderStorage> sellOrders, final BigDecimal marketBuyQuantity,
+			final BigDecimal marketSellQuantity, final BigDecimal referencePrice) {
+		// 가격 오름차순 가격대
+		final List<Level> asks = levels(sellOrders);
+		final List<Level> bids = levels(buyOrders.descendingMap());
+		final List<BigDecimal> prices = candidatePrices(asks, bids, referencePrice);
+		final int size = prices.size();
+
+		// 누적 매도: 가격 이하 매도 잔량
+		final BigDecimal[] supply = new BigDecimal[size];
+		BigDecimal cumulative = marketSellQuantity;
+		for (int i = 0, j = 0; i < size; i++) {
+			while (j < asks.size() && asks.get(j).price().compareTo(prices.get(i)) <= 0) {
+				cumulative = cumulative.add(asks.get(j++).quantity());
+			}
+			supply[i] = cumulative;
+		}
+
+		// 누적 매수: 가격 이상 매수 잔량
+		final BigDecimal[] demand = new BigDecimal[size];
+		cumulative = marketBuyQuantity;
+		for (int i = size - 1, j = bids.size() - 1; i >= 0; i--) {
+			while (j >= 0 && bids.get(j).price().compareTo(prices.get(i)) >= 0) {
+				cumulative = cumulative.add(bids.get(j--).quantity());
+			}
+			demand[i] = cumulative;
+		}
+
+		Equilibrium best = null;
+		BigDecimal bestImbalance = null;
+		for (int i = 0; i < size; i++) {
+			final BigDecimal volume = demand[i].min(supply[i]);
+			if (volume.signum() <= 0) {
+				continue;
+			}
+			final BigDecimal imbalance = demand[i].subtract(supply[i]).abs();
+			if (best == null || isBetter(prices.get(i), volume, imbalance, best, bestImbalance, referencePrice)) {
+				best = new Equilibrium(prices.get(i), volume);
+				bestImbalance = imbalance;
+			}
+		}
+		return best;
+	}
+
+	// 가격 오름차순으로 비교하므로 모든 조건이 같으면 먼저 선택된 낮은 가격 유지
+	private static boolean isBetter(final BigDecimal price, final BigDecimal volume, final BigDecimal imbalance,
+			final Equilibrium best, final BigDecimal bestImbalance, final BigDecimal referencePrice) {
+		final int byVolume = volume.compareTo(best.volume());
+		if (byVolume != 0) {
+			return byVolume > 0;
+		}
+		final int byImbalance = imbalance.compareTo(bestImbalance);
+		if (byImbalance != 0) {
+			return byImbalance < 0;
+		}
+		if (referencePrice == null) {
+			return false;
+		}
+		return price.subtract(referencePrice).abs()
+				.compareTo(best.price().subtract(referencePrice).abs()) < 0;
+	}
+
+	private static List<Level> levels(final NavigableMap<Price, OrderStorage> orders) {
+		final List<Level> levels = new ArrayList<>(orders.size());
+		for (Map.Entry<Price, OrderStorage> entry : orders.entrySet()) {
+			levels.add(new Level(entry.getKey().getValue(), entry.getValue().getTotalQuantity()));
+		}
+		return levels;
+	}
+
+	// 매도, 매수 가격대와 기준가를 중복 없이 오름차순으로 병합
+	private static List<BigDecimal> candidatePrices(final List<Level> asks, final List<Level> bids,
+			final BigDecimal referencePrice) {
+		final List<BigDecimal> prices = new ArrayList<>(asks.size() + bids.size() + 1);
+		int i = 0;
+		int j = 0;
+		boolean referenceAdded = referencePrice == null;
+		while (i < asks.size() || j < bids.size() || !referenceAdded) {
+			BigDecimal next = null;
+			if (i < asks.size()) {
+				next = asks.get(i).price();
+			}
+			if (j < bids.size() && (next == null || bids.get(j).price().compareTo(next) < 0)) {
+				next = bids.get(j).price();
+			}
+			if (!referenceAdded && (next == null || referencePrice.compareTo(next) < 0)) {
+				next = referencePrice;
+			}
+
+			if (i < asks.size() && asks.get(i).price().compareTo(next) == 0) {
+				i++;
+			}
+			if (j < bids.size() && bids.get(j).price().compareTo(next) == 0) {
+				j++;
+			}
+			if (!referenceAdded && referencePrice.compareTo(next) == 0) {
+				referenceAdded = true;
+			}
+			if (prices.isEmpty() || prices.get(prices.size() - 1).compareTo(next) != 0) {
+				prices.add(next);
+			}
+		}
+		return prices;
+	}
+
+	/**
+	 * 균형 가격과 그 가격에서의 체결량
+	 */
+	public record Equilibrium(BigDecimal price, BigDecimal volume) {
+	}
+
+	private record Level(BigDecimal price, BigDecimal quantity) {
+	}
+}
@@ -0,0 +1,109 @@
+package org.scoula.backend.order.service.orderbook;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.scoula.backend.order.controller.response.OrderBookResponse;
+import org.scoula.backend.order.dto.PriceLevelDto;
+
+/**
+ * 외부(KIS) 호가 미러 주문장
+ * - 호가 프레임마다 매도/매수 10단계를 통째로 교체 (매칭 없음, 잔량 누적 없음)
+ * - 교체는 불변 스냅샷 참조 하나를 바꾸는 것이므로 조회 중에도 항상 한 프레임의 호가만 보인다.
+ */
+public class ExternalDepthBook {
+
+	public static final int DEPTH = 10;
+
+	private static final Comparator<PriceLevelDto> ASK_ORDER = Comparator.comparing(PriceLevelDto::price);
+	private static final Comparator<PriceLevelDto> BID_ORDER = ASK_ORDER.reversed();
+
+	private final String companyCode;
+
+	private volatile OrderBookResponse book;
+
+	public ExternalDepthBook(final String companyCode) {
+		this.companyCode = companyCode;
+		this.book = new OrderBookResponse(companyCode, List.of(), List.of());
+	}
+
+	/**
+	 * 호가 프레임으로 전체 호가 교체 - 가격이나 잔량이 0 인 단계는 제외
+	 */
+	public OrderBookResponse replace(final List<BigDecimal> askPrices, final List<BigDecimal> askRemains,
+			final List<BigDecimal> bidPrices, final List<BigDecimal> bidRemains) {
+		final OrderBookResponse replaced = new OrderBookResponse(
+				companyCode,
+				toLevels(askPrices, askRemains, ASK_ORDER),
+				toLevels(bidPrices, bidRemains, BID_ORDER)
+		);
+		this.book = replaced;
+		return replaced;
+	}
+
+	public OrderBookResponse getBook() {
+		return book;
+	}
+
+	/**
+	 * 내부 주문장과 외부 호가를 가격대별로 합친 호가창 (각 측 최대 10단계)
+	 * - 두 목록 모두 정렬되어 있으므로 한 번의 병합으로 처리
+	 */
+	public static OrderBookResponse merge(final OrderBookResponse internal, final OrderBookResponse external) {
+		return new OrderBookResponse(
+				internal.companyCode(),
+				mergeLevels(internal.sellLevels(), external.sellLevels(), ASK_ORDER),
+				mergeLevels(internal.buyLevels(), external.buyLevels(), BID_ORDER)
+		);
+	}
+
+	private static List<PriceLevelDto> toLevels(final List<BigDecimal> prices, final List<BigDecimal> remains,
+			final Comparator<PriceLevelDto> order) {
+		final List<PriceLevelDto> levels = new ArrayList<>(DEPTH);
+		for (int i = 0; i < Math.min(DEPTH, Math.min(prices.size(), remains.size())); i++) {
+			final BigDecimal price = prices.get(i);
+			final BigDecimal remain = remains.get(i);
+			if (price.signum() > 0 && remain.signum() > 0) {
+				levels.add(new PriceLevelDto(price, remain, 0));
+			}
+		}
+		levels.sort(order);
+		return List.copyOf(levels);
+	}
+
+	private static List<PriceLevelDto> mergeLevels(final List<PriceLevelDto> left, final List<PriceLevelDto> right,
+			final Comparator<PriceLevelDto> order) {
+		final List<PriceLevelDto> merged = new ArrayList<>(DEPTH);
+		int i = 0;
+		int j = 0;
+		while (merged.size() < DEPTH && (i < left.size() || j < right.size())) {
+			if (j >= right.size()) {
+				merged.add(left.get(i++));
+				continue;
+			}
+			if (i >= left.size()) {
+				merged.add(right.get(j++));
+				continue;
+			}
+
+			final PriceLevelDto a = left.get(i);
+			final PriceLevelDto b = right.get(j);
+			final int compared = order.compare(a, b);
+			if (compared < 0) {
+				merged.add(a);
+				i++;
+			} else if (compared > 0) {
+				merged.add(b);
+				j++;
+			} else {
+				merged.add(new PriceLevelDto(a.price(), a.quantity().add(b.quantity()),
+						a.orderCount() + b.orderCount()));
+				i++;
+				j++;
+			}
+		}
+		return merged;
+	}
+}
@@ -1,20 +1,26 @@
 package org.scoula.backend.order.service.orderbook;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 
+import org.scoula.backend.order.controller.response.AuctionIndicativeResponse;
 import org.scoula.backend.order.controller.response.OrderBookResponse;
 import org.scoula.backend.order.controller.response.OrderSnapshotResponse;
 import org.scoula.backend.order.controller.response.OrderSummaryResponse;
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
 import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TimeInForce;
 import org.scoula.backend.order.domain.TradeOrder;
 import org.scoula.backend.order.domain.Type;
 import org.scoula.backend.order.dto.PriceLevelDto;
@@ -25,6 +31,10 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 개별 종목의 주문장
+ * - 시장가 주문은 IOC 로 처리 (체결 가능한 만큼 체결 후 잔량 취소)
+ * - FOK 주문은 주문장을 바꾸기 전에 가격대 잔량 합계로 전량 체결 가능 여부를 검사 (같은 계좌 잔량 제외)
+ * - 스탑 주문은 발동 전까지 StopOrderBook 에 대기하고, 체결 가격 범위로 발동되면 접수 순서대로 처리
+ * - 단일가 매매 중에는 체결 없이 주문을 쌓고, 종료 시 균형 가격 하나로 일괄 체결 (같은 계좌 주문끼리는 자전거래 방지)
  */
 @Slf4j
 public class OrderBook {
@@ -35,48 +45,161 @@ public class OrderBook {
 	private final ConcurrentNavigableMap<Price, OrderStorage> sellOrders = new ConcurrentSkipListMap<>();
 	// 매수 주문: 높은 가격 우선
 	private final ConcurrentNavigableMap<Price, OrderStorage> buyOrders = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+	// 만료 대상 GTD 주문 (주문 ID 기준)
+	private final Map<Long, TradeOrder> expirableOrders = new ConcurrentHashMap<>();
+	// 발동 대기 중인 스탑 주문
+	private final StopOrderBook stopOrders = new StopOrderBook();
+	// 단일가 매매 접수 중 여부
+	private volatile boolean auction;
+	// 단일가 매매 중 접수된 시장가 주문 (일괄 체결 시 지정가 주문보다 우선)
+	private final Deque<TradeOrder> auctionMarketBuys = new ArrayDeque<>();
+	private final Deque<TradeOrder> auctionMarketSells = new ArrayDeque<>();
+	private BigDecimal auctionMarketBuyQuantity = BigDecimal.ZERO;
+	private BigDecimal auctionMarketSellQuantity = BigDecimal.ZERO;
+	// 자전거래 방지 정책
+	private final SelfTradePrevention selfTradePrevention;
 
 	/**
 	 * 생성자
 	 */
 	public OrderBook(final String companyCode, TradeHistoryService tradeHistoryService) {
+		this(companyCode, tradeHistoryService, SelfTradePrevention.CANCEL_NEWEST);
+	}
+
+	public OrderBook(final String companyCode, TradeHistoryService tradeHistoryService,
+			final SelfTradePrevention selfTradePrevention) {
 		this.companyCode = companyCode;
+		this.selfTradePrevention = selfTradePrevention;
 	}
 
 	/**
 	 * 주문 접수 및 처리
 	 */
 	public List<TradeHistoryResponse> received(final TradeOrder order) {
+		return received(order, OrderBookListener.NONE);
+	}
+
+	/**
+	 * 주문 접수 및 처리 - 체결 없이 취소된 수량은 listener 로 전달
+	 * (체결로 발동된 스탑 주문과 그 체결로 이어서 발동된 주문까지 함께 처리)
+	 */
+	public List<TradeHistoryResponse> received(final TradeOrder order, final OrderBookListener listener) {
+		// 발동 전 스탑 주문은 대기열에만 추가
+		if (order.isStopOrder() && stopOrders.parkUnlessTriggered(order)) {
+			registerExpirable(order);
+			return List.of();
+		}
+		// 단일가 매매 중에는 체결하지 않고 접수만
+		if (auction && accumulate(order, listener)) {
+			return List.of();
+		}
+
+		return withTriggeredStops(execute(order, listener), listener);
+	}
+
+	// 체결로 발동된 스탑 주문을 처리하고 그 체결로 이어서 발동된 주문까지 처리
+	private List<TradeHistoryResponse> withTriggeredStops(final List<TradeHistoryResponse> trades,
+			final OrderBookListener listener) {
+		List<TradeHistoryResponse> batch = trades;
+		final List<TradeHistoryResponse> responses = new ArrayList<>(batch);
+		final Deque<TradeOrder> triggered = new ArrayDeque<>();
+		while (true) {
+			triggered.addAll(triggerStopOrders(batch, listener));
+			final TradeOrder next = triggered.poll();
+			if (next == null) {
+				break;
+			}
+			batch = executeTriggered(next, listener);
+			responses.addAll(batch);
+		}
+		return responses;
+	}
+
+	private List<TradeHistoryResponse> execute(final TradeOrder order, final OrderBookListener listener) {
+		if (order.getTimeInForce() == TimeInForce.FOK) {
+			// 검사와 체결 사이에 다른 주문이 잔량을 가져가지 않도록 한 번에 처리
+			synchronized (this) {
+				if (!canFillCompletely(order)) {
+					cancelUnfilled(order, listener);
+					return List.of();
+				}
+				return process(order, listener);
+			}
+		}
+		return process(order, listener);
+	}
+
+	/**
+	 * 발동된 스탑 주문 처리 - 상대 주문이 없어 체결할 수 없으면 앞선 체결은 유지하고 잔량만 취소
+	 */
+	private List<TradeHistoryResponse> executeTriggered(final TradeOrder order, final OrderBookListener listener) {
+		try {
+			return execute(order, listener);
+		} catch (MatchingException e) {
+			log.info("발동된 스탑 주문 체결 불가, 잔량 취소: 주문 {}", order.getId());
+			cancelUnfilled(order, listener);
+			return List.of();
+		}
+	}
+
+	/**
+	 * 이번 체결들의 가격 범위로 발동된 스탑 주문 조회 - O(발동 주문 수)
+	 */
+	private List<TradeOrder> triggerStopOrders(final List<TradeHistoryResponse> trades,
+			final OrderBookListener listener) {
+		if (trades.isEmpty()) {
+			return List.of();
+		}
+
+		BigDecimal low = trades.get(0).price();
+		BigDecimal high = low;
+		for (TradeHistoryResponse trade : trades) {
+			low = low.min(trade.price());
+			high = high.max(trade.price());
+		}
+
+		final List<TradeOrder> triggered = stopOrders.trigger(low, high, trades.get(trades.size() - 1).price());
+		triggered.forEach(listener::onStopTriggered);
+		return triggered;
+	}
+
+	private List<TradeHistoryResponse> process(final TradeOrder order, final OrderBookListener listener) {
 		if (order.getStatus() == OrderStatus.MARKET) {
-			return processMarketOrder(order);
+			return processMarketOrder(order, listener);
 		}
-		return processLimitOrder(order);
+		return processLimitOrder(order, listener);
 	}
 
 	/**
 	 * 시장가 주문 처리
 	 */
-	private List<TradeHistoryResponse> processMarketOrder(final TradeOrder order) {
+	private List<TradeHistoryResponse> processMarketOrder(final TradeOrder order, final OrderBookListener listener) {
 		if (order.getType() == Type.BUY) {
-			return matchMarketBuyOrder(order);
+			return matchMarketBuyOrder(order, listener);
 		}
-		return matchMarketSellOrder(order);
+		return matchMarketSellOrder(order, listener);
 	}
 
 	/**
 	 * 시장가 매도 주문 처리 - TreeMap 읽기, 제거 발생
 	 */
-	private List<TradeHistoryResponse> matchMarketSellOrder(final TradeOrder sellOrder) {
+	private List<TradeHistoryResponse> matchMarketSellOrder(final TradeOrder sellOrder,
+			final OrderBookListener listener) {
+		// 매수 주문이 없으면 주문장을 바꾸지 않고 거절
+		if (buyOrders.isEmpty()) {
+			throw new MatchingException("주문 체결 불가 : " + sellOrder.getRemainingQuantity());
+		}
+
 		List<TradeHistoryResponse> responses = new ArrayList<>();
 		while (sellOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) > 0) {
 			// 매수 주문 찾기
 			Map.Entry<Price, OrderStorage> bestBuy = buyOrders.firstEntry();
 			if (bestBuy == null) {
-				throw new MatchingException("주문 체결 불가 : " + sellOrder.getRemainingQuantity());
+				break;
 			}
 
 			// 주문 매칭 처리
-			responses.addAll(matchOrders(bestBuy.getValue(), sellOrder));
+			responses.addAll(matchOrders(bestBuy.getValue(), sellOrder, listener));
 
 			// 매수 큐가 비었으면 제거
 			if (bestBuy.getValue().isEmpty()) {
@@ -85,24 +208,32 @@ public class OrderBook {
 				}
 			}
 		}
+
+		// 체결되지 않은 잔량 취소 (IOC)
+		cancelUnfilled(sellOrder, listener);
 		return responses;
 	}
 
 	/**
 	 * 시장가 매수 주문 처리 - 읽기, 제거 발생
 	 */
-	private List<TradeHistoryResponse> matchMarketBuyOrder(final TradeOrder buyOrder) {
+	private List<TradeHistoryResponse> matchMarketBuyOrder(final TradeOrder buyOrder,
+			final OrderBookListener listener) {
+		// 매도 주문이 없으면 주문장을 바꾸지 않고 거절
+		if (sellOrders.isEmpty()) {
+			throw new MatchingException("주문 체결 불가 : " + buyOrder.getRemainingQuantity());
+		}
+
 		List<TradeHistoryResponse> responses = new ArrayList<>();
 		while (buyOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) > 0) {
 			// 매도 주문 찾기
 			Map.Entry<Price, OrderStorage> bestSell = sellOrders.firstEntry();
-
 			if (bestSell == null) {
-				throw new MatchingException("주문 체결 불가 : " + buyOrder.getRemainingQuantity());
+				break;
 			}
 
 			// 주문 매칭 처리
-			responses.addAll(matchOrders(bestSell.getValue(), buyOrder));
+			responses.addAll(matchOrders(bestSell.getValue(), buyOrder, listener));
 
 			// 매도 큐가 비었으면 제거
 			if (bestSell.getValue().isEmpty()) {
@@ -111,38 +242,39 @@ public class OrderBook {
 				}
 			}
 		}
+
+		// 체결되지 않은 잔량 취소 (IOC)
+		cancelUnfilled(buyOrder, listener);
 		return responses;
 	}
 
 	/**
 	 * 지정가 주문 처리
 	 */
-	private List<TradeHistoryResponse> processLimitOrder(final TradeOrder order) {
+	private List<TradeHistoryResponse> processLimitOrder(final TradeOrder order, final OrderBookListener listener) {
 		if (order.getType() == Type.BUY) {
-			return matchBuyOrder(order);
+			return matchBuyOrder(order, listener);
 		}
-		return matchSellOrder(order);
+		return matchSellOrder(order, listener);
 	}
 
 	/**
 	 * 지정가 매도 주문 처리 - TreeMap 읽기, 삭제 발생
 	 */
-	private List<TradeHistoryResponse> matchSellOrder(final TradeOrder sellOrder) {
+	private List<TradeHistoryResponse> matchSellOrder(final TradeOrder sellOrder, final OrderBookListener listener) {
 		List<TradeHistoryResponse> responses = new ArrayList<>();
 		while (sellOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) > 0) {
 			// 매도가보다 높거나 같은 매수 주문 찾기
 			Map.Entry<Price, OrderStorage> bestBuy = buyOrders.firstEntry();
 
-			if (bestBuy == null || bestBuy.getKey().isHigherThan(sellOrder.getPrice())) {
-				// 매칭되는 매수 주문이 없으면 주문장에 추가
-				if (sellOrder.getPrice().compareTo(BigDecimal.ZERO) != 0) {
-					addToOrderBook(sellOrders, sellOrder);
-				}
+			if (bestBuy == null || bestBuy.getKey().isLowerThan(sellOrder.getPrice())) {
+				// 매칭되는 매수 주문이 없으면 주문장에 추가 (IOC, FOK 는 잔량 취소)
+				restOrCancel(sellOrders, sellOrder, listener);
 				break;
 			}
 
 			// 주문 매칭 처리
-			responses.addAll(matchOrders(bestBuy.getValue(), sellOrder));
+			responses.addAll(matchOrders(bestBuy.getValue(), sellOrder, listener));
 
 			// 매수 큐가 비었으면 제거
 			if (bestBuy.getValue().isEmpty()) {
@@ -155,25 +287,23 @@ public class OrderBook {
 	/**
 	 * 지정가 매수 주문 처리 -- TreeMap 읽기 발생, 제거 발생
 	 */
-	private List<TradeHistoryResponse> matchBuyOrder(final TradeOrder buyOrder) {
+	private List<TradeHistoryResponse> matchBuyOrder(final TradeOrder buyOrder, final OrderBookListener listener) {
 		List<TradeHistoryResponse> responses = new ArrayList<>();
 		while (buyOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) > 0) {
 			// 매수가보다 낮거나 같은 매도 주문 찾기
 			Map.Entry<Price, OrderStorage> bestSell = sellOrders.firstEntry();
 
-			if (bestSell == null || bestSell.getKey().isLowerThan(buyOrder.getPrice())) {
-				if (buyOrder.getPrice().compareTo(BigDecimal.ZERO) != 0) {
-					addToOrderBook(buyOrders, buyOrder);
-				}
+			if (bestSell == null || bestSell.getKey().isHigherThan(buyOrder.getPrice())) {
+				restOrCancel(buyOrders, buyOrder, listener);
 				break;
 			}
 
 			// 주문 매칭 처리
-			responses.addAll(matchOrders(bestSell.getValue(), buyOrder));
+			responses.addAll(matchOrders(bestSell.getValue(), buyOrder, listener));
 
-			// 매수 큐가 비었으면 제거
+			// 매도 큐가 비었으면 제거
 			if (bestSell.getValue().isEmpty()) {
-				buyOrders.remove(bestSell.getKey());
+				sellOrders.remove(bestSell.getKey());
 			}
 		}
 		return responses;
@@ -182,18 +312,274 @@ public class OrderBook {
 	/**
 	 * 주문 매칭 처리 - 변경 발생
 	 */
-	private synchronized List<TradeHistoryResponse> matchOrders(final OrderStorage existingOrders, final TradeOrder incomingOrder) {
+	private synchronized List<TradeHistoryResponse> matchOrders(final OrderStorage existingOrders,
+			final TradeOrder incomingOrder, final OrderBookListener listener) {
 		List<TradeHistoryResponse> responses = new ArrayList<>();
 		while (!existingOrders.isEmpty() && incomingOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) > 0) {
-			// 1. 주문 매칭
-			TradeHistoryResponse response = existingOrders.match(incomingOrder);
+			// 1. 주문 매칭 (같은 계좌 주문이면 체결 없이 자전거래 방지 처리)
+			TradeHistoryResponse response = existingOrders.match(incomingOrder, selfTradePrevention, listener);
 
 			// 2. 매수 / 매도 주문 체결 내역 저장
-			responses.add(response);
+			if (response != null) {
+				responses.add(response);
+			}
 		}
 		return responses;
 	}
 
+	/**
+	 * 단일가 매매 시작 - 이후 접수된 주문은 종료 시까지 체결하지 않음
+	 */
+	public synchronized void startAuction() {
+		auction = true;
+	}
+
+	public boolean isAuction() {
+		return auction;
+	}
+
+	/**
+	 * 단일가 매매 중 주문 접수 - 지정가는 주문장에, 시장가는 별도 대기열에 추가 (IOC, FOK 는 취소)
+	 *
+	 * @return 이미 단일가 매매가 끝났으면 false
+	 */
+	private synchronized boolean accumulate(final TradeOrder order, final OrderBookListener listener) {
+		if (!auction) {
+			return false;
+		}
+		if (order.getStatus() == OrderStatus.MARKET && order.isSellType()) {
+			auctionMarketSells.add(order);
+			auctionMarketSellQuantity = auctionMarketSellQuantity.add(order.getRemainingQuantity());
+		} else if (order.getStatus() == OrderStatus.MARKET) {
+			auctionMarketBuys.add(order);
+			auctionMarketBuyQuantity = auctionMarketBuyQuantity.add(order.getRemainingQuantity());
+		} else if (order.restsOnBook()) {
+			addToOrderBook(order.isSellType() ? sellOrders : buyOrders, order);
+		} else {
+			cancelUnfilled(order, listener);
+		}
+		return true;
+	}
+
+	/**
+	 * 단일가 매매 예상 체결가, 체결량
+	 */
+	public synchronized AuctionIndicativeResponse getIndicative(final BigDecimal referencePrice) {
+		final CallAuction.Equilibrium equilibrium = findEquilibrium(referencePrice);
+		if (equilibrium == null) {
+			return new AuctionIndicativeResponse(companyCode, null, BigDecimal.ZERO);
+		}
+		return new AuctionIndicativeResponse(companyCode, equilibrium.price(), equilibrium.volume());
+	}
+
+	/**
+	 * 단일가 매매 종료 - 균형 가격에서 체결 가능한 주문을 가격, 시간 우선으로 일괄 체결하고 연속 매매로 전환
+	 * (체결되지 않은 시장가 주문은 취소, 지정가 잔량은 주문장에 유지)
+	 */
+	public List<TradeHistoryResponse> uncross(final BigDecimal referencePrice, final OrderBookListener listener) {
+		final List<TradeHistoryResponse> trades;
+		synchronized (this) {
+			if (!auction) {
+				return List.of();
+			}
+			trades = executeAuction(referencePrice, listener);
+			auction = false;
+		}
+		return withTriggeredStops(trades, listener);
+	}
+
+	/**
+	 * 종가 단일가 매매 종료 - 일괄 체결 후 연속 매매로 돌아가지 않고 다음 시가 단일가 매매까지 접수만 계속
+	 * (체결로 발동된 스탑 주문도 체결하지 않고 접수, 단일가 매매 중이 아니었으면 체결 없이 접수 상태로 전환)
+	 */
+	public synchronized List<TradeHistoryResponse> uncrossAndHold(final BigDecimal referencePrice,
+			final OrderBookListener listener) {
+		if (!auction) {
+			auction = true;
+			return List.of();
+		}
+		final List<TradeHistoryResponse> trades = executeAuction(referencePrice, listener);
+		triggerStopOrders(trades, listener).forEach(order -> accumulate(order, listener));
+		return trades;
+	}
+
+	private CallAuction.Equilibrium findEquilibrium(final BigDecimal referencePrice) {
+		return CallAuction.findEquilibrium(buyOrders, sellOrders, auctionMarketBuyQuantity,
+				auctionMarketSellQuantity, referencePrice);
+	}
+
+	private List<TradeHistoryResponse> executeAuction(final BigDecimal referencePrice,
+			final OrderBookListener listener) {
+		final CallAuction.Equilibrium equilibrium = findEquilibrium(referencePrice);
+		final List<TradeHistoryResponse> responses = new ArrayList<>();
+		if (equilibrium != null) {
+			final BigDecimal price = equilibrium.price();
+			final Deque<TradeOrder> buys = drainCrossing(auctionMarketBuys, buyOrders, price);
+			final Deque<TradeOrder> sells = drainCrossing(auctionMarketSells, sellOrders, price);
+
+			BigDecimal remaining = equilibrium.volume();
+			while (remaining.signum() > 0 && !buys.isEmpty() && !sells.isEmpty()) {
+				final TradeOrder buyOrder = buys.peek();
+				final TradeOrder sellOrder = sells.peek();
+				if (buyOrder.hasSameAccount(sellOrder)) {
+					// 같은 계좌 주문끼리는 체결하지 않고 정책에 따라 취소 (적어도 한쪽 잔량이 0이 되므로 루프는 진행됨)
+					listener.onSelfTradePrevented(preventAuctionSelfTrade(buyOrder, sellOrder));
+				} else {
+					final BigDecimal quantity = buyOrder.calculateMatchQuantity(sellOrder).min(remaining);
+
+					buyOrder.decreaseRemainingQuantity(quantity);
+					sellOrder.decreaseRemainingQuantity(quantity);
+					remaining = remaining.subtract(quantity);
+					responses.add(TradeHistoryResponse.builder()
+							.companyCode(companyCode)
+							.buyOrderId(buyOrder.getId())
+							.sellOrderId(sellOrder.getId())
+							.quantity(quantity)
+							.price(price)
+							.tradeTime(Instant.now().getEpochSecond())
+							.build());
+				}
+
+				if (buyOrder.getRemainingQuantity().signum() == 0) {
+					buys.poll();
+				}
+				if (sellOrder.getRemainingQuantity().signum() == 0) {
+					sells.poll();
+				}
+			}
+
+			buys.forEach(order -> restAfterAuction(buyOrders, order, listener));
+			sells.forEach(order -> restAfterAuction(sellOrders, order, listener));
+		}
+
+		// 체결 가격이 없어 남은 시장가 주문 취소
+		auctionMarketBuys.forEach(order -> cancelUnfilled(order, listener));
+		auctionMarketSells.forEach(order -> cancelUnfilled(order, listener));
+		auctionMarketBuys.clear();
+		auctionMarketSells.clear();
+		auctionMarketBuyQuantity = BigDecimal.ZERO;
+		auctionMarketSellQuantity = BigDecimal.ZERO;
+		return responses;
+	}
+
+	/**
+	 * 단일가 매매 자전거래 방지 - 접수 시각이 늦은 주문을 새 주문으로 보고 연속 매매와 같은 정책 적용
+	 * (균형 가격은 같은 계좌 주문을 포함해 계산하므로 실제 체결량은 예상 체결량보다 작을 수 있음)
+	 */
+	private SelfTradeAction preventAuctionSelfTrade(final TradeOrder buyOrder, final TradeOrder sellOrder) {
+		final boolean buyIsNewer = buyOrder.getCreatedDateTime().isAfter(sellOrder.getCreatedDateTime());
+		final TradeOrder newestOrder = buyIsNewer ? buyOrder : sellOrder;
+		final TradeOrder oldestOrder = buyIsNewer ? sellOrder : buyOrder;
+
+		BigDecimal newestCancelled = BigDecimal.ZERO;
+		BigDecimal oldestCancelled = BigDecimal.ZERO;
+		switch (selfTradePrevention) {
+			case CANCEL_NEWEST -> newestCancelled = newestOrder.getRemainingQuantity();
+			case CANCEL_OLDEST -> oldestCancelled = oldestOrder.getRemainingQuantity();
+			case CANCEL_BOTH -> {
+				newestCancelled = newestOrder.getRemainingQuantity();
+				oldestCancelled = oldestOrder.getRemainingQuantity();
+			}
+			case DECREMENT -> {
+				newestCancelled = newestOrder.calculateMatchQuantity(oldestOrder);
+				oldestCancelled = newestCancelled;
+			}
+		}
+
+		newestOrder.cancel(newestCancelled);
+		oldestOrder.cancel(oldestCancelled);
+		return new SelfTradeAction(selfTradePrevention, newestOrder, newestCancelled, oldestOrder, oldestCancelled);
+	}
+
+	/**
+	 * 균형 가격과 교차하는 주문을 우선순위대로 꺼내기 - 시장가 주문 먼저, 다음으로 가격, 시간 우선
+	 */
+	private Deque<TradeOrder> drainCrossing(final Deque<TradeOrder> marketOrders,
+			final NavigableMap<Price, OrderStorage> orderBook, final BigDecimal price) {
+		final Deque<TradeOrder> orders = new ArrayDeque<>(marketOrders);
+		marketOrders.clear();
+
+		Map.Entry<Price, OrderStorage> level = orderBook.firstEntry();
+		while (level != null && crossesAuctionPrice(orderBook == sellOrders, level.getKey(), price)) {
+			orderBook.pollFirstEntry();
+			for (TradeOrder order = level.getValue().poll(); order != null; order = level.getValue().poll()) {
+				orders.add(order);
+			}
+			level = orderBook.firstEntry();
+		}
+		return orders;
+	}
+
+	private boolean crossesAuctionPrice(final boolean sellSide, final Price levelPrice, final BigDecimal price) {
+		return sellSide ? !levelPrice.isHigherThan(price) : !levelPrice.isLowerThan(price);
+	}
+
+	// 일괄 체결 후 남은 주문 - 지정가 잔량은 같은 우선순위로 주문장에 복귀, 시장가 잔량은 취소
+	private void restAfterAuction(final NavigableMap<Price, OrderStorage> orderBook, final TradeOrder order,
+			final OrderBookListener listener) {
+		if (order.getStatus() == OrderStatus.MARKET) {
+			cancelUnfilled(order, listener);
+			return;
+		}
+		addToOrderBook(orderBook, order);
+	}
+
+	/**
+	 * 전량 체결 가능 여부 - 최우선 호가부터 가격대 잔량 합계로 검사
+	 * - 같은 계좌 주문의 잔량은 체결할 수 없으므로 제외
+	 * - 자전거래 방지로 입력 주문이 줄어드는 정책이면 같은 계좌 주문이 있는 가격대 앞까지의 잔량으로 채워야 체결 가능
+	 */
+	private boolean canFillCompletely(final TradeOrder order) {
+		final NavigableMap<Price, OrderStorage> counterOrders = order.isSellType() ? buyOrders : sellOrders;
+		final boolean market = order.getStatus() == OrderStatus.MARKET;
+
+		BigDecimal available = BigDecimal.ZERO;
+		for (Map.Entry<Price, OrderStorage> level : counterOrders.entrySet()) {
+			if (!market && !crosses(order, level.getKey())) {
+				break;
+			}
+			final OrderStorage.Fillable fillable = level.getValue().fillable(order, selfTradePrevention);
+			available = available.add(fillable.quantity());
+			if (available.compareTo(order.getRemainingQuantity()) >= 0) {
+				return true;
+			}
+			if (fillable.blocked()) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	// 지정가 주문이 상대 호가와 체결 가능한 가격인지
+	private boolean crosses(final TradeOrder order, final Price counterPrice) {
+		if (order.isSellType()) {
+			return !counterPrice.isLowerThan(order.getPrice());
+		}
+		return !counterPrice.isHigherThan(order.getPrice());
+	}
+
+	/**
+	 * 미체결 잔량 처리 - DAY, GTD 는 주문장에 추가, IOC, FOK 는 취소
+	 */
+	private void restOrCancel(final NavigableMap<Price, OrderStorage> orderBook, final TradeOrder order,
+			final OrderBookListener listener) {
+		if (!order.restsOnBook()) {
+			cancelUnfilled(order, listener);
+			return;
+		}
+		if (order.getPrice().compareTo(BigDecimal.ZERO) != 0) {
+			addToOrderBook(orderBook, order);
+		}
+	}
+
+	private void cancelUnfilled(final TradeOrder order, final OrderBookListener listener) {
+		final BigDecimal unfilled = order.getRemainingQuantity();
+		if (unfilled.compareTo(BigDecimal.ZERO) > 0) {
+			order.cancel(unfilled);
+			listener.onUnfilledCancelled(order, unfilled);
+		}
+	}
+
 	/**
 	 * 주문장에 주문 추가
 	 */
@@ -202,6 +588,51 @@ public class OrderBook {
 				new Price(order.getPrice()),
 				k -> new OrderStorage()
 		).offer(order);
+		registerExpirable(order);
+	}
+
+	private void registerExpirable(final TradeOrder order) {
+		if (order.getTimeInForce() == TimeInForce.GTD && order.getId() != null) {
+			expirableOrders.put(order.getId(), order);
+		}
+	}
+
+	/**
+	 * GTD 주문 만료 - 주문이 있는 가격대(발동 전이면 스탑 대기열)에서만 제거
+	 *
+	 * @return 취소된 잔량 (이미 체결, 취소된 주문이면 0)
+	 */
+	public synchronized BigDecimal expire(final Long orderId) {
+		final TradeOrder order = expirableOrders.remove(orderId);
+		if (order == null || order.getRemainingQuantity().compareTo(BigDecimal.ZERO) == 0) {
+			return BigDecimal.ZERO;
+		}
+		if (order.isStopOrder() && stopOrders.remove(order)) {
+			final BigDecimal quantity = order.getRemainingQuantity();
+			order.cancel(quantity);
+			return quantity;
+		}
+
+		final NavigableMap<Price, OrderStorage> orderBook = order.isSellType() ? sellOrders : buyOrders;
+		final Price price = new Price(order.getPrice());
+		final OrderStorage storage = orderBook.get(price);
+		if (storage == null || !storage.remove(order)) {
+			return BigDecimal.ZERO;
+		}
+		if (storage.isEmpty()) {
+			orderBook.remove(price);
+		}
+
+		final BigDecimal quantity = order.getRemainingQuantity();
+		order.cancel(quantity);
+		return quantity;
+	}
+
+	/**
+	 * 발동 대기 중인 스탑 주문 수
+	 */
+	public int getStopOrderCount() {
+		return stopOrders.size();
 	}
 
 	/**
@@ -231,7 +662,7 @@ public class OrderBook {
 		return this.sellOrders.entrySet().stream()
 				.limit(10)
 				.map(entry -> new PriceLevelDto(
-						entry.getKey().getValue(), calculateTotalQuantity(entry.getValue()), entry.getValue().size())
+						entry.getKey().getValue(), entry.getValue().getTotalQuantity(), entry.getValue().size())
 				).toList();
 	}
 
@@ -242,19 +673,10 @@ public class OrderBook {
 		return this.buyOrders.entrySet().stream()
 				.limit(10)
 				.map(entry -> new PriceLevelDto(
-						entry.getKey().getValue(), calculateTotalQuantity(entry.getValue()), entry.getValue().size())
+						entry.getKey().getValue(), entry.getValue().getTotalQuantity(), entry.getValue().size())
 				).toList();
 	}
 
-	/**
-	 * 총 주문 수량 계산
-	 */
-	private BigDecimal calculateTotalQuantity(OrderStorage orders) {
-		return orders.getElements().stream()
-				.map(TradeOrder::getRemainingQuantity)
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
-	}
-
 	/**
 	 * 종목별 요약 정보 조회
 	 */
@@ -0,0 +1,26 @@
+package org.scoula.backend.order.service.orderbook;
+
+import java.math.BigDecimal;
+
+import org.scoula.backend.order.domain.TradeOrder;
+
+/**
+ * 주문장에서 체결 없이 처리된 주문 통보
+ */
+public interface OrderBookListener {
+
+	OrderBookListener NONE = new OrderBookListener() {
+	};
+
+	// 자전거래 방지로 취소된 내역
+	default void onSelfTradePrevented(final SelfTradeAction action) {
+	}
+
+	// 주문장에 남지 않는 주문(IOC, FOK, 시장가)의 미체결 잔량 취소
+	default void onUnfilledCancelled(final TradeOrder order, final BigDecimal quantity) {
+	}
+
+	// 체결가가 발동 가격을 지나 스탑 주문이 발동됨
+	default void onStopTriggered(final TradeOrder order) {
+	}
+}
@@ -1,7 +1,6 @@
 package org.scoula.backend.order.service.orderbook;
 
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
-import org.scoula.backend.order.domain.Order;
 import org.scoula.backend.order.domain.TradeOrder;
 
 import java.math.BigDecimal;
@@ -9,6 +8,8 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
@@ -19,10 +20,27 @@ public class OrderStorage {
                     .thenComparing(TradeOrder::getTotalQuantity, Comparator.reverseOrder())
     );
 
-    public TradeHistoryResponse match(final TradeOrder incomingOrder) {
+    // 가격대 잔량 합계 (호가창, FOK 사전 검사에서 주문을 순회하지 않고 사용)
+    private BigDecimal totalQuantity = BigDecimal.ZERO;
+
+    // 계좌별 잔량 합계 (FOK 사전 검사에서 같은 계좌 잔량을 주문 순회 없이 제외)
+    private final Map<Long, BigDecimal> accountQuantities = new HashMap<>();
+
+    /**
+     * 가장 우선순위가 높은 주문과 매칭
+     * - 같은 계좌 주문이면 자전거래 방지 정책에 따라 취소하고 null 반환
+     *   (입력 주문 잔량이 줄거나 head 가 제거되므로 매칭 루프는 항상 진행됨)
+     */
+    public TradeHistoryResponse match(final TradeOrder incomingOrder, final SelfTradePrevention selfTradePrevention,
+                                      final OrderBookListener listener) {
         final TradeOrder foundOrder = elements.peek();
 
-        if (foundOrder == null || incomingOrder.hasSameAccount(foundOrder)) {
+        if (foundOrder == null) {
+            return null;
+        }
+
+        if (incomingOrder.hasSameAccount(foundOrder)) {
+            listener.onSelfTradePrevented(preventSelfTrade(incomingOrder, foundOrder, selfTradePrevention));
             return null;
         }
 
@@ -32,16 +50,47 @@ public class OrderStorage {
         // 1. 주문 수량 업데이트
         incomingOrder.decreaseRemainingQuantity(matchedQuantity);
         foundOrder.decreaseRemainingQuantity(matchedQuantity);
+        subtractQuantity(foundOrder, matchedQuantity);
 
-        // 2. 완전 체결된 주문 제거
+        // 2. 완전 체결된 주문 제거 (항상 head 이므로 전체 탐색 없이 poll)
         if (foundOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) == 0) {
-            elements.remove(foundOrder);
+            elements.poll();
         }
 
         // TradeHistoryResponse 응답 생성 및 반환
         return createResponse(incomingOrder, foundOrder, matchedQuantity, matchPrice);
     }
 
+    // 자전거래 방지 - 정책에 따라 체결 없이 잔량 취소, 잔량이 없어진 head 는 poll 로 제거
+    private SelfTradeAction preventSelfTrade(final TradeOrder incomingOrder, final TradeOrder foundOrder,
+                                             final SelfTradePrevention selfTradePrevention) {
+        BigDecimal incomingCancelled = BigDecimal.ZERO;
+        BigDecimal foundCancelled = BigDecimal.ZERO;
+
+        switch (selfTradePrevention) {
+            case CANCEL_NEWEST -> incomingCancelled = incomingOrder.getRemainingQuantity();
+            case CANCEL_OLDEST -> foundCancelled = foundOrder.getRemainingQuantity();
+            case CANCEL_BOTH -> {
+                incomingCancelled = incomingOrder.getRemainingQuantity();
+                foundCancelled = foundOrder.getRemainingQuantity();
+            }
+            case DECREMENT -> {
+                incomingCancelled = incomingOrder.calculateMatchQuantity(foundOrder);
+                foundCancelled = incomingCancelled;
+            }
+        }
+
+        incomingOrder.cancel(incomingCancelled);
+        foundOrder.cancel(foundCancelled);
+        subtractQuantity(foundOrder, foundCancelled);
+
+        if (foundOrder.getRemainingQuantity().compareTo(BigDecimal.ZERO) == 0) {
+            elements.poll();
+        }
+
+        return new SelfTradeAction(selfTradePrevention, incomingOrder, incomingCancelled, foundOrder, foundCancelled);
+    }
+
     // 매도자, 매수자 구분 후 응답 생성
     private TradeHistoryResponse createResponse(final TradeOrder incomingOrder, final TradeOrder foundOrder, BigDecimal matchedQuantity, BigDecimal matchPrice) {
         if (incomingOrder.isSellType()) {
@@ -64,12 +113,82 @@ public class OrderStorage {
                 .build();
     }
 
+    /**
+     * 자전거래 방지 정책을 적용했을 때 입력 주문과 체결 가능한 잔량 (FOK 사전 검사, 주문 순회 없이 O(1))
+     * - 같은 계좌 잔량이 없으면 가격대 합계 그대로 사용
+     * - CANCEL_OLDEST 는 같은 계좌 주문을 취소하고 계속 매칭하므로 그 잔량만 제외
+     * - 그 외 정책은 같은 계좌 주문을 만나면 입력 주문이 줄어들고, 가격대 안의 순서는 알 수 없으므로
+     *   이 가격대는 집계하지 않고 blocked 로 표시
+     */
+    public Fillable fillable(final TradeOrder incomingOrder, final SelfTradePrevention selfTradePrevention) {
+        final BigDecimal sameAccountQuantity = getAccountQuantity(incomingOrder);
+        if (sameAccountQuantity.signum() == 0) {
+            return new Fillable(totalQuantity, false);
+        }
+        if (selfTradePrevention == SelfTradePrevention.CANCEL_OLDEST) {
+            return new Fillable(totalQuantity.subtract(sameAccountQuantity), false);
+        }
+        return new Fillable(BigDecimal.ZERO, true);
+    }
+
+    // 주문 계좌의 가격대 잔량 합계
+    public BigDecimal getAccountQuantity(final TradeOrder order) {
+        final Long accountId = accountId(order);
+        if (accountId == null) {
+            return BigDecimal.ZERO;
+        }
+        return accountQuantities.getOrDefault(accountId, BigDecimal.ZERO);
+    }
+
     public boolean isEmpty() {
         return elements.isEmpty();
     }
 
     public void offer(TradeOrder order) {
         elements.offer(order);
+        totalQuantity = totalQuantity.add(order.getRemainingQuantity());
+        final Long accountId = accountId(order);
+        if (accountId != null) {
+            accountQuantities.merge(accountId, order.getRemainingQuantity(), BigDecimal::add);
+        }
+    }
+
+    // 우선순위가 가장 높은 주문 꺼내기 (단일가 매매 일괄 체결)
+    public TradeOrder poll() {
+        final TradeOrder order = elements.poll();
+        if (order != null) {
+            subtractQuantity(order, order.getRemainingQuantity());
+        }
+        return order;
+    }
+
+    // 특정 주문 제거 (GTD 만료) - 해당 가격대만 탐색
+    public boolean remove(final TradeOrder order) {
+        if (!elements.remove(order)) {
+            return false;
+        }
+        subtractQuantity(order, order.getRemainingQuantity());
+        return true;
+    }
+
+    // 가격대, 계좌별 잔량 합계 차감 (체결, 취소, 제거)
+    private void subtractQuantity(final TradeOrder order, final BigDecimal quantity) {
+        totalQuantity = totalQuantity.subtract(quantity);
+        final Long accountId = accountId(order);
+        if (accountId != null) {
+            accountQuantities.computeIfPresent(accountId, (k, v) -> {
+                final BigDecimal left = v.subtract(quantity);
+                return left.signum() == 0 ? null : left;
+            });
+        }
+    }
+
+    private static Long accountId(final TradeOrder order) {
+        return order.getAccount() != null ? order.getAccount().getId() : null;
+    }
+
+    public BigDecimal getTotalQuantity() {
+        return totalQuantity;
     }
 
     public int size() {
@@ -79,4 +198,10 @@ public class OrderStorage {
     public Collection<TradeOrder> getElements() {
         return Collections.unmodifiableCollection(elements);
     }
+
+    /**
+     * 체결 가능한 잔량과 자전거래 방지로 이후 가격대까지 매칭이 이어지지 않는지 여부
+     */
+    public record Fillable(BigDecimal quantity, boolean blocked) {
+    }
 }
@@ -0,0 +1,17 @@
+package org.scoula.backend.order.service.orderbook;
+
+import java.math.BigDecimal;
+
+import org.scoula.backend.order.domain.TradeOrder;
+
+/**
+ * 자전거래 방지로 처리된 내역 (체결 없이 취소된 수량)
+ */
+public record SelfTradeAction(
+		SelfTradePrevention mode,
+		TradeOrder incomingOrder,
+		BigDecimal incomingCancelledQuantity,
+		TradeOrder restingOrder,
+		BigDecimal restingCancelledQuantity
+) {
+}
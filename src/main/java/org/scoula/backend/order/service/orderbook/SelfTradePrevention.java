@@ -0,0 +1,15 @@
+package org.scoula.backend.order.service.orderbook;
+
+/**
+ * 자전거래 방지 정책 (같은 계좌의 매수/매도 주문이 만났을 때 처리 방식)
+ */
+public enum SelfTradePrevention {
+	// 새로 들어온 주문의 잔량 취소
+	CANCEL_NEWEST,
+	// 주문장에 있던 주문 취소 후 다음 주문과 계속 매칭
+	CANCEL_OLDEST,
+	// 두 주문 모두 잔량 취소
+	CANCEL_BOTH,
+	// 두 주문에서 겹치는 수량만큼 체결 없이 차감
+	DECREMENT
+}
@@ -0,0 +1,111 @@
+package org.scoula.backend.order.service.orderbook;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.scoula.backend.order.domain.TradeOrder;
+
+/**
+ * 종목별 스탑 주문 대기열 (발동 가격 인덱스)
+ * - 매수 스탑: 체결가가 발동 가격 이상이면 발동, 발동 가격 오름차순 보관
+ * - 매도 스탑: 체결가가 발동 가격 이하이면 발동, 발동 가격 내림차순 보관
+ * - 체결 가격 범위가 지나간 가격대만 앞에서부터 꺼내므로 비용은 발동된 주문 수에 비례
+ * - 발동된 주문은 접수 순서대로 반환
+ */
+public class StopOrderBook {
+
+	// 매수 스탑: 낮은 발동 가격 우선
+	private final NavigableMap<BigDecimal, Deque<ParkedOrder>> buyStops = new TreeMap<>();
+	// 매도 스탑: 높은 발동 가격 우선
+	private final NavigableMap<BigDecimal, Deque<ParkedOrder>> sellStops = new TreeMap<>(Collections.reverseOrder());
+
+	// 마지막 체결가 (체결 전이면 null)
+	private BigDecimal lastTradePrice;
+	// 접수 순번
+	private long sequence;
+	private int size;
+
+	/**
+	 * 마지막 체결가로 이미 발동 조건을 만족하지 않으면 대기열에 추가
+	 *
+	 * @return 대기열에 추가되었으면 true, 즉시 발동 대상이면 false
+	 */
+	public synchronized boolean parkUnlessTriggered(final TradeOrder order) {
+		if (isTriggered(order, lastTradePrice)) {
+			return false;
+		}
+		final NavigableMap<BigDecimal, Deque<ParkedOrder>> stops = order.isSellType() ? sellStops : buyStops;
+		stops.computeIfAbsent(order.getStopPrice(), k -> new ArrayDeque<>())
+				.add(new ParkedOrder(order, sequence++));
+		size++;
+		return true;
+	}
+
+	/**
+	 * 체결 가격 범위 [low, high] 로 발동된 주문을 꺼내 접수 순서대로 반환
+	 */
+	public synchronized List<TradeOrder> trigger(final BigDecimal low, final BigDecimal high,
+			final BigDecimal last) {
+		lastTradePrice = last;
+
+		final List<ParkedOrder> triggered = new ArrayList<>();
+		// 매수 스탑: 발동 가격 <= high, 매도 스탑: 발동 가격 >= low
+		drain(buyStops.headMap(high, true), triggered);
+		drain(sellStops.headMap(low, true), triggered);
+		if (triggered.isEmpty()) {
+			return List.of();
+		}
+
+		triggered.sort(Comparator.comparingLong(ParkedOrder::sequence));
+		return triggered.stream().map(ParkedOrder::order).toList();
+	}
+
+	/**
+	 * 발동 전 주문 제거 (GTD 만료 등)
+	 */
+	public synchronized boolean remove(final TradeOrder order) {
+		final NavigableMap<BigDecimal, Deque<ParkedOrder>> stops = order.isSellType() ? sellStops : buyStops;
+		final Deque<ParkedOrder> level = stops.get(order.getStopPrice());
+		if (level == null || !level.removeIf(parked -> parked.order() == order)) {
+			return false;
+		}
+		if (level.isEmpty()) {
+			stops.remove(order.getStopPrice());
+		}
+		size--;
+		return true;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	// 체결가가 발동 가격을 지났는지
+	static boolean isTriggered(final TradeOrder order, final BigDecimal tradePrice) {
+		if (tradePrice == null) {
+			return false;
+		}
+		if (order.isSellType()) {
+			return tradePrice.compareTo(order.getStopPrice()) <= 0;
+		}
+		return tradePrice.compareTo(order.getStopPrice()) >= 0;
+	}
+
+	private void drain(final NavigableMap<BigDecimal, Deque<ParkedOrder>> crossed, final List<ParkedOrder> out) {
+		for (Deque<ParkedOrder> level : crossed.values()) {
+			out.addAll(level);
+			size -= level.size();
+		}
+		crossed.clear();
+	}
+
+	private record ParkedOrder(TradeOrder order, long sequence) {
+	}
+}
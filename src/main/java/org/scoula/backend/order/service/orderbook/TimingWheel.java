@@ -0,0 +1,81 @@
+package org.scoula.backend.order.service.orderbook;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 만료 시각 관리용 타이밍 휠
+ * - 등록: 만료 tick 의 슬롯에 추가 O(1)
+ * - 진행: 지나간 tick 의 슬롯만 확인 (한 바퀴 이상 남은 항목은 다음 바퀴까지 유지)
+ * - 주문장 전체를 주기적으로 훑지 않고 만료된 항목만 꺼낸다.
+ */
+public class TimingWheel<T> {
+
+	private final long tickMillis;
+	private final List<List<Slot<T>>> wheel;
+
+	// 마지막으로 처리한 tick
+	private long currentTick;
+	private int size;
+
+	public TimingWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+		this.tickMillis = tickMillis;
+		this.wheel = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			wheel.add(new ArrayList<>());
+		}
+		this.currentTick = startMillis / tickMillis;
+	}
+
+	/**
+	 * 만료 시각 등록 - 이미 지난 시각이면 다음 tick 에 만료
+	 */
+	public synchronized void schedule(final T item, final long deadlineMillis) {
+		final long tick = Math.max(ceilTick(deadlineMillis), currentTick + 1);
+		wheel.get(slotIndex(tick)).add(new Slot<>(item, tick));
+		size++;
+	}
+
+	/**
+	 * nowMillis 까지 만료된 항목 반환
+	 */
+	public synchronized List<T> advance(final long nowMillis) {
+		final long nowTick = nowMillis / tickMillis;
+		final List<T> expired = new ArrayList<>();
+		if (nowTick <= currentTick) {
+			return expired;
+		}
+
+		// 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+		final long steps = Math.min(nowTick - currentTick, wheel.size());
+		for (long i = 1; i <= steps; i++) {
+			final Iterator<Slot<T>> iterator = wheel.get(slotIndex(currentTick + i)).iterator();
+			while (iterator.hasNext()) {
+				final Slot<T> slot = iterator.next();
+				if (slot.tick() <= nowTick) {
+					expired.add(slot.item());
+					iterator.remove();
+					size--;
+				}
+			}
+		}
+		currentTick = nowTick;
+		return expired;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private long ceilTick(final long millis) {
+		return (millis + tickMillis - 1) / tickMillis;
+	}
+
+	private int slotIndex(final long tick) {
+		return (int)(tick % wheel.size());
+	}
+
+	private record Slot<T>(T item, long tick) {
+	}
+}
@@ -0,0 +1,125 @@
+package org.scoula.backend.order.service.subscription;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 구독 현황
+ * - 구독/구독 해제/연결 종료 이벤트로 목적지별 구독자 수를 유지
+ * - 발행 측은 전송 전에 구독자 여부를 확인하여 구독자가 없는 종목의 스냅샷 생성, 직렬화를 생략
+ */
+@Slf4j
+@Component
+public class SubscriptionRegistry {
+
+	// 목적지 -> 구독자 수
+	private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+	// 세션 ID -> (구독 ID -> 목적지)
+	private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+	@EventListener
+	public void onSubscribe(final SessionSubscribeEvent event) {
+		final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+	}
+
+	@EventListener
+	public void onUnsubscribe(final SessionUnsubscribeEvent event) {
+		final SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void onDisconnect(final SessionDisconnectEvent event) {
+		disconnect(event.getSessionId());
+	}
+
+	public void subscribe(final String sessionId, final String subscriptionId, final String destination) {
+		if (sessionId == null || subscriptionId == null || destination == null) {
+			return;
+		}
+
+		final Map<String, String> subscriptions = sessions.computeIfAbsent(sessionId, k -> new HashMap<>());
+		final String previous;
+		synchronized (subscriptions) {
+			previous = subscriptions.put(subscriptionId, destination);
+		}
+		if (previous != null) {
+			decrement(previous);
+		}
+		counts.merge(destination, 1, Integer::sum);
+	}
+
+	public void unsubscribe(final String sessionId, final String subscriptionId) {
+		if (sessionId == null || subscriptionId == null) {
+			return;
+		}
+
+		final Map<String, String> subscriptions = sessions.get(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		final String destination;
+		synchronized (subscriptions) {
+			destination = subscriptions.remove(subscriptionId);
+		}
+		if (destination != null) {
+			decrement(destination);
+		}
+	}
+
+	public void disconnect(final String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+
+		final Map<String, String> subscriptions = sessions.remove(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		final List<String> destinations;
+		synchronized (subscriptions) {
+			destinations = List.copyOf(subscriptions.values());
+		}
+		destinations.forEach(this::decrement);
+	}
+
+	public boolean hasSubscribers(final String destination) {
+		return counts.containsKey(destination);
+	}
+
+	public int getSubscriberCount(final String destination) {
+		return counts.getOrDefault(destination, 0);
+	}
+
+	/**
+	 * 구독자가 있는 목적지 중 prefix 로 시작하는 목적지 (구독 중인 목적지 수에 비례)
+	 */
+	public Set<String> getDestinations(final String prefix) {
+		final Set<String> destinations = new HashSet<>();
+		for (String destination : counts.keySet()) {
+			if (destination.startsWith(prefix)) {
+				destinations.add(destination);
+			}
+		}
+		return destinations;
+	}
+
+	private void decrement(final String destination) {
+		// 0이 되면 항목을 제거하여 hasSubscribers 를 키 존재 여부로 판단
+		counts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+	}
+}
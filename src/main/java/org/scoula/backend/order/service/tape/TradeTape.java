@@ -0,0 +1,97 @@
+package org.scoula.backend.order.service.tape;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.scoula.backend.order.controller.response.TimeAndSalesResponse;
+import org.scoula.backend.order.domain.TradeHistory;
+
+/**
+ * 종목별 체결 테이프 (고정 크기 링 버퍼)
+ * - 체결은 원시 타입 배열에 순번(sequence) 순으로 기록, 가장 오래된 체결부터 덮어씀
+ * - 기록은 한 번에 한 스레드만 수행하고, 조회는 잠금 없이 읽은 뒤 덮어쓰기 여부를 검증 (seqlock)
+ * - 최근 체결 조회는 O(1)
+ */
+public class TradeTape {
+
+	private final int capacity;
+	private final int mask;
+
+	private final long[] tradeIds;
+	private final long[] prices;
+	private final long[] quantities;
+	private final long[] tradeTimes;
+
+	// 기록을 시작한 순번 + 1 (덮어쓰기 검증용)
+	private volatile long claimed;
+	// 기록을 마친 순번 + 1 (조회 가능 범위)
+	private volatile long published;
+	private volatile TradeHistory last;
+
+	public TradeTape(final int capacity) {
+		this.capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+		this.mask = this.capacity - 1;
+		this.tradeIds = new long[this.capacity];
+		this.prices = new long[this.capacity];
+		this.quantities = new long[this.capacity];
+		this.tradeTimes = new long[this.capacity];
+	}
+
+	/**
+	 * 체결 기록 (기록 스레드는 종목당 하나씩 직렬화)
+	 *
+	 * @return 부여된 순번
+	 */
+	public synchronized long append(final TradeHistory trade) {
+		final long sequence = published;
+		final int slot = (int)(sequence & mask);
+
+		claimed = sequence + 1;
+		VarHandle.storeStoreFence();
+		tradeIds[slot] = trade.getId() != null ? trade.getId() : 0L;
+		prices[slot] = trade.getPrice().longValue();
+		quantities[slot] = trade.getQuantity().longValue();
+		tradeTimes[slot] = trade.getTradeTime();
+		last = trade;
+		published = sequence + 1;
+		return sequence;
+	}
+
+	public TradeHistory getLast() {
+		return last;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * cursor 보다 이전 순번의 체결을 최신순으로 최대 size 건 조회 (cursor 가 null 이면 가장 최근부터)
+	 */
+	public TimeAndSalesResponse read(final String companyCode, final Long cursor, final int size) {
+		final long end = published;
+		final long from = cursor == null ? end - 1 : Math.min(cursor, end) - 1;
+		final List<TimeAndSalesResponse.Trade> trades = new ArrayList<>(Math.min(size, capacity));
+
+		long sequence = from;
+		for (; sequence >= 0 && trades.size() < size; sequence--) {
+			final int slot = (int)(sequence & mask);
+			final long tradeId = tradeIds[slot];
+			final long price = prices[slot];
+			final long quantity = quantities[slot];
+			final long tradeTime = tradeTimes[slot];
+
+			// 읽는 동안 같은 칸에 새 체결이 기록되기 시작했으면 이미 밀려난 체결
+			VarHandle.loadLoadFence();
+			if (claimed > sequence + capacity) {
+				break;
+			}
+			trades.add(new TimeAndSalesResponse.Trade(sequence, tradeId, price, quantity, tradeTime));
+		}
+
+		final boolean hasMore = sequence >= 0 && claimed <= sequence + capacity;
+		final Long nextCursor = hasMore && !trades.isEmpty() ? trades.get(trades.size() - 1).sequence() : null;
+		return new TimeAndSalesResponse(companyCode, trades, nextCursor);
+	}
+}
@@ -1,15 +1,12 @@
 package org.scoula.backend.order.service.validator;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 
 import org.scoula.backend.order.service.exception.OrderPriceQuotationException;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public enum OrderValidator {
 
 	UNIT_1(                                // ~ 2,000원 미만
@@ -48,21 +45,68 @@ public enum OrderValidator {
 			new BigDecimal("1000")
 	);
 
+	private static final OrderValidator[] UNITS = values();
+
 	private final BigDecimal minPrice;
 	private final BigDecimal maxPrice;
 	private final BigDecimal unit;
 
+	// 원 단위 정수 값 (검증 시 BigDecimal 연산 없이 비교)
+	private final long minPriceValue;
+	private final long maxPriceValue;
+	private final long unitValue;
+
+	OrderValidator(final BigDecimal minPrice, final BigDecimal maxPrice, final BigDecimal unit) {
+		this.minPrice = minPrice;
+		this.maxPrice = maxPrice;
+		this.unit = unit;
+		this.minPriceValue = minPrice.longValueExact();
+		this.maxPriceValue = maxPrice.longValueExact();
+		this.unitValue = unit.longValueExact();
+	}
+
 	// 지정가 주문 가격 범위 유효성 검증
 	public static OrderValidator getUnitByPrice(final BigDecimal price) {
-		return Arrays.stream(values())
-				.filter(unit ->
-						price.compareTo(unit.minPrice) >= 0 &&
-								price.compareTo(unit.maxPrice) < 0
-				)
-				.findFirst()
-				.orElseThrow(() ->
-						new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.")
-				);
+		for (OrderValidator validator : UNITS) {
+			if (price.compareTo(validator.minPrice) >= 0 && price.compareTo(validator.maxPrice) < 0) {
+				return validator;
+			}
+		}
+		throw new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.");
+	}
+
+	// 정수 가격의 호가 단위 조회
+	public static OrderValidator getUnitByPrice(final long price) {
+		for (OrderValidator validator : UNITS) {
+			if (price >= validator.minPriceValue && price < validator.maxPriceValue) {
+				return validator;
+			}
+		}
+		throw new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.");
+	}
+
+	/**
+	 * 지정가 주문 가격 검증 - 정수 변환 후 long 비교와 나머지 연산만 수행
+	 *
+	 * @return 원 단위 정수 가격
+	 */
+	public static long validatePrice(final BigDecimal price) {
+		if (price == null || price.signum() < 0) {
+			throw new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.");
+		}
+
+		final long value;
+		try {
+			value = price.longValueExact();
+		} catch (ArithmeticException e) {
+			// 소수점 가격은 어떤 호가 단위에도 맞지 않음
+			throw new OrderPriceQuotationException("주문 가격이 호가 단위에 맞지 않습니다.");
+		}
+
+		if (!getUnitByPrice(value).isTick(value)) {
+			throw new OrderPriceQuotationException("주문 가격이 호가 단위에 맞지 않습니다.");
+		}
+		return value;
 	}
 
 	// 지정가 주문 가격 견젹 유효성 검증
@@ -77,4 +121,20 @@ public enum OrderValidator {
 				this.unit.toPlainString());
 	}
 
+	public boolean isTick(final long price) {
+		return price % unitValue == 0;
+	}
+
+	public long getMinPriceValue() {
+		return minPriceValue;
+	}
+
+	public long getMaxPriceValue() {
+		return maxPriceValue;
+	}
+
+	public long getUnitValue() {
+		return unitValue;
+	}
+
 }
@@ -0,0 +1,115 @@
+package org.scoula.backend.order.service.validator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 종목별 주문 가능 가격표 (하한가, 상한가, 구간별 호가 단위)
+ * - 전일 종가 기준으로 한 번 계산하여 재사용 (종가가 바뀌면 새로 생성)
+ * - 가격 검증은 long 비교와 나머지 연산만 수행
+ */
+public final class PriceTickTable {
+
+	private final long lowerLimit;
+	private final long upperLimit;
+
+	// 가격 제한 범위에 걸치는 호가 구간 (시작 가격 오름차순)
+	private final long[] bandStarts;
+	private final long[] bandEnds;
+	private final long[] bandUnits;
+
+	private PriceTickTable(final long lowerLimit, final long upperLimit,
+			final long[] bandStarts, final long[] bandEnds, final long[] bandUnits) {
+		this.lowerLimit = lowerLimit;
+		this.upperLimit = upperLimit;
+		this.bandStarts = bandStarts;
+		this.bandEnds = bandEnds;
+		this.bandUnits = bandUnits;
+	}
+
+	/**
+	 * 가격 제한 범위로 가격표 생성 - 제한 가격은 범위 안쪽의 가장 가까운 호가로 맞춤
+	 */
+	public static PriceTickTable of(final BigDecimal lowerBound, final BigDecimal upperBound) {
+		final long lower = ceilToTick(Math.max(0, lowerBound.setScale(0, RoundingMode.CEILING).longValueExact()));
+		final long upper = floorToTick(upperBound.setScale(0, RoundingMode.FLOOR).longValueExact());
+
+		final List<OrderValidator> bands = new ArrayList<>();
+		for (OrderValidator validator : OrderValidator.values()) {
+			if (validator.getMinPriceValue() <= upper && validator.getMaxPriceValue() > lower) {
+				bands.add(validator);
+			}
+		}
+
+		final long[] starts = new long[bands.size()];
+		final long[] ends = new long[bands.size()];
+		final long[] units = new long[bands.size()];
+		for (int i = 0; i < bands.size(); i++) {
+			final OrderValidator band = bands.get(i);
+			starts[i] = Math.max(band.getMinPriceValue(), lower);
+			ends[i] = Math.min(band.getMaxPriceValue() - 1, upper);
+			units[i] = band.getUnitValue();
+		}
+
+		return new PriceTickTable(lower, upper, starts, ends, units);
+	}
+
+	/**
+	 * 가격 제한 범위 검증
+	 */
+	public boolean isWithinLimit(final long price) {
+		return price >= lowerLimit && price <= upperLimit;
+	}
+
+	/**
+	 * 가격 제한 범위와 호가 단위 모두 검증
+	 */
+	public boolean isValid(final long price) {
+		if (!isWithinLimit(price)) {
+			return false;
+		}
+		for (int i = bandStarts.length - 1; i >= 0; i--) {
+			if (price >= bandStarts[i]) {
+				return price % bandUnits[i] == 0;
+			}
+		}
+		return false;
+	}
+
+	public long getLowerLimit() {
+		return lowerLimit;
+	}
+
+	public long getUpperLimit() {
+		return upperLimit;
+	}
+
+	public int getBandCount() {
+		return bandStarts.length;
+	}
+
+	public long getBandStart(final int index) {
+		return bandStarts[index];
+	}
+
+	public long getBandEnd(final int index) {
+		return bandEnds[index];
+	}
+
+	public long getBandUnit(final int index) {
+		return bandUnits[index];
+	}
+
+	private static long ceilToTick(final long price) {
+		final long unit = OrderValidator.getUnitByPrice(price).getUnitValue();
+		final long remainder = price % unit;
+		return remainder == 0 ? price : price + (unit - remainder);
+	}
+
+	private static long floorToTick(final long price) {
+		final long unit = OrderValidator.getUnitByPrice(price).getUnitValue();
+		return price - price % unit;
+	}
+}
@@ -0,0 +1,86 @@
+package org.scoula.backend.order.service.version;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목별 호가(내부, 외부), 캔들 시리즈 버전
+ * - 내용이 바뀔 때마다 단조 증가하며 조회 API 의 ETag 로 사용 (If-None-Match 일치 시 304)
+ * - 롱 폴링 요청은 버전이 바뀌면 리스너로 깨운다.
+ */
+@Component
+public class MarketDataVersions {
+
+	public static final String RANKING_KEY = "ranking";
+
+	private static final String ORDER_BOOK = "orderbook:";
+	private static final String EXTERNAL_BOOK = "external-orderbook:";
+	private static final String CHART = "chart:";
+
+	// 재시작 후 같은 버전 번호가 다른 내용을 가리키지 않도록 ETag 에 포함
+	private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+	private final Map<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+	public static String orderBookKey(final String companyCode) {
+		return ORDER_BOOK + companyCode;
+	}
+
+	public static String externalBookKey(final String companyCode) {
+		return EXTERNAL_BOOK + companyCode;
+	}
+
+	public static String chartKey(final String companyCode) {
+		return CHART + companyCode;
+	}
+
+	public long getVersion(final String key) {
+		final AtomicLong version = versions.get(key);
+		return version != null ? version.get() : 0;
+	}
+
+	public static String toETag(final String key, final long version) {
+		return "\"" + EPOCH + "-" + key + "-" + version + "\"";
+	}
+
+	/**
+	 * 버전 증가 후 대기 중인 롱 폴링 요청 깨움
+	 * - 응답 생성은 호출 스레드(주문 처리, 캔들 갱신)가 아닌 별도 스레드에서 수행
+	 */
+	public long increment(final String key) {
+		final long version = versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+		final Set<Runnable> waiting = listeners.remove(key);
+		if (waiting != null && !waiting.isEmpty()) {
+			CompletableFuture.runAsync(() -> waiting.forEach(Runnable::run));
+		}
+		return version;
+	}
+
+	/**
+	 * 버전이 seenVersion 에서 바뀌면 listener 실행 (이미 바뀌었으면 즉시 실행)
+	 *
+	 * @return 대기 해제용 핸들 (타임아웃, 연결 종료 시 호출)
+	 */
+	public Runnable onChange(final String key, final long seenVersion, final Runnable listener) {
+		final Set<Runnable> waiting = listeners.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+		waiting.add(listener);
+		// 등록 전에 버전이 바뀌었으면 놓친 알림을 직접 실행
+		if (getVersion(key) != seenVersion && waiting.remove(listener)) {
+			listener.run();
+		}
+		return () -> waiting.remove(listener);
+	}
+
+	@EventListener
+	public void onOrderBookUpdated(final OrderBookUpdatedEvent event) {
+		increment(orderBookKey(event.summary().getCompanyCode()));
+	}
+}
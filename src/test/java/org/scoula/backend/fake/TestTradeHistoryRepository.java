@@ -1,10 +1,15 @@
 package org.scoula.backend.fake;
 
 import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
 import org.scoula.backend.order.service.TradeHistoryRepository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class TestTradeHistoryRepository implements TradeHistoryRepository {
 
@@ -30,6 +35,13 @@ public class TestTradeHistoryRepository implements TradeHistoryRepository {
         return saved;
     }
 
+    @Override
+    public List<TradeHistory> saveAll(Collection<TradeHistory> tradeHistories) {
+        return tradeHistories.stream()
+                .map(this::save)
+                .toList();
+    }
+
     private boolean hasElement(TradeHistory tradeHistory) {
         return elements.stream()
                 .anyMatch(h -> h.getId().equals(tradeHistory.getId()));
@@ -46,7 +58,31 @@ public class TestTradeHistoryRepository implements TradeHistoryRepository {
     }
 
     @Override
-    public List<TradeHistory> getTradeHistory() {
+    public List<LocalDate> findTradeDatesBefore(LocalDate date) {
+        return List.of();
+    }
+
+    @Override
+    public List<TradeHistory> findByTradeDate(LocalDate tradeDate) {
         return List.of();
     }
+
+    @Override
+    public int deleteByTradeDate(LocalDate tradeDate) {
+        return 0;
+    }
+
+    @Override
+    public Stream<TradeHistory> streamTradeHistory(TradeHistorySearchCondition condition, int limit) {
+        return elements.stream()
+                .filter(h -> condition.companyCode() == null || condition.companyCode().equals(h.getCompanyCode()))
+                .filter(h -> condition.orderId() == null || condition.orderId().equals(h.getBuyOrderId())
+                        || condition.orderId().equals(h.getSellOrderId()))
+                .filter(h -> condition.fromTime() == null || h.getTradeTime() >= condition.fromTime())
+                .filter(h -> condition.toTime() == null || h.getTradeTime() <= condition.toTime())
+                .filter(h -> !condition.hasCursor() || h.getTradeTime() < condition.cursorTime()
+                        || (h.getTradeTime().equals(condition.cursorTime()) && h.getId() < condition.cursorId()))
+                .sorted(Comparator.comparing(TradeHistory::getTradeTime).thenComparing(TradeHistory::getId).reversed())
+                .limit(limit);
+    }
 }
@@ -0,0 +1,114 @@
+package org.scoula.backend.global.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.global.jwt.JwtUtil;
+import org.scoula.backend.member.domain.Member;
+import org.scoula.backend.member.domain.MemberRoleEnum;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthorizationFilterTest {
+
+	@Mock
+	private UserDetailsServiceImpl userDetailsService;
+
+	private JwtUtil jwtUtil;
+	private VerifiedTokenCache verifiedTokenCache;
+	private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = spy(new JwtUtil());
+		ReflectionTestUtils.setField(jwtUtil, "secretKey",
+				Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+		jwtUtil.init();
+		verifiedTokenCache = new VerifiedTokenCache(10, 60_000);
+		jwtAuthorizationFilter = new JwtAuthorizationFilter(jwtUtil,
+				new JwtAuthenticationResolver(jwtUtil, userDetailsService, verifiedTokenCache));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("토큰 클레임만으로 인증 정보를 만들고, 같은 토큰은 캐시에서 재사용한다.")
+	void authenticateFromClaims() throws Exception {
+		final String token = jwtUtil.createToken(member());
+
+		final MockHttpServletResponse first = doFilter(token);
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		doFilter(token);
+
+		assertThat(first.getStatus()).isEqualTo(200);
+		final UserDetailsImpl principal = (UserDetailsImpl)authentication.getPrincipal();
+		assertThat(principal.getUsername()).isEqualTo("tester");
+		assertThat(principal.getMember().getId()).isEqualTo(7L);
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
+
+		verify(jwtUtil, times(1)).parseToken(any());
+		verifyNoInteractions(userDetailsService);
+		assertThat(verifiedTokenCache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("서명이 올바르지 않은 토큰은 401을 반환하고 캐시하지 않는다.")
+	void rejectInvalidToken() throws Exception {
+		final String token = jwtUtil.createToken(member());
+		final String tampered = token.substring(0, token.length() - 2) + "xx";
+
+		final MockHttpServletResponse response = doFilter(tampered);
+
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(verifiedTokenCache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 캐시 항목은 사용하지 않는다.")
+	void expireCachedEntry() {
+		final Authentication authentication = mock(Authentication.class);
+
+		verifiedTokenCache.put("token", authentication, 2_000, 1_000);
+
+		assertThat(verifiedTokenCache.get("token", 1_999)).isSameAs(authentication);
+		assertThat(verifiedTokenCache.get("token", 2_000)).isNull();
+		assertThat(verifiedTokenCache.size()).isZero();
+	}
+
+	private MockHttpServletResponse doFilter(final String token) throws Exception {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(JwtUtil.AUTHORIZATION_HEADER, token);
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		jwtAuthorizationFilter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	private Member member() {
+		return Member.builder()
+				.id(7L)
+				.googleId("google")
+				.email("tester@gmail.com")
+				.username("tester")
+				.role(MemberRoleEnum.USER)
+				.build();
+	}
+}
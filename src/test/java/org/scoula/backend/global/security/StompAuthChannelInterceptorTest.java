@@ -0,0 +1,102 @@
+package org.scoula.backend.global.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+	@Mock
+	private JwtAuthenticationResolver jwtAuthenticationResolver;
+
+	@Mock
+	private MessageChannel channel;
+
+	@InjectMocks
+	private StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+	@Test
+	@DisplayName("CONNECT 프레임의 토큰으로 세션 사용자를 설정한다.")
+	void authenticateOnConnect() {
+		final Authentication authentication = new UsernamePasswordAuthenticationToken("tester", null);
+		given(jwtAuthenticationResolver.resolve("Bearer token")).willReturn(authentication);
+
+		final Message<?> result = stompAuthChannelInterceptor.preSend(connect("Bearer token"), channel);
+
+		final StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class);
+		assertThat(accessor.getUser()).isSameAs(authentication);
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 토큰으로 CONNECT 하면 거부한다.")
+	void rejectInvalidToken() {
+		given(jwtAuthenticationResolver.resolve("Bearer invalid")).willReturn(null);
+
+		assertThatThrownBy(() -> stompAuthChannelInterceptor.preSend(connect("Bearer invalid"), channel))
+				.isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	@DisplayName("토큰 없이 연결한 세션은 공개 토픽만 구독할 수 있다.")
+	void anonymousSessionCanSubscribeOnlyPublicTopics() {
+		final Message<?> connected = stompAuthChannelInterceptor.preSend(connect(null), channel);
+		assertThat(MessageHeaderAccessor.getAccessor(connected, StompHeaderAccessor.class).getUser()).isNull();
+
+		assertThat(stompAuthChannelInterceptor.preSend(subscribe("/topic/orderbook/005930"), channel)).isNotNull();
+		assertThatThrownBy(() -> stompAuthChannelInterceptor.preSend(subscribe("/user/queue/fills"), channel))
+				.isInstanceOf(AccessDeniedException.class);
+		verifyNoInteractions(jwtAuthenticationResolver);
+	}
+
+	@Test
+	@DisplayName("브로커 큐를 직접 구독하거나 /user/queue 밖의 개인 목적지를 구독하면 거부한다.")
+	void rejectDirectQueueSubscription() {
+		assertThatThrownBy(() -> stompAuthChannelInterceptor.preSend(
+				subscribe("/queue/fills-usera1b2c3", new UsernamePasswordAuthenticationToken("tester", null)), channel))
+				.isInstanceOf(AccessDeniedException.class);
+		assertThatThrownBy(() -> stompAuthChannelInterceptor.preSend(
+				subscribe("/user/topic/fills", new UsernamePasswordAuthenticationToken("tester", null)), channel))
+				.isInstanceOf(AccessDeniedException.class);
+
+		assertThat(stompAuthChannelInterceptor.preSend(
+				subscribe("/user/queue/fills", new UsernamePasswordAuthenticationToken("tester", null)), channel))
+				.isNotNull();
+	}
+
+	private Message<byte[]> connect(final String token) {
+		final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		if (token != null) {
+			accessor.addNativeHeader("Authorization", token);
+		}
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private Message<byte[]> subscribe(final String destination) {
+		return subscribe(destination, null);
+	}
+
+	private Message<byte[]> subscribe(final String destination, final Authentication user) {
+		final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setDestination(destination);
+		accessor.setUser(user);
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,143 @@
+package org.scoula.backend.global.websocket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+@ExtendWith(MockitoExtension.class)
+class ConflatingSessionDecoratorTest {
+
+	private static final List<String> MARKET_DATA = List.of("/topic/orderbook/", "/topic/chart/");
+
+	@Mock
+	private WebSocketSession session;
+
+	@Test
+	@DisplayName("전송이 밀리는 동안 시세 토픽은 구독별 최신 프레임만 남기고, 그 외 프레임은 모두 순서대로 보낸다.")
+	void conflateMarketDataWhileSending() throws Exception {
+		final CountDownLatch sending = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		willAnswer(invocation -> {
+			sending.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).willDoNothing().given(session).sendMessage(any());
+		final ConflatingSessionDecorator decorator = new ConflatingSessionDecorator(session, policy(10_000, 100));
+
+		final CompletableFuture<Void> slowSend = CompletableFuture.runAsync(() -> send(decorator,
+				frame("/queue/fills", "sub-9", "fill-1")));
+		assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 전송 중인 스레드가 있으면 큐에 넣고 바로 반환
+		decorator.sendMessage(frame("/topic/orderbook/005930", "sub-0", "book-1"));
+		decorator.sendMessage(frame("/topic/orderbook/005930", "sub-0", "book-2"));
+		decorator.sendMessage(frame("/queue/fills", "sub-9", "fill-2"));
+		decorator.sendMessage(frame("/topic/orderbook/005930", "sub-0", "book-3"));
+		assertThat(decorator.getStats().queueDepth()).isEqualTo(2);
+
+		release.countDown();
+		slowSend.get(5, TimeUnit.SECONDS);
+
+		final ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+		verify(session, times(3)).sendMessage(sent.capture());
+		assertThat(sent.getAllValues())
+				.extracting(ConflatingSessionDecoratorTest::body)
+				.containsExactly("fill-1", "book-3", "fill-2");
+		assertThat(decorator.getStats().conflatedCount()).isEqualTo(2);
+		assertThat(decorator.getStats().sentCount()).isEqualTo(3);
+		assertThat(decorator.getStats().queueDepth()).isZero();
+	}
+
+	@Test
+	@DisplayName("대기 메시지 수가 한도를 넘으면 세션 한도 초과로 종료하고 남은 메시지는 폐기한다.")
+	void exceedQueueSize() throws Exception {
+		final CountDownLatch sending = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		willAnswer(invocation -> {
+			sending.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).given(session).sendMessage(any());
+		final ConflatingSessionDecorator decorator = new ConflatingSessionDecorator(session, policy(10_000, 2));
+
+		final CompletableFuture<Void> slowSend = CompletableFuture.runAsync(() -> send(decorator,
+				frame("/queue/fills", "sub-9", "fill-1")));
+		assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+		decorator.sendMessage(frame("/queue/fills", "sub-9", "fill-2"));
+		decorator.sendMessage(frame("/queue/fills", "sub-9", "fill-3"));
+		assertThatThrownBy(() -> decorator.sendMessage(frame("/queue/fills", "sub-9", "fill-4")))
+				.isInstanceOf(SessionLimitExceededException.class);
+
+		// 종료 이후 메시지도 폐기
+		decorator.sendMessage(frame("/queue/fills", "sub-9", "fill-5"));
+		release.countDown();
+		slowSend.get(5, TimeUnit.SECONDS);
+
+		verify(session, times(1)).sendMessage(any());
+		assertThat(decorator.getStats().droppedCount()).isEqualTo(4);
+		assertThat(decorator.getStats().closeReason()).contains("queue size");
+	}
+
+	@Test
+	@DisplayName("한 메시지 전송이 허용 시간을 넘기면 다음 메시지에서 세션을 종료한다.")
+	void exceedSendTimeLimit() throws Exception {
+		final CountDownLatch sending = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		willAnswer(invocation -> {
+			sending.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).given(session).sendMessage(any());
+		final ConflatingSessionDecorator decorator = new ConflatingSessionDecorator(session, policy(10, 100));
+
+		final CompletableFuture<Void> slowSend = CompletableFuture.runAsync(() -> send(decorator,
+				frame("/topic/chart/005930", "sub-1", "tick-1")));
+		assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(50);
+
+		assertThatThrownBy(() -> decorator.sendMessage(frame("/topic/chart/005930", "sub-1", "tick-2")))
+				.isInstanceOf(SessionLimitExceededException.class)
+				.hasMessageContaining("Send time limit");
+
+		release.countDown();
+		slowSend.get(5, TimeUnit.SECONDS);
+	}
+
+	private OutboundQueuePolicy policy(final long sendTimeLimitMillis, final int maxQueueSize) {
+		return new OutboundQueuePolicy(sendTimeLimitMillis, 512 * 1024, maxQueueSize, MARKET_DATA);
+	}
+
+	private static TextMessage frame(final String destination, final String subscription, final String body) {
+		return new TextMessage("MESSAGE\ndestination:" + destination + "\ncontent-type:application/json\n"
+				+ "subscription:" + subscription + "\nmessage-id:1\n\n" + body + "\0");
+	}
+
+	private static String body(final TextMessage message) {
+		final String payload = message.getPayload();
+		return payload.substring(payload.indexOf("\n\n") + 2, payload.length() - 1);
+	}
+
+	private static void send(final ConflatingSessionDecorator decorator, final WebSocketMessage<?> message) {
+		try {
+			decorator.sendMessage(message);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.scoula.backend.global.websocket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.global.config.WebSocketBrokerConfig;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+@ExtendWith(MockitoExtension.class)
+class ConflatingSubProtocolWebSocketHandlerTest {
+
+	@Mock
+	private MessageChannel clientInboundChannel;
+
+	@Mock
+	private SubscribableChannel clientOutboundChannel;
+
+	@Mock
+	private WebSocketSession session;
+
+	private OutboundSessionRegistry outboundSessionRegistry;
+	private ConflatingSubProtocolWebSocketHandler handler;
+
+	@BeforeEach
+	void setUp() {
+		outboundSessionRegistry = new OutboundSessionRegistry(10_000, 512 * 1024, 1000, List.of("/topic/orderbook/"));
+		handler = new ConflatingSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel,
+				outboundSessionRegistry);
+		handler.addProtocolHandler(new StompSubProtocolHandler());
+	}
+
+	@Test
+	@DisplayName("송신 큐 데코레이터가 원본 세션을 직접 감싸는 가장 바깥 세션이 된다.")
+	void conflatingDecoratorIsOutermost() {
+		given(session.getId()).willReturn("s1");
+		final WebSocketSession decorated = handler.decorateSession(session);
+
+		assertThat(decorated).isInstanceOf(ConflatingSessionDecorator.class);
+		assertThat(((ConflatingSessionDecorator)decorated).getDelegate()).isSameAs(session);
+		assertThat(outboundSessionRegistry.getStats()).extracting(OutboundSessionStatsResponse::sessionId)
+				.containsExactly("s1");
+	}
+
+	@Test
+	@DisplayName("연결된 세션으로 나가는 STOMP 프레임은 송신 큐를 거치고, 연결이 끊기면 등록이 해제된다.")
+	void outboundFramesPassThroughQueue() throws Exception {
+		given(session.getId()).willReturn("s1");
+		given(session.isOpen()).willReturn(true);
+		handler.afterConnectionEstablished(session);
+
+		final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		accessor.setSessionId("s1");
+		accessor.setSubscriptionId("sub-0");
+		accessor.setDestination("/topic/orderbook/005930");
+		handler.handleMessage(MessageBuilder.createMessage("book".getBytes(), accessor.getMessageHeaders()));
+
+		verify(session).sendMessage(any(TextMessage.class));
+		assertThat(outboundSessionRegistry.getStats()).singleElement()
+				.satisfies(stats -> assertThat(stats.sentCount()).isEqualTo(1));
+
+		handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+		assertThat(outboundSessionRegistry.getStats()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("브로커 설정은 송신 큐를 사용하는 하위 프로토콜 핸들러를 등록한다.")
+	void brokerConfigUsesConflatingHandler() {
+		final WebSocketBrokerConfig config = new WebSocketBrokerConfig(outboundSessionRegistry);
+
+		assertThat(config.subProtocolWebSocketHandler(new ExecutorSubscribableChannel(),
+				new ExecutorSubscribableChannel()))
+				.isInstanceOf(ConflatingSubProtocolWebSocketHandler.class);
+	}
+}
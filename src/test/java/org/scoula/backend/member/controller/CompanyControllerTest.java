@@ -16,6 +16,7 @@ import org.scoula.backend.global.jwt.JwtUtil;
 import org.scoula.backend.global.security.UserDetailsServiceImpl;
 import org.scoula.backend.member.controller.response.CompanySearchResponseDto;
 import org.scoula.backend.member.service.CompanyService;
+import org.scoula.backend.member.service.search.CompanyTypeaheadService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -40,6 +41,9 @@ class CompanyControllerTest {
 	@MockitoBean
 	private CompanyService companyService;
 
+	@MockitoBean
+	private CompanyTypeaheadService companyTypeaheadService;
+
 	@MockitoBean
 	private JpaMetamodelMappingContext jpaMetamodelMappingContext;
 
@@ -55,6 +59,31 @@ class CompanyControllerTest {
 		assertThat(companyService).isNotNull();
 	}
 
+	@Test
+	@DisplayName("자동완성 검색은 limit 을 전달하고, 생략하면 10개로 조회한다.")
+	void 자동완성검색() throws Exception {
+		List<CompanySearchResponseDto> mockCompanies = List.of(
+			new CompanySearchResponseDto("삼성전자", "005930", "KOSPI", "주권", "삼성전자")
+		);
+		when(companyTypeaheadService.search("ㅅㅅ", 5)).thenReturn(mockCompanies);
+		when(companyTypeaheadService.search("삼성", 10)).thenReturn(mockCompanies);
+
+		mockMvc.perform(get("/api/companies/typeahead")
+				.param("query", "ㅅㅅ")
+				.param("limit", "5"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$", hasSize(1)))
+			.andExpect(jsonPath("$[0].isuSrtCd").value("005930"));
+
+		mockMvc.perform(get("/api/companies/typeahead")
+				.param("query", "삼성"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$", hasSize(1)));
+
+		verify(companyTypeaheadService).search("ㅅㅅ", 5);
+		verify(companyTypeaheadService).search("삼성", 10);
+	}
+
 	@Test
 	@DisplayName("회사 검색 정상 케이스 테스트")
 	void 회사검색_정상케이스() throws Exception {
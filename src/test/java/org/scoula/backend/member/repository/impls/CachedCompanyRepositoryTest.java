@@ -0,0 +1,164 @@
+package org.scoula.backend.member.repository.impls;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.member.domain.Company;
+import org.scoula.backend.member.service.search.CompanySearchIndex;
+
+@ExtendWith(MockitoExtension.class)
+class CachedCompanyRepositoryTest {
+
+	@Mock
+	private CompanyRepositoryImpl delegate;
+
+	private CachedCompanyRepository cachedCompanyRepository;
+
+	private final Company samsung = createCompany("KR7005930003", "005930", "삼성전자");
+
+	@BeforeEach
+	void setUp() {
+		given(delegate.findAll()).willReturn(List.of(samsung));
+		cachedCompanyRepository = new CachedCompanyRepository(delegate, new CompanySearchIndex(), 60_000);
+		cachedCompanyRepository.load();
+	}
+
+	@Test
+	@DisplayName("적재된 종목은 단축코드, 표준코드, 종목명으로 DB 조회 없이 찾을 수 있다.")
+	void findFromIndexes() {
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("005930")).containsSame(samsung);
+		assertThat(cachedCompanyRepository.findByIsuCd("KR7005930003")).containsSame(samsung);
+		assertThat(cachedCompanyRepository.findByIsuNm("삼성전자")).containsSame(samsung);
+
+		verify(delegate, never()).findByIsuSrtCd(any());
+		verify(delegate, never()).findByIsuCd(any());
+		verify(delegate, never()).findByIsuNm(any());
+	}
+
+	@Test
+	@DisplayName("캐시에 없는 종목은 DB에서 조회한 뒤 캐시에 추가한다.")
+	void readThroughOnMiss() {
+		final Company naver = createCompany("KR7035420009", "035420", "NAVER");
+		given(delegate.findByIsuSrtCd("035420")).willReturn(Optional.of(naver));
+
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("035420")).containsSame(naver);
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("035420")).containsSame(naver);
+		assertThat(cachedCompanyRepository.findByIsuCd("KR7035420009")).containsSame(naver);
+
+		verify(delegate, times(1)).findByIsuSrtCd("035420");
+	}
+
+	@Test
+	@DisplayName("DB에도 없는 종목은 없음으로 기억하여 다시 조회하지 않고, 저장되면 바로 조회된다.")
+	void negativeCacheOnMiss() {
+		given(delegate.findByIsuSrtCd("999999")).willReturn(Optional.empty());
+
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("999999")).isEmpty();
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("999999")).isEmpty();
+
+		verify(delegate, times(1)).findByIsuSrtCd("999999");
+
+		final Company listed = createCompany("KR7999999009", "999999", "신규상장");
+		cachedCompanyRepository.save(listed);
+
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("999999")).containsSame(listed);
+	}
+
+	@Test
+	@DisplayName("없음 기록이 만료되면 DB에서 다시 조회한다.")
+	void negativeCacheExpires() {
+		cachedCompanyRepository = new CachedCompanyRepository(delegate, new CompanySearchIndex(), 0);
+		given(delegate.findByIsuSrtCd("999999")).willReturn(Optional.empty());
+
+		cachedCompanyRepository.findByIsuSrtCd("999999");
+		cachedCompanyRepository.findByIsuSrtCd("999999");
+
+		verify(delegate, times(2)).findByIsuSrtCd("999999");
+	}
+
+	@Test
+	@DisplayName("저장한 종목은 즉시 캐시에 반영된다.")
+	void saveWriteThrough() {
+		final Company kakao = createCompany("KR7035720002", "035720", "카카오");
+
+		cachedCompanyRepository.save(kakao);
+
+		verify(delegate).save(kakao);
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("035720")).containsSame(kakao);
+		assertThat(cachedCompanyRepository.findAll()).containsExactlyInAnyOrder(samsung, kakao);
+	}
+
+	@Test
+	@DisplayName("재적재 시 스냅샷을 교체한다.")
+	void refreshSwapsSnapshot() {
+		final Company renamed = createCompany("KR7005930003", "005930", "삼성전자우");
+		given(delegate.findAll()).willReturn(List.of(renamed));
+
+		cachedCompanyRepository.refresh();
+
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("005930")).containsSame(renamed);
+		assertThat(cachedCompanyRepository.findAll()).containsExactly(renamed);
+	}
+
+	@Test
+	@DisplayName("종목 검색은 DB 조회 없이 검색 인덱스에서 처리하고, 저장한 종목도 검색된다.")
+	void searchFromIndex() {
+		final Company samsungBio = createCompany("KR7207940008", "207940", "삼성바이오로직스");
+		cachedCompanyRepository.save(samsungBio);
+
+		assertThat(cachedCompanyRepository
+				.findByIsuNmContainingOrIsuAbbrvContainingOrIsuEngNmContainingOrIsuSrtCdContaining("삼성"))
+				.containsExactly(samsung, samsungBio);
+
+		verify(delegate, never())
+				.findByIsuNmContainingOrIsuAbbrvContainingOrIsuEngNmContainingOrIsuSrtCdContaining(any());
+	}
+
+	@Test
+	@DisplayName("재적재 중 오류가 발생하면 기존 캐시를 유지한다.")
+	void keepSnapshotWhenRefreshFails() {
+		given(delegate.findAll()).willThrow(new IllegalStateException("db down"));
+
+		cachedCompanyRepository.refresh();
+
+		assertThat(cachedCompanyRepository.findByIsuSrtCd("005930")).containsSame(samsung);
+	}
+
+	@Test
+	@DisplayName("캐시된 종목의 종가 기준 가격 제한 범위를 검증한다.")
+	void closingPriceRange() {
+		final Company company = cachedCompanyRepository.findByIsuSrtCd("005930").orElseThrow();
+
+		assertThat(company.isWithinClosingPriceRange(new BigDecimal(1300))).isTrue();
+		assertThat(company.isWithinClosingPriceRange(new BigDecimal(700))).isTrue();
+		assertThat(company.isWithinClosingPriceRange(new BigDecimal(1301))).isFalse();
+		assertThat(company.isWithinClosingPriceRange(new BigDecimal(699))).isFalse();
+	}
+
+	private Company createCompany(String isuCd, String isuSrtCd, String isuNm) {
+		return Company.builder()
+			.isuCd(isuCd)
+			.isuSrtCd(isuSrtCd)
+			.isuNm(isuNm)
+			.isuAbbrv(isuNm)
+			.isuEngNm(isuNm)
+			.listDd("2023-01-01")
+			.mktTpNm("KOSPI")
+			.secugrpNm("주권")
+			.kindStkcertTpNm("보통주")
+			.parval("100")
+			.listShrs("1000000")
+			.closingPrice(new BigDecimal(1000))
+			.build();
+	}
+}
@@ -0,0 +1,213 @@
+package org.scoula.backend.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.member.controller.response.PortfolioResponse;
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.member.domain.Company;
+import org.scoula.backend.member.domain.Holdings;
+import org.scoula.backend.member.service.reposiotry.AccountRepository;
+import org.scoula.backend.member.service.reposiotry.CompanyRepository;
+import org.scoula.backend.member.service.reposiotry.HoldingsRepository;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.AccountUpdatedEvent;
+import org.scoula.backend.order.dto.TradePriceUpdatedEvent;
+import org.scoula.backend.order.dto.TradeSettledEvent;
+import org.scoula.backend.order.service.TradeHistoryService;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioServiceTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final String USERNAME = "user";
+	private static final String COMPANY_CODE = "005930";
+	private static final long IDLE_MILLIS = 60_000L;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private HoldingsRepository holdingsRepository;
+
+	@Mock
+	private CompanyRepository companyRepository;
+
+	@Mock
+	private TradeHistoryService tradeHistoryService;
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	private PortfolioService portfolioService;
+
+	private final Account account = Account.builder()
+			.id(100L)
+			.balance(new BigDecimal(50_000))
+			.reservedBalance(BigDecimal.ZERO)
+			.build();
+
+	private List<Holdings> holdings;
+
+	@BeforeEach
+	void setUp() {
+		portfolioService = new PortfolioService(accountRepository, holdingsRepository, companyRepository,
+				tradeHistoryService, messagingTemplate, IDLE_MILLIS);
+
+		given(accountRepository.getByMemberId(MEMBER_ID)).willReturn(account);
+		holdings = List.of(Holdings.builder()
+				.account(account)
+				.companyCode(COMPANY_CODE)
+				.quantity(new BigDecimal(10))
+				.reservedQuantity(BigDecimal.ZERO)
+				.averagePrice(new BigDecimal(1000))
+				.totalPurchasePrice(new BigDecimal(10_000))
+				.build());
+		given(holdingsRepository.findByAccountId(100L)).willReturn(holdings);
+		given(tradeHistoryService.getLastTrade(COMPANY_CODE)).willReturn(Optional.empty());
+		given(companyRepository.findByIsuSrtCd(COMPANY_CODE)).willReturn(Optional.of(Company.builder()
+				.isuSrtCd(COMPANY_CODE)
+				.closingPrice(new BigDecimal(1000))
+				.build()));
+	}
+
+	@Test
+	@DisplayName("처음 조회 시에만 보유 종목을 적재하고, 현재가가 없으면 종가로 평가한다.")
+	void loadOnce() {
+		final PortfolioResponse first = portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+		portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+
+		assertThat(first.totalPurchaseAmount()).isEqualByComparingTo("10000");
+		assertThat(first.totalMarketValue()).isEqualByComparingTo("10000");
+		assertThat(first.positions()).singleElement()
+				.satisfies(position -> assertThat(position.weight()).isEqualByComparingTo("100"));
+		verify(holdingsRepository, times(1)).findByAccountId(100L);
+		verify(accountRepository, times(1)).getByMemberId(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("체결가가 바뀌면 평가 금액, 평가 손익, 수익률이 갱신되고 변경된 계좌에만 전송한다.")
+	void markToMarket() {
+		portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+		portfolioService.publishChanges();
+		verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+		portfolioService.onTradePriceUpdated(
+				new TradePriceUpdatedEvent(COMPANY_CODE, new BigDecimal(1200), BigDecimal.ONE, 1L));
+		portfolioService.onTradePriceUpdated(
+				new TradePriceUpdatedEvent("000660", new BigDecimal(5000), BigDecimal.ONE, 1L));
+
+		final PortfolioResponse response = portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+		assertThat(response.totalMarketValue()).isEqualByComparingTo("12000");
+		assertThat(response.totalUnrealizedProfit()).isEqualByComparingTo("2000");
+		assertThat(response.totalReturnRate()).isEqualByComparingTo("20");
+
+		portfolioService.publishChanges();
+		portfolioService.publishChanges();
+		verify(messagingTemplate, times(1))
+				.convertAndSendToUser(eq(USERNAME), eq(PortfolioService.PORTFOLIO_DESTINATION), any(Object.class));
+	}
+
+	@Test
+	@DisplayName("체결 정산 시 매입 금액과 평균 매입가를 보유 주식과 같은 규칙으로 갱신하고, 전량 매도하면 제외한다.")
+	void applySettledTrades() {
+		portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+
+		portfolioService.onTradeSettled(settled(Type.BUY, 1100, 10));
+		PortfolioResponse response = portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+		assertThat(response.totalPurchaseAmount()).isEqualByComparingTo("21000");
+		assertThat(response.totalMarketValue()).isEqualByComparingTo("22000");
+		assertThat(response.positions().get(0).averagePrice()).isEqualByComparingTo("1050");
+
+		portfolioService.onTradeSettled(settled(Type.SELL, 1200, 20));
+		response = portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+		assertThat(response.positions()).isEmpty();
+		assertThat(response.totalMarketValue()).isEqualByComparingTo("0");
+		assertThat(response.totalPurchaseAmount()).isEqualByComparingTo("0");
+	}
+
+	@Test
+	@DisplayName("보유 종목을 적재하는 중에 계좌 이벤트가 들어오면 이중 반영하지 않고 다시 적재한다.")
+	void reloadWhenUpdatedDuringLoad() {
+		given(holdingsRepository.findByAccountId(100L))
+				.willAnswer(invocation -> {
+					// 첫 번째 조회와 동시에 잔고 변경 (조회 결과에 반영되었는지 알 수 없음)
+					portfolioService.onAccountUpdated(new AccountUpdatedEvent(USERNAME, account));
+					return holdings;
+				})
+				.willReturn(holdings);
+
+		final PortfolioResponse response = portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+
+		assertThat(response.totalPurchaseAmount()).isEqualByComparingTo("10000");
+		assertThat(response.balance()).isEqualByComparingTo("50000");
+		verify(accountRepository, times(2)).getByMemberId(MEMBER_ID);
+		verify(holdingsRepository, times(2)).findByAccountId(100L);
+	}
+
+	@Test
+	@DisplayName("한동안 조회되지 않은 계좌는 해제하고, 다시 조회하면 새로 적재한다.")
+	void evictIdlePortfolio() {
+		portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+
+		portfolioService.evictIdle(System.currentTimeMillis() + IDLE_MILLIS + 1);
+		portfolioService.onTradePriceUpdated(
+				new TradePriceUpdatedEvent(COMPANY_CODE, new BigDecimal(1200), BigDecimal.ONE, 1L));
+		portfolioService.publishChanges();
+		verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+		final PortfolioResponse response = portfolioService.getPortfolio(MEMBER_ID, USERNAME);
+		assertThat(response.totalMarketValue()).isEqualByComparingTo("12000");
+		verify(holdingsRepository, times(2)).findByAccountId(100L);
+	}
+
+	private TradeSettledEvent settled(final Type type, final int price, final int quantity) {
+		final Account counterparty = Account.builder()
+				.id(200L)
+				.balance(BigDecimal.ZERO)
+				.reservedBalance(BigDecimal.ZERO)
+				.build();
+		final Order mine = order(type, account);
+		final Order other = order(type == Type.BUY ? Type.SELL : Type.BUY, counterparty);
+		final TradeHistory trade = TradeHistory.builder()
+				.id(1L)
+				.companyCode(COMPANY_CODE)
+				.buyOrderId(type == Type.BUY ? 1L : 2L)
+				.sellOrderId(type == Type.BUY ? 2L : 1L)
+				.price(new BigDecimal(price))
+				.quantity(new BigDecimal(quantity))
+				.tradeTime(1L)
+				.build();
+		return type == Type.BUY
+				? new TradeSettledEvent(trade, mine, other, account, counterparty)
+				: new TradeSettledEvent(trade, other, mine, counterparty, account);
+	}
+
+	private Order order(final Type type, final Account orderAccount) {
+		return Order.builder()
+				.companyCode(COMPANY_CODE)
+				.type(type)
+				.totalQuantity(BigDecimal.ONE)
+				.remainingQuantity(BigDecimal.ZERO)
+				.status(OrderStatus.COMPLETE)
+				.price(BigDecimal.ONE)
+				.account(orderAccount)
+				.timestamp(1L)
+				.build();
+	}
+}
@@ -0,0 +1,113 @@
+package org.scoula.backend.member.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.member.domain.Company;
+import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
+
+class CompanySearchIndexTest {
+
+	private final Company samsung = createCompany("KR7005930003", "005930", "삼성전자", "Samsung Electronics");
+	private final Company samsungSdi = createCompany("KR7006400006", "006400", "삼성SDI", "Samsung SDI");
+	private final Company hynix = createCompany("KR7000660001", "000660", "SK하이닉스", "SK hynix");
+	private final Company lgElectronics = createCompany("KR7066570003", "066570", "LG전자", "LG Electronics");
+
+	private CompanySearchIndex companySearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		companySearchIndex = new CompanySearchIndex();
+		companySearchIndex.rebuild(List.of(samsung, samsungSdi, hynix, lgElectronics));
+	}
+
+	@Test
+	@DisplayName("종목코드 접두어로 검색한다.")
+	void searchByCodePrefix() {
+		assertThat(companySearchIndex.search("0059", 10)).containsExactly(samsung);
+		assertThat(companySearchIndex.search("005930", 10)).containsExactly(samsung);
+	}
+
+	@Test
+	@DisplayName("종목명 접두어 일치가 부분 일치보다 먼저 나온다.")
+	void prefixBeforeSubstring() {
+		assertThat(companySearchIndex.search("전자", 10)).containsExactlyInAnyOrder(samsung, lgElectronics);
+		assertThat(companySearchIndex.search("삼성", 10)).containsExactly(samsung, samsungSdi);
+		assertThat(companySearchIndex.search("성전자", 10)).containsExactly(samsung);
+	}
+
+	@Test
+	@DisplayName("초성으로 검색한다.")
+	void searchByChosung() {
+		assertThat(companySearchIndex.search("ㅅㅅ", 10)).containsExactly(samsung, samsungSdi);
+		assertThat(companySearchIndex.search("ㅎㅇㄴ", 10)).containsExactly(hynix);
+		assertThat(companySearchIndex.search("skㅎㅇ", 10)).containsExactly(hynix);
+	}
+
+	@Test
+	@DisplayName("대소문자와 공백을 무시하고 영문명으로도 검색한다.")
+	void normalizeQuery() {
+		assertThat(companySearchIndex.search("sk 하이", 10)).containsExactly(hynix);
+		assertThat(companySearchIndex.search("SAMSUNG elec", 10)).containsExactly(samsung);
+	}
+
+	@Test
+	@DisplayName("관련도가 같으면 거래 활동량이 많은 종목이 먼저 나온다.")
+	void orderByActivity() {
+		companySearchIndex.onOrderBookUpdated(new OrderBookUpdatedEvent(
+				new OrderSummaryResponse("006400", 10, 5)));
+
+		assertThat(companySearchIndex.search("삼성", 10)).containsExactly(samsungSdi, samsung);
+		assertThat(companySearchIndex.search("삼성", 1)).containsExactly(samsungSdi);
+	}
+
+	@Test
+	@DisplayName("저장한 종목은 재구성 없이 추가되거나 기존 종목을 대체한다.")
+	void upsertWithoutRebuild() {
+		final Company kakao = createCompany("KR7035720002", "035720", "카카오", "Kakao");
+		final Company renamed = createCompany("KR7006400006", "006400", "삼성에스디아이", "Samsung SDI");
+		final long version = companySearchIndex.getVersion();
+
+		companySearchIndex.upsert(kakao);
+		companySearchIndex.upsert(renamed);
+
+		assertThat(companySearchIndex.getVersion()).isGreaterThan(version);
+		assertThat(companySearchIndex.search("카카", 10)).containsExactly(kakao);
+		assertThat(companySearchIndex.search("삼성", 10)).containsExactly(samsung, renamed);
+		assertThat(companySearchIndex.search("SDI", 10)).containsExactly(renamed);
+
+		companySearchIndex.rebuild(List.of(samsung, hynix));
+
+		assertThat(companySearchIndex.search("카카", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("빈 검색어나 일치하는 종목이 없으면 빈 목록을 반환한다.")
+	void emptyResult() {
+		assertThat(companySearchIndex.search(" ", 10)).isEmpty();
+		assertThat(companySearchIndex.search("카카오", 10)).isEmpty();
+	}
+
+	private Company createCompany(String isuCd, String isuSrtCd, String isuNm, String isuEngNm) {
+		return Company.builder()
+			.isuCd(isuCd)
+			.isuSrtCd(isuSrtCd)
+			.isuNm(isuNm)
+			.isuAbbrv(isuNm)
+			.isuEngNm(isuEngNm)
+			.listDd("2023-01-01")
+			.mktTpNm("KOSPI")
+			.secugrpNm("주권")
+			.kindStkcertTpNm("보통주")
+			.parval("100")
+			.listShrs("1000000")
+			.closingPrice(new BigDecimal(1000))
+			.build();
+	}
+}
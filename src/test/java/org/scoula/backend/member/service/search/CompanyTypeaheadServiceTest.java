@@ -0,0 +1,125 @@
+package org.scoula.backend.member.service.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.member.controller.response.CompanySearchResponseDto;
+import org.scoula.backend.member.controller.response.TypeaheadStatsResponse;
+import org.scoula.backend.member.domain.Company;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyTypeaheadServiceTest {
+
+	@Mock
+	private CompanySearchIndex companySearchIndex;
+
+	private CompanyTypeaheadService companyTypeaheadService;
+
+	private final Company samsung = Company.builder()
+			.isuCd("KR7005930003")
+			.isuSrtCd("005930")
+			.isuNm("삼성전자")
+			.isuAbbrv("삼성전자")
+			.isuEngNm("Samsung Electronics")
+			.kindStkcertTpNm("보통주")
+			.closingPrice(new BigDecimal(1000))
+			.build();
+
+	@BeforeEach
+	void setUp() {
+		companyTypeaheadService = new CompanyTypeaheadService(companySearchIndex, 2, 60_000);
+	}
+
+	@Test
+	@DisplayName("정규화된 검색어가 같으면 캐시된 결과를 반환한다.")
+	void cacheByNormalizedQuery() {
+		given(companySearchIndex.search("삼성", 10)).willReturn(List.of(samsung));
+
+		final List<CompanySearchResponseDto> first = companyTypeaheadService.search("삼성", 10);
+		final List<CompanySearchResponseDto> second = companyTypeaheadService.search(" 삼 성 ", 10);
+
+		assertThat(first).extracting(CompanySearchResponseDto::getIsuSrtCd).containsExactly("005930");
+		assertThat(second).isSameAs(first);
+		verify(companySearchIndex, times(1)).search("삼성", 10);
+
+		final TypeaheadStatsResponse stats = companyTypeaheadService.getStats();
+		assertThat(stats.hits()).isEqualTo(1);
+		assertThat(stats.misses()).isEqualTo(1);
+		assertThat(stats.hitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("limit 은 최대값으로 제한하고, 인덱스가 교체되면 캐시를 사용하지 않는다.")
+	void boundLimitAndInvalidateOnRebuild() {
+		given(companySearchIndex.search("삼성", CompanyTypeaheadService.MAX_LIMIT)).willReturn(List.of(samsung));
+
+		companyTypeaheadService.search("삼성", 1000);
+		given(companySearchIndex.getVersion()).willReturn(1L);
+		companyTypeaheadService.search("삼성", 1000);
+
+		verify(companySearchIndex, times(2)).search("삼성", CompanyTypeaheadService.MAX_LIMIT);
+	}
+
+	@Test
+	@DisplayName("캐시 크기를 넘으면 가장 오래 사용하지 않은 검색어부터 제거한다.")
+	void evictLeastRecentlyUsed() {
+		companyTypeaheadService.search("a", 10);
+		companyTypeaheadService.search("b", 10);
+		companyTypeaheadService.search("a", 10);
+		companyTypeaheadService.search("c", 10);
+		companyTypeaheadService.search("a", 10);
+		companyTypeaheadService.search("b", 10);
+
+		verify(companySearchIndex, times(1)).search("a", 10);
+		verify(companySearchIndex, times(2)).search("b", 10);
+		assertThat(companyTypeaheadService.getStats().cachedQueries()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 같은 검색어는 한 번만 계산하고 결과를 공유한다.")
+	void coalesceConcurrentQueries() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		given(companySearchIndex.search("삼성", 10)).willAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of(samsung);
+		});
+
+		final CompletableFuture<List<CompanySearchResponseDto>> first =
+				CompletableFuture.supplyAsync(() -> companyTypeaheadService.search("삼성", 10));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		final CompletableFuture<List<CompanySearchResponseDto>> second =
+				CompletableFuture.supplyAsync(() -> companyTypeaheadService.search("삼성", 10));
+
+		final long deadline = System.currentTimeMillis() + 5_000;
+		while (companyTypeaheadService.getStats().coalesced() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		release.countDown();
+
+		assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+		assertThat(companyTypeaheadService.getStats().coalesced()).isEqualTo(1);
+		verify(companySearchIndex, times(1)).search("삼성", 10);
+	}
+
+	@Test
+	@DisplayName("빈 검색어는 인덱스를 조회하지 않는다.")
+	void emptyQuery() {
+		assertThat(companyTypeaheadService.search("  ", 10)).isEmpty();
+
+		verifyNoInteractions(companySearchIndex);
+	}
+}
@@ -1,11 +1,14 @@
 package org.scoula.backend.order.controller;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,10 +17,12 @@ import java.util.TreeMap;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.scoula.backend.global.jwt.JwtUtil;
 import org.scoula.backend.global.security.UserDetailsServiceImpl;
 import org.scoula.backend.member.exception.AccountNotFoundException;
 import org.scoula.backend.member.exception.MemberNotFoundException;
+import org.scoula.backend.member.exception.NotAuthorizedException;
 import org.scoula.backend.mock.WithMockUserDetails;
 import org.scoula.backend.order.controller.request.OrderRequest;
 import org.scoula.backend.order.controller.response.OrderBookResponse;
@@ -28,14 +33,18 @@ import org.scoula.backend.order.domain.Order;
 import org.scoula.backend.order.domain.OrderStatus;
 import org.scoula.backend.order.domain.Type;
 import org.scoula.backend.order.dto.PriceLevelDto;
+import org.scoula.backend.order.dto.TradeHistorySearchCondition;
+import org.scoula.backend.order.service.ExternalDepthService;
 import org.scoula.backend.order.service.OrderService;
 import org.scoula.backend.order.service.orderbook.OrderStorage;
 import org.scoula.backend.order.service.orderbook.Price;
+import org.scoula.backend.order.service.version.MarketDataVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -48,6 +57,12 @@ class OrderControllerTest {
 	@MockitoBean
 	private OrderService orderService;
 
+	@MockitoBean
+	private MarketDataVersions marketDataVersions;
+
+	@MockitoBean
+	private ExternalDepthService externalDepthService;
+
 	@Autowired
 	private ObjectMapper objectMapper;
 
@@ -124,6 +139,28 @@ class OrderControllerTest {
 				.andExpect(content().json(objectMapper.writeValueAsString(response)));
 	}
 
+	@Test
+	@DisplayName("호가창 버전이 If-None-Match 와 같으면 호가창을 만들지 않고 304 를 응답한다.")
+	@WithMockUserDetails
+	void testGetBookNotModified() throws Exception {
+		final String key = MarketDataVersions.orderBookKey("AAPL");
+		when(marketDataVersions.getVersion(key)).thenReturn(3L);
+
+		mockMvc.perform(get("/api/order/book")
+						.param("code", "AAPL")
+						.header("If-None-Match", MarketDataVersions.toETag(key, 3L)))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", MarketDataVersions.toETag(key, 3L)));
+
+		mockMvc.perform(get("/api/order/book")
+						.param("code", "AAPL")
+						.header("If-None-Match", MarketDataVersions.toETag(key, 2L)))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", MarketDataVersions.toETag(key, 3L)));
+
+		verify(orderService, times(1)).getBook("AAPL");
+	}
+
 	@Test
 	@DisplayName("TC20.3.4 종목별 주문 요약 조회 테스트")
 	@WithMockUserDetails
@@ -161,6 +198,61 @@ class OrderControllerTest {
 				.andExpect(content().json(objectMapper.writeValueAsString(response)));
 	}
 
+	@Test
+	@DisplayName("체결 내역 페이지 조회는 조건을 전달하고 응답을 스트리밍한다.")
+	@WithMockUserDetails
+	void testGetTrades() throws Exception {
+		when(orderService.restrictTradeHistoryQuery(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+		doAnswer(invocation -> {
+			OutputStream outputStream = invocation.getArgument(1);
+			outputStream.write("{\"trades\":[],\"nextCursor\":null}".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(orderService).writeTradeHistory(any(), any());
+
+		MvcResult result = mockMvc.perform(get("/api/order/trades")
+						.param("code", "005930")
+						.param("cursor", "1700000000_15")
+						.param("size", "50"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.trades").isEmpty());
+
+		ArgumentCaptor<TradeHistorySearchCondition> captor = ArgumentCaptor.forClass(TradeHistorySearchCondition.class);
+		verify(orderService).writeTradeHistory(captor.capture(), any());
+		assertThat(captor.getValue().companyCode()).isEqualTo("005930");
+		assertThat(captor.getValue().cursorTime()).isEqualTo(1_700_000_000L);
+		assertThat(captor.getValue().cursorId()).isEqualTo(15L);
+		assertThat(captor.getValue().size()).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("체결 내역 페이지 크기나 커서가 올바르지 않으면 400을 반환한다.")
+	@WithMockUserDetails
+	void testGetTradesWithInvalidCondition() throws Exception {
+		mockMvc.perform(get("/api/order/trades").param("size", "5000"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/order/trades").param("cursor", "abc"))
+				.andExpect(status().isBadRequest());
+
+		verify(orderService, never()).writeTradeHistory(any(), any());
+	}
+
+	@Test
+	@DisplayName("다른 계좌의 체결 내역을 조회하면 403을 반환하고 스트리밍하지 않는다.")
+	@WithMockUserDetails
+	void testGetTradesOfOtherAccount() throws Exception {
+		when(orderService.restrictTradeHistoryQuery(any(), any()))
+				.thenThrow(new NotAuthorizedException("본인 계좌의 체결 내역만 조회할 수 있습니다."));
+
+		mockMvc.perform(get("/api/order/trades").param("accountId", "999"))
+				.andExpect(status().isForbidden());
+
+		verify(orderService, never()).writeTradeHistory(any(), any());
+	}
+
 	@Test
 	@DisplayName("사용자 정보가 존재하는 경우 주문 성공")
 	@WithMockUserDetails
@@ -71,7 +71,8 @@ class TradeOrderTest {
         // given
         TradeOrder sellOrder = createTradeOrder(Type.SELL, account);
         TradeOrder buyOrder = new TradeOrder(1L, "005930", Type.BUY, OrderStatus.COMPLETE,
-                new BigDecimal(10), new BigDecimal(10), new BigDecimal(10), LocalDateTime.now(), null);
+                new BigDecimal(10), new BigDecimal(10), new BigDecimal(10), LocalDateTime.now(), null,
+                TimeInForce.DAY, null, null);
 
         // when
         boolean result1 = sellOrder.hasSameAccount(buyOrder);
@@ -0,0 +1,147 @@
+package org.scoula.backend.order.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.Type;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindOrderRepositoryTest {
+
+	@TempDir
+	Path journalDir;
+
+	@Mock
+	private OrderRepositoryImpl delegate;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private final AtomicLong ids = new AtomicLong(1000);
+	private OrderJournal journal;
+	private WriteBehindOrderRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		journal = new OrderJournal(journalDir, false);
+		repository = new WriteBehindOrderRepository(delegate, jdbcTemplate, journal, ids::incrementAndGet, 500);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		journal.close();
+	}
+
+	@Test
+	@DisplayName("저장 시 DB 접근 없이 ID를 발급하고, 같은 주문 객체를 조회할 수 있다.")
+	void saveAssignsIdWithoutDatabase() {
+		final Order order = order();
+
+		repository.save(order);
+
+		assertThat(order.getId()).isEqualTo(1001L);
+		assertThat(order.getCreatedDateTime()).isNotNull();
+		assertThat(repository.getById(1001L)).isSameAs(order);
+		verifyNoInteractions(jdbcTemplate, delegate);
+	}
+
+	@Test
+	@DisplayName("같은 주문의 여러 변경은 한 번의 UPSERT 로 병합되어 최종 상태가 반영된다.")
+	@SuppressWarnings("unchecked")
+	void flushCoalescesUpdates() {
+		final Order order = order();
+		repository.save(order);
+		order.decreaseRemainingQuantity(new BigDecimal(4));
+		repository.save(order);
+		order.decreaseRemainingQuantity(new BigDecimal(6));
+		repository.save(order);
+
+		repository.flush();
+
+		final ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq(WriteBehindOrderRepository.UPSERT_SQL), rows.capture());
+		assertThat(rows.getValue()).hasSize(1);
+		assertThat(rows.getValue().get(0)[4]).isEqualTo(BigDecimal.ZERO);
+		assertThat(rows.getValue().get(0)[5]).isEqualTo(OrderStatus.COMPLETE.name());
+		assertThat(repository.pendingCount()).isZero();
+
+		// 체결 완료 주문은 메모리에서 제거되고 이후 DB에서 조회
+		repository.getById(order.getId());
+		verify(delegate).getById(order.getId());
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패하면 변경을 유지하고, 재시작 시 저장 로그에서 마지막 상태를 복구한다.")
+	@SuppressWarnings("unchecked")
+	void recoverFromJournalAfterFailedFlush() throws Exception {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+				.thenThrow(new DataAccessResourceFailureException("db down"))
+				.thenReturn(new int[] {1});
+		final Order order = order();
+		repository.save(order);
+		order.decreaseRemainingQuantity(new BigDecimal(3));
+		repository.save(order);
+
+		repository.flush();
+		assertThat(repository.pendingCount()).isEqualTo(1);
+
+		// 비정상 종료 후 재시작
+		journal.close();
+		journal = new OrderJournal(journalDir, false);
+		final WriteBehindOrderRepository restarted =
+				new WriteBehindOrderRepository(delegate, jdbcTemplate, journal, ids::incrementAndGet, 500);
+		restarted.recover();
+
+		final ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(2)).batchUpdate(eq(WriteBehindOrderRepository.UPSERT_SQL), rows.capture());
+		assertThat(rows.getValue()).hasSize(1);
+		assertThat(rows.getValue().get(0)[0]).isEqualTo(order.getId());
+		assertThat(rows.getValue().get(0)[4]).isEqualTo(new BigDecimal(7));
+		assertThat(journal.recover()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("시작할 때마다 스키마를 다시 만드는 설정에서는 write-behind 를 사용할 수 없다.")
+	void requirePersistentSchema() {
+		assertThatThrownBy(() -> WriteBehindOrderRepository.requirePersistentSchema(delegate, "create"))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> WriteBehindOrderRepository.requirePersistentSchema(delegate, "create-drop"))
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(WriteBehindOrderRepository.requirePersistentSchema(delegate, "validate")).isSameAs(delegate);
+		assertThat(WriteBehindOrderRepository.requirePersistentSchema(delegate, "none")).isSameAs(delegate);
+	}
+
+	private Order order() {
+		return Order.builder()
+				.companyCode("005930")
+				.type(Type.BUY)
+				.totalQuantity(new BigDecimal(10))
+				.remainingQuantity(new BigDecimal(10))
+				.status(OrderStatus.ACTIVE)
+				.price(new BigDecimal(1000))
+				.account(Account.builder().id(1L).build())
+				.timestamp(1_700_000_000L)
+				.build();
+	}
+}
@@ -0,0 +1,81 @@
+package org.scoula.backend.order.service;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CallAuctionSchedulerTest {
+
+	@Mock
+	private OrderService orderService;
+
+	@Test
+	@DisplayName("시가 단일가 매매 시간에 기동하면 단일가 매매로 시작한다.")
+	void startDuringOpeningAuction() {
+		scheduler(false).initializePhase(clockAt(LocalDateTime.of(2025, 1, 8, 8, 45)));
+
+		verify(orderService).startAuction();
+	}
+
+	@Test
+	@DisplayName("종가 단일가 매매 시간에 기동하면 단일가 매매로 시작한다.")
+	void startDuringClosingAuction() {
+		scheduler(false).initializePhase(clockAt(LocalDateTime.of(2025, 1, 8, 15, 25)));
+
+		verify(orderService).startAuction();
+	}
+
+	@Test
+	@DisplayName("정규장 시간에 기동하면 연속 매매로 시작한다.")
+	void startDuringContinuousTrading() {
+		scheduler(true).initializePhase(clockAt(LocalDateTime.of(2025, 1, 8, 10, 0)));
+
+		verifyNoInteractions(orderService);
+	}
+
+	@Test
+	@DisplayName("장 마감 후 접수를 사용하지 않으면 마감 후, 주말 기동 시 연속 매매로 시작한다.")
+	void startAfterCloseWithoutHold() {
+		scheduler(false).initializePhase(clockAt(LocalDateTime.of(2025, 1, 8, 16, 0)));
+		scheduler(false).initializePhase(clockAt(LocalDateTime.of(2025, 1, 11, 12, 0)));
+
+		verifyNoInteractions(orderService);
+	}
+
+	@Test
+	@DisplayName("장 마감 후 접수를 사용하면 마감 후, 주말, 개장 전 기동 시 단일가 매매 접수로 시작한다.")
+	void startAfterCloseWithHold() {
+		scheduler(true).initializePhase(clockAt(LocalDateTime.of(2025, 1, 8, 16, 0)));
+		scheduler(true).initializePhase(clockAt(LocalDateTime.of(2025, 1, 11, 12, 0)));
+		scheduler(true).initializePhase(clockAt(LocalDateTime.of(2025, 1, 13, 7, 0)));
+
+		verify(orderService, times(3)).startAuction();
+	}
+
+	@Test
+	@DisplayName("장 마감 후 접수를 사용할 때만 종가 단일가 체결 후 주문장을 단일가 매매 상태로 유지한다.")
+	void holdOnlyWhenEnabled() {
+		scheduler(false).uncrossClosingAuction();
+		scheduler(true).uncrossClosingAuction();
+
+		verify(orderService).uncrossAuction();
+		verify(orderService).uncrossClosingAuction();
+	}
+
+	private CallAuctionScheduler scheduler(final boolean holdAfterClose) {
+		return new CallAuctionScheduler(orderService, "0 30 8 * * MON-FRI", "0 0 9 * * MON-FRI",
+				"0 20 15 * * MON-FRI", "0 30 15 * * MON-FRI", holdAfterClose);
+	}
+
+	private Clock clockAt(final LocalDateTime seoulTime) {
+		return Clock.fixed(seoulTime.atZone(CallAuctionScheduler.ZONE).toInstant(), CallAuctionScheduler.ZONE);
+	}
+}
@@ -20,6 +20,8 @@ import org.scoula.backend.member.service.reposiotry.MemberRepository;
 import org.scoula.backend.order.controller.request.OrderRequest;
 import org.scoula.backend.order.domain.OrderStatus;
 import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.math.BigDecimal;
@@ -55,6 +57,9 @@ public class FakeDoubleTest {
     @Mock
     AccountService accountService;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     private final Company company = Company.builder().isuNm("005930").isuCd("005930").closingPrice(new BigDecimal("1000")).build();
     private Member sellMember;
     private Account account;
@@ -69,7 +74,10 @@ public class FakeDoubleTest {
                 companyRepository,
                 memberRepository,
                 orderRepository,
-                holdingsRepository
+                holdingsRepository,
+                eventPublisher,
+                new SubscriptionRegistry(),
+                new OrderCancellationService(orderRepository, accountRepository, holdingsRepository, eventPublisher)
         );
         sellMember = Member.builder()
                 .id(1L)
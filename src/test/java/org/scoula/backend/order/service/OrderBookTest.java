@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
@@ -25,14 +28,20 @@ import org.scoula.backend.member.domain.Account;
 import org.scoula.backend.member.domain.Member;
 import org.scoula.backend.member.service.AccountService;
 import org.scoula.backend.member.service.StockHoldingsService;
+import org.scoula.backend.order.controller.response.AuctionIndicativeResponse;
 import org.scoula.backend.order.controller.response.OrderBookResponse;
 import org.scoula.backend.order.controller.response.OrderSnapshotResponse;
 import org.scoula.backend.order.controller.response.TradeHistoryResponse;
 import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TimeInForce;
 import org.scoula.backend.order.domain.TradeOrder;
 import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.PriceLevelDto;
 import org.scoula.backend.order.service.exception.MatchingException;
 import org.scoula.backend.order.service.orderbook.OrderBook;
+import org.scoula.backend.order.service.orderbook.OrderBookListener;
+import org.scoula.backend.order.service.orderbook.SelfTradeAction;
+import org.scoula.backend.order.service.orderbook.SelfTradePrevention;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -661,6 +670,569 @@ class OrderBookTest {
 
 	}
 
+	@Test
+	@DisplayName("지정가 매수 주문은 매수가 이하의 매도 주문과 체결되고 빈 매도 호가는 제거된다.")
+	void limitBuyOrderMatchesLowerSellOrder() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 1, 1);
+		TradeOrder sellOrder = createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(10), createdAt,
+				OrderStatus.ACTIVE, account1);
+		TradeOrder buyOrder = createOrder(2L, Type.BUY, new BigDecimal(1100), new BigDecimal(10), createdAt,
+				OrderStatus.ACTIVE, account2);
+
+		orderBook.received(sellOrder);
+		List<TradeHistoryResponse> responses = orderBook.received(buyOrder);
+
+		assertThat(responses).hasSize(1);
+		assertThat(responses.get(0).price()).isEqualTo(new BigDecimal(1000));
+		assertThat(orderBook.getBook().sellLevels()).isEmpty();
+		assertThat(orderBook.getBook().buyLevels()).isEmpty();
+	}
+
+	@Nested
+	@DisplayName("자전거래 방지")
+	class SelfTradePreventionTest {
+
+		private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 1, 1);
+
+		@Test
+		@DisplayName("CANCEL_NEWEST: 새 주문의 잔량을 취소하고 기존 주문은 그대로 둔다.")
+		void cancelNewest() {
+			OrderBook book = new OrderBook(COMPANY_CODE, tradeHistoryService, SelfTradePrevention.CANCEL_NEWEST);
+			TradeOrder sellOrder = createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1);
+			TradeOrder buyOrder = createOrder(2L, Type.BUY, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1);
+			List<SelfTradeAction> actions = new ArrayList<>();
+
+			book.received(sellOrder);
+			List<TradeHistoryResponse> responses = book.received(buyOrder, recorder(actions));
+
+			assertThat(responses).isEmpty();
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(sellOrder.getRemainingQuantity()).isEqualTo(new BigDecimal(10));
+			assertThat(book.getBook().buyLevels()).isEmpty();
+			assertThat(actions).singleElement().satisfies(action -> {
+				assertThat(action.mode()).isEqualTo(SelfTradePrevention.CANCEL_NEWEST);
+				assertThat(action.incomingCancelledQuantity()).isEqualTo(new BigDecimal(5));
+				assertThat(action.restingCancelledQuantity()).isEqualTo(BigDecimal.ZERO);
+			});
+		}
+
+		@Test
+		@DisplayName("CANCEL_OLDEST: 같은 계좌의 기존 주문을 취소하고 다음 주문과 체결한다.")
+		void cancelOldest() {
+			OrderBook book = new OrderBook(COMPANY_CODE, tradeHistoryService, SelfTradePrevention.CANCEL_OLDEST);
+			TradeOrder ownSellOrder = createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1);
+			TradeOrder otherSellOrder = createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(10),
+					createdAt.plusMinutes(1), OrderStatus.ACTIVE, account2);
+			TradeOrder buyOrder = createOrder(3L, Type.BUY, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1);
+			List<SelfTradeAction> actions = new ArrayList<>();
+
+			book.received(ownSellOrder);
+			book.received(otherSellOrder);
+			List<TradeHistoryResponse> responses = book.received(buyOrder, recorder(actions));
+
+			assertThat(responses).singleElement().satisfies(response -> {
+				assertThat(response.sellOrderId()).isEqualTo(2L);
+				assertThat(response.quantity()).isEqualTo(new BigDecimal(5));
+			});
+			assertThat(ownSellOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.COMPLETE);
+			assertThat(actions).singleElement()
+					.extracting(SelfTradeAction::restingCancelledQuantity).isEqualTo(new BigDecimal(10));
+		}
+
+		@Test
+		@DisplayName("CANCEL_BOTH: 두 주문 모두 취소하고 주문장에서 제거한다.")
+		void cancelBoth() {
+			OrderBook book = new OrderBook(COMPANY_CODE, tradeHistoryService, SelfTradePrevention.CANCEL_BOTH);
+			TradeOrder buyOrder = createOrder(1L, Type.BUY, new BigDecimal(1000), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1);
+			TradeOrder sellOrder = createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1);
+
+			book.received(buyOrder);
+			List<TradeHistoryResponse> responses = book.received(sellOrder);
+
+			assertThat(responses).isEmpty();
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(sellOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(book.getBook().buyLevels()).isEmpty();
+			assertThat(book.getBook().sellLevels()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("DECREMENT: 겹치는 수량만큼 두 주문을 체결 없이 차감하고 남은 기존 주문은 유지한다.")
+		void decrement() {
+			OrderBook book = new OrderBook(COMPANY_CODE, tradeHistoryService, SelfTradePrevention.DECREMENT);
+			TradeOrder buyOrder = createOrder(1L, Type.BUY, new BigDecimal(1000), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1);
+			TradeOrder sellOrder = createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1);
+
+			book.received(buyOrder);
+			List<TradeHistoryResponse> responses = book.received(sellOrder);
+
+			assertThat(responses).isEmpty();
+			assertThat(sellOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(buyOrder.getRemainingQuantity()).isEqualTo(new BigDecimal(7));
+			assertThat(book.getBook().buyLevels()).singleElement()
+					.extracting(PriceLevelDto::quantity).isEqualTo(new BigDecimal(7));
+		}
+
+		@Test
+		@Timeout(5)
+		@DisplayName("같은 계좌 주문이 많이 쌓여 있어도 매칭 루프가 멈추지 않는다.")
+		void doesNotSpinOnSameAccountOrders() {
+			OrderBook book = new OrderBook(COMPANY_CODE, tradeHistoryService, SelfTradePrevention.CANCEL_OLDEST);
+			for (long i = 0; i < 1_000; i++) {
+				book.received(createOrder(i, Type.SELL, new BigDecimal(1000), BigDecimal.ONE, createdAt.plusSeconds(i),
+						OrderStatus.ACTIVE, account1));
+			}
+			TradeOrder buyOrder = createOrder(10_000L, Type.BUY, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1);
+
+			List<TradeHistoryResponse> responses = book.received(buyOrder);
+
+			assertThat(responses).isEmpty();
+			assertThat(book.getBook().sellLevels()).isEmpty();
+			assertThat(book.getBook().buyLevels()).singleElement()
+					.extracting(PriceLevelDto::quantity).isEqualTo(new BigDecimal(5));
+		}
+
+		private OrderBookListener recorder(List<SelfTradeAction> actions) {
+			return new OrderBookListener() {
+				@Override
+				public void onSelfTradePrevented(SelfTradeAction action) {
+					actions.add(action);
+				}
+			};
+		}
+	}
+
+	@Nested
+	@DisplayName("주문 유효 기간 조건")
+	class TimeInForceTest {
+
+		private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 1, 1);
+
+		private final List<BigDecimal> cancelled = new ArrayList<>();
+
+		private final OrderBookListener listener = new OrderBookListener() {
+			@Override
+			public void onUnfilledCancelled(TradeOrder order, BigDecimal quantity) {
+				cancelled.add(quantity);
+			}
+		};
+
+		@Test
+		@DisplayName("IOC 주문은 체결 가능한 수량만 체결하고 잔량은 주문장에 남기지 않는다.")
+		void immediateOrCancel() {
+			orderBook.received(createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1));
+			TradeOrder buyOrder = createOrder(2L, Type.BUY, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account2, TimeInForce.IOC);
+
+			List<TradeHistoryResponse> responses = orderBook.received(buyOrder, listener);
+
+			assertThat(responses).singleElement().extracting(TradeHistoryResponse::quantity).isEqualTo(new BigDecimal(3));
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(cancelled).containsExactly(new BigDecimal(2));
+			assertThat(orderBook.getBook().buyLevels()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("FOK 주문은 전량 체결할 수 없으면 주문장을 바꾸지 않고 전량 취소한다.")
+		void fillOrKillRejected() {
+			TradeOrder sellOrder = createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1);
+			orderBook.received(sellOrder);
+			orderBook.received(createOrder(2L, Type.SELL, new BigDecimal(1200), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1));
+			TradeOrder buyOrder = createOrder(3L, Type.BUY, new BigDecimal(1100), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account2, TimeInForce.FOK);
+
+			List<TradeHistoryResponse> responses = orderBook.received(buyOrder, listener);
+
+			assertThat(responses).isEmpty();
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(cancelled).containsExactly(new BigDecimal(5));
+			assertThat(sellOrder.getRemainingQuantity()).isEqualTo(new BigDecimal(3));
+		}
+
+		@Test
+		@DisplayName("FOK 주문은 여러 가격대의 잔량 합계로 전량 체결 가능하면 체결한다.")
+		void fillOrKillFilled() {
+			orderBook.received(createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(2L, Type.SELL, new BigDecimal(1100), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1));
+			TradeOrder buyOrder = createOrder(3L, Type.BUY, new BigDecimal(1100), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account2, TimeInForce.FOK);
+
+			List<TradeHistoryResponse> responses = orderBook.received(buyOrder, listener);
+
+			assertThat(responses).hasSize(2);
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.COMPLETE);
+			assertThat(cancelled).isEmpty();
+			assertThat(orderBook.getBook().sellLevels()).singleElement()
+					.extracting(PriceLevelDto::quantity).isEqualTo(new BigDecimal(8));
+		}
+
+		@Test
+		@DisplayName("FOK 주문은 같은 계좌 잔량이 있어야 전량 체결되는 경우 주문장을 바꾸지 않고 전량 취소한다.")
+		void fillOrKillExcludesOwnLiquidity() {
+			TradeOrder ownSellOrder = createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1);
+			TradeOrder otherSellOrder = createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(3),
+					createdAt.plusMinutes(1), OrderStatus.ACTIVE, account2);
+			orderBook.received(ownSellOrder);
+			orderBook.received(otherSellOrder);
+			TradeOrder buyOrder = createOrder(3L, Type.BUY, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1, TimeInForce.FOK);
+
+			List<TradeHistoryResponse> responses = orderBook.received(buyOrder, listener);
+
+			assertThat(responses).isEmpty();
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(cancelled).containsExactly(new BigDecimal(3));
+			assertThat(ownSellOrder.getRemainingQuantity()).isEqualTo(new BigDecimal(5));
+			assertThat(otherSellOrder.getRemainingQuantity()).isEqualTo(new BigDecimal(3));
+		}
+
+		@Test
+		@DisplayName("CANCEL_OLDEST 정책이면 FOK 주문은 같은 계좌 잔량을 제외한 수량으로 전량 체결 가능 여부를 판단한다.")
+		void fillOrKillCancelOldest() {
+			OrderBook book = new OrderBook(COMPANY_CODE, tradeHistoryService, SelfTradePrevention.CANCEL_OLDEST);
+			book.received(createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1));
+			book.received(createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt.plusMinutes(1),
+					OrderStatus.ACTIVE, account2));
+			TradeOrder tooLarge = createOrder(3L, Type.BUY, new BigDecimal(1000), new BigDecimal(4), createdAt,
+					OrderStatus.ACTIVE, account1, TimeInForce.FOK);
+			TradeOrder buyOrder = createOrder(4L, Type.BUY, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1, TimeInForce.FOK);
+
+			assertThat(book.received(tooLarge, listener)).isEmpty();
+			List<TradeHistoryResponse> responses = book.received(buyOrder, listener);
+
+			assertThat(tooLarge.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(responses).singleElement().extracting(TradeHistoryResponse::sellOrderId).isEqualTo(2L);
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.COMPLETE);
+		}
+
+		@Test
+		@DisplayName("시장가 주문은 호가가 부족하면 예외 없이 체결된 만큼만 반영하고 잔량을 취소한다.")
+		void marketOrderCancelsRemainder() {
+			orderBook.received(createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1));
+			TradeOrder buyOrder = createOrder(2L, Type.BUY, BigDecimal.ZERO, new BigDecimal(5), createdAt,
+					OrderStatus.MARKET, account2);
+
+			List<TradeHistoryResponse> responses = orderBook.received(buyOrder, listener);
+
+			assertThat(responses).hasSize(1);
+			assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(cancelled).containsExactly(new BigDecimal(2));
+			assertThat(orderBook.getBook().sellLevels()).isEmpty();
+		}
+
+		@Test
+		@DisplayName("GTD 주문이 만료되면 해당 가격대에서 제거되고 잔량이 취소된다.")
+		void expireGoodTillDate() {
+			TradeOrder gtdOrder = createOrder(1L, Type.BUY, new BigDecimal(1000), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1, TimeInForce.GTD);
+			orderBook.received(gtdOrder);
+			orderBook.received(createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(2), createdAt,
+					OrderStatus.ACTIVE, account2));
+
+			assertThat(orderBook.expire(1L)).isEqualTo(new BigDecimal(3));
+			assertThat(gtdOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(orderBook.getBook().buyLevels()).isEmpty();
+			assertThat(orderBook.expire(1L)).isEqualTo(BigDecimal.ZERO);
+		}
+	}
+
+	@Nested
+	class StopOrderTest {
+
+		private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 1, 1);
+
+		private final List<Long> triggered = new ArrayList<>();
+
+		private final OrderBookListener listener = new OrderBookListener() {
+			@Override
+			public void onStopTriggered(TradeOrder order) {
+				triggered.add(order.getId());
+			}
+		};
+
+		@Test
+		@DisplayName("스탑 매수 주문은 체결가가 발동 가격에 닿을 때까지 대기하다가 발동되면 바로 체결된다.")
+		void stopBuyTriggeredByTrade() {
+			orderBook.received(createOrder(1L, Type.SELL, new BigDecimal(1000), new BigDecimal(2), createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(2L, Type.SELL, new BigDecimal(1100), new BigDecimal(5), createdAt,
+					OrderStatus.ACTIVE, account1));
+			TradeOrder stopOrder = createStopOrder(3L, Type.BUY, BigDecimal.ZERO, new BigDecimal(1000), new BigDecimal(3),
+					OrderStatus.MARKET);
+
+			assertThat(orderBook.received(stopOrder, listener)).isEmpty();
+			assertThat(orderBook.getStopOrderCount()).isEqualTo(1);
+
+			List<TradeHistoryResponse> responses = orderBook.received(createOrder(4L, Type.BUY, new BigDecimal(1000),
+					new BigDecimal(2), createdAt, OrderStatus.ACTIVE, account2), listener);
+
+			assertThat(triggered).containsExactly(3L);
+			assertThat(responses).extracting(TradeHistoryResponse::price)
+					.containsExactly(new BigDecimal(1000), new BigDecimal(1100));
+			assertThat(stopOrder.getStatus()).isEqualTo(OrderStatus.COMPLETE);
+			assertThat(orderBook.getStopOrderCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("체결가가 지나간 가격대의 스탑 주문만 발동되고 나머지는 대기열에 남는다.")
+		void onlyCrossedRangeTriggered() {
+			orderBook.received(createOrder(1L, Type.BUY, new BigDecimal(1000), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(2L, Type.BUY, new BigDecimal(950), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account1));
+			TradeOrder stopLimit = createStopOrder(3L, Type.SELL, new BigDecimal(900), new BigDecimal(950),
+					BigDecimal.ONE, OrderStatus.ACTIVE);
+			TradeOrder farStop = createStopOrder(4L, Type.SELL, new BigDecimal(900), new BigDecimal(900),
+					BigDecimal.ONE, OrderStatus.ACTIVE);
+			orderBook.received(stopLimit, listener);
+			orderBook.received(farStop, listener);
+
+			orderBook.received(createOrder(5L, Type.SELL, new BigDecimal(1000), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account2), listener);
+			assertThat(triggered).isEmpty();
+
+			orderBook.received(createOrder(6L, Type.SELL, new BigDecimal(950), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account2), listener);
+
+			assertThat(triggered).containsExactly(3L);
+			assertThat(orderBook.getStopOrderCount()).isEqualTo(1);
+			assertThat(stopLimit.getStatus()).isEqualTo(OrderStatus.ACTIVE);
+			assertThat(orderBook.getBook().sellLevels()).singleElement()
+					.extracting(PriceLevelDto::price).isEqualTo(new BigDecimal(900));
+		}
+
+		@Test
+		@DisplayName("한 번에 발동된 스탑 주문은 발동 가격과 관계없이 접수 순서대로 처리된다.")
+		void triggeredInArrivalOrder() {
+			orderBook.received(createOrder(1L, Type.SELL, new BigDecimal(1000), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(2L, Type.SELL, new BigDecimal(1100), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(3L, Type.SELL, new BigDecimal(1200), new BigDecimal(10), createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createStopOrder(4L, Type.BUY, BigDecimal.ZERO, new BigDecimal(1100), BigDecimal.ONE,
+					OrderStatus.MARKET), listener);
+			orderBook.received(createStopOrder(5L, Type.BUY, BigDecimal.ZERO, new BigDecimal(1000), BigDecimal.ONE,
+					OrderStatus.MARKET), listener);
+
+			List<TradeHistoryResponse> responses = orderBook.received(createOrder(6L, Type.BUY, new BigDecimal(1100),
+					new BigDecimal(2), createdAt, OrderStatus.ACTIVE, account2), listener);
+
+			assertThat(triggered).containsExactly(4L, 5L);
+			assertThat(responses).extracting(TradeHistoryResponse::buyOrderId).containsExactly(6L, 6L, 4L, 5L);
+		}
+
+		@Test
+		@DisplayName("발동 전 GTD 스탑 주문도 만료되면 대기열에서 제거된다.")
+		void expireParkedStopOrder() {
+			TradeOrder stopOrder = TradeOrder.builder()
+					.id(1L)
+					.companyCode("005930")
+					.type(Type.BUY)
+					.totalQuantity(BigDecimal.ONE)
+					.remainingQuantity(BigDecimal.ONE)
+					.price(new BigDecimal(1100))
+					.status(OrderStatus.ACTIVE)
+					.account(account2)
+					.createdDateTime(createdAt)
+					.timeInForce(TimeInForce.GTD)
+					.stopPrice(new BigDecimal(1100))
+					.build();
+			orderBook.received(stopOrder, listener);
+
+			assertThat(orderBook.expire(1L)).isEqualTo(BigDecimal.ONE);
+			assertThat(orderBook.getStopOrderCount()).isZero();
+			assertThat(stopOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+		}
+
+		private TradeOrder createStopOrder(Long id, Type type, BigDecimal price, BigDecimal stopPrice,
+				BigDecimal quantity, OrderStatus status) {
+			return TradeOrder.builder()
+					.id(id)
+					.companyCode("005930")
+					.type(type)
+					.totalQuantity(quantity)
+					.remainingQuantity(quantity)
+					.price(price)
+					.status(status)
+					.account(account2)
+					.createdDateTime(createdAt)
+					.stopPrice(stopPrice)
+					.build();
+		}
+	}
+
+	@Nested
+	class CallAuctionTest {
+
+		private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 8, 30);
+
+		private final List<BigDecimal> cancelled = new ArrayList<>();
+
+		private final OrderBookListener listener = new OrderBookListener() {
+			@Override
+			public void onUnfilledCancelled(TradeOrder order, BigDecimal quantity) {
+				cancelled.add(quantity);
+			}
+		};
+
+		@Test
+		@DisplayName("단일가 매매 중에는 가격이 교차해도 체결하지 않고 예상 체결가와 체결량만 계산한다.")
+		void accumulateWithoutMatching() {
+			orderBook.startAuction();
+
+			List<TradeHistoryResponse> buyResponses = orderBook.received(createOrder(1L, Type.BUY,
+					new BigDecimal(1100), new BigDecimal(5), createdAt, OrderStatus.ACTIVE, account1));
+			List<TradeHistoryResponse> sellResponses = orderBook.received(createOrder(2L, Type.SELL,
+					new BigDecimal(1000), new BigDecimal(3), createdAt, OrderStatus.ACTIVE, account2));
+
+			assertThat(buyResponses).isEmpty();
+			assertThat(sellResponses).isEmpty();
+			assertThat(orderBook.getBook().buyLevels()).hasSize(1);
+			assertThat(orderBook.getBook().sellLevels()).hasSize(1);
+			AuctionIndicativeResponse indicative = orderBook.getIndicative(null);
+			assertThat(indicative.price()).isEqualTo(new BigDecimal(1000));
+			assertThat(indicative.volume()).isEqualTo(new BigDecimal(3));
+		}
+
+		@Test
+		@DisplayName("단일가 매매 종료 시 시장가, 가격, 시간 우선으로 균형 가격 하나에 일괄 체결하고 연속 매매로 돌아간다.")
+		void uncrossAtSinglePrice() {
+			orderBook.startAuction();
+			orderBook.received(createOrder(1L, Type.BUY, new BigDecimal(1100), new BigDecimal(4), createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(2L, Type.BUY, new BigDecimal(1000), new BigDecimal(2), createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(3L, Type.SELL, new BigDecimal(950), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account2));
+			orderBook.received(createOrder(4L, Type.SELL, new BigDecimal(1050), new BigDecimal(2), createdAt,
+					OrderStatus.ACTIVE, account2));
+			orderBook.received(createOrder(5L, Type.SELL, BigDecimal.ZERO, BigDecimal.ONE, createdAt,
+					OrderStatus.MARKET, account2));
+
+			List<TradeHistoryResponse> responses = orderBook.uncross(new BigDecimal(1000), listener);
+
+			assertThat(responses).extracting(TradeHistoryResponse::sellOrderId).containsExactly(5L, 3L);
+			assertThat(responses).extracting(TradeHistoryResponse::buyOrderId).containsExactly(1L, 1L);
+			assertThat(responses).extracting(TradeHistoryResponse::price)
+					.containsOnly(new BigDecimal(1000));
+			assertThat(orderBook.isAuction()).isFalse();
+			assertThat(orderBook.getBook().buyLevels()).singleElement()
+					.extracting(PriceLevelDto::quantity).isEqualTo(new BigDecimal(2));
+			assertThat(orderBook.getBook().sellLevels()).singleElement()
+					.extracting(PriceLevelDto::price).isEqualTo(new BigDecimal(1050));
+
+			List<TradeHistoryResponse> continuous = orderBook.received(createOrder(6L, Type.SELL,
+					new BigDecimal(1000), new BigDecimal(2), createdAt, OrderStatus.ACTIVE, account2));
+			assertThat(continuous).singleElement().extracting(TradeHistoryResponse::buyOrderId).isEqualTo(2L);
+		}
+
+		@Test
+		@DisplayName("균형 가격이 없으면 단일가 매매 중 접수된 시장가 주문은 취소된다.")
+		void cancelMarketOrdersWithoutCross() {
+			orderBook.startAuction();
+			TradeOrder marketOrder = createOrder(1L, Type.BUY, BigDecimal.ZERO, new BigDecimal(2), createdAt,
+					OrderStatus.MARKET, account1);
+			orderBook.received(marketOrder);
+
+			assertThat(orderBook.uncross(null, listener)).isEmpty();
+			assertThat(marketOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(cancelled).containsExactly(new BigDecimal(2));
+		}
+
+		@Test
+		@DisplayName("일괄 체결에서도 같은 계좌 주문끼리는 체결하지 않고 자전거래 방지 정책을 적용한다.")
+		void uncrossAppliesSelfTradePrevention() {
+			List<SelfTradeAction> actions = new ArrayList<>();
+			OrderBookListener recorder = new OrderBookListener() {
+				@Override
+				public void onSelfTradePrevented(SelfTradeAction action) {
+					actions.add(action);
+				}
+			};
+			orderBook.startAuction();
+			TradeOrder ownBuyOrder = createOrder(1L, Type.BUY, new BigDecimal(1000), new BigDecimal(3), createdAt,
+					OrderStatus.ACTIVE, account1);
+			TradeOrder otherBuyOrder = createOrder(2L, Type.BUY, new BigDecimal(1000), new BigDecimal(2),
+					createdAt.plusMinutes(1), OrderStatus.ACTIVE, account2);
+			TradeOrder sellOrder = createOrder(3L, Type.SELL, new BigDecimal(1000), new BigDecimal(5),
+					createdAt.plusMinutes(2), OrderStatus.ACTIVE, account1);
+			orderBook.received(ownBuyOrder);
+			orderBook.received(otherBuyOrder);
+			orderBook.received(sellOrder);
+
+			List<TradeHistoryResponse> responses = orderBook.uncross(null, recorder);
+
+			assertThat(responses).isEmpty();
+			assertThat(sellOrder.getStatus()).isEqualTo(OrderStatus.CANCEL);
+			assertThat(ownBuyOrder.getRemainingQuantity()).isEqualTo(new BigDecimal(3));
+			assertThat(actions).singleElement().satisfies(action -> {
+				assertThat(action.mode()).isEqualTo(SelfTradePrevention.CANCEL_NEWEST);
+				assertThat(action.incomingOrder()).isSameAs(sellOrder);
+				assertThat(action.incomingCancelledQuantity()).isEqualTo(new BigDecimal(5));
+			});
+			assertThat(orderBook.getBook().buyLevels()).singleElement()
+					.extracting(PriceLevelDto::quantity).isEqualTo(new BigDecimal(5));
+		}
+
+		@Test
+		@DisplayName("종가 단일가 매매 종료 후에는 연속 매매로 돌아가지 않고 다음 단일가 매매까지 접수만 한다.")
+		void holdAfterClosingUncross() {
+			orderBook.startAuction();
+			orderBook.received(createOrder(1L, Type.BUY, new BigDecimal(1000), new BigDecimal(2), createdAt,
+					OrderStatus.ACTIVE, account1));
+			orderBook.received(createOrder(2L, Type.SELL, new BigDecimal(1000), new BigDecimal(2), createdAt,
+					OrderStatus.ACTIVE, account2));
+
+			assertThat(orderBook.uncrossAndHold(null, listener)).hasSize(1);
+			assertThat(orderBook.isAuction()).isTrue();
+
+			orderBook.received(createOrder(3L, Type.BUY, new BigDecimal(1000), BigDecimal.ONE, createdAt,
+					OrderStatus.ACTIVE, account1));
+			List<TradeHistoryResponse> afterClose = orderBook.received(createOrder(4L, Type.SELL,
+					new BigDecimal(1000), BigDecimal.ONE, createdAt, OrderStatus.ACTIVE, account2));
+
+			assertThat(afterClose).isEmpty();
+			assertThat(orderBook.uncross(null, listener)).singleElement()
+					.extracting(TradeHistoryResponse::buyOrderId).isEqualTo(3L);
+		}
+	}
+
+	private TradeOrder createOrder(Long id, Type type, BigDecimal price, BigDecimal quantity, LocalDateTime createdAt,
+			OrderStatus status, Account account, TimeInForce timeInForce) {
+		return TradeOrder.builder()
+				.id(id)
+				.companyCode("005930")
+				.type(type)
+				.totalQuantity(quantity)
+				.remainingQuantity(quantity)
+				.price(price)
+				.status(status)
+				.account(account)
+				.createdDateTime(createdAt)
+				.timeInForce(timeInForce)
+				.build();
+	}
+
 	private TradeOrder createOrder(Long id, Type type, BigDecimal price, BigDecimal quantity, LocalDateTime createdAt,
 			OrderStatus status, Account account) {
 		return TradeOrder.builder()
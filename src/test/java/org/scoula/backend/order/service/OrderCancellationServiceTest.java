@@ -0,0 +1,130 @@
+package org.scoula.backend.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.member.domain.Holdings;
+import org.scoula.backend.member.domain.Member;
+import org.scoula.backend.member.domain.MemberRoleEnum;
+import org.scoula.backend.member.service.reposiotry.AccountRepository;
+import org.scoula.backend.member.service.reposiotry.HoldingsRepository;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.AccountUpdatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCancellationServiceTest {
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private HoldingsRepository holdingsRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private OrderCancellationService orderCancellationService;
+
+	@Test
+	@DisplayName("매수 주문 취소 시 주문과 예약 금액이 해제된 계좌를 함께 저장한다.")
+	void cancelBuyOrder() {
+		final Account account = account();
+		final Order order = order(Type.BUY, account);
+		when(orderRepository.getById(10L)).thenReturn(order);
+		when(accountRepository.getById(1L)).thenReturn(account);
+
+		orderCancellationService.cancel(10L, new BigDecimal(2));
+
+		assertThat(order.getRemainingQuantity()).isEqualTo(new BigDecimal(3));
+		assertThat(account.getReservedBalance()).isEqualTo(new BigDecimal(3000));
+		verify(orderRepository).save(order);
+		verify(accountRepository).save(account);
+
+		final ArgumentCaptor<AccountUpdatedEvent> event = ArgumentCaptor.forClass(AccountUpdatedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().username()).isEqualTo("buyer");
+	}
+
+	@Test
+	@DisplayName("매도 주문 전량 취소 시 주문 상태를 취소로 바꾸고 예약 수량을 해제한다.")
+	void cancelSellOrder() {
+		final Account account = account();
+		final Order order = order(Type.SELL, account);
+		final Holdings holdings = Holdings.builder()
+				.companyCode("005930")
+				.quantity(new BigDecimal(10))
+				.reservedQuantity(new BigDecimal(5))
+				.averagePrice(new BigDecimal(1000))
+				.totalPurchasePrice(new BigDecimal(10_000))
+				.account(account)
+				.build();
+		when(orderRepository.getById(10L)).thenReturn(order);
+		when(accountRepository.getById(1L)).thenReturn(account);
+		when(holdingsRepository.findByAccountIdAndCompanyCode(1L, "005930")).thenReturn(Optional.of(holdings));
+
+		orderCancellationService.cancel(10L, new BigDecimal(5));
+
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCEL);
+		assertThat(holdings.getReservedQuantity()).isEqualTo(BigDecimal.ZERO);
+		verify(holdingsRepository).save(holdings);
+		verify(accountRepository, never()).save(any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("취소 수량이 0이면 아무것도 조회하지 않는다.")
+	void skipZeroQuantity() {
+		orderCancellationService.cancel(10L, BigDecimal.ZERO);
+
+		verifyNoInteractions(orderRepository, accountRepository, holdingsRepository, eventPublisher);
+	}
+
+	private Account account() {
+		final Member member = Member.builder()
+				.id(1L)
+				.googleId("buyer")
+				.email("buyer@gmail.com")
+				.username("buyer")
+				.role(MemberRoleEnum.USER)
+				.build();
+		return Account.builder()
+				.id(1L)
+				.member(member)
+				.balance(new BigDecimal(100_000))
+				.reservedBalance(new BigDecimal(5000))
+				.build();
+	}
+
+	private Order order(final Type type, final Account account) {
+		return Order.builder()
+				.id(10L)
+				.companyCode("005930")
+				.type(type)
+				.totalQuantity(new BigDecimal(5))
+				.remainingQuantity(new BigDecimal(5))
+				.status(OrderStatus.ACTIVE)
+				.price(new BigDecimal(1000))
+				.account(account)
+				.timestamp(1L)
+				.build();
+	}
+}
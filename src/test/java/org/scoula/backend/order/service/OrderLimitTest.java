@@ -29,6 +29,8 @@ import org.scoula.backend.order.domain.OrderStatus;
 import org.scoula.backend.order.domain.Type;
 import org.scoula.backend.order.service.exception.OrderPriceQuotationException;
 import org.scoula.backend.order.service.exception.PriceOutOfRangeException;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +57,12 @@ public class OrderLimitTest {
     @Mock
     OrderRepository orderRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    SubscriptionRegistry subscriptionRegistry;
+
     Company company = Company.builder().isuCd("심상전자").isuNm("005930").closingPrice(new BigDecimal(1000)).build();
     Member member = Member.builder().id(1L).username("username").googleId("googleId").role(MemberRoleEnum.USER).build();
 
@@ -40,7 +40,9 @@ import org.scoula.backend.order.domain.OrderStatus;
 import org.scoula.backend.order.domain.Type;
 import org.scoula.backend.order.repository.OrderRepositoryImpl;
 import org.scoula.backend.order.service.exception.MatchingException;
+import org.scoula.backend.order.service.subscription.SubscriptionRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -80,17 +82,26 @@ class OrderServiceTest {
 	@Mock
 	EntityManager entityManager;
 
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	OrderCancellationService orderCancellationService;
+
 
 
 	private final Company company = Company.builder().isuNm("AAPL").isuCd("AAPL").closingPrice(new BigDecimal("150.00")).build();
 	private final Member member = Member.builder().id(1L).username("username").googleId("googleId").role(MemberRoleEnum.USER).build();
 	private Account account;
+	private SubscriptionRegistry subscriptionRegistry;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		subscriptionRegistry = new SubscriptionRegistry();
 		orderService = new OrderService(messagingTemplate, tradeHistoryService, companyRepository,
-			memberRepository, orderRepository, holdingsRepository);
+			memberRepository, orderRepository, holdingsRepository, eventPublisher, subscriptionRegistry,
+			orderCancellationService);
 
 		member.createAccount();
 	}
@@ -109,12 +120,34 @@ class OrderServiceTest {
 			.build();
 		when(companyRepository.findByIsuSrtCd("AAPL")).thenReturn(Optional.of(company));
 		when(memberRepository.getByUsername(any())).thenReturn(member);
+		subscriptionRegistry.subscribe("session-1", "sub-0", "/topic/orderbook/AAPL");
 
 		orderService.placeOrder(request, "test");
 
 		verify(messagingTemplate).convertAndSend(eq("/topic/orderbook/AAPL"), any(OrderBookResponse.class));
 	}
 
+	@Test
+	@DisplayName("호가창 구독자가 없으면 주문 처리 후 호가창을 전송하지 않는다.")
+	void skipBroadcastWithoutSubscribers() throws MatchingException {
+		OrderRequest request = OrderRequest.builder()
+			.companyCode("AAPL")
+			.type(Type.BUY)
+			.totalQuantity(new BigDecimal("10"))
+			.remainingQuantity(new BigDecimal("10"))
+			.status(OrderStatus.ACTIVE)
+			.price(new BigDecimal("150.00"))
+			.accountId(1L)
+			.build();
+		when(companyRepository.findByIsuSrtCd("AAPL")).thenReturn(Optional.of(company));
+		when(memberRepository.getByUsername(any())).thenReturn(member);
+		subscriptionRegistry.subscribe("session-1", "sub-0", "/topic/orderbook/005930");
+
+		orderService.placeOrder(request, "test");
+
+		verify(messagingTemplate, never()).convertAndSend(anyString(), any(OrderBookResponse.class));
+	}
+
 	@Test
 	@DisplayName("TC20.2.2 주문장 스냅샷 조회 테스트")
 	void testGetSnapshot() {
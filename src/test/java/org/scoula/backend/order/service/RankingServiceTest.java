@@ -3,9 +3,7 @@ package org.scoula.backend.order.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,8 +14,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.scoula.backend.member.domain.Company;
-import org.scoula.backend.member.repository.impls.CompanyRepositoryImpl;
+import org.scoula.backend.member.service.reposiotry.CompanyRepository;
 import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
 import org.scoula.backend.order.dto.ranking.ListedSharesRankingDto;
 import org.scoula.backend.order.dto.ranking.TurnoverRateRankingDto;
 import org.scoula.backend.order.dto.ranking.VolumeRankingDto;
@@ -26,20 +25,13 @@ import org.scoula.backend.order.dto.ranking.VolumeRankingDto;
 class RankingServiceTest {
 
 	@Mock
-	private OrderService orderService;
-
-	@Mock
-	private CompanyRepositoryImpl companyRepository;
+	private CompanyRepository companyRepository;
 
 	@InjectMocks
 	private RankingService rankingService;
 
 	@BeforeEach
 	void setUp() {
-		Map<String, OrderSummaryResponse> mockSummaries = new HashMap<>();
-		mockSummaries.put("A001", new OrderSummaryResponse("A001", 100, 200));
-		mockSummaries.put("B001", new OrderSummaryResponse("B001", 150, 250));
-
 		Company companyA = Company.builder()
 			.isuSrtCd("A001")
 			.isuNm("회사A")
@@ -52,9 +44,12 @@ class RankingServiceTest {
 			.listShrs("2000000")
 			.build();
 
-		given(orderService.getAllOrderSummaries()).willReturn(mockSummaries);
 		given(companyRepository.findByIsuSrtCd("A001")).willReturn(Optional.of(companyA));
 		given(companyRepository.findByIsuSrtCd("B001")).willReturn(Optional.of(companyB));
+
+		rankingService.onOrderBookUpdated(new OrderBookUpdatedEvent(new OrderSummaryResponse("A001", 100, 200)));
+		rankingService.onOrderBookUpdated(new OrderBookUpdatedEvent(new OrderSummaryResponse("B001", 150, 250)));
+		rankingService.publishSnapshot();
 	}
 
 	@Test
@@ -98,6 +93,33 @@ class RankingServiceTest {
 		assertThat(result.get(1).getTurnoverRate()).isEqualTo(0.0002);
 		assertThat(result.get(1).getRank()).isEqualTo(2);
 	}
-}
 
+	@Test
+	@DisplayName("주문장이 변경되면 다음 스냅샷 발행 시 랭킹에 반영된다.")
+	void testRankingUpdatedOnNextSnapshot() {
+		rankingService.onOrderBookUpdated(new OrderBookUpdatedEvent(new OrderSummaryResponse("A001", 300, 200)));
+
+		assertThat(rankingService.getVolumeRankings().get(0).getCompanyCode()).isEqualTo("B001");
 
+		rankingService.publishSnapshot();
+
+		List<VolumeRankingDto> result = rankingService.getVolumeRankings();
+		assertThat(result).hasSize(2);
+		assertThat(result.get(0).getCompanyCode()).isEqualTo("A001");
+		assertThat(result.get(0).getTotalVolume()).isEqualTo(500);
+		assertThat(result.get(1).getCompanyCode()).isEqualTo("B001");
+	}
+
+	@Test
+	@DisplayName("종목 정보는 처음 등장할 때만 조회하고, 랭킹 조회 시에는 조회하지 않는다.")
+	void testCompanyLookupOncePerSymbol() {
+		rankingService.onOrderBookUpdated(new OrderBookUpdatedEvent(new OrderSummaryResponse("A001", 10, 20)));
+		rankingService.publishSnapshot();
+		rankingService.getVolumeRankings();
+		rankingService.getListedSharesRankings();
+		rankingService.getTurnoverRateRankings();
+
+		verify(companyRepository, times(1)).findByIsuSrtCd("A001");
+		verify(companyRepository, times(1)).findByIsuSrtCd("B001");
+	}
+}
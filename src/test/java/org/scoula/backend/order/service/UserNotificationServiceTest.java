@@ -0,0 +1,124 @@
+package org.scoula.backend.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.member.domain.Account;
+import org.scoula.backend.member.domain.Member;
+import org.scoula.backend.member.domain.MemberRoleEnum;
+import org.scoula.backend.order.domain.Order;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.domain.Type;
+import org.scoula.backend.order.dto.AccountNotificationDto;
+import org.scoula.backend.order.dto.FillNotificationDto;
+import org.scoula.backend.order.dto.TradeSettledEvent;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserNotificationServiceTest {
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@InjectMocks
+	private UserNotificationService userNotificationService;
+
+	@Test
+	@DisplayName("체결 정산 후 매수자와 매도자에게 각자의 체결 내역과 잔고를 전송한다.")
+	void notifyBuyerAndSeller() {
+		final Account buyerAccount = account(1L, "buyer");
+		final Account sellerAccount = account(2L, "seller");
+		final Order buyOrder = order(10L, Type.BUY, buyerAccount, new BigDecimal(0));
+		final Order sellOrder = order(20L, Type.SELL, sellerAccount, new BigDecimal(3));
+		final TradeHistory tradeHistory = TradeHistory.builder()
+				.id(100L)
+				.companyCode("005930")
+				.buyOrderId(10L)
+				.sellOrderId(20L)
+				.price(new BigDecimal(1000))
+				.quantity(new BigDecimal(2))
+				.tradeTime(1_700_000_000L)
+				.build();
+
+		userNotificationService.onTradeSettled(
+				new TradeSettledEvent(tradeHistory, buyOrder, sellOrder, buyerAccount, sellerAccount));
+
+		final ArgumentCaptor<FillNotificationDto> buyerFill = ArgumentCaptor.forClass(FillNotificationDto.class);
+		verify(messagingTemplate).convertAndSendToUser(eq("buyer"), eq(UserNotificationService.FILLS_DESTINATION),
+				buyerFill.capture());
+		assertThat(buyerFill.getValue().orderId()).isEqualTo(10L);
+		assertThat(buyerFill.getValue().type()).isEqualTo(Type.BUY);
+		assertThat(buyerFill.getValue().quantity()).isEqualTo(new BigDecimal(2));
+
+		final ArgumentCaptor<FillNotificationDto> sellerFill = ArgumentCaptor.forClass(FillNotificationDto.class);
+		verify(messagingTemplate).convertAndSendToUser(eq("seller"), eq(UserNotificationService.FILLS_DESTINATION),
+				sellerFill.capture());
+		assertThat(sellerFill.getValue().remainingQuantity()).isEqualTo(new BigDecimal(3));
+
+		verify(messagingTemplate).convertAndSendToUser(eq("buyer"), eq(UserNotificationService.ACCOUNT_DESTINATION),
+				any(AccountNotificationDto.class));
+		verify(messagingTemplate).convertAndSendToUser(eq("seller"), eq(UserNotificationService.ACCOUNT_DESTINATION),
+				any(AccountNotificationDto.class));
+	}
+
+	@Test
+	@DisplayName("회원 계좌가 없는 주문에는 통보하지 않는다.")
+	void skipOrdersWithoutAccount() {
+		final Account buyerAccount = account(1L, "buyer");
+		final Order buyOrder = order(10L, Type.BUY, buyerAccount, BigDecimal.ZERO);
+		final Order externalOrder = order(20L, Type.SELL, null, BigDecimal.ZERO);
+		final TradeHistory tradeHistory = TradeHistory.builder()
+				.id(100L)
+				.companyCode("005930")
+				.price(new BigDecimal(1000))
+				.quantity(BigDecimal.ONE)
+				.tradeTime(1_700_000_000L)
+				.build();
+
+		userNotificationService.onTradeSettled(
+				new TradeSettledEvent(tradeHistory, buyOrder, externalOrder, buyerAccount, null));
+
+		verify(messagingTemplate, times(2)).convertAndSendToUser(eq("buyer"), anyString(), any(Object.class));
+		verifyNoMoreInteractions(messagingTemplate);
+	}
+
+	private Account account(final Long memberId, final String username) {
+		final Member member = Member.builder()
+				.id(memberId)
+				.googleId(username)
+				.email(username + "@gmail.com")
+				.username(username)
+				.role(MemberRoleEnum.USER)
+				.build();
+		return Account.builder()
+				.member(member)
+				.balance(new BigDecimal(100_000))
+				.reservedBalance(BigDecimal.ZERO)
+				.build();
+	}
+
+	private Order order(final Long id, final Type type, final Account account, final BigDecimal remainingQuantity) {
+		return Order.builder()
+				.id(id)
+				.companyCode("005930")
+				.type(type)
+				.totalQuantity(new BigDecimal(5))
+				.remainingQuantity(remainingQuantity)
+				.status(OrderStatus.ACTIVE)
+				.price(new BigDecimal(1000))
+				.account(account)
+				.timestamp(1L)
+				.build();
+	}
+}
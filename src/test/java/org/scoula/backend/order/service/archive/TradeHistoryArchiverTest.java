@@ -0,0 +1,144 @@
+package org.scoula.backend.order.service.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.order.domain.TradeHistory;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.service.TradeHistoryRepository;
+import org.scoula.backend.order.service.exception.InvalidTradeHistoryQueryException;
+
+@ExtendWith(MockitoExtension.class)
+class TradeHistoryArchiverTest {
+
+	private static final LocalDate TRADE_DATE = LocalDate.of(2025, 2, 3);
+	private static final long MARKET_OPEN = ZonedDateTime.of(TRADE_DATE.atTime(9, 0), TradeHistory.TRADE_ZONE)
+			.toEpochSecond();
+
+	@TempDir
+	Path directory;
+
+	@Mock
+	private TradeHistoryRepository tradeHistoryRepository;
+
+	private TradeArchiveReader tradeArchiveReader;
+	private TradeHistoryArchiver tradeHistoryArchiver;
+
+	@BeforeEach
+	void setUp() {
+		tradeArchiveReader = new TradeArchiveReader(directory.toString());
+		tradeHistoryArchiver = new TradeHistoryArchiver(
+				tradeHistoryRepository, tradeArchiveReader, directory.toString(), 7);
+	}
+
+	@Test
+	@DisplayName("보관 파일은 모든 거래 내역을 손실 없이 복원하고, 보관 후 DB 행을 삭제한다.")
+	void archiveRoundTrip() throws Exception {
+		final List<TradeHistory> trades = List.of(
+				trade(3L, "035420", 0, 200000, 1),
+				trade(1L, "005930", 0, 70000, 10),
+				trade(2L, "005930", 5, 69900, 3));
+		given(tradeHistoryRepository.findByTradeDate(TRADE_DATE)).willReturn(trades);
+		given(tradeHistoryRepository.deleteByTradeDate(TRADE_DATE)).willReturn(3);
+
+		assertThat(tradeHistoryArchiver.archive(TRADE_DATE)).isEqualTo(3);
+
+		final List<TradeHistory> restored = readArchive();
+		assertThat(restored).extracting(TradeHistory::getId).containsExactly(1L, 2L, 3L);
+		assertThat(restored).usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyInAnyOrderElementsOf(trades);
+		verify(tradeHistoryRepository).deleteByTradeDate(TRADE_DATE);
+	}
+
+	@Test
+	@DisplayName("같은 체결일을 다시 보관하면 기존 파일과 합치고 중복 체결은 한 번만 남긴다.")
+	void archiveMergesExistingFile() throws Exception {
+		given(tradeHistoryRepository.findByTradeDate(TRADE_DATE))
+				.willReturn(List.of(trade(1L, "005930", 0, 70000, 10)))
+				.willReturn(List.of(trade(1L, "005930", 0, 70000, 10), trade(2L, "005930", 5, 69900, 3)));
+
+		tradeHistoryArchiver.archive(TRADE_DATE);
+		tradeHistoryArchiver.archive(TRADE_DATE);
+
+		assertThat(readArchive()).extracting(TradeHistory::getId).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("거래 내역이 없는 체결일은 파일을 만들지 않고 삭제하지 않는다.")
+	void archiveEmptyDate() throws Exception {
+		given(tradeHistoryRepository.findByTradeDate(TRADE_DATE)).willReturn(List.of());
+
+		assertThat(tradeHistoryArchiver.archive(TRADE_DATE)).isZero();
+
+		assertThat(Files.exists(TradeHistoryArchiver.resolveFile(directory, TRADE_DATE))).isFalse();
+		verify(tradeHistoryRepository, never()).deleteByTradeDate(any());
+	}
+
+	@Test
+	@DisplayName("보관된 거래 내역을 종목별 타임프레임 캔들로 집계한다.")
+	void archivedCandles() throws Exception {
+		given(tradeHistoryRepository.findByTradeDate(TRADE_DATE)).willReturn(List.of(
+				trade(1L, "005930", 0, 70000, 10),
+				trade(2L, "005930", 30, 70500, 2),
+				trade(3L, "005930", 59, 69800, 5),
+				trade(4L, "005930", 61, 69900, 1),
+				trade(5L, "035420", 10, 200000, 7)));
+
+		tradeHistoryArchiver.archive(TRADE_DATE);
+
+		final List<CandleDto> candles = tradeArchiveReader.getArchivedCandles("005930", "1m", TRADE_DATE, TRADE_DATE);
+
+		assertThat(candles).containsExactly(
+				new CandleDto(MARKET_OPEN, 70000.0, 70500.0, 69800.0, 69800.0, 17),
+				new CandleDto(MARKET_OPEN + 60, 69900.0, 69900.0, 69900.0, 69900.0, 1));
+		assertThat(tradeArchiveReader.getArchivedCandles("000660", "1m", TRADE_DATE, TRADE_DATE)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조회 기간이 잘못되었거나 타임프레임이 없으면 예외가 발생한다.")
+	void invalidArchiveQuery() {
+		assertThatThrownBy(() -> tradeArchiveReader.getArchivedCandles(
+				"005930", "1m", TRADE_DATE, TRADE_DATE.minusDays(1)))
+				.isInstanceOf(InvalidTradeHistoryQueryException.class);
+		assertThatThrownBy(() -> tradeArchiveReader.getArchivedCandles(
+				"005930", "1m", TRADE_DATE, TRADE_DATE.plusDays(TradeArchiveReader.MAX_DAYS + 1)))
+				.isInstanceOf(InvalidTradeHistoryQueryException.class);
+		assertThatThrownBy(() -> tradeArchiveReader.getArchivedCandles("005930", "2m", TRADE_DATE, TRADE_DATE))
+				.isInstanceOf(InvalidTradeHistoryQueryException.class);
+	}
+
+	private List<TradeHistory> readArchive() throws Exception {
+		try (InputStream in = Files.newInputStream(TradeHistoryArchiver.resolveFile(directory, TRADE_DATE))) {
+			return TradeArchiveCodec.read(in).toTradeHistories();
+		}
+	}
+
+	private TradeHistory trade(final Long id, final String companyCode, final long secondsAfterOpen,
+			final int price, final int quantity) {
+		return TradeHistory.builder()
+				.id(id)
+				.companyCode(companyCode)
+				.sellOrderId(id * 10)
+				.buyOrderId(id * 10 + 1)
+				.price(new BigDecimal(price))
+				.quantity(new BigDecimal(quantity))
+				.tradeTime(MARKET_OPEN + secondsAfterOpen)
+				.tradeDate(TRADE_DATE)
+				.build();
+	}
+}
@@ -0,0 +1,98 @@
+package org.scoula.backend.order.service.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.ChartResponseDto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ChartHistoryCacheTest {
+
+	private static final String COMPANY_CODE = "005930";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ChartHistoryCache chartHistoryCache;
+
+	@BeforeEach
+	void setUp() {
+		chartHistoryCache = new ChartHistoryCache(objectMapper);
+	}
+
+	@Test
+	@DisplayName("응답 JSON은 ChartResponseDto 형태로 역직렬화된다.")
+	void renderMatchesChartResponse() throws Exception {
+		final CandleDto closed = candle(60L, 1000.0);
+		final CandleDto open = candle(120L, 1100.0);
+
+		final byte[] json = chartHistoryCache.render(COMPANY_CODE, TimeFrame.MINUTE_1, () -> List.of(closed), open);
+
+		final ChartResponseDto response = objectMapper.readValue(json, ChartResponseDto.class);
+		assertThat(response.candles()).containsExactly(closed, open);
+		assertThat(response.timeCode()).isEqualTo(TimeFrame.MINUTE_1.getTimeCode());
+	}
+
+	@Test
+	@DisplayName("마감 캔들이 없으면 진행 중인 캔들만 포함된다.")
+	void renderWithoutClosedCandles() throws Exception {
+		final CandleDto open = candle(120L, 1100.0);
+
+		final byte[] json = chartHistoryCache.render(COMPANY_CODE, TimeFrame.MINUTE_1, List::of, open);
+
+		final ChartResponseDto response = objectMapper.readValue(json, ChartResponseDto.class);
+		assertThat(response.candles()).containsExactly(open);
+	}
+
+	@Test
+	@DisplayName("캔들이 마감되기 전까지 마감 캔들은 다시 직렬화하지 않는다.")
+	void reuseClosedCandlesUntilBarClosed() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Supplier<List<CandleDto>> closedCandles = () -> {
+			calls.incrementAndGet();
+			return List.of(candle(60L, 1000.0));
+		};
+
+		chartHistoryCache.render(COMPANY_CODE, TimeFrame.MINUTE_1, closedCandles, candle(120L, 1100.0));
+		final byte[] second = chartHistoryCache.render(COMPANY_CODE, TimeFrame.MINUTE_1, closedCandles,
+				candle(120L, 1200.0));
+
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(new String(second, StandardCharsets.UTF_8)).contains("1200.0");
+
+		chartHistoryCache.barClosed(COMPANY_CODE, TimeFrame.MINUTE_1);
+		chartHistoryCache.render(COMPANY_CODE, TimeFrame.MINUTE_1, closedCandles, candle(180L, 1200.0));
+
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("bar version은 종목과 타임프레임별로 관리된다.")
+	void barVersionPerSymbolAndTimeFrame() {
+		chartHistoryCache.barClosed(COMPANY_CODE, TimeFrame.MINUTE_1);
+		chartHistoryCache.barClosed(COMPANY_CODE, TimeFrame.MINUTE_1);
+
+		assertThat(chartHistoryCache.getBarVersion(COMPANY_CODE, TimeFrame.MINUTE_1)).isEqualTo(2);
+		assertThat(chartHistoryCache.getBarVersion(COMPANY_CODE, TimeFrame.MINUTE_5)).isZero();
+		assertThat(chartHistoryCache.getBarVersion("000660", TimeFrame.MINUTE_1)).isZero();
+	}
+
+	private CandleDto candle(final Long time, final Double price) {
+		return CandleDto.builder()
+				.time(time)
+				.open(price)
+				.high(price)
+				.low(price)
+				.close(price)
+				.volume(10)
+				.build();
+	}
+}
@@ -0,0 +1,78 @@
+package org.scoula.backend.order.service.chart;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.ChartTickDto;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChartTickConflatorTest {
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	@InjectMocks
+	private ChartTickConflator chartTickConflator;
+
+	@Test
+	@DisplayName("병합 주기 동안의 체결은 종목당 하나의 프레임으로 전송된다.")
+	void flushMergedTick() {
+		final CandleDto firstCandle = candle(1000.0, 10);
+		final CandleDto lastCandle = candle(1010.0, 15);
+
+		chartTickConflator.add("005930", 1000.0, 10, Map.of(TimeFrame.MINUTE_1, firstCandle));
+		chartTickConflator.add("005930", 990.0, 3, Map.of(TimeFrame.MINUTE_1, firstCandle));
+		chartTickConflator.add("005930", 1010.0, 2, Map.of(TimeFrame.MINUTE_1, lastCandle));
+
+		chartTickConflator.flush();
+
+		final ArgumentCaptor<ChartTickDto> captor = ArgumentCaptor.forClass(ChartTickDto.class);
+		verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/chart/005930"), captor.capture());
+
+		final ChartTickDto tick = captor.getValue();
+		assertThat(tick.price()).isEqualTo(1010.0);
+		assertThat(tick.volume()).isEqualTo(15);
+		assertThat(tick.open()).isEqualTo(1000.0);
+		assertThat(tick.high()).isEqualTo(1010.0);
+		assertThat(tick.low()).isEqualTo(990.0);
+		assertThat(tick.tradeCount()).isEqualTo(3);
+		assertThat(tick.candles()).containsEntry(TimeFrame.MINUTE_1.getTimeCode(), lastCandle);
+	}
+
+	@Test
+	@DisplayName("전송 후에는 새 체결이 들어오기 전까지 다시 전송하지 않는다.")
+	void flushOnlyPendingSymbols() {
+		chartTickConflator.add("005930", 1000.0, 10, Map.of());
+		chartTickConflator.add("000660", 2000.0, 1, Map.of());
+
+		chartTickConflator.flush();
+		chartTickConflator.flush();
+
+		verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/chart/005930"), any(ChartTickDto.class));
+		verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/chart/000660"), any(ChartTickDto.class));
+	}
+
+	private CandleDto candle(final Double price, final Integer volume) {
+		return CandleDto.builder()
+				.time(60L)
+				.open(price)
+				.high(price)
+				.low(price)
+				.close(price)
+				.volume(volume)
+				.build();
+	}
+}
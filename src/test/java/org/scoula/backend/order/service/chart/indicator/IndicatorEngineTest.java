@@ -0,0 +1,220 @@
+package org.scoula.backend.order.service.chart.indicator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.domain.TimeFrame;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.IndicatorPointDto;
+import org.scoula.backend.order.dto.IndicatorSeriesDto;
+import org.scoula.backend.order.service.exception.InvalidIndicatorException;
+
+class IndicatorEngineTest {
+
+	private static final String COMPANY_CODE = "005930";
+
+	private IndicatorEngine indicatorEngine;
+
+	@BeforeEach
+	void setUp() {
+		indicatorEngine = new IndicatorEngine();
+	}
+
+	@Test
+	@DisplayName("마지막(진행 중) 캔들을 제외한 마감 캔들로 SMA를 계산한다.")
+	void simpleMovingAverage() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 13, 99));
+
+		final List<IndicatorPointDto> points = points(IndicatorSpec.parse("SMA:3"));
+
+		assertThat(points).hasSize(2);
+		assertThat(points.get(0).time()).isEqualTo(180L);
+		assertThat(points.get(0).values().get("value")).isEqualTo(11.0);
+		assertThat(points.get(1).values().get("value")).isEqualTo(12.0);
+	}
+
+	@Test
+	@DisplayName("이미 반영한 캔들은 다시 반영하지 않는다.")
+	void feedOnlyNewlyClosedCandles() {
+		final List<CandleDto> candles = candles(10, 11, 12, 13);
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles);
+		indicatorEngine.getIndicators(COMPANY_CODE, TimeFrame.MINUTE_1, List.of(IndicatorSpec.parse("SMA:2")));
+
+		candles.add(candle(4, 14));
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles);
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles);
+
+		final List<IndicatorPointDto> points = points(IndicatorSpec.parse("SMA:2"));
+		assertThat(points).extracting(point -> point.values().get("value"))
+				.containsExactly(10.5, 11.5, 12.5);
+	}
+
+	@Test
+	@DisplayName("EMA는 첫 기간의 단순 평균으로 시작한다.")
+	void exponentialMovingAverage() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 12, 14, 0));
+
+		final List<IndicatorPointDto> points = points(IndicatorSpec.parse("EMA:2"));
+
+		assertThat(points).extracting(point -> point.values().get("value"))
+				.containsExactly(11.0, 11.0 + (2.0 / 3) * (14 - 11.0));
+	}
+
+	@Test
+	@DisplayName("RSI는 Wilder 평활로 계산한다.")
+	void relativeStrengthIndex() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 11, 0));
+
+		final List<IndicatorPointDto> points = points(IndicatorSpec.parse("RSI:3"));
+
+		assertThat(points).hasSize(1);
+		assertThat(points.get(0).values().get("value")).isCloseTo(66.6667, within(0.001));
+	}
+
+	@Test
+	@DisplayName("볼린저 밴드는 이동평균과 표준편차 배수로 계산한다.")
+	void bollingerBands() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 12, 14, 0));
+
+		final List<IndicatorPointDto> points = points(IndicatorSpec.parse("BOLLINGER:3:2"));
+
+		final double deviation = Math.sqrt(8.0 / 3);
+		assertThat(points).hasSize(1);
+		assertThat(points.get(0).values().get("middle")).isCloseTo(12.0, within(1e-9));
+		assertThat(points.get(0).values().get("upper")).isCloseTo(12.0 + 2 * deviation, within(1e-9));
+		assertThat(points.get(0).values().get("lower")).isCloseTo(12.0 - 2 * deviation, within(1e-9));
+	}
+
+	@Test
+	@DisplayName("MACD는 단기/장기 EMA 차이와 시그널, 히스토그램을 반환한다.")
+	void macd() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(1, 2, 3, 4, 5, 6, 0));
+
+		final List<IndicatorPointDto> points = points(IndicatorSpec.parse("MACD:2:3:2"));
+
+		assertThat(points).isNotEmpty();
+		final IndicatorPointDto last = points.get(points.size() - 1);
+		assertThat(last.values()).containsKeys("macd", "signal", "histogram");
+		assertThat(last.values().get("histogram"))
+				.isCloseTo(last.values().get("macd") - last.values().get("signal"), within(1e-9));
+	}
+
+	@Test
+	@DisplayName("최신 값 조회는 등록된 지표의 마지막 값만 반환한다.")
+	void latestOnlyRegisteredIndicators() {
+		assertThat(indicatorEngine.getLatest(COMPANY_CODE, TimeFrame.MINUTE_1)).isEmpty();
+
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 13, 0));
+		indicatorEngine.getIndicators(COMPANY_CODE, TimeFrame.MINUTE_1, List.of(IndicatorSpec.parse("SMA:2")));
+
+		final List<IndicatorSeriesDto> latest = indicatorEngine.getLatest(COMPANY_CODE, TimeFrame.MINUTE_1);
+
+		assertThat(latest).hasSize(1);
+		assertThat(latest.get(0).name()).isEqualTo("SMA(2)");
+		assertThat(latest.get(0).points()).hasSize(1);
+		assertThat(latest.get(0).points().get(0).values().get("value")).isEqualTo(12.5);
+	}
+
+	@Test
+	@DisplayName("종목/타임프레임 별 등록 지표 수가 상한을 넘으면 가장 오래 조회되지 않은 지표부터 해제한다.")
+	void capSpecsPerSeries() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 0));
+		for (int period = 1; period <= IndicatorEngine.MAX_SPECS_PER_SERIES + 1; period++) {
+			points(IndicatorSpec.parse("SMA:" + period));
+		}
+
+		final List<IndicatorSeriesDto> latest = indicatorEngine.getLatest(COMPANY_CODE, TimeFrame.MINUTE_1);
+
+		assertThat(latest).hasSize(IndicatorEngine.MAX_SPECS_PER_SERIES);
+		assertThat(latest).extracting(IndicatorSeriesDto::name).doesNotContain("SMA(1)");
+	}
+
+	@Test
+	@DisplayName("한동안 조회되지 않은 지표는 다음 캔들 마감 시 해제한다.")
+	void evictIdleSpecs() {
+		final AtomicLong now = new AtomicLong();
+		indicatorEngine = new IndicatorEngine(now::get);
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 0));
+		points(IndicatorSpec.parse("SMA:2"));
+		now.addAndGet(IndicatorEngine.SPEC_IDLE_MILLIS / 2);
+		points(IndicatorSpec.parse("SMA:3"));
+
+		now.addAndGet(IndicatorEngine.SPEC_IDLE_MILLIS / 2 + 1);
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 13, 0));
+
+		assertThat(indicatorEngine.getLatest(COMPANY_CODE, TimeFrame.MINUTE_1))
+				.extracting(IndicatorSeriesDto::name)
+				.containsExactly("SMA(3)");
+	}
+
+	@Test
+	@DisplayName("구독자 푸시로 조회되는 지표는 REST 조회가 없어도 해제하지 않는다.")
+	void keepSubscribedSpecs() {
+		final AtomicLong now = new AtomicLong();
+		indicatorEngine = new IndicatorEngine(now::get);
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 0));
+		points(IndicatorSpec.parse("SMA:2"));
+
+		now.addAndGet(IndicatorEngine.SPEC_IDLE_MILLIS);
+		indicatorEngine.getLatestForSubscribers(COMPANY_CODE, TimeFrame.MINUTE_1);
+		now.addAndGet(IndicatorEngine.SPEC_IDLE_MILLIS / 2);
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 13, 0));
+
+		assertThat(indicatorEngine.getLatest(COMPANY_CODE, TimeFrame.MINUTE_1))
+				.extracting(IndicatorSeriesDto::name)
+				.containsExactly("SMA(2)");
+	}
+
+	@Test
+	@DisplayName("등록된 지표 없이 구독만 있으면 기본 지표를 등록해 푸시한다.")
+	void registerDefaultsForSubscribers() {
+		indicatorEngine.onBarClosed(COMPANY_CODE, TimeFrame.MINUTE_1, candles(10, 11, 12, 0));
+
+		final List<IndicatorSeriesDto> latest = indicatorEngine.getLatestForSubscribers(COMPANY_CODE,
+				TimeFrame.MINUTE_1);
+
+		assertThat(latest).extracting(IndicatorSeriesDto::name)
+				.containsExactlyElementsOf(IndicatorSpec.DEFAULTS.stream().map(IndicatorSpec::name).toList());
+	}
+
+	@Test
+	@DisplayName("파라미터를 생략하면 기본값으로 채우고, 잘못된 형식은 예외가 발생한다.")
+	void parseSpec() {
+		assertThat(IndicatorSpec.parse("macd")).isEqualTo(IndicatorSpec.parse("MACD:12:26:9"));
+		assertThat(IndicatorSpec.parse("bollinger:20:2.5").name()).isEqualTo("BOLLINGER(20,2.5)");
+
+		assertThatThrownBy(() -> IndicatorSpec.parse("VWAP:10")).isInstanceOf(InvalidIndicatorException.class);
+		assertThatThrownBy(() -> IndicatorSpec.parse("SMA:0")).isInstanceOf(InvalidIndicatorException.class);
+		assertThatThrownBy(() -> IndicatorSpec.parse("SMA:a")).isInstanceOf(InvalidIndicatorException.class);
+		assertThatThrownBy(() -> IndicatorSpec.parse("MACD:26:12:9")).isInstanceOf(InvalidIndicatorException.class);
+	}
+
+	private List<IndicatorPointDto> points(final IndicatorSpec spec) {
+		return indicatorEngine.getIndicators(COMPANY_CODE, TimeFrame.MINUTE_1, List.of(spec)).get(0).points();
+	}
+
+	private List<CandleDto> candles(final double... closes) {
+		final List<CandleDto> candles = new ArrayList<>();
+		for (int i = 0; i < closes.length; i++) {
+			candles.add(candle(i, closes[i]));
+		}
+		return candles;
+	}
+
+	private CandleDto candle(final int index, final double close) {
+		return CandleDto.builder()
+				.time(60L * (index + 1))
+				.open(close)
+				.high(close)
+				.low(close)
+				.close(close)
+				.volume(1)
+				.build();
+	}
+}
@@ -0,0 +1,173 @@
+package org.scoula.backend.order.service.feed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.controller.response.OrderBookResponse;
+import org.scoula.backend.order.dto.CandleDto;
+import org.scoula.backend.order.dto.PriceLevelDto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 디코딩은 docs/market-data-decoder.js 와 같은 방식
+ */
+class MarketDataCodecTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("호가 프레임을 디코딩하면 가격대별 가격, 수량, 주문 수가 복원된다.")
+	void orderBookRoundTrip() {
+		final OrderBookResponse orderBook = orderBook(10);
+
+		final FrameReader reader = new FrameReader(MarketDataCodec.encodeOrderBook(orderBook));
+
+		assertThat(reader.readByte()).isEqualTo(MarketDataCodec.ORDER_BOOK);
+		assertThat(reader.readAscii()).isEqualTo("005930");
+		final int priceScale = reader.readByte();
+		final int quantityScale = reader.readByte();
+		final int sellCount = (int)reader.readVarLong();
+		final int buyCount = (int)reader.readVarLong();
+		final List<PriceLevelDto> decoded = new ArrayList<>();
+		long price = 0;
+		for (int i = 0; i < sellCount + buyCount; i++) {
+			price += reader.readZigZag();
+			decoded.add(new PriceLevelDto(BigDecimal.valueOf(price, priceScale),
+					BigDecimal.valueOf(reader.readVarLong(), quantityScale), (int)reader.readVarLong()));
+		}
+
+		assertThat(sellCount).isEqualTo(10);
+		assertThat(buyCount).isEqualTo(10);
+		final List<PriceLevelDto> expected = new ArrayList<>(orderBook.sellLevels());
+		expected.addAll(orderBook.buyLevels());
+		assertThat(decoded).zipSatisfy(expected, (actual, level) -> {
+			assertThat(actual.price()).isEqualByComparingTo(level.price());
+			assertThat(actual.quantity()).isEqualByComparingTo(level.quantity());
+			assertThat(actual.orderCount()).isEqualTo(level.orderCount());
+		});
+	}
+
+	@Test
+	@DisplayName("체결 프레임은 소수 가격과 수량을 그대로 복원한다.")
+	void tradeRoundTrip() {
+		final FrameReader reader = new FrameReader(MarketDataCodec.encodeTrade(
+				"AAPL", new BigDecimal("150.25"), new BigDecimal("3"), 1_700_000_000L));
+
+		assertThat(reader.readByte()).isEqualTo(MarketDataCodec.TRADE);
+		assertThat(reader.readAscii()).isEqualTo("AAPL");
+		final int priceScale = reader.readByte();
+		final int quantityScale = reader.readByte();
+		assertThat(BigDecimal.valueOf(reader.readZigZag(), priceScale)).isEqualByComparingTo("150.25");
+		assertThat(BigDecimal.valueOf(reader.readVarLong(), quantityScale)).isEqualByComparingTo("3");
+		assertThat(reader.readVarLong()).isEqualTo(1_700_000_000L);
+	}
+
+	@Test
+	@DisplayName("캔들 프레임은 시간과 OHLC 차이값으로 기록되고 원래 값으로 복원된다.")
+	void candlesRoundTrip() {
+		final List<CandleDto> candles = candles(100);
+
+		final FrameReader reader = new FrameReader(MarketDataCodec.encodeCandles("005930", "1m", candles));
+
+		assertThat(reader.readByte()).isEqualTo(MarketDataCodec.CANDLES);
+		assertThat(reader.readAscii()).isEqualTo("005930");
+		assertThat(reader.readAscii()).isEqualTo("1m");
+		final double unit = Math.pow(10, reader.readByte());
+		final int count = (int)reader.readVarLong();
+		final List<CandleDto> decoded = new ArrayList<>();
+		long time = 0;
+		long close = 0;
+		for (int i = 0; i < count; i++) {
+			time += reader.readZigZag();
+			final long open = close + reader.readZigZag();
+			final long high = open + reader.readZigZag();
+			final long low = open + reader.readZigZag();
+			close = open + reader.readZigZag();
+			decoded.add(new CandleDto(time, open / unit, high / unit, low / unit, close / unit,
+					(int)reader.readVarLong()));
+		}
+
+		assertThat(decoded).isEqualTo(candles);
+	}
+
+	@Test
+	@DisplayName("바이너리 프레임은 같은 데이터의 JSON 보다 작다.")
+	void smallerThanJson() throws Exception {
+		final OrderBookResponse orderBook = orderBook(10);
+		final List<CandleDto> candles = candles(100);
+
+		final int orderBookJson = objectMapper.writeValueAsBytes(orderBook).length;
+		final int orderBookBinary = MarketDataCodec.encodeOrderBook(orderBook).length;
+		final int candlesJson = objectMapper.writeValueAsBytes(candles).length;
+		final int candlesBinary = MarketDataCodec.encodeCandles("005930", "1m", candles).length;
+
+		assertThat(orderBookBinary * 4).isLessThan(orderBookJson);
+		assertThat(candlesBinary * 4).isLessThan(candlesJson);
+	}
+
+	private OrderBookResponse orderBook(final int depth) {
+		final List<PriceLevelDto> sells = new ArrayList<>();
+		final List<PriceLevelDto> buys = new ArrayList<>();
+		for (int i = 0; i < depth; i++) {
+			sells.add(new PriceLevelDto(new BigDecimal(71_000 + (depth - i) * 100), new BigDecimal(10 + i * 7), i + 1));
+			buys.add(new PriceLevelDto(new BigDecimal(71_000 - i * 100), new BigDecimal(15 + i * 3), i + 2));
+		}
+		return new OrderBookResponse("005930", sells, buys);
+	}
+
+	private List<CandleDto> candles(final int count) {
+		final List<CandleDto> candles = new ArrayList<>();
+		double close = 71_000;
+		for (int i = 0; i < count; i++) {
+			final double open = close;
+			close = open + (i % 5 - 2) * 100;
+			candles.add(new CandleDto(1_700_000_000L + i * 60L, open, Math.max(open, close) + 100,
+					Math.min(open, close) - 50, close, 1_000 + i));
+		}
+		return candles;
+	}
+
+	private static final class FrameReader {
+		private final byte[] frame;
+		private int position;
+
+		private FrameReader(final byte[] frame) {
+			this.frame = frame;
+		}
+
+		private int readByte() {
+			return frame[position++] & 0xFF;
+		}
+
+		private String readAscii() {
+			final int length = readByte();
+			final String value = new String(frame, position, length, StandardCharsets.US_ASCII);
+			position += length;
+			return value;
+		}
+
+		private long readVarLong() {
+			long result = 0;
+			int shift = 0;
+			int b;
+			do {
+				b = readByte();
+				result |= (long)(b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return result;
+		}
+
+		private long readZigZag() {
+			final long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package org.scoula.backend.order.service.orderbook;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.domain.OrderStatus;
+import org.scoula.backend.order.domain.TradeOrder;
+import org.scoula.backend.order.domain.Type;
+
+class CallAuctionTest {
+
+	private final NavigableMap<Price, OrderStorage> buyOrders = new TreeMap<>(Collections.reverseOrder());
+	private final NavigableMap<Price, OrderStorage> sellOrders = new TreeMap<>();
+
+	@Test
+	@DisplayName("누적 매수, 매도 곡선에서 체결량이 가장 많은 가격을 균형 가격으로 선택한다.")
+	void maximizeVolume() {
+		level(buyOrders, Type.BUY, 1100, 3);
+		level(buyOrders, Type.BUY, 1000, 5);
+		level(sellOrders, Type.SELL, 950, 2);
+		level(sellOrders, Type.SELL, 1000, 4);
+
+		final CallAuction.Equilibrium equilibrium = CallAuction.findEquilibrium(
+				buyOrders, sellOrders, BigDecimal.ZERO, BigDecimal.ZERO, null);
+
+		assertThat(equilibrium.price()).isEqualTo(new BigDecimal(1000));
+		assertThat(equilibrium.volume()).isEqualTo(new BigDecimal(6));
+	}
+
+	@Test
+	@DisplayName("체결량과 잔량 불균형이 같으면 기준가에 가까운 가격을 선택한다.")
+	void nearestReferenceOnTie() {
+		level(buyOrders, Type.BUY, 1100, 3);
+		level(buyOrders, Type.BUY, 1000, 5);
+		level(sellOrders, Type.SELL, 950, 2);
+		level(sellOrders, Type.SELL, 1050, 4);
+
+		final CallAuction.Equilibrium equilibrium = CallAuction.findEquilibrium(
+				buyOrders, sellOrders, BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal(1000));
+
+		assertThat(equilibrium.price()).isEqualTo(new BigDecimal(1050));
+		assertThat(equilibrium.volume()).isEqualTo(new BigDecimal(3));
+	}
+
+	@Test
+	@DisplayName("시장가 주문만 있으면 기준가에서 체결하고, 매수와 매도가 교차하지 않으면 균형 가격이 없다.")
+	void marketOrdersAndNoCross() {
+		assertThat(CallAuction.findEquilibrium(buyOrders, sellOrders, BigDecimal.ONE, BigDecimal.TEN,
+				new BigDecimal(1000)))
+				.isEqualTo(new CallAuction.Equilibrium(new BigDecimal(1000), BigDecimal.ONE));
+
+		level(buyOrders, Type.BUY, 900, 3);
+		level(sellOrders, Type.SELL, 1000, 3);
+		assertThat(CallAuction.findEquilibrium(buyOrders, sellOrders, BigDecimal.ZERO, BigDecimal.ZERO, null))
+				.isNull();
+	}
+
+	private void level(final NavigableMap<Price, OrderStorage> orders, final Type type, final long price,
+			final long quantity) {
+		final OrderStorage storage = new OrderStorage();
+		storage.offer(TradeOrder.builder()
+				.id(price)
+				.companyCode("005930")
+				.type(type)
+				.status(OrderStatus.ACTIVE)
+				.totalQuantity(BigDecimal.valueOf(quantity))
+				.remainingQuantity(BigDecimal.valueOf(quantity))
+				.price(BigDecimal.valueOf(price))
+				.createdDateTime(LocalDateTime.of(2025, 1, 1, 8, 30))
+				.build());
+		orders.put(new Price(BigDecimal.valueOf(price)), storage);
+	}
+}
@@ -0,0 +1,72 @@
+package org.scoula.backend.order.service.orderbook;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.controller.response.OrderBookResponse;
+import org.scoula.backend.order.dto.PriceLevelDto;
+
+class ExternalDepthBookTest {
+
+	private final ExternalDepthBook book = new ExternalDepthBook("005930");
+
+	@Test
+	@DisplayName("호가 프레임이 들어올 때마다 잔량이 누적되지 않고 전체 호가가 교체된다.")
+	void replaceLevels() {
+		book.replace(prices(71_100, 71_200), quantities(10, 20), prices(71_000, 70_900), quantities(5, 6));
+		final OrderBookResponse replaced = book.replace(
+				prices(71_100, 71_200), quantities(3, 4), prices(71_000, 70_900), quantities(7, 8));
+
+		assertThat(book.getBook()).isSameAs(replaced);
+		assertThat(replaced.sellLevels()).extracting(PriceLevelDto::quantity)
+				.containsExactly(new BigDecimal(3), new BigDecimal(4));
+		assertThat(replaced.buyLevels()).extracting(PriceLevelDto::quantity)
+				.containsExactly(new BigDecimal(7), new BigDecimal(8));
+	}
+
+	@Test
+	@DisplayName("가격이나 잔량이 0 인 호가 단계는 제외한다.")
+	void skipEmptyLevels() {
+		final OrderBookResponse replaced = book.replace(
+				prices(71_100, 0), quantities(10, 0), prices(71_000, 70_900), quantities(5, 0));
+
+		assertThat(replaced.sellLevels()).hasSize(1);
+		assertThat(replaced.buyLevels()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("내부 주문장과 합치면 같은 가격대의 수량을 더하고 가격 순서를 유지한다.")
+	void mergeWithInternalBook() {
+		final OrderBookResponse external = book.replace(
+				prices(71_100, 71_300), quantities(10, 30), prices(71_000, 70_800), quantities(5, 8));
+		final OrderBookResponse internal = new OrderBookResponse("005930",
+				List.of(level(71_100, 1, 1), level(71_200, 2, 1)),
+				List.of(level(70_900, 4, 2), level(70_800, 2, 1)));
+
+		final OrderBookResponse merged = ExternalDepthBook.merge(internal, external);
+
+		assertThat(merged.sellLevels()).extracting(level -> level.price().intValue())
+				.containsExactly(71_100, 71_200, 71_300);
+		assertThat(merged.sellLevels().get(0).quantity()).isEqualTo(new BigDecimal(11));
+		assertThat(merged.buyLevels()).extracting(level -> level.price().intValue())
+				.containsExactly(71_000, 70_900, 70_800);
+		assertThat(merged.buyLevels().get(2).quantity()).isEqualTo(new BigDecimal(10));
+	}
+
+	private List<BigDecimal> prices(final int... values) {
+		return Arrays.stream(values).mapToObj(BigDecimal::new).toList();
+	}
+
+	private List<BigDecimal> quantities(final int... values) {
+		return prices(values);
+	}
+
+	private PriceLevelDto level(final int price, final int quantity, final int orderCount) {
+		return new PriceLevelDto(new BigDecimal(price), new BigDecimal(quantity), orderCount);
+	}
+}
@@ -0,0 +1,43 @@
+package org.scoula.backend.order.service.orderbook;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+	@Test
+	@DisplayName("만료 시각이 지난 항목만 꺼낸다.")
+	void advanceReturnsExpiredOnly() {
+		final TimingWheel<String> wheel = new TimingWheel<>(1000, 60, 0);
+		wheel.schedule("first", 2_500);
+		wheel.schedule("second", 5_000);
+
+		assertThat(wheel.advance(2_000)).isEmpty();
+		assertThat(wheel.advance(3_000)).containsExactly("first");
+		assertThat(wheel.advance(5_000)).containsExactly("second");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("한 바퀴 이상 남은 항목은 다음 바퀴까지 유지된다.")
+	void keepsItemsBeyondOneRound() {
+		final TimingWheel<String> wheel = new TimingWheel<>(1000, 10, 0);
+		wheel.schedule("later", 15_000);
+
+		assertThat(wheel.advance(5_000)).isEmpty();
+		assertThat(wheel.advance(10_000)).isEmpty();
+		assertThat(wheel.size()).isEqualTo(1);
+		assertThat(wheel.advance(15_000)).containsExactly("later");
+	}
+
+	@Test
+	@DisplayName("이미 지난 시각으로 등록하면 다음 tick 에 만료된다.")
+	void pastDeadlineExpiresOnNextTick() {
+		final TimingWheel<String> wheel = new TimingWheel<>(1000, 10, 10_000);
+		wheel.schedule("past", 1_000);
+
+		assertThat(wheel.advance(11_000)).containsExactly("past");
+	}
+}
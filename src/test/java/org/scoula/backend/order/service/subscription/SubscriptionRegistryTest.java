@@ -0,0 +1,65 @@
+package org.scoula.backend.order.service.subscription;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SubscriptionRegistryTest {
+
+	private final SubscriptionRegistry registry = new SubscriptionRegistry();
+
+	@Test
+	@DisplayName("목적지별 구독자 수를 세고, 마지막 구독이 해제되면 구독자가 없는 것으로 본다.")
+	void countSubscribers() {
+		registry.subscribe("session-1", "sub-0", "/topic/orderbook/005930");
+		registry.subscribe("session-2", "sub-0", "/topic/orderbook/005930");
+
+		assertThat(registry.getSubscriberCount("/topic/orderbook/005930")).isEqualTo(2);
+
+		registry.unsubscribe("session-1", "sub-0");
+		assertThat(registry.hasSubscribers("/topic/orderbook/005930")).isTrue();
+
+		registry.unsubscribe("session-2", "sub-0");
+		assertThat(registry.hasSubscribers("/topic/orderbook/005930")).isFalse();
+		assertThat(registry.getSubscriberCount("/topic/orderbook/005930")).isZero();
+	}
+
+	@Test
+	@DisplayName("연결이 끊기면 해당 세션의 모든 구독을 해제한다.")
+	void releaseOnDisconnect() {
+		registry.subscribe("session-1", "sub-0", "/topic/orderbook/005930");
+		registry.subscribe("session-1", "sub-1", "/topic/chart/005930");
+		registry.subscribe("session-2", "sub-0", "/topic/chart/005930");
+
+		registry.disconnect("session-1");
+
+		assertThat(registry.hasSubscribers("/topic/orderbook/005930")).isFalse();
+		assertThat(registry.getSubscriberCount("/topic/chart/005930")).isEqualTo(1);
+
+		registry.disconnect("session-1");
+		assertThat(registry.getSubscriberCount("/topic/chart/005930")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("알 수 없는 구독 해제나 같은 구독 ID 재사용에도 구독자 수가 어긋나지 않는다.")
+	void ignoreUnknownAndReplacedSubscriptions() {
+		registry.unsubscribe("session-1", "sub-0");
+		registry.subscribe("session-1", "sub-0", "/topic/candle/005930/1m");
+		registry.subscribe("session-1", "sub-0", "/topic/candle/000660/1m");
+
+		assertThat(registry.hasSubscribers("/topic/candle/005930/1m")).isFalse();
+		assertThat(registry.getSubscriberCount("/topic/candle/000660/1m")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("구독 중인 목적지를 접두어로 조회한다.")
+	void findDestinationsByPrefix() {
+		registry.subscribe("session-1", "sub-0", "/topic/candle/005930/1m");
+		registry.subscribe("session-1", "sub-1", "/topic/candle/000660/15s");
+		registry.subscribe("session-1", "sub-2", "/topic/chart/005930");
+
+		assertThat(registry.getDestinations("/topic/candle/"))
+				.containsExactlyInAnyOrder("/topic/candle/005930/1m", "/topic/candle/000660/15s");
+	}
+}
@@ -0,0 +1,89 @@
+package org.scoula.backend.order.service.tape;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.controller.response.TimeAndSalesResponse;
+import org.scoula.backend.order.domain.TradeHistory;
+
+class TradeTapeTest {
+
+	private static final String COMPANY_CODE = "005930";
+
+	@Test
+	@DisplayName("최근 체결은 가장 마지막에 기록된 체결이다.")
+	void lastTradeIsNewest() {
+		final TradeTape tape = new TradeTape(4);
+		assertThat(tape.getLast()).isNull();
+
+		tape.append(trade(1L, 1000));
+		final TradeHistory newest = trade(2L, 1100);
+		tape.append(newest);
+
+		assertThat(tape.getLast()).isSameAs(newest);
+	}
+
+	@Test
+	@DisplayName("용량은 2의 거듭제곱으로 맞춰지고, 가득 차면 가장 오래된 체결을 덮어쓴다.")
+	void overwriteOldest() {
+		final TradeTape tape = new TradeTape(3);
+		assertThat(tape.getCapacity()).isEqualTo(4);
+
+		for (long id = 1; id <= 6; id++) {
+			tape.append(trade(id, 1000 + (int)id));
+		}
+
+		final TimeAndSalesResponse response = tape.read(COMPANY_CODE, null, 10);
+		assertThat(response.trades()).extracting(TimeAndSalesResponse.Trade::tradeId).containsExactly(6L, 5L, 4L, 3L);
+		assertThat(response.nextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("cursor 로 이전 체결을 최신순으로 이어서 조회한다.")
+	void cursorPaging() {
+		final TradeTape tape = new TradeTape(8);
+		for (long id = 1; id <= 5; id++) {
+			tape.append(trade(id, 1000));
+		}
+
+		final TimeAndSalesResponse first = tape.read(COMPANY_CODE, null, 2);
+		assertThat(first.trades()).extracting(TimeAndSalesResponse.Trade::tradeId).containsExactly(5L, 4L);
+		assertThat(first.nextCursor()).isEqualTo(3L);
+
+		final TimeAndSalesResponse second = tape.read(COMPANY_CODE, first.nextCursor(), 2);
+		assertThat(second.trades()).extracting(TimeAndSalesResponse.Trade::tradeId).containsExactly(3L, 2L);
+
+		final TimeAndSalesResponse last = tape.read(COMPANY_CODE, second.nextCursor(), 2);
+		assertThat(last.trades()).extracting(TimeAndSalesResponse.Trade::tradeId).containsExactly(1L);
+		assertThat(last.nextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("테이프에서 밀려난 cursor 는 빈 결과를 반환한다.")
+	void evictedCursor() {
+		final TradeTape tape = new TradeTape(2);
+		for (long id = 1; id <= 5; id++) {
+			tape.append(trade(id, 1000));
+		}
+
+		final TimeAndSalesResponse response = tape.read(COMPANY_CODE, 2L, 10);
+
+		assertThat(response.trades()).isEmpty();
+		assertThat(response.nextCursor()).isNull();
+	}
+
+	private TradeHistory trade(final Long id, final int price) {
+		return TradeHistory.builder()
+				.id(id)
+				.companyCode(COMPANY_CODE)
+				.sellOrderId(1L)
+				.buyOrderId(2L)
+				.price(new BigDecimal(price))
+				.quantity(BigDecimal.ONE)
+				.tradeTime(1_700_000_000L + id)
+				.build();
+	}
+}
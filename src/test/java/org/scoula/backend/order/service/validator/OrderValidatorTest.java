@@ -61,4 +61,25 @@ class OrderValidatorTest {
         assertThatThrownBy(() -> OrderValidator.UNIT_500.isValidPrice(priceUnit500)).isInstanceOf(OrderPriceQuotationException.class);
         assertThatThrownBy(() -> OrderValidator.UNIT_1000.isValidPrice(priceUnit1000)).isInstanceOf(OrderPriceQuotationException.class);
     }
+
+    @Test
+    @DisplayName("정수 가격 검증은 원 단위 가격을 반환한다.")
+    void validatePrice() {
+        assertThat(OrderValidator.validatePrice(new BigDecimal("150.00"))).isEqualTo(150L);
+        assertThat(OrderValidator.validatePrice(new BigDecimal(2_005))).isEqualTo(2_005L);
+        assertThat(OrderValidator.validatePrice(new BigDecimal(501_000))).isEqualTo(501_000L);
+    }
+
+    @Test
+    @DisplayName("정수 가격 검증 시 음수, 소수점, 호가 단위 위반은 예외가 발생한다.")
+    void validateInvalidPrice() {
+        assertThatThrownBy(() -> OrderValidator.validatePrice(new BigDecimal("-1000")))
+                .isInstanceOf(OrderPriceQuotationException.class);
+        assertThatThrownBy(() -> OrderValidator.validatePrice(new BigDecimal("0.5")))
+                .isInstanceOf(OrderPriceQuotationException.class);
+        assertThatThrownBy(() -> OrderValidator.validatePrice(new BigDecimal(2_001)))
+                .isInstanceOf(OrderPriceQuotationException.class);
+        assertThatThrownBy(() -> OrderValidator.validatePrice(new BigDecimal(500_500)))
+                .isInstanceOf(OrderPriceQuotationException.class);
+    }
 }
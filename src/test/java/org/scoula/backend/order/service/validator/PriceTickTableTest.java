@@ -0,0 +1,61 @@
+package org.scoula.backend.order.service.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceTickTableTest {
+
+	@Test
+	@DisplayName("가격 제한 범위 안의 호가 구간으로 가격표를 만든다.")
+	void createBands() {
+		PriceTickTable table = PriceTickTable.of(new BigDecimal(1400), new BigDecimal(2600));
+
+		assertThat(table.getLowerLimit()).isEqualTo(1400);
+		assertThat(table.getUpperLimit()).isEqualTo(2600);
+		assertThat(table.getBandCount()).isEqualTo(2);
+		assertThat(table.getBandStart(0)).isEqualTo(1400);
+		assertThat(table.getBandEnd(0)).isEqualTo(1999);
+		assertThat(table.getBandUnit(0)).isEqualTo(1);
+		assertThat(table.getBandStart(1)).isEqualTo(2000);
+		assertThat(table.getBandEnd(1)).isEqualTo(2600);
+		assertThat(table.getBandUnit(1)).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("제한 가격은 범위 안쪽의 가장 가까운 호가로 맞춘다.")
+	void snapLimitsToTicks() {
+		PriceTickTable table = PriceTickTable.of(new BigDecimal("4996.4"), new BigDecimal("20043"));
+
+		assertThat(table.getLowerLimit()).isEqualTo(5000);
+		assertThat(table.getUpperLimit()).isEqualTo(20000);
+	}
+
+	@Test
+	@DisplayName("가격 제한 범위와 호가 단위를 함께 검증한다.")
+	void isValid() {
+		PriceTickTable table = PriceTickTable.of(new BigDecimal(1400), new BigDecimal(2600));
+
+		assertThat(table.isValid(1400)).isTrue();
+		assertThat(table.isValid(1999)).isTrue();
+		assertThat(table.isValid(2005)).isTrue();
+		assertThat(table.isValid(2600)).isTrue();
+		assertThat(table.isValid(2003)).isFalse();
+		assertThat(table.isValid(1399)).isFalse();
+		assertThat(table.isValid(2605)).isFalse();
+	}
+
+	@Test
+	@DisplayName("가격 제한 범위만 검증한다.")
+	void isWithinLimit() {
+		PriceTickTable table = PriceTickTable.of(new BigDecimal(700), new BigDecimal(1300));
+
+		assertThat(table.isWithinLimit(700)).isTrue();
+		assertThat(table.isWithinLimit(1300)).isTrue();
+		assertThat(table.isWithinLimit(699)).isFalse();
+		assertThat(table.isWithinLimit(1301)).isFalse();
+	}
+}
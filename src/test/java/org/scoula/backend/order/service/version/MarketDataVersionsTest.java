@@ -0,0 +1,59 @@
+package org.scoula.backend.order.service.version;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.backend.order.controller.response.OrderSummaryResponse;
+import org.scoula.backend.order.dto.OrderBookUpdatedEvent;
+
+class MarketDataVersionsTest {
+
+	private final MarketDataVersions versions = new MarketDataVersions();
+
+	@Test
+	@DisplayName("주문장 변경 이벤트마다 해당 종목의 호가 버전만 증가하고 ETag 가 바뀐다.")
+	void incrementOnOrderBookUpdated() {
+		final String key = MarketDataVersions.orderBookKey("005930");
+		final String before = MarketDataVersions.toETag(key, versions.getVersion(key));
+
+		versions.onOrderBookUpdated(new OrderBookUpdatedEvent(new OrderSummaryResponse("005930", 1, 0)));
+		versions.onOrderBookUpdated(new OrderBookUpdatedEvent(new OrderSummaryResponse("005930", 1, 1)));
+
+		assertThat(versions.getVersion(key)).isEqualTo(2);
+		assertThat(versions.getVersion(MarketDataVersions.orderBookKey("000660"))).isZero();
+		assertThat(MarketDataVersions.toETag(key, versions.getVersion(key))).isNotEqualTo(before);
+	}
+
+	@Test
+	@DisplayName("대기 중인 요청은 버전이 바뀌면 깨어나고, 해제한 요청은 깨우지 않는다.")
+	void wakeWaitersOnChange() throws InterruptedException {
+		final String key = MarketDataVersions.chartKey("005930");
+		final CountDownLatch woken = new CountDownLatch(1);
+		final AtomicInteger cancelledCalls = new AtomicInteger();
+
+		versions.onChange(key, 0, woken::countDown);
+		final Runnable cancel = versions.onChange(key, 0, cancelledCalls::incrementAndGet);
+		cancel.run();
+		versions.increment(key);
+
+		assertThat(woken.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(cancelledCalls.get()).isZero();
+	}
+
+	@Test
+	@DisplayName("등록 전에 이미 버전이 바뀌었으면 바로 깨운다.")
+	void wakeImmediatelyWhenAlreadyChanged() {
+		final String key = MarketDataVersions.chartKey("005930");
+		versions.increment(key);
+		final AtomicInteger calls = new AtomicInteger();
+
+		versions.onChange(key, 0, calls::incrementAndGet);
+
+		assertThat(calls.get()).isEqualTo(1);
+	}
+}